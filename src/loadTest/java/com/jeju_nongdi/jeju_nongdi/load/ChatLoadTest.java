@@ -0,0 +1,235 @@
+package com.jeju_nongdi.jeju_nongdi.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.util.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP 채팅 파이프라인 부하 테스트
+ *
+ * H2로 애플리케이션을 띄우고 같은 JVM에서 N개의 STOMP 클라이언트가 /api/ws 로 접속하여
+ * 두 명씩 채팅방을 구독하고 일정한 속도로 메시지를 보냅니다. 네트워크 없이 한 대에서 실행되며,
+ * 결과는 load.report 경로에 JSON으로 기록됩니다.
+ *
+ * 실행: ./gradlew loadTest -Dload.clients=500 -Dload.rate-per-client=2 -Dload.duration-seconds=60
+ * 서버 설정도 -Dchat.write-behind.enabled=true 처럼 바꿔서 비교할 수 있습니다.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("load")
+@Tag("load")
+@DisplayName("STOMP 채팅 부하 테스트")
+class ChatLoadTest {
+
+    private static final int CONNECT_BATCH_SIZE = 100;
+    private static final List<String> REPORTED_PROPERTIES = List.of(
+            "chat.broker.mode",
+            "chat.codec.compact.enabled",
+            "chat.websocket.inbound.concurrency-limit",
+            "chat.websocket.outbound.concurrency-limit",
+            "chat.write-behind.durability",
+            "chat.write-behind.enabled",
+            "spring.threads.virtual.enabled");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    @DisplayName("클라이언트들이 채팅방을 구독하고 일정 속도로 보낼 때 지연, 처리량, 힙/GC를 기록한다")
+    void measuresChatPipeline() throws Exception {
+        // given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadMeasurement measurement = new LoadMeasurement();
+        List<SimulatedChatClient> clients = createClients(settings, measurement);
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()),
+                Thread.ofPlatform().name("load-sender-", 0).daemon().factory());
+        LoadTestReport report;
+        try (JvmMonitor jvm = new JvmMonitor()) {
+            connectAll(stompClient, clients);
+            log.info("부하 테스트 시작: 클라이언트 {}명, 채팅방 {}개, 클라이언트별 {} msg/s, 예열 {}초, 측정 {}초",
+                    settings.clients(), settings.rooms(), settings.ratePerClient(),
+                    settings.warmupSeconds(), settings.durationSeconds());
+
+            // when
+            long periodNanos = (long) (1_000_000_000L / settings.ratePerClient());
+            for (SimulatedChatClient client : clients) {
+                senders.scheduleAtFixedRate(client::sendOne,
+                        ThreadLocalRandom.current().nextLong(periodNanos), periodNanos, TimeUnit.NANOSECONDS);
+            }
+            TimeUnit.SECONDS.sleep(settings.warmupSeconds());
+            jvm.start();
+            measurement.start();
+            TimeUnit.SECONDS.sleep(settings.durationSeconds());
+            measurement.end();
+            senders.shutdownNow();
+            awaitDeliveries(measurement, settings.drainSeconds());
+
+            report = buildReport(settings, measurement, clients, jvm);
+        } finally {
+            senders.shutdownNow();
+            clients.forEach(SimulatedChatClient::disconnect);
+            stompClient.stop();
+        }
+
+        // then
+        Files.createDirectories(settings.report().toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(settings.report().toFile(), report);
+        log.info("부하 테스트 결과: 처리량 {} msg/s (수신 {} msg/s), 지연 p50={}ms p99={}ms max={}ms, GC 정지 {}회 {}ms, 보고서 {}",
+                report.throughput().sentPerSecond(), report.throughput().deliveredPerSecond(),
+                report.latencyMillis().p50(), report.latencyMillis().p99(), report.latencyMillis().max(),
+                report.gc().pauses(), report.gc().pauseTotalMillis(), settings.report().toAbsolutePath());
+
+        assertThat(report.messages().delivered()).isPositive();
+        if (settings.maxP99Millis() > 0) {
+            assertThat(report.latencyMillis().p99()).isLessThanOrEqualTo(settings.maxP99Millis());
+        }
+    }
+
+    private List<SimulatedChatClient> createClients(LoadTestSettings settings, LoadMeasurement measurement) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < settings.clients(); i++) {
+            users.add(User.builder()
+                    .email("load-" + i + "@test.com")
+                    .password("password123")
+                    .name("load-" + i)
+                    .nickname("load-" + i)
+                    .phone("01012345678")
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        List<ChatRoom> rooms = new ArrayList<>();
+        List<SimulatedChatClient> clients = new ArrayList<>();
+        for (int i = 0; i < users.size(); i += 2) {
+            User first = users.get(i);
+            User second = users.get(i + 1);
+            String roomId = ChatRoom.generateBaseRoomId(first.getId(), second.getId());
+            rooms.add(ChatRoom.builder()
+                    .roomId(roomId)
+                    .user1Id(Math.min(first.getId(), second.getId()))
+                    .user2Id(Math.max(first.getId(), second.getId()))
+                    .build());
+            clients.add(new SimulatedChatClient(roomId, jwtUtil.generateToken(first.getEmail()), measurement));
+            clients.add(new SimulatedChatClient(roomId, jwtUtil.generateToken(second.getEmail()), measurement));
+        }
+        chatRoomRepository.saveAll(rooms);
+        return clients;
+    }
+
+    /**
+     * 접속 폭주로 핸드셰이크가 시간 초과되지 않도록 나누어 접속
+     */
+    private void connectAll(WebSocketStompClient stompClient, List<SimulatedChatClient> clients) throws Exception {
+        String url = "ws://localhost:" + port + "/api/ws/websocket";
+        for (int from = 0; from < clients.size(); from += CONNECT_BATCH_SIZE) {
+            List<SimulatedChatClient> batch = clients.subList(from, Math.min(from + CONNECT_BATCH_SIZE, clients.size()));
+            CompletableFuture.allOf(batch.stream()
+                            .map(client -> client.connect(stompClient, url))
+                            .toArray(CompletableFuture[]::new))
+                    .get(60, TimeUnit.SECONDS);
+        }
+        assertThat(clients).allMatch(SimulatedChatClient::isConnected);
+    }
+
+    private void awaitDeliveries(LoadMeasurement measurement, int drainSeconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(drainSeconds);
+        while (measurement.delivered.sum() < measurement.sent.sum() * 2 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private LoadTestReport buildReport(LoadTestSettings settings, LoadMeasurement measurement,
+                                       List<SimulatedChatClient> clients, JvmMonitor jvm) {
+        long sent = measurement.sent.sum();
+        long delivered = measurement.delivered.sum();
+        double seconds = measurement.elapsedSeconds();
+        long[] latencies = LatencyRecorder.merge(clients.stream().map(SimulatedChatClient::recorder).toList());
+
+        Map<String, String> serverProperties = new TreeMap<>();
+        for (String key : REPORTED_PROPERTIES) {
+            serverProperties.put(key, environment.getProperty(key));
+        }
+
+        return new LoadTestReport(
+                LoadTestReport.VERSION,
+                new LoadTestReport.Scenario(settings.clients(), settings.rooms(), settings.ratePerClient(),
+                        settings.warmupSeconds(), settings.durationSeconds(), serverProperties),
+                new LoadTestReport.Environment(
+                        Runtime.version().toString(),
+                        ManagementFactory.getGarbageCollectorMXBeans().stream()
+                                .map(GarbageCollectorMXBean::getName)
+                                .collect(Collectors.joining(", ")),
+                        Runtime.getRuntime().availableProcessors(),
+                        Runtime.getRuntime().maxMemory(),
+                        System.getProperty("os.name") + " " + System.getProperty("os.arch")),
+                new LoadTestReport.Messages(sent, sent * 2, delivered, round(sent == 0 ? 0 : delivered / (sent * 2.0)),
+                        measurement.sendErrors.sum(), measurement.transportErrors.sum()),
+                new LoadTestReport.Throughput(round(sent / seconds), round(delivered / seconds)),
+                new LoadTestReport.Latency(
+                        millis(LatencyRecorder.percentile(latencies, 50)),
+                        millis(LatencyRecorder.percentile(latencies, 90)),
+                        millis(LatencyRecorder.percentile(latencies, 99)),
+                        millis(LatencyRecorder.percentile(latencies, 99.9)),
+                        millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]),
+                        millis(latencies.length == 0 ? 0 : (long) Arrays.stream(latencies).average().orElse(0))),
+                jvm.gc(),
+                jvm.heap());
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.jeju_nongdi.jeju_nongdi.load;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 측정 구간의 힙 사용량과 GC 기록
+ *
+ * 서버와 클라이언트가 같은 JVM에서 실행되므로 값에는 클라이언트 부하도 포함됩니다.
+ * GC는 알림으로 한 건씩 받아 횟수와 정지 시간을 집계합니다 (G1 동시 수행 단계는 정지가 아니므로 제외).
+ */
+class JvmMonitor implements NotificationListener, AutoCloseable {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("load-jvm-sampler").daemon().factory());
+
+    private final Map<String, long[]> pausesByCollector = new TreeMap<>();
+    private final AtomicLong peakHeapUsed = new AtomicLong();
+    private long heapUsedBefore;
+    private long pauseCount;
+    private long pauseTotalMillis;
+    private long pauseMaxMillis;
+
+    void start() {
+        heapUsedBefore = memory.getHeapMemoryUsage().getUsed();
+        peakHeapUsed.set(heapUsedBefore);
+        for (GarbageCollectorMXBean collector : collectors) {
+            ((NotificationEmitter) collector).addNotificationListener(this, null, null);
+        }
+        sampler.scheduleAtFixedRate(this::sampleHeap, 0, 100, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        if (info.getGcName().contains("Concurrent")) {
+            return;
+        }
+        long duration = info.getGcInfo().getDuration();
+        long[] stats = pausesByCollector.computeIfAbsent(info.getGcName(), name -> new long[2]);
+        stats[0]++;
+        stats[1] += duration;
+        pauseCount++;
+        pauseTotalMillis += duration;
+        pauseMaxMillis = Math.max(pauseMaxMillis, duration);
+        peakHeapUsed.accumulateAndGet(info.getGcInfo().getMemoryUsageBeforeGc().values().stream()
+                .mapToLong(MemoryUsage::getUsed).sum(), Math::max);
+    }
+
+    synchronized LoadTestReport.Gc gc() {
+        Map<String, LoadTestReport.Collector> byCollector = new TreeMap<>();
+        pausesByCollector.forEach((name, stats) -> byCollector.put(name, new LoadTestReport.Collector(stats[0], stats[1])));
+        return new LoadTestReport.Gc(pauseCount, pauseTotalMillis, pauseMaxMillis, byCollector);
+    }
+
+    LoadTestReport.Heap heap() {
+        return new LoadTestReport.Heap(heapUsedBefore, peakHeapUsed.get(), memory.getHeapMemoryUsage().getUsed(),
+                memory.getHeapMemoryUsage().getMax());
+    }
+
+    private void sampleHeap() {
+        peakHeapUsed.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+        for (GarbageCollectorMXBean collector : collectors) {
+            try {
+                ((NotificationEmitter) collector).removeNotificationListener(this);
+            } catch (ListenerNotFoundException ignored) {
+                // start() 전에 닫힌 경우
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.jeju_nongdi.jeju_nongdi.load;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 클라이언트 하나의 수신 지연 기록
+ * 한 세션의 메시지는 순서대로 처리되므로 경합이 거의 없고, 측정이 끝난 뒤 모두 합쳐 백분위를 계산합니다.
+ */
+class LatencyRecorder {
+
+    private long[] nanos = new long[256];
+    private int size;
+
+    synchronized void record(long latencyNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = latencyNanos;
+    }
+
+    synchronized long[] snapshot() {
+        return Arrays.copyOf(nanos, size);
+    }
+
+    /**
+     * 여러 기록을 합쳐 정렬된 배열로 반환
+     */
+    static long[] merge(List<LatencyRecorder> recorders) {
+        List<long[]> snapshots = recorders.stream().map(LatencyRecorder::snapshot).toList();
+        long[] merged = new long[snapshots.stream().mapToInt(values -> values.length).sum()];
+        int offset = 0;
+        for (long[] values : snapshots) {
+            System.arraycopy(values, 0, merged, offset, values.length);
+            offset += values.length;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * 정렬된 배열의 백분위 (nearest-rank)
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,41 @@
+package com.jeju_nongdi.jeju_nongdi.load;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모든 클라이언트가 공유하는 측정 구간과 카운터
+ * 메시지 본문에 전송 시각을 넣으므로, 측정 구간에 보낸 메시지만 받은 시점과 관계없이 집계합니다.
+ */
+class LoadMeasurement {
+
+    // 메시지 본문에 음수가 들어가지 않도록 테스트 시작 시각 기준으로 기록
+    private static final long ORIGIN = System.nanoTime();
+
+    final LongAdder sent = new LongAdder();
+    final LongAdder delivered = new LongAdder();
+    final LongAdder sendErrors = new LongAdder();
+    final LongAdder transportErrors = new LongAdder();
+
+    private volatile long startNanos = Long.MAX_VALUE;
+    private volatile long endNanos = Long.MAX_VALUE;
+
+    static long now() {
+        return System.nanoTime() - ORIGIN;
+    }
+
+    void start() {
+        startNanos = now();
+    }
+
+    void end() {
+        endNanos = now();
+    }
+
+    boolean contains(long sentAtNanos) {
+        return sentAtNanos >= startNanos && sentAtNanos < endNanos;
+    }
+
+    double elapsedSeconds() {
+        return (endNanos - startNanos) / 1e9;
+    }
+}
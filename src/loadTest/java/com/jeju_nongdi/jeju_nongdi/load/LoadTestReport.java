@@ -0,0 +1,55 @@
+package com.jeju_nongdi.jeju_nongdi.load;
+
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (JSON으로 기록되어 릴리스 간 비교에 사용)
+ * 필드 순서가 고정되어 있으므로 두 보고서를 그대로 diff 할 수 있습니다.
+ */
+public record LoadTestReport(int version,
+                             Scenario scenario,
+                             Environment environment,
+                             Messages messages,
+                             Throughput throughput,
+                             Latency latencyMillis,
+                             Gc gc,
+                             Heap heap) {
+
+    public static final int VERSION = 1;
+
+    public record Scenario(int clients, int rooms, double ratePerClient, int warmupSeconds, int durationSeconds,
+                           Map<String, String> serverProperties) {
+    }
+
+    public record Environment(String javaVersion, String gc, int availableProcessors, long maxHeapBytes, String os) {
+    }
+
+    /**
+     * @param sent 측정 구간에 보낸 메시지 수
+     * @param expectedDeliveries 채팅방 두 참여자가 모두 받아야 하는 수 (sent × 2)
+     * @param delivered 측정 구간에 보낸 메시지 중 실제로 받은 수
+     * @param sendErrors 전송 실패 수
+     * @param transportErrors 연결 오류 수
+     */
+    public record Messages(long sent, long expectedDeliveries, long delivered, double deliveryRatio,
+                           long sendErrors, long transportErrors) {
+    }
+
+    public record Throughput(double sentPerSecond, double deliveredPerSecond) {
+    }
+
+    /**
+     * 전송 직전부터 구독자가 받을 때까지 (저장, 브로드캐스트, STOMP 전송 포함)
+     */
+    public record Latency(double p50, double p90, double p99, double p999, double max, double mean) {
+    }
+
+    public record Gc(long pauses, long pauseTotalMillis, long pauseMaxMillis, Map<String, Collector> collectors) {
+    }
+
+    public record Collector(long pauses, long pauseTotalMillis) {
+    }
+
+    public record Heap(long usedBeforeBytes, long peakUsedBytes, long usedAfterBytes, long maxBytes) {
+    }
+}
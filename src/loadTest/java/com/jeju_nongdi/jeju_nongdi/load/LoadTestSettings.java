@@ -0,0 +1,39 @@
+package com.jeju_nongdi.jeju_nongdi.load;
+
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트 조건 (시스템 프로퍼티 load.* 로 변경)
+ *
+ * @param clients 동시 접속 클라이언트 수 (두 명씩 한 채팅방, 홀수면 하나 늘림)
+ * @param ratePerClient 클라이언트별 초당 전송 메시지 수
+ * @param warmupSeconds 측정 전 예열 시간
+ * @param durationSeconds 측정 시간
+ * @param drainSeconds 전송 종료 후 남은 메시지를 기다리는 최대 시간
+ * @param maxP99Millis p99 지연 상한 (0이면 검사하지 않음)
+ * @param report 결과 JSON 파일 경로
+ */
+public record LoadTestSettings(int clients,
+                               double ratePerClient,
+                               int warmupSeconds,
+                               int durationSeconds,
+                               int drainSeconds,
+                               long maxP99Millis,
+                               Path report) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        int clients = Integer.getInteger("load.clients", 100);
+        return new LoadTestSettings(
+                clients % 2 == 0 ? clients : clients + 1,
+                Double.parseDouble(System.getProperty("load.rate-per-client", "1.0")),
+                Integer.getInteger("load.warmup-seconds", 5),
+                Integer.getInteger("load.duration-seconds", 30),
+                Integer.getInteger("load.drain-seconds", 10),
+                Long.getLong("load.max-p99-ms", 0L),
+                Path.of(System.getProperty("load.report", "build/reports/load/chat-load.json")));
+    }
+
+    public int rooms() {
+        return clients / 2;
+    }
+}
@@ -0,0 +1,150 @@
+package com.jeju_nongdi.jeju_nongdi.load;
+
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 채팅방 하나를 구독하고 일정한 간격으로 메시지를 보내는 STOMP 클라이언트
+ *
+ * 메시지 내용에 전송 시각(LoadMeasurement.now)을 넣고, 같은 JVM에서 받은 시각과의 차이를 지연으로 기록합니다.
+ * 채팅방 두 참여자가 모두 구독하므로 보낸 메시지 하나가 두 번 수신됩니다.
+ */
+class SimulatedChatClient extends StompSessionHandlerAdapter implements StompFrameHandler {
+
+    private static final String SEND_DESTINATION = "/app/chat.sendPrivateMessage";
+    private static final String CONTENT_PREFIX = "load|";
+    private static final byte[] CONTENT_MARKER = ("\"content\":\"" + CONTENT_PREFIX).getBytes(StandardCharsets.UTF_8);
+
+    private final String roomId;
+    private final String token;
+    private final LoadMeasurement measurement;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    private volatile StompSession session;
+
+    SimulatedChatClient(String roomId, String token, LoadMeasurement measurement) {
+        this.roomId = roomId;
+        this.token = token;
+        this.measurement = measurement;
+    }
+
+    CompletableFuture<StompSession> connect(WebSocketStompClient stompClient, String url) {
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.add("Authorization", "Bearer " + token);
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+        return stompClient.connectAsync(url, handshakeHeaders, connectHeaders, this);
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        this.session = session;
+        session.subscribe("/topic/chat/room/" + roomId, this);
+    }
+
+    /**
+     * 메시지 한 건 전송 (전송 스케줄러에서 호출)
+     */
+    void sendOne() {
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            measurement.sendErrors.increment();
+            return;
+        }
+        long sentAt = LoadMeasurement.now();
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination(SEND_DESTINATION);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        String body = "{\"roomId\":\"" + roomId + "\",\"content\":\"" + CONTENT_PREFIX + sentAt + "\"}";
+        try {
+            current.send(headers, body.getBytes(StandardCharsets.UTF_8));
+            if (measurement.contains(sentAt)) {
+                measurement.sent.increment();
+            }
+        } catch (RuntimeException e) {
+            measurement.sendErrors.increment();
+        }
+    }
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+        return byte[].class;
+    }
+
+    @Override
+    public void handleFrame(StompHeaders headers, Object payload) {
+        long receivedAt = LoadMeasurement.now();
+        long sentAt = sentAtOf((byte[]) payload);
+        if (sentAt >= 0 && measurement.contains(sentAt)) {
+            recorder.record(receivedAt - sentAt);
+            measurement.delivered.increment();
+        }
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                byte[] payload, Throwable exception) {
+        measurement.transportErrors.increment();
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        measurement.transportErrors.increment();
+    }
+
+    void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+    }
+
+    boolean isConnected() {
+        StompSession current = session;
+        return current != null && current.isConnected();
+    }
+
+    LatencyRecorder recorder() {
+        return recorder;
+    }
+
+    /**
+     * MessageDto JSON의 content에서 전송 시각을 읽음 (JSON 파싱 비용이 지연에 섞이지 않도록 직접 찾음)
+     */
+    static long sentAtOf(byte[] json) {
+        int start = indexOf(json, CONTENT_MARKER);
+        if (start < 0) {
+            return -1;
+        }
+        long value = 0;
+        int digits = 0;
+        for (int i = start + CONTENT_MARKER.length; i < json.length && json[i] >= '0' && json[i] <= '9'; i++) {
+            value = value * 10 + (json[i] - '0');
+            digits++;
+        }
+        return digits == 0 ? -1 : value;
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,23 @@
+package com.jeju_nongdi.jeju_nongdi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.LocalTopicBroadcaster;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.TopicBroadcaster;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * 채팅/알림 토픽 브로드캐스트 설정
+ *
+ * 브로커 채널로 바로 전송합니다. 여러 노드로 운영할 때는 chat.broker.mode=relay로
+ * 외부 STOMP 브로커가 노드 간 전달을 맡습니다.
+ */
+@Configuration
+public class ChatBrokerConfig {
+
+    @Bean
+    public TopicBroadcaster topicBroadcaster(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper) {
+        return new LocalTopicBroadcaster(messagingTemplate, objectMapper);
+    }
+}
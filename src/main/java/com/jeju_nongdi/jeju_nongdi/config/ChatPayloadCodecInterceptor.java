@@ -0,0 +1,116 @@
+package com.jeju_nongdi.jeju_nongdi.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.CompactRoomProfiles;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatPayloadCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+
+/**
+ * 세션별 채팅 메시지 전송 형식 협상
+ *
+ * - CONNECT: chat-codec: compact 헤더가 있으면 세션 속성에 compact 형식을 기록
+ * - SUBSCRIBE: compact 세션의 /topic/chat/room/{roomId} 구독을 /topic/chat/room/{roomId}/compact 로 바꾸고,
+ *   같은 구독으로 참여자 프로필(CompactRoomProfiles)을 한 번 전송
+ * - UNSUBSCRIBE, DISCONNECT: compact 구독 해제를 ChatPayloadCodec에 알려 구독자가 없는 채팅방에는 compact 메시지를 만들지 않음
+ *
+ * 구독 권한 확인 뒤에 실행되도록 ChatSubscriptionInterceptor 다음에 등록합니다.
+ * 프로필은 구독이 브로커에 등록되기 전에 보내므로 이후 메시지보다 먼저 도착하지만,
+ * 아웃바운드 전송은 병렬로 처리되므로 클라이언트는 모르는 발신자 ID를 채팅방 목록 정보로 대신 표시해야 합니다.
+ */
+@Slf4j
+@Component
+public class ChatPayloadCodecInterceptor implements ChannelInterceptor {
+
+    static final String SESSION_ATTRIBUTE = "chatCodec";
+
+    private final ChatPayloadCodec payloadCodec;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel clientOutboundChannel;
+
+    // clientOutboundChannel은 이 인터셉터를 등록하는 WebSocketConfig가 만들므로 지연 주입
+    public ChatPayloadCodecInterceptor(ChatPayloadCodec payloadCodec,
+                                       ObjectMapper objectMapper,
+                                       @Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+        this.payloadCodec = payloadCodec;
+        this.objectMapper = objectMapper;
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !payloadCodec.isEnabled()) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            if (attributes != null && ChatPayloadCodec.COMPACT.equalsIgnoreCase(accessor.getFirstNativeHeader(ChatPayloadCodec.CODEC_HEADER))) {
+                attributes.put(SESSION_ATTRIBUTE, ChatPayloadCodec.COMPACT);
+                log.debug("compact 전송 형식 사용: sessionId={}", accessor.getSessionId());
+            }
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE && isCompactSession(accessor)) {
+            String roomId = ChatPayloadCodec.roomIdOfMessageTopic(accessor.getDestination());
+            if (roomId != null) {
+                return subscribeCompact(message, accessor, roomId);
+            }
+        } else if (accessor.getCommand() == StompCommand.UNSUBSCRIBE && isCompactSession(accessor)) {
+            payloadCodec.compactUnsubscribed(accessor.getSessionId(), accessor.getSubscriptionId());
+        } else if (accessor.getCommand() == StompCommand.DISCONNECT) {
+            // 클라이언트가 DISCONNECT 없이 끊겨도 세션 종료 시 DISCONNECT 메시지가 들어옴
+            payloadCodec.sessionClosed(accessor.getSessionId());
+        }
+        return message;
+    }
+
+    private Message<?> subscribeCompact(Message<?> message, StompHeaderAccessor accessor, String roomId) {
+        String destination = ChatPayloadCodec.compactDestination(roomId);
+        sendProfiles(accessor, roomId, destination);
+        payloadCodec.compactSubscribed(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
+
+        StompHeaderAccessor rewritten = StompHeaderAccessor.wrap(message);
+        rewritten.setDestination(destination);
+        rewritten.setLeaveMutable(true);
+        return MessageBuilder.createMessage(message.getPayload(), rewritten.getMessageHeaders());
+    }
+
+    private void sendProfiles(StompHeaderAccessor subscribe, String roomId, String destination) {
+        CompactRoomProfiles profiles = payloadCodec.profilesOf(roomId);
+        if (profiles == null) {
+            return;
+        }
+        try {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setSessionId(subscribe.getSessionId());
+            headers.setSubscriptionId(subscribe.getSubscriptionId());
+            headers.setDestination(destination);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            headers.setLeaveMutable(true);
+            clientOutboundChannel.send(MessageBuilder.createMessage(
+                    objectMapper.writeValueAsBytes(profiles), headers.getMessageHeaders()));
+        } catch (JsonProcessingException e) {
+            log.warn("채팅방 프로필 직렬화 실패: roomId={}, error={}", roomId, e.getMessage());
+        }
+    }
+
+    private boolean isCompactSession(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        return attributes != null && ChatPayloadCodec.COMPACT.equals(attributes.get(SESSION_ATTRIBUTE));
+    }
+}
@@ -2,6 +2,7 @@ package com.jeju_nongdi.jeju_nongdi.config;
 
 import com.jeju_nongdi.jeju_nongdi.security.JwtAuthenticationFilter;
 import com.jeju_nongdi.jeju_nongdi.service.CustomUserDetailsService;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -79,8 +80,9 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Collections.singletonList(allowedOrigins));
 
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With", "If-None-Match"));
+        // 지도 마커 스냅샷의 ETag와 버전 (변경 내역 조회에 사용)
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag", MarkerSnapshotCache.VERSION_HEADER));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L); // 1시간 동안 preflight 요청 캐싱
 
@@ -1,16 +1,24 @@
 package com.jeju_nongdi.jeju_nongdi.config;
 
+import com.jeju_nongdi.jeju_nongdi.security.ChatSubscriptionInterceptor;
+import com.jeju_nongdi.jeju_nongdi.security.StompAuthChannelInterceptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
 
 /**
  * WebSocket 설정 클래스
@@ -21,6 +29,8 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * - WebSocket 연결 엔드포인트 설정 (/api/ws)
  * - 메시지 브로커 설정 (/topic 구독, /app 전송)
  * - CORS 설정
+ * - STOMP CONNECT 인증 (JWT)
+ * - 인바운드/아웃바운드 채널 실행기와 느린 클라이언트 연결 종료 정책
  * - SockJS 폴백 지원
  */
 @Slf4j
@@ -29,17 +39,59 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final ChatSubscriptionInterceptor chatSubscriptionInterceptor;
+    private final ChatPayloadCodecInterceptor chatPayloadCodecInterceptor;
+    private final WebSocketSessionQueueMetrics sessionQueueMetrics;
+
     @Value("${app.cors.allowed-origins}")
     private String frontendBaseUrl;
 
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${chat.websocket.heartbeat-pool-size:2}")
+    private int heartbeatPoolSize;
+
+    @Value("${chat.websocket.inbound.concurrency-limit:256}")
+    private int inboundConcurrencyLimit;
+
+    @Value("${chat.websocket.outbound.concurrency-limit:256}")
+    private int outboundConcurrencyLimit;
+
+    @Value("${chat.websocket.send-time-limit:10s}")
+    private Duration sendTimeLimit;
+
+    @Value("${chat.websocket.send-buffer-size-limit:512KB}")
+    private DataSize sendBufferSizeLimit;
+
+    @Value("${chat.websocket.message-size-limit:16KB}")
+    private DataSize messageSizeLimit;
+
+    @Value("${chat.websocket.time-to-first-message:30s}")
+    private Duration timeToFirstMessage;
+
     /**
      * TaskScheduler Bean 등록
      * WebSocket heartbeat 처리를 위해 필요합니다.
+     * 하트비트 작업은 가볍기 때문에 적은 수의 스레드로 충분합니다.
      */
     @Bean
     public TaskScheduler messagingTaskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(10);
+        scheduler.setPoolSize(heartbeatPoolSize);
         scheduler.setThreadNamePrefix("websocket-heartbeat-");
         scheduler.setWaitForTasksToCompleteOnShutdown(true);
         scheduler.setAwaitTerminationSeconds(30);
@@ -77,13 +129,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * 채팅 예시:
      * - 구독: /topic/chat/room/{roomId}
      * - 전송: /app/chat.sendPrivateMessage
+     *
+     * 브로커 모드 (chat.broker.mode):
+     * - simple: 내장 simple 브로커 (단일 노드 개발 환경 기본값)
+     * - relay: 외부 STOMP 브로커로 중계하여 여러 노드의 구독자에게 전달
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 메시지 브로커 설정 - 클라이언트가 구독할 주제
-        registry.enableSimpleBroker("/topic")
-                .setHeartbeatValue(new long[]{25000, 25000}) // 서버/클라이언트 하트비트 25초
-                .setTaskScheduler(messagingTaskScheduler()); // TaskScheduler 설정
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            registry.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(25000)
+                    .setSystemHeartbeatReceiveInterval(25000)
+                    .setTaskScheduler(messagingTaskScheduler());
+            log.info("외부 STOMP 브로커 중계 사용: {}:{}", relayHost, relayPort);
+        } else {
+            registry.enableSimpleBroker("/topic")
+                    .setHeartbeatValue(new long[]{25000, 25000}) // 서버/클라이언트 하트비트 25초
+                    .setTaskScheduler(messagingTaskScheduler()); // TaskScheduler 설정
+        }
 
         // 애플리케이션 목적지 접두사 - 클라이언트가 서버로 메시지 전송시 사용
         registry.setApplicationDestinationPrefixes("/app");
@@ -91,6 +161,60 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 사용자별 개인 메시지 접두사 (필요시 사용)
         registry.setUserDestinationPrefix("/user");
 
-        log.info("메시지 브로커 설정 완료: 구독 접두사=/topic, 전송 접두사=/app");
+        // 가상 스레드 실행기에서도 세션별 수신/발행 순서 유지
+        registry.setPreserveReceiveOrder(true);
+        registry.setPreservePublishOrder(true);
+
+        log.info("메시지 브로커 설정 완료: 모드={}, 구독 접두사=/topic, 전송 접두사=/app", brokerMode);
+    }
+
+    /**
+     * 클라이언트 인바운드 채널 설정
+     *
+     * CONNECT 프레임에서 JWT를 한 번 검증하고 세션 사용자를 등록한 뒤,
+     * SUBSCRIBE 프레임에서 채팅방/알림 토픽 구독 권한을 확인합니다.
+     * 권한 확인 후 compact 전송 형식을 선택한 세션의 채팅방 구독 목적지를 바꿉니다.
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(virtualThreadExecutor("ws-inbound-", inboundConcurrencyLimit))
+                .interceptors(stompAuthChannelInterceptor, chatSubscriptionInterceptor, chatPayloadCodecInterceptor);
+    }
+
+    /**
+     * 클라이언트 아웃바운드 채널 설정
+     *
+     * 가상 스레드로 세션별 전송을 처리하고, 세션별 송신 대기 메시지 수를 집계합니다.
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(virtualThreadExecutor("ws-outbound-", outboundConcurrencyLimit))
+                .interceptors(sessionQueueMetrics);
+    }
+
+    /**
+     * WebSocket 전송 제한 설정
+     *
+     * 한 세션의 송신이 sendTimeLimit 이상 걸리거나 송신 버퍼가 sendBufferSizeLimit를 넘으면 세션을 종료합니다.
+     * 느린 클라이언트 하나 때문에 브로커 스레드가 묶이거나 메모리가 계속 늘어나지 않도록 합니다.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) sendTimeLimit.toMillis())
+                .setSendBufferSizeLimit((int) sendBufferSizeLimit.toBytes())
+                .setMessageSizeLimit((int) messageSizeLimit.toBytes())
+                .setTimeToFirstMessage((int) timeToFirstMessage.toMillis())
+                .addDecoratorFactory(sessionQueueMetrics);
+    }
+
+    /**
+     * 동시 실행 수를 제한한 가상 스레드 실행기
+     * 한도에 도달하면 호출 스레드가 대기하므로 처리량보다 빠르게 작업이 쌓이지 않습니다.
+     */
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
     }
 }
@@ -0,0 +1,137 @@
+package com.jeju_nongdi.jeju_nongdi.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 세션별 송신 대기 메시지 수 지표
+ *
+ * 클라이언트 아웃바운드 채널에 들어온 메시지 수와 실제 소켓에 기록된 메시지 수의 차이를 세션별로 셉니다.
+ * 느린 클라이언트의 송신 버퍼에 쌓인 메시지가 이 값에 해당합니다.
+ * 세션 ID를 태그로 쓰면 지표 수가 무한히 늘어나므로 다음 값으로 집계하여 노출합니다.
+ * - websocket.session.outbound.pending (statistic=max|total): 세션별 대기 수의 최댓값/합계
+ * - websocket.session.outbound.depth: 메시지가 들어올 때의 세션별 대기 수 분포
+ * - websocket.sessions: 연결된 세션 수
+ */
+@Component
+public class WebSocketSessionQueueMetrics implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private final Map<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+    private final DistributionSummary depthSummary;
+
+    public WebSocketSessionQueueMetrics(MeterRegistry meterRegistry) {
+        this.depthSummary = DistributionSummary.builder("websocket.session.outbound.depth")
+                .description("메시지 송신 요청 시점의 세션별 대기 메시지 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("websocket.session.outbound.pending", this, WebSocketSessionQueueMetrics::maxPending)
+                .tag("statistic", "max")
+                .register(meterRegistry);
+        Gauge.builder("websocket.session.outbound.pending", this, WebSocketSessionQueueMetrics::totalPending)
+                .tag("statistic", "total")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아웃바운드 채널에 메시지가 들어오면 해당 세션의 대기 수 증가
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            AtomicInteger counter = pending.get(sessionId);
+            if (counter != null) {
+                depthSummary.record(counter.incrementAndGet());
+            }
+        }
+        return message;
+    }
+
+    /**
+     * 소켓에 기록될 때 대기 수를 줄이도록 세션을 감싸는 핸들러 데코레이터
+     */
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                AtomicInteger counter = new AtomicInteger();
+                pending.put(session.getId(), counter);
+                WebSocketSession counting = new CountingSession(session, counter);
+                sessions.put(session.getId(), counting);
+                super.afterConnectionEstablished(counting);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(sessions.getOrDefault(session.getId(), session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(sessions.getOrDefault(session.getId(), session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                pending.remove(session.getId());
+                WebSocketSession counting = sessions.remove(session.getId());
+                super.afterConnectionClosed(counting != null ? counting : session, closeStatus);
+            }
+        };
+    }
+
+    public int pendingCount(String sessionId) {
+        AtomicInteger counter = pending.get(sessionId);
+        return counter != null ? counter.get() : 0;
+    }
+
+    private double maxPending() {
+        return pending.values().stream().mapToInt(AtomicInteger::get).max().orElse(0);
+    }
+
+    private double totalPending() {
+        return pending.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    private static class CountingSession extends WebSocketSessionDecorator {
+
+        private final AtomicInteger counter;
+
+        private CountingSession(WebSocketSession session, AtomicInteger counter) {
+            super(session);
+            this.counter = counter;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                counter.updateAndGet(value -> Math.max(0, value - 1));
+            }
+        }
+    }
+}
@@ -3,8 +3,11 @@ package com.jeju_nongdi.jeju_nongdi.controller.Chat;
 import com.jeju_nongdi.jeju_nongdi.dto.ApiResponse;
 import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomDto;
 import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomView;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatSyncRequest;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatSyncResponse;
 import com.jeju_nongdi.jeju_nongdi.dto.Chat.MessageDto;
 import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.exception.SearchIndexNotReadyException;
 import com.jeju_nongdi.jeju_nongdi.service.ChatService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,17 +15,22 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -184,9 +192,69 @@ public class ChatController {
         }
     }
 
+    @Operation(
+        summary = "채팅방 메시지 조회 (커서)",
+        description = "before로 전달한 메시지 ID 이전의 메시지를 최신순으로 limit개 조회합니다. " +
+                "before를 생략하면 가장 최근 메시지부터 조회하며, 전체 개수를 세지 않아 스크롤 위치와 관계없이 빠릅니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", 
+            description = "메시지 조회 성공 (커서)",
+            content = @Content(schema = @Schema(implementation = MessageDto.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401", 
+            description = "인증되지 않은 사용자",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403", 
+            description = "채팅방 접근 권한 없음",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404", 
+            description = "채팅방을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        )
+    })
+    @GetMapping("/rooms/{roomId}/messages")
+    public ResponseEntity<ApiResponse<Slice<MessageDto>>> getRoomMessagesBefore(
+            @Parameter(description = "채팅방 ID", required = true, example = "1_2")
+            @PathVariable String roomId,
+            @Parameter(description = "이 메시지 ID 이전의 메시지를 조회 (생략 시 최신 메시지부터)", example = "120")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "조회 개수 (최대 100)", example = "50")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("인증이 필요합니다", HttpStatus.UNAUTHORIZED.value()));
+        }
+
+        try {
+            Slice<MessageDto> messages = chatService.getMessagesByRoomBefore(roomId, user.getEmail(), before, limit);
+            return ResponseEntity.ok(ApiResponse.success("메시지 커서 조회 성공", messages));
+        } catch (SecurityException e) {
+            log.warn("채팅방 접근 권한 없음: 사용자={}, 채팅방={}", user.getEmail(), roomId);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("채팅방 접근 권한이 없습니다", HttpStatus.FORBIDDEN.value()));
+        } catch (IllegalArgumentException e) {
+            log.warn("채팅방을 찾을 수 없음: roomId={}", roomId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("채팅방을 찾을 수 없습니다", HttpStatus.NOT_FOUND.value()));
+        } catch (Exception e) {
+            log.error("메시지 커서 조회 실패: roomId={}, error={}", roomId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
     @Operation(
         summary = "채팅방 메시지 조회 (전체)",
-        description = "특정 채팅방의 모든 메시지를 시간순으로 조회합니다."
+        description = "특정 채팅방의 모든 메시지를 시간순으로 조회합니다. 메시지를 읽는 즉시 응답으로 스트리밍합니다. before 또는 limit을 전달하면 커서 조회로 처리됩니다."
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -210,8 +278,8 @@ public class ChatController {
             content = @Content(schema = @Schema(implementation = ApiResponse.class))
         )
     })
-    @GetMapping("/rooms/{roomId}/messages")
-    public ResponseEntity<ApiResponse<List<MessageDto>>> getRoomMessages(
+    @GetMapping(value = "/rooms/{roomId}/messages", params = {"!before", "!limit"})
+    public ResponseEntity<?> getRoomMessages(
             @Parameter(description = "채팅방 ID", required = true, example = "1_2")
             @PathVariable String roomId,
             @Parameter(hidden = true) @AuthenticationPrincipal User user) {
@@ -222,8 +290,13 @@ public class ChatController {
         }
 
         try {
-            List<MessageDto> messages = chatService.getMessagesByRoom(roomId, user.getEmail());
-            return ResponseEntity.ok(ApiResponse.success("메시지 조회 성공", messages));
+            // 권한 오류는 스트리밍 시작 전에 일반 응답으로 처리
+            chatService.checkRoomReadable(roomId, user.getEmail());
+            String email = user.getEmail();
+            StreamingResponseBody body = out -> chatService.writeMessageHistory(roomId, email, out);
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
         } catch (SecurityException e) {
             log.warn("채팅방 접근 권한 없음: 사용자={}, 채팅방={}", user.getEmail(), roomId);
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -239,6 +312,60 @@ public class ChatController {
         }
     }
 
+    @Operation(
+        summary = "채팅방 읽음 처리",
+        description = "채팅방의 안 읽은 메시지 수를 0으로 초기화합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", 
+            description = "읽음 처리 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401", 
+            description = "인증되지 않은 사용자",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403", 
+            description = "채팅방 접근 권한 없음",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404", 
+            description = "채팅방을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        )
+    })
+    @PostMapping("/rooms/{roomId}/read")
+    public ResponseEntity<ApiResponse<Void>> markRoomAsRead(
+            @Parameter(description = "채팅방 ID", required = true, example = "1_2")
+            @PathVariable String roomId,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("인증이 필요합니다", HttpStatus.UNAUTHORIZED.value()));
+        }
+
+        try {
+            chatService.markRoomAsRead(roomId, user.getEmail());
+            return ResponseEntity.ok(ApiResponse.success("읽음 처리되었습니다", null));
+        } catch (SecurityException e) {
+            log.warn("채팅방 접근 권한 없음: 사용자={}, 채팅방={}", user.getEmail(), roomId);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("채팅방 접근 권한이 없습니다", HttpStatus.FORBIDDEN.value()));
+        } catch (IllegalArgumentException e) {
+            log.warn("채팅방을 찾을 수 없음: roomId={}", roomId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("채팅방을 찾을 수 없습니다", HttpStatus.NOT_FOUND.value()));
+        } catch (Exception e) {
+            log.error("읽음 처리 실패: roomId={}, error={}", roomId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
     @Operation(
         summary = "채팅방 삭제", 
         description = "채팅방을 소프트 삭제합니다. 상대방이 삭제하면 완전 삭제됩니다."
@@ -292,4 +419,103 @@ public class ChatController {
                 .body(ApiResponse.error("서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()));
         }
     }
+
+    @Operation(
+        summary = "채팅 메시지 검색",
+        description = "참여 중인 채팅방의 메시지에서 검색어의 모든 단어를 포함하는 메시지를 최신순으로 조회합니다. " +
+                "조사가 붙은 단어도 찾으며(예: \"주소\" → \"주소를\"), 두 글자 이상인 단어가 하나 이상 필요합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "검색 성공",
+            content = @Content(schema = @Schema(implementation = MessageDto.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "검색어가 너무 짧음",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "서버 시작 직후 검색 색인 준비 중 (Retry-After 후 재시도)",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증되지 않은 사용자",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<MessageDto>>> searchMessages(
+            @Parameter(description = "검색어", required = true, example = "농장 주소")
+            @RequestParam("q") String query,
+            @Parameter(description = "최대 결과 수 (최대 50)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("인증이 필요합니다", HttpStatus.UNAUTHORIZED.value()));
+        }
+
+        try {
+            List<MessageDto> messages = chatService.searchMessages(user.getEmail(), query, limit);
+            return ResponseEntity.ok(ApiResponse.success("메시지 검색 성공", messages));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage(), HttpStatus.BAD_REQUEST.value()));
+        } catch (SearchIndexNotReadyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponse.error(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value()));
+        } catch (Exception e) {
+            log.error("메시지 검색 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
+    @Operation(
+        summary = "재연결 동기화",
+        description = "연결이 끊겼다가 다시 연결한 클라이언트가 채팅방별로 마지막에 받은 메시지 ID를 보내면, " +
+                "참여 중인 모든 채팅방의 새 메시지를 한 번에 반환합니다. 새 메시지가 있는 채팅방만 포함되며, " +
+                "refetch가 true인 채팅방은 메시지 목록 API로 최신 메시지부터 다시 조회해야 합니다. " +
+                "hasMore가 true이면 받은 메시지 ID로 갱신해서 다시 요청합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "동기화 성공",
+            content = @Content(schema = @Schema(implementation = ChatSyncResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증되지 않은 사용자",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        )
+    })
+    @PostMapping("/sync")
+    public ResponseEntity<ApiResponse<ChatSyncResponse>> syncRooms(
+            @Valid @RequestBody ChatSyncRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("인증이 필요합니다", HttpStatus.UNAUTHORIZED.value()));
+        }
+
+        try {
+            ChatSyncResponse response = chatService.syncRooms(user.getEmail(), request.getRooms());
+            return ResponseEntity.ok(ApiResponse.success("채팅방 동기화 성공", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(e.getMessage(), HttpStatus.NOT_FOUND.value()));
+        } catch (Exception e) {
+            log.error("채팅방 동기화 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package com.jeju_nongdi.jeju_nongdi.controller.Chat;
 
 import com.jeju_nongdi.jeju_nongdi.dto.Chat.SimpleMessagePayloadDTO;
-import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.TypingPayloadDTO;
+import com.jeju_nongdi.jeju_nongdi.security.StompPrincipal;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.TypingIndicatorService;
 import com.jeju_nongdi.jeju_nongdi.service.ChatService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,11 +11,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.HtmlUtils;
 
+import java.security.Principal;
+
 /**
  * WebSocket 기반 실시간 채팅 컨트롤러
  * 
@@ -21,7 +24,8 @@ import org.springframework.web.util.HtmlUtils;
  * 
  * WebSocket 연결 엔드포인트: /api/ws
  * 메시지 전송 주소: /app/chat.sendPrivateMessage
- * 구독 주소: /topic/chat/room/{roomId}
+ * 입력 중 표시 전송 주소: /app/chat.typing
+ * 구독 주소: /topic/chat/room/{roomId}, /topic/chat/room/{roomId}/typing
  */
 @Slf4j
 @Controller
@@ -29,29 +33,30 @@ import org.springframework.web.util.HtmlUtils;
 public class ChatWebSocketController {
 
     private final ChatService chatService;
+    private final TypingIndicatorService typingIndicatorService;
 
     /**
      * 1:1 채팅 메시지 전송
      * 
      * @param payload 메시지 내용과 채팅방 ID
      * @param headerAccessor WebSocket 헤더 정보
-     * @param user 인증된 사용자 정보
+     * @param principal CONNECT 시 인증된 세션 사용자 (StompPrincipal)
      */
     @MessageMapping("/chat.sendPrivateMessage")
     public void sendPrivateMessage(
             @Payload @Valid SimpleMessagePayloadDTO payload,
             SimpMessageHeaderAccessor headerAccessor,
-            @AuthenticationPrincipal User user) {
+            Principal principal) {
 
         // 기본 유효성 검사
-        if (user == null) {
+        if (!(principal instanceof StompPrincipal user)) {
             log.warn("인증되지 않은 사용자의 메시지 전송 시도");
             return;
         }
 
         if (payload == null || !StringUtils.hasText(payload.getRoomId()) || 
             !StringUtils.hasText(payload.getContent())) {
-            log.warn("유효하지 않은 메시지 페이로드: 사용자={}", user.getEmail());
+            log.warn("유효하지 않은 메시지 페이로드: 사용자={}", user.email());
             return;
         }
 
@@ -60,7 +65,7 @@ public class ChatWebSocketController {
         
         // 메시지 길이 제한 (추가 검증)
         if (sanitizedContent.length() > 1000) {
-            log.warn("메시지 길이 초과: 사용자={}, 길이={}", user.getEmail(), sanitizedContent.length());
+            log.warn("메시지 길이 초과: 사용자={}, 길이={}", user.email(), sanitizedContent.length());
             return;
         }
 
@@ -68,14 +73,39 @@ public class ChatWebSocketController {
             // 메시지 저장 및 브로드캐스트
             chatService.saveAndBroadcastMessage(
                 payload.getRoomId(),
-                user.getEmail(),
+                user.userId(),
                 sanitizedContent
             );
             
-            log.debug("메시지 전송 성공: 사용자={}, 채팅방={}", user.getEmail(), payload.getRoomId());
+            log.debug("메시지 전송 성공: 사용자={}, 채팅방={}", user.email(), payload.getRoomId());
         } catch (Exception e) {
             log.error("메시지 전송 실패: 사용자={}, 채팅방={}, 오류={}", 
-                user.getEmail(), payload.getRoomId(), e.getMessage(), e);
+                user.email(), payload.getRoomId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 입력 중 표시 전송
+     * 사용자/채팅방별로 서버에서 throttle 하므로 클라이언트는 입력할 때마다 보내도 됩니다.
+     *
+     * @param payload 채팅방 ID와 입력 중 여부
+     * @param principal CONNECT 시 인증된 세션 사용자 (StompPrincipal)
+     */
+    @MessageMapping("/chat.typing")
+    public void sendTyping(@Payload @Valid TypingPayloadDTO payload, Principal principal) {
+        if (!(principal instanceof StompPrincipal user)) {
+            log.warn("인증되지 않은 사용자의 입력 중 표시 전송 시도");
+            return;
+        }
+        if (payload == null || !StringUtils.hasText(payload.getRoomId())) {
+            return;
+        }
+
+        try {
+            typingIndicatorService.publish(payload.getRoomId(), user, payload.isTyping());
+        } catch (Exception e) {
+            log.warn("입력 중 표시 전송 실패: 사용자={}, 채팅방={}, 오류={}",
+                user.email(), payload.getRoomId(), e.getMessage());
         }
     }
 }
@@ -8,11 +8,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+
 /**
  * WebSocket 연결 정보 제공 컨트롤러
  * 
@@ -25,6 +28,10 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Chat WebSocket", description = "실시간 채팅 WebSocket 연결 정보")
 public class ChatWebSocketInfoController {
 
+    // 문서의 "입력 중" 전달 간격은 TypingIndicatorService와 같은 설정에서 읽음
+    @Value("${chat.typing.throttle:2s}")
+    private Duration typingThrottle;
+
     @Operation(
         summary = "WebSocket 연결 정보 조회",
         description = """
@@ -78,7 +85,41 @@ public class ChatWebSocketInfoController {
              400 : 잘못된 요청(Bad Request)
             ```
             
-            ### 4. 연결 해제
+            ### 4. 입력 중 표시
+            ```javascript
+            BASE_URL(http://localhost:8080)/api/ws
+             Destination: /app/chat.typing
+             Method: STOMP SEND
+        
+             RequestBody
+             {
+               String roomId,
+               boolean typing
+             }
+        
+             구독: /topic/chat/room/{roomId}/typing
+             {
+               String roomId,
+               Long userId,
+               String nickname,
+               boolean typing
+             }
+        
+             *같은 채팅방의 "입력 중"은 서버에서 ${chat.typing.throttle:2s} 간격으로 한 번만 전달됨 (응답의 typingThrottleMillis)
+            ```
+            
+            ### 5. compact 전송 형식 (선택)
+            ```javascript
+            CONNECT 헤더: chat-codec: compact
+            
+             구독 주소는 그대로 /topic/chat/room/{roomId}
+             구독 직후 한 번: { "t": "p", "u": [ { "i": 사용자 ID, "n": 닉네임, "p": 프로필 이미지 } ] }
+             이후 메시지:     { "t": "m", "i": 메시지 ID, "s": 발신자 ID, "c": 내용, "a": 작성 시간(epoch ms) }
+            
+             *발신자 닉네임/프로필 이미지를 메시지마다 보내지 않아 전송량이 줄어듦
+            ```
+            
+            ### 6. 연결 해제
             ```javascript
             stompClient.disconnect(function() {
                 console.log('Disconnected');
@@ -102,6 +143,7 @@ public class ChatWebSocketInfoController {
                 .protocol("STOMP over WebSocket")
                 .sockJsEnabled(true)
                 .authentication("JWT Bearer Token in WebSocket headers")
+                .typingThrottleMillis(typingThrottle.toMillis())
                 .build();
 
         return ResponseEntity.ok(
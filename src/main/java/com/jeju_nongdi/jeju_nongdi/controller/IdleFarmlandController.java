@@ -3,8 +3,11 @@ package com.jeju_nongdi.jeju_nongdi.controller;
 import com.jeju_nongdi.jeju_nongdi.dto.*;
 import com.jeju_nongdi.jeju_nongdi.entity.IdleFarmland;
 import com.jeju_nongdi.jeju_nongdi.service.IdleFarmlandService;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerClusterIndex;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerSnapshotCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -201,14 +205,63 @@ public class IdleFarmlandController {
     }
 
     @GetMapping("/markers")
-    @Operation(summary = "지도 마커용 데이터 조회", description = "지도에 표시할 농지 마커 데이터를 조회합니다.")
+    @Operation(summary = "지도 마커용 데이터 조회",
+            description = "지도에 표시할 농지 마커 데이터를 조회합니다. " +
+                    "응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환하며, " +
+                    "X-Marker-Version 헤더 값은 /markers/changes 의 sinceVersion으로 사용합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "지도 마커 데이터 조회 성공",
-                    content = @Content(schema = @Schema(implementation = IdleFarmlandMarkerResponse.class)))
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = IdleFarmlandMarkerResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "마지막으로 받은 마커 목록에서 변경 없음",
+                    content = @Content)
     })
-    public ResponseEntity<List<IdleFarmlandMarkerResponse>> getIdleFarmlandMarkers() {
+    public ResponseEntity<byte[]> getIdleFarmlandMarkers() {
         log.info("Fetching idle farmland markers");
-        List<IdleFarmlandMarkerResponse> response = idleFarmlandService.getIdleFarmlandMarkers();
+        MarkerSnapshotCache.Snapshot snapshot = idleFarmlandService.getIdleFarmlandMarkerSnapshot();
+        // If-None-Match가 ETag와 같으면 본문 없이 304로 응답됨
+        return ResponseEntity.ok()
+                .eTag(snapshot.eTag())
+                .header(MarkerSnapshotCache.VERSION_HEADER, String.valueOf(snapshot.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+
+    @GetMapping("/markers/changes")
+    @Operation(summary = "지도 마커 변경 내역 조회",
+            description = "sinceVersion 이후 추가/변경된 마커와 삭제된 마커 ID를 조회합니다. " +
+                    "fullRefetch가 true이면 /markers 로 전체 목록을 다시 받아야 합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 내역 조회 성공",
+                    content = @Content(schema = @Schema(implementation = MarkerDeltaResponse.class)))
+    })
+    public ResponseEntity<MarkerDeltaResponse<IdleFarmlandMarkerResponse>> getIdleFarmlandMarkerChanges(
+            @Parameter(description = "클라이언트가 가진 마커 버전") @RequestParam long sinceVersion) {
+
+        log.info("Fetching idle farmland marker changes since version: {}", sinceVersion);
+        return ResponseEntity.ok(idleFarmlandService.getIdleFarmlandMarkerChanges(sinceVersion));
+    }
+
+    @GetMapping("/markers/clusters")
+    @Operation(summary = "줌 레벨별 지도 마커 클러스터 조회",
+            description = "줌 레벨에 맞춰 가까운 농지를 하나의 클러스터(중심 좌표와 농지 수)로 묶어 조회합니다. " +
+                    "마커가 하나인 클러스터는 농지 ID를 포함하며, 영역을 생략하면 전체를 조회합니다. " +
+                    "17 이상의 줌에서는 묶지 않고 영역 안의 개별 마커를 반환합니다. 11 이상의 줌에서는 영역이 필수입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "클러스터 조회 성공",
+                    content = @Content(schema = @Schema(implementation = MarkerClusterResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 줌 레벨 또는 좌표값",
+                    content = @Content)
+    })
+    public ResponseEntity<List<MarkerClusterResponse>> getIdleFarmlandMarkerClusters(
+            @Parameter(description = "지도 줌 레벨 (0~21)", example = "10") @RequestParam int zoom,
+            @Parameter(description = "최소 위도") @RequestParam(required = false) Double minLat,
+            @Parameter(description = "최대 위도") @RequestParam(required = false) Double maxLat,
+            @Parameter(description = "최소 경도") @RequestParam(required = false) Double minLng,
+            @Parameter(description = "최대 경도") @RequestParam(required = false) Double maxLng) {
+
+        log.info("Fetching idle farmland marker clusters for zoom: {}", zoom);
+        List<MarkerClusterResponse> response = idleFarmlandService.getIdleFarmlandMarkerClusters(
+                zoom, MarkerClusterIndex.Bounds.of(minLat, maxLat, minLng, maxLng));
         return ResponseEntity.ok(response);
     }
 
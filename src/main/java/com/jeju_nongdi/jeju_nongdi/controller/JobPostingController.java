@@ -3,11 +3,16 @@ package com.jeju_nongdi.jeju_nongdi.controller;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerResponse;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingRequest;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.MarkerClusterResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.MarkerDeltaResponse;
 import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
 import com.jeju_nongdi.jeju_nongdi.entity.User;
 import com.jeju_nongdi.jeju_nongdi.service.JobPostingService;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerClusterIndex;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerSnapshotCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -21,6 +26,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -154,18 +160,46 @@ public class JobPostingController {
     @GetMapping("/markers")
     @Operation(
             summary = "지도 마커용 데이터 조회", 
-            description = "지도에 표시할 간소화된 공고 정보를 조회합니다."
+            description = "지도에 표시할 간소화된 공고 정보를 조회합니다.\n\n" +
+                    "응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다. " +
+                    "X-Marker-Version 헤더 값은 /markers/changes 의 sinceVersion으로 사용합니다."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "마커 데이터 조회 성공",
-                    content = @Content(schema = @Schema(implementation = JobPostingMarkerResponse.class))
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = JobPostingMarkerResponse.class)))
+            ),
+            @ApiResponse(responseCode = "304", description = "마지막으로 받은 마커 목록에서 변경 없음")
+    })
+    public ResponseEntity<byte[]> getJobPostingMarkers() {
+        MarkerSnapshotCache.Snapshot snapshot = jobPostingService.getJobPostingMarkerSnapshot();
+        // If-None-Match가 ETag와 같으면 본문 없이 304로 응답됨
+        return ResponseEntity.ok()
+                .eTag(snapshot.eTag())
+                .header(MarkerSnapshotCache.VERSION_HEADER, String.valueOf(snapshot.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+
+    @GetMapping("/markers/changes")
+    @Operation(
+            summary = "지도 마커 변경 내역 조회",
+            description = "sinceVersion 이후 추가/변경된 마커와 삭제된 마커 ID를 조회합니다.\n\n" +
+                    "fullRefetch가 true이면 변경 내역을 줄 수 없으므로 /markers 로 전체 목록을 다시 받아야 합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "변경 내역 조회 성공",
+                    content = @Content(schema = @Schema(implementation = MarkerDeltaResponse.class))
             )
     })
-    public ResponseEntity<List<JobPostingMarkerResponse>> getJobPostingMarkers() {
-        List<JobPostingMarkerResponse> markers = jobPostingService.getJobPostingMarkers();
-        return ResponseEntity.ok(markers);
+    public ResponseEntity<MarkerDeltaResponse<JobPostingMarkerResponse>> getJobPostingMarkerChanges(
+            @Parameter(description = "클라이언트가 가진 마커 버전 (X-Marker-Version 또는 이전 응답의 version)", required = true)
+            @RequestParam long sinceVersion) {
+
+        return ResponseEntity.ok(jobPostingService.getJobPostingMarkerChanges(sinceVersion));
     }
 
     @GetMapping("/markers/region")
@@ -191,6 +225,46 @@ public class JobPostingController {
         return ResponseEntity.ok(markers);
     }
 
+    @GetMapping("/markers/clusters")
+    @Operation(
+            summary = "줌 레벨별 지도 마커 클러스터 조회",
+            description = "줌 레벨에 맞춰 가까운 공고를 하나의 클러스터(중심 좌표와 공고 수)로 묶어 조회합니다.\n\n" +
+                    "마커가 하나인 클러스터는 공고 ID를 포함합니다. 17 이상의 줌에서는 묶지 않고 영역 안의 개별 마커를 반환합니다.\n" +
+                    "영역(minLat, maxLat, minLng, maxLng)을 생략하면 전체를 조회하며, 11 이상의 줌에서는 영역이 필수입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "클러스터 조회 성공",
+                    content = @Content(schema = @Schema(implementation = MarkerClusterResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 줌 레벨 또는 좌표값",
+                    content = @Content(schema = @Schema(implementation = com.jeju_nongdi.jeju_nongdi.dto.ApiResponse.class))
+            )
+    })
+    public ResponseEntity<List<MarkerClusterResponse>> getJobPostingMarkerClusters(
+            @Parameter(description = "지도 줌 레벨 (0~21, 제주도 전체: 10)", example = "10", required = true)
+            @RequestParam int zoom,
+
+            @Parameter(description = "최소 위도", example = "33.25")
+            @RequestParam(required = false) Double minLat,
+
+            @Parameter(description = "최대 위도", example = "33.50")
+            @RequestParam(required = false) Double maxLat,
+
+            @Parameter(description = "최소 경도", example = "126.26")
+            @RequestParam(required = false) Double minLng,
+
+            @Parameter(description = "최대 경도", example = "126.72")
+            @RequestParam(required = false) Double maxLng) {
+
+        List<MarkerClusterResponse> clusters = jobPostingService.getJobPostingMarkerClusters(
+                zoom, MarkerClusterIndex.Bounds.of(minLat, maxLat, minLng, maxLng));
+        return ResponseEntity.ok(clusters);
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "일손 모집 공고 상세 조회",
@@ -541,7 +615,7 @@ public class JobPostingController {
     }
 
     @Operation(summary = "지도 영역 내 마커용 데이터 조회",
-            description = "지정된 위도/경도 범위 내의 지도 마커용 간소화된 공고 데이터를 조회합니다.")
+            description = "지정된 위도/경도 범위 내의 지도 마커용 간소화된 공고 데이터를 최신 작성순으로 최대 limit건 조회합니다.")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
@@ -561,7 +635,10 @@ public class JobPostingController {
             @RequestParam double minLng,
 
             @Parameter(description = "최대 경도", example = "126.72", required = true)
-            @RequestParam double maxLng) {
+            @RequestParam double maxLng,
+
+            @Parameter(description = "최대 마커 수 (1~2000)", example = "500")
+            @RequestParam(defaultValue = "500") int limit) {
 
         // 좌표 유효성 검증
         if (minLat >= maxLat || minLng >= maxLng) {
@@ -569,7 +646,7 @@ public class JobPostingController {
         }
 
         List<JobPostingMarkerResponse> markers = jobPostingService.getJobPostingMarkersByBounds(
-                minLat, maxLat, minLng, maxLng);
+                minLat, maxLat, minLng, maxLng, limit);
 
         return ResponseEntity.ok(markers);
     }
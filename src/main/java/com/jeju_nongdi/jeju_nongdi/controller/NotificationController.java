@@ -0,0 +1,182 @@
+package com.jeju_nongdi.jeju_nongdi.controller;
+
+import com.jeju_nongdi.jeju_nongdi.dto.ApiResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.NotificationDto;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.service.NotificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Tag(name = "Notification", description = "알림 관련 API")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @Operation(
+        summary = "알림 목록 조회 (커서)",
+        description = "before로 전달한 알림 ID 이전의 알림을 최신순으로 limit개 조회합니다. before를 생략하면 가장 최근 알림부터 조회합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "알림 조회 성공",
+            content = @Content(schema = @Schema(implementation = NotificationDto.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증되지 않은 사용자",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        )
+    })
+    @GetMapping
+    public ResponseEntity<ApiResponse<Slice<NotificationDto>>> getNotifications(
+            @Parameter(description = "이 알림 ID 이전의 알림을 조회 (생략 시 최신 알림부터)", example = "120")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "조회 개수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("인증이 필요합니다", HttpStatus.UNAUTHORIZED.value()));
+        }
+
+        try {
+            Slice<NotificationDto> notifications = notificationService.findPage(user.getEmail(), before, limit);
+            return ResponseEntity.ok(ApiResponse.success("알림 조회 성공", notifications));
+        } catch (Exception e) {
+            log.error("알림 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
+    @Operation(
+        summary = "읽지 않은 알림 수 조회",
+        description = "읽지 않은 알림 수를 조회합니다. 같은 채팅방의 채팅 알림은 한 건으로 셉니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증되지 않은 사용자",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        )
+    })
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Long>> getUnreadCount(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("인증이 필요합니다", HttpStatus.UNAUTHORIZED.value()));
+        }
+
+        try {
+            return ResponseEntity.ok(ApiResponse.success("읽지 않은 알림 수 조회 성공",
+                    notificationService.countUnread(user.getEmail())));
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
+    @Operation(
+        summary = "알림 읽음 처리",
+        description = "알림 하나를 읽음 처리합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "읽음 처리 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증되지 않은 사용자",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "본인의 알림이 아님",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        )
+    })
+    @PostMapping("/{notificationId}/read")
+    public ResponseEntity<ApiResponse<Void>> markAsRead(
+            @Parameter(description = "알림 ID", required = true, example = "1")
+            @PathVariable Long notificationId,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("인증이 필요합니다", HttpStatus.UNAUTHORIZED.value()));
+        }
+
+        try {
+            notificationService.markAsRead(notificationId, user.getEmail());
+            return ResponseEntity.ok(ApiResponse.success("읽음 처리되었습니다", null));
+        } catch (AccessDeniedException e) {
+            log.warn("알림 접근 권한 없음: 사용자={}, 알림={}", user.getEmail(), notificationId);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("본인의 알림이 아닙니다", HttpStatus.FORBIDDEN.value()));
+        } catch (Exception e) {
+            log.error("알림 읽음 처리 실패: notificationId={}, error={}", notificationId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+
+    @Operation(
+        summary = "모든 알림 읽음 처리",
+        description = "읽지 않은 알림을 한 번에 모두 읽음 처리합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "읽음 처리 성공 (처리된 알림 수 반환)"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "인증되지 않은 사용자",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))
+        )
+    })
+    @PostMapping("/read-all")
+    public ResponseEntity<ApiResponse<Integer>> markAllAsRead(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error("인증이 필요합니다", HttpStatus.UNAUTHORIZED.value()));
+        }
+
+        try {
+            int updated = notificationService.markAllAsRead(user.getEmail());
+            return ResponseEntity.ok(ApiResponse.success("모든 알림을 읽음 처리했습니다", updated));
+        } catch (Exception e) {
+            log.error("모든 알림 읽음 처리 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()));
+        }
+    }
+}
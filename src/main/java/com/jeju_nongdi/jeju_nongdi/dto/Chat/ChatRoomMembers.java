@@ -0,0 +1,23 @@
+package com.jeju_nongdi.jeju_nongdi.dto.Chat;
+
+import java.util.Objects;
+
+/**
+ * 채팅방 참여자 (채팅방 생성 이후 변하지 않음)
+ *
+ * @param user1Id 첫 번째 사용자 ID
+ * @param user2Id 두 번째 사용자 ID
+ */
+public record ChatRoomMembers(Long user1Id, Long user2Id) {
+
+    public boolean contains(Long userId) {
+        return Objects.equals(user1Id, userId) || Objects.equals(user2Id, userId);
+    }
+
+    /**
+     * 상대방 사용자 ID
+     */
+    public Long otherThan(Long userId) {
+        return Objects.equals(user1Id, userId) ? user2Id : user1Id;
+    }
+}
@@ -0,0 +1,11 @@
+package com.jeju_nongdi.jeju_nongdi.dto.Chat;
+
+/**
+ * 재연결 동기화에 필요한 채팅방 요약 (chat_rooms 요약 컬럼만 사용)
+ *
+ * @param roomId 채팅방 ID
+ * @param lastMessageId 마지막 메시지 ID (메시지가 없으면 null)
+ * @param unreadCount 현재 사용자의 안 읽은 메시지 수
+ */
+public record ChatRoomSyncState(String roomId, Long lastMessageId, int unreadCount) {
+}
@@ -0,0 +1,22 @@
+package com.jeju_nongdi.jeju_nongdi.dto.Chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "재연결 동기화 요청 DTO")
+public class ChatSyncRequest {
+
+    @NotNull(message = "채팅방별 마지막 메시지 ID는 필수입니다")
+    @Size(max = 500, message = "한 번에 500개 채팅방까지 동기화할 수 있습니다")
+    @Schema(description = "채팅방 ID별로 클라이언트가 마지막으로 받은 메시지 ID", example = "{\"1_2\": 1024, \"1_3\": 998}")
+    private Map<String, Long> rooms;
+}
@@ -0,0 +1,41 @@
+package com.jeju_nongdi.jeju_nongdi.dto.Chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재연결 동기화 응답
+ * 변경이 있는 채팅방만 포함합니다.
+ */
+@Schema(description = "재연결 동기화 응답")
+public record ChatSyncResponse(
+        @Schema(description = "새 메시지가 있는 채팅방") List<RoomDelta> rooms,
+        @Schema(description = "더 이상 참여 중이 아닌 채팅방 ID (목록에서 제거)") List<String> removedRoomIds,
+        @Schema(description = "응답 크기 제한으로 다 담지 못한 채팅방이 있음 (갱신된 ID로 다시 요청)", example = "false") boolean hasMore) {
+
+    /**
+     * 채팅방별 변경분
+     * refetch가 true이면 messages는 비어 있고, 클라이언트는 최신 메시지부터 다시 조회해야 합니다.
+     */
+    @Schema(description = "채팅방별 변경분")
+    public record RoomDelta(
+            @Schema(description = "채팅방 ID", example = "1_2") String roomId,
+            @Schema(description = "채팅방의 마지막 메시지 ID", example = "1030") Long lastMessageId,
+            @Schema(description = "안 읽은 메시지 수", example = "6") int unreadCount,
+            @Schema(description = "변경분이 너무 많거나 처음 보는 채팅방이라 다시 조회 필요", example = "false") boolean refetch,
+            @Schema(description = "새 메시지 (오래된 순)") List<SyncMessage> messages) {
+    }
+
+    /**
+     * 동기화용 메시지 (채팅방 ID, 수신자, 발신자 프로필은 채팅방 목록에서 알 수 있으므로 제외)
+     */
+    @Schema(description = "동기화용 메시지")
+    public record SyncMessage(
+            @Schema(description = "메시지 ID", example = "1025") Long id,
+            @Schema(description = "발신자 ID", example = "1") Long senderId,
+            @Schema(description = "메시지 내용", example = "안녕하세요!") String content,
+            @Schema(description = "작성 시간") LocalDateTime createdAt) {
+    }
+}
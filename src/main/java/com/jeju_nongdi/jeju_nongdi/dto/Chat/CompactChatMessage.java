@@ -0,0 +1,27 @@
+package com.jeju_nongdi.jeju_nongdi.dto.Chat;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * compact 형식 세션에 전송되는 채팅 메시지 (/topic/chat/room/{roomId}/compact)
+ *
+ * 채팅방 ID와 수신자는 구독 목적지로, 발신자 닉네임과 프로필 이미지는 구독 직후 한 번 받는
+ * {@link CompactRoomProfiles}로 알 수 있으므로 보내지 않습니다. 필드 이름은 한 글자로 줄입니다.
+ */
+@JsonPropertyOrder({"t", "i", "s", "c", "a"})
+@Schema(description = "compact 채팅 메시지 (t=\"m\")")
+public record CompactChatMessage(
+        @JsonProperty("i") @Schema(description = "메시지 ID", example = "1025") Long id,
+        @JsonProperty("s") @Schema(description = "발신자 ID", example = "1") Long senderId,
+        @JsonProperty("c") @Schema(description = "메시지 내용", example = "안녕하세요!") String content,
+        @JsonProperty("a") @Schema(description = "작성 시간 (epoch 밀리초)", example = "1753857000000") long sentAt) {
+
+    public static final String TYPE = "m";
+
+    @JsonProperty("t")
+    public String type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,32 @@
+package com.jeju_nongdi.jeju_nongdi.dto.Chat;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * compact 형식 세션이 채팅방을 구독하면 가장 먼저 한 번 전송되는 참여자 프로필
+ * 이후 {@link CompactChatMessage}의 발신자 ID로 닉네임과 프로필 이미지를 찾습니다.
+ */
+@JsonPropertyOrder({"t", "u"})
+@Schema(description = "compact 채팅방 참여자 프로필 (t=\"p\")")
+public record CompactRoomProfiles(
+        @JsonProperty("u") @Schema(description = "참여자 목록") List<Profile> users) {
+
+    public static final String TYPE = "p";
+
+    @JsonProperty("t")
+    public String type() {
+        return TYPE;
+    }
+
+    @JsonPropertyOrder({"i", "n", "p"})
+    @Schema(description = "참여자 프로필")
+    public record Profile(
+            @JsonProperty("i") @Schema(description = "사용자 ID", example = "1") Long id,
+            @JsonProperty("n") @Schema(description = "닉네임", example = "농부김씨") String nickname,
+            @JsonProperty("p") @Schema(description = "프로필 이미지 URL", example = "https://example.com/profile.jpg") String profileImage) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.jeju_nongdi.jeju_nongdi.dto.Chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * /topic/chat/room/{roomId}/typing 으로 전송되는 입력 중 표시
+ */
+@Schema(description = "입력 중 표시")
+public record TypingIndicator(
+        @Schema(description = "채팅방 ID", example = "1_2") String roomId,
+        @Schema(description = "입력 중인 사용자 ID", example = "1") Long userId,
+        @Schema(description = "입력 중인 사용자 닉네임", example = "농부김씨") String nickname,
+        @Schema(description = "입력 중 여부", example = "true") boolean typing) {
+}
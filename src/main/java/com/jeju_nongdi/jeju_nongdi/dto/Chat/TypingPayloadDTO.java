@@ -0,0 +1,19 @@
+package com.jeju_nongdi.jeju_nongdi.dto.Chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "WebSocket 입력 중 표시 전송용 DTO")
+public class TypingPayloadDTO {
+
+    @NotBlank(message = "채팅방 ID는 필수입니다")
+    @Schema(description = "채팅방 ID", example = "1_2", required = true)
+    private String roomId;
+
+    @Schema(description = "입력 중 여부 (입력을 멈추면 false)", example = "true")
+    private boolean typing;
+}
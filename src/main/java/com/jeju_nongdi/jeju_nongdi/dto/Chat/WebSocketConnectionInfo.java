@@ -35,4 +35,7 @@ public class WebSocketConnectionInfo {
     
     @Schema(description = "인증 방법", example = "JWT Bearer Token in WebSocket headers")
     private String authentication;
+
+    @Schema(description = "같은 채팅방의 \"입력 중\" 알림 최소 전달 간격 (밀리초)", example = "2000")
+    private long typingThrottleMillis;
 }
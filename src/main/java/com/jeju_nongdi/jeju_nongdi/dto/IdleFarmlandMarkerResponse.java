@@ -62,4 +62,26 @@ public class IdleFarmlandMarkerResponse {
                 .statusName(idleFarmland.getStatus().getKoreanName())
                 .build();
     }
+
+    // 마커 프로젝션에서 마커 DTO로 변환하는 정적 메서드
+    public static IdleFarmlandMarkerResponse from(IdleFarmlandMarkerView view) {
+        return IdleFarmlandMarkerResponse.builder()
+                .id(view.id())
+                .title(view.title())
+                .farmlandName(view.farmlandName())
+                .address(view.address())
+                .latitude(view.latitude())
+                .longitude(view.longitude())
+                .areaSize(view.areaSize())
+                .soilType(view.soilType())
+                .soilTypeName(view.soilType() != null ? view.soilType().getKoreanName() : null)
+                .usageType(view.usageType())
+                .usageTypeName(view.usageType().getKoreanName())
+                .monthlyRent(view.monthlyRent())
+                .availableStartDate(view.availableStartDate())
+                .availableEndDate(view.availableEndDate())
+                .status(view.status())
+                .statusName(view.status().getKoreanName())
+                .build();
+    }
 }
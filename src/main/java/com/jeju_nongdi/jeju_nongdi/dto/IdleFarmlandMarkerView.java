@@ -0,0 +1,24 @@
+package com.jeju_nongdi.jeju_nongdi.dto;
+
+import com.jeju_nongdi.jeju_nongdi.entity.IdleFarmland;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 지도 마커에 필요한 농지 컬럼만 조회하는 프로젝션 (본문, 연락처, 소유자 조인 제외)
+ */
+public record IdleFarmlandMarkerView(Long id,
+                                     String title,
+                                     String farmlandName,
+                                     String address,
+                                     BigDecimal latitude,
+                                     BigDecimal longitude,
+                                     BigDecimal areaSize,
+                                     IdleFarmland.SoilType soilType,
+                                     IdleFarmland.UsageType usageType,
+                                     Integer monthlyRent,
+                                     LocalDate availableStartDate,
+                                     LocalDate availableEndDate,
+                                     IdleFarmland.FarmlandStatus status) {
+}
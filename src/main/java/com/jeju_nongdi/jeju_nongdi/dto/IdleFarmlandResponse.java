@@ -73,6 +73,11 @@ public class IdleFarmlandResponse {
 
     // 엔티티에서 DTO로 변환하는 정적 메서드
     public static IdleFarmlandResponse from(IdleFarmland idleFarmland) {
+        return from(idleFarmland, null);
+    }
+
+    // 소유자 정보는 캐시된 프로필을 사용 (없으면 엔티티에서 조회)
+    public static IdleFarmlandResponse from(IdleFarmland idleFarmland, UserProfile owner) {
         return IdleFarmlandResponse.builder()
                 .id(idleFarmland.getId())
                 .title(idleFarmland.getTitle())
@@ -96,7 +101,7 @@ public class IdleFarmlandResponse {
                 .contactEmail(idleFarmland.getContactEmail())
                 .status(idleFarmland.getStatus())
                 .statusName(idleFarmland.getStatus().getKoreanName())
-                .owner(UserResponse.from(idleFarmland.getOwner()))
+                .owner(owner != null ? UserResponse.from(owner) : UserResponse.from(idleFarmland.getOwner()))
                 .createdAt(idleFarmland.getCreatedAt())
                 .updatedAt(idleFarmland.getUpdatedAt())
                 .build();
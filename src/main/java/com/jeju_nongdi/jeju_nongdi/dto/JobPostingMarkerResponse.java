@@ -53,4 +53,26 @@ public class JobPostingMarkerResponse {
                 .recruitmentCount(jobPosting.getRecruitmentCount())
                 .build();
     }
+
+    // 마커 프로젝션에서 마커 DTO로 변환하는 정적 메서드
+    public static JobPostingMarkerResponse from(JobPostingMarkerView view) {
+        return JobPostingMarkerResponse.builder()
+                .id(view.id())
+                .title(view.title())
+                .farmName(view.farmName())
+                .address(view.address())
+                .latitude(view.latitude())
+                .longitude(view.longitude())
+                .cropType(view.cropType())
+                .cropTypeName(view.cropType().getKoreanName())
+                .workType(view.workType())
+                .workTypeName(view.workType().getKoreanName())
+                .wages(view.wages())
+                .wageType(view.wageType())
+                .wageTypeName(view.wageType().getKoreanName())
+                .workStartDate(view.workStartDate())
+                .workEndDate(view.workEndDate())
+                .recruitmentCount(view.recruitmentCount())
+                .build();
+    }
 }
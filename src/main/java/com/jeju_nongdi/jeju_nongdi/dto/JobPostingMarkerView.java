@@ -0,0 +1,25 @@
+package com.jeju_nongdi.jeju_nongdi.dto;
+
+import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 지도 마커에 필요한 공고 컬럼만 조회하는 프로젝션 (본문, 연락처, 작성자 조인 제외)
+ */
+public record JobPostingMarkerView(Long id,
+                                   String title,
+                                   String farmName,
+                                   String address,
+                                   BigDecimal latitude,
+                                   BigDecimal longitude,
+                                   JobPosting.CropType cropType,
+                                   JobPosting.WorkType workType,
+                                   Integer wages,
+                                   JobPosting.WageType wageType,
+                                   LocalDate workStartDate,
+                                   LocalDate workEndDate,
+                                   Integer recruitmentCount,
+                                   JobPosting.JobStatus status) {
+}
@@ -51,10 +51,25 @@ public class JobPostingResponse {
         private String nickname;
         private String phone;
         private String email;
+
+        public static AuthorInfo from(UserProfile profile) {
+            return AuthorInfo.builder()
+                    .id(profile.id())
+                    .name(profile.name())
+                    .nickname(profile.nickname())
+                    .phone(profile.phone())
+                    .email(profile.email())
+                    .build();
+        }
     }
 
     // 엔티티에서 DTO로 변환하는 정적 메서드
     public static JobPostingResponse from(JobPosting jobPosting) {
+        return from(jobPosting, null);
+    }
+
+    // 작성자 정보는 캐시된 프로필을 사용 (없으면 엔티티에서 조회)
+    public static JobPostingResponse from(JobPosting jobPosting, UserProfile author) {
         return JobPostingResponse.builder()
                 .id(jobPosting.getId())
                 .title(jobPosting.getTitle())
@@ -77,13 +92,7 @@ public class JobPostingResponse {
                 .contactEmail(jobPosting.getContactEmail())
                 .status(jobPosting.getStatus())
                 .statusName(jobPosting.getStatus().getKoreanName())
-                .author(AuthorInfo.builder()
-                        .id(jobPosting.getAuthor().getId())
-                        .name(jobPosting.getAuthor().getName())
-                        .nickname(jobPosting.getAuthor().getNickname())
-                        .phone(jobPosting.getAuthor().getPhone())
-                        .email(jobPosting.getAuthor().getEmail())
-                        .build())
+                .author(AuthorInfo.from(author != null ? author : UserProfile.from(jobPosting.getAuthor())))
                 .createdAt(jobPosting.getCreatedAt())
                 .updatedAt(jobPosting.getUpdatedAt())
                 .build();
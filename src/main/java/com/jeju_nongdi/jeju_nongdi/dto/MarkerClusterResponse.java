@@ -0,0 +1,28 @@
+package com.jeju_nongdi.jeju_nongdi.dto;
+
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerClusterIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MarkerClusterResponse {
+
+    private Long id; // 마커가 하나인 경우 해당 항목 ID (클러스터면 null)
+    private double latitude; // 클러스터 중심 위도
+    private double longitude; // 클러스터 중심 경도
+    private int count; // 포함된 마커 수
+
+    public static MarkerClusterResponse from(MarkerClusterIndex.Cluster cluster) {
+        return MarkerClusterResponse.builder()
+                .id(cluster.id())
+                .latitude(cluster.latitude())
+                .longitude(cluster.longitude())
+                .count(cluster.count())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.jeju_nongdi.jeju_nongdi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MarkerDeltaResponse<T> {
+
+    private long version; // 이 응답까지 반영된 마커 버전 (다음 요청의 sinceVersion)
+    private boolean fullRefetch; // true면 변경 내역을 줄 수 없으니 전체 마커를 다시 받아야 함
+    private List<T> added; // 새로 노출된 마커
+    private List<T> changed; // 내용이나 위치가 바뀐 마커
+    private List<Long> removed; // 더 이상 노출되지 않는 마커 ID
+
+    public static <T> MarkerDeltaResponse<T> fullRefetch(long version) {
+        return new MarkerDeltaResponse<>(version, true, List.of(), List.of(), List.of());
+    }
+}
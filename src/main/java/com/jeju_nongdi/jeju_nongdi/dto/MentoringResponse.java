@@ -56,6 +56,11 @@ public class MentoringResponse {
 
     // Entity에서 Response로 변환하는 static factory method
     public static MentoringResponse from(Mentoring mentoring) {
+        return from(mentoring, null);
+    }
+
+    // 작성자 정보는 캐시된 프로필을 사용 (없으면 엔티티에서 조회)
+    public static MentoringResponse from(Mentoring mentoring, UserProfile author) {
         return MentoringResponse.builder()
                 .id(mentoring.getId())
                 .title(mentoring.getTitle())
@@ -72,7 +77,7 @@ public class MentoringResponse {
                 .contactEmail(mentoring.getContactEmail())
                 .status(mentoring.getStatus())
                 .statusName(mentoring.getStatus().getKoreanName())
-                .author(UserResponse.from(mentoring.getUser()))
+                .author(author != null ? UserResponse.from(author) : UserResponse.from(mentoring.getUser()))
                 .createdAt(mentoring.getCreatedAt())
                 .updatedAt(mentoring.getUpdatedAt())
                 .build();
@@ -21,4 +21,6 @@ public class NotificationDto {
     private String senderNickname;     // CHAT 알림일 때
     private Long postId;               // COMMENT/LIKE 알림일 때
     private Long commentId;            // 댓글 좋아요 알림일 때
+    private int count;                 // 합쳐진 알림 수 (CHAT 알림은 읽기 전까지 같은 채팅방 메시지가 합쳐짐)
+    private Long replacedId;           // CHAT 알림이 합쳐져 새 ID로 바뀐 경우 이전 알림 ID (목록에서 제거)
 }
\ No newline at end of file
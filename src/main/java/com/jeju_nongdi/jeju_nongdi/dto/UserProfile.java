@@ -0,0 +1,33 @@
+package com.jeju_nongdi.jeju_nongdi.dto;
+
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 응답 조립에 사용하는 사용자 표시 정보 (UserProfileCache에 보관되는 불변 스냅샷)
+ */
+public record UserProfile(
+        Long id,
+        String email,
+        String name,
+        String nickname,
+        String phone,
+        String profileImage,
+        String role,
+        LocalDateTime createdAt
+) {
+
+    public static UserProfile from(User user) {
+        return new UserProfile(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getNickname(),
+                user.getPhone(),
+                user.getProfileImage(),
+                user.getRole() != null ? user.getRole().name() : null,
+                user.getCreatedAt()
+        );
+    }
+}
@@ -33,4 +33,17 @@ public class UserResponse {
         response.setCreatedAt(user.getCreatedAt());
         return response;
     }
+
+    // 캐시된 사용자 표시 정보에서 Response로 변환
+    public static UserResponse from(UserProfile profile) {
+        UserResponse response = new UserResponse();
+        response.setId(profile.id());
+        response.setEmail(profile.email());
+        response.setName(profile.name());
+        response.setNickname(profile.nickname());
+        response.setPhone(profile.phone());
+        response.setRole(profile.role());
+        response.setCreatedAt(profile.createdAt());
+        return response;
+    }
 }
@@ -0,0 +1,25 @@
+package com.jeju_nongdi.jeju_nongdi.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 테이블 기본 키 (원본 ID + 생성 시간)
+ *
+ * 파티션 키(created_at)가 기본 키에 포함되어야 MariaDB에서 RANGE 파티션을 나눌 수 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ArchivedRowId implements Serializable {
+
+    private Long id;
+
+    private LocalDateTime createdAt;
+}
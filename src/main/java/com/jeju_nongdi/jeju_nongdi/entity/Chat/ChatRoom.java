@@ -2,6 +2,7 @@ package com.jeju_nongdi.jeju_nongdi.entity.Chat;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -12,13 +13,18 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Entity
-@Table(name = "chat_rooms")
+@Table(name = "chat_rooms", indexes = {
+        @Index(name = "idx_chat_rooms_user1_last_message_at", columnList = "user1_id, last_message_at"),
+        @Index(name = "idx_chat_rooms_user2_last_message_at", columnList = "user2_id, last_message_at")
+})
 @Data
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class ChatRoom {
+    public static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
+
     @Id
     @Column(name = "room_id", length = 50)
     private String roomId;
@@ -39,10 +45,37 @@ public class ChatRoom {
     @Builder.Default
     private Set<String> deletedByUsers = new HashSet<>();
 
+    // 목록 조회 시 messages 테이블을 보지 않도록 메시지 저장 시점에 함께 갱신되는 요약 정보
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_preview", length = LAST_MESSAGE_PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @ColumnDefault("0")
+    @Column(name = "user1_unread_count", nullable = false)
+    @Builder.Default
+    private int user1UnreadCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "user2_unread_count", nullable = false)
+    @Builder.Default
+    private int user2UnreadCount = 0;
+
     public static String generateBaseRoomId(Long id1, Long id2) {
         return Stream.of(id1, id2)
                 .sorted()
                 .map(String::valueOf)
                 .collect(Collectors.joining("_"));
     }
-}
\ No newline at end of file
+
+    public static String toPreview(String content) {
+        if (content == null || content.length() <= LAST_MESSAGE_PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, LAST_MESSAGE_PREVIEW_LENGTH);
+    }
+}
@@ -0,0 +1,35 @@
+package com.jeju_nongdi.jeju_nongdi.entity.Chat;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완전히 삭제된 채팅방의 메시지 정리 요청
+ *
+ * 채팅방을 지우는 트랜잭션에서 함께 저장되고, 메시지를 모두 옮긴 뒤 삭제됩니다.
+ * 서버가 재시작되어도 남아 있는 요청부터 이어서 처리합니다.
+ * 같은 두 사용자가 다시 대화를 시작하면 채팅방 ID가 같으므로, 삭제 시점의 마지막 메시지 ID까지만 정리합니다.
+ */
+@Entity
+@Table(name = "chat_room_purges")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ChatRoomPurge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false, length = 50)
+    private String roomId;
+
+    @Column(name = "max_message_id", nullable = false)
+    private Long maxMessageId;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+}
@@ -8,7 +8,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+        @Index(name = "idx_messages_room_id_id", columnList = "room_id, id DESC")
+})
 @Data
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
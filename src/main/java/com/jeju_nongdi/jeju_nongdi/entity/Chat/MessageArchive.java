@@ -0,0 +1,48 @@
+package com.jeju_nongdi.jeju_nongdi.entity.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.entity.ArchivedRowId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 채팅 메시지
+ *
+ * 완전히 삭제된 채팅방의 메시지를 messages 테이블에서 옮겨 둡니다. 행은 보관 작업이 SQL로 직접 넣으며
+ * 애플리케이션에서 수정하지 않습니다. created_at 기준 월 단위 RANGE 파티션을 전제로 한 구조입니다.
+ */
+@Entity
+@Table(name = "messages_archive", indexes = {
+        @Index(name = "idx_messages_archive_room_id", columnList = "room_id, id")
+})
+@IdClass(ArchivedRowId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MessageArchive {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Id
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "room_id", nullable = false)
+    private String roomId;
+
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
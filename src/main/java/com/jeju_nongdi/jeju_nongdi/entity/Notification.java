@@ -3,13 +3,18 @@ package com.jeju_nongdi.jeju_nongdi.entity;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_notifications_user_read", columnList = "user_id, is_read"),
+        @Index(name = "idx_notifications_user_type_room", columnList = "user_id, type, room_id, is_read")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -48,6 +53,12 @@ public class Notification {
     @Column(name = "comment_id")
     private Long commentId;
 
+    // 읽지 않은 상태에서 같은 채팅방의 새 메시지가 합쳐진 횟수
+    @ColumnDefault("1")
+    @Column(name = "coalesced_count", nullable = false)
+    @Builder.Default
+    private int count = 1;
+
     @CreatedDate
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -0,0 +1,59 @@
+package com.jeju_nongdi.jeju_nongdi.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 알림
+ *
+ * 오래된 읽은 알림을 notifications 테이블에서 옮겨 둡니다. 행은 보관 작업이 SQL로 직접 넣으며
+ * 애플리케이션에서 수정하지 않습니다. created_at 기준 월 단위 RANGE 파티션을 전제로 한 구조입니다.
+ */
+@Entity
+@Table(name = "notifications_archive", indexes = {
+        @Index(name = "idx_notifications_archive_user_created", columnList = "user_id, created_at")
+})
+@IdClass(ArchivedRowId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationArchive {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Id
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "type", nullable = false, length = 50)
+    private String type;
+
+    @Column(name = "message", nullable = false)
+    private String message;
+
+    @Column(name = "sender_nickname", length = 100)
+    private String senderNickname;
+
+    @Column(name = "room_id", length = 50)
+    private String roomId;
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column(name = "coalesced_count", nullable = false)
+    private int count;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -1,5 +1,6 @@
 package com.jeju_nongdi.jeju_nongdi.entity;
 
+import com.jeju_nongdi.jeju_nongdi.service.UserProfileCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +16,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserProfileCacheInvalidator.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,7 @@
+package com.jeju_nongdi.jeju_nongdi.exception;
+
+public class SearchIndexNotReadyException extends RuntimeException {
+    public SearchIndexNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.jeju_nongdi.jeju_nongdi.repository.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoomPurge;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 채팅방 메시지 정리 요청 Repository
+ */
+public interface ChatRoomPurgeRepository extends JpaRepository<ChatRoomPurge, Long> {
+
+    /**
+     * 처리 대기 중인 정리 요청 (요청 순)
+     */
+    List<ChatRoomPurge> findAllByOrderByIdAsc();
+}
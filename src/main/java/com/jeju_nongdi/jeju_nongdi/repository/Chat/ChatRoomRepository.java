@@ -1,14 +1,144 @@
 package com.jeju_nongdi.jeju_nongdi.repository.Chat;
 
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomMembers;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomSyncState;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomView;
 import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, String> {
     List<ChatRoom> findByUser1IdOrUser2Id(Long user1Id, Long user2Id);
     @Query("SELECT cr FROM ChatRoom cr WHERE (cr.user1Id = :participant1Id AND cr.user2Id = :participant2Id) OR (cr.user1Id = :participant2Id AND cr.user2Id = :participant1Id)")
     List<ChatRoom> findRoomsByParticipantIds(@Param("participant1Id") Long participant1Id, @Param("participant2Id") Long participant2Id);
-}
\ No newline at end of file
+
+    /**
+     * 사용자의 채팅방 목록을 한 번의 쿼리로 조회
+     * 마지막 메시지와 안 읽은 메시지 수는 chat_rooms의 요약 컬럼에서 읽으므로 messages 테이블을 조회하지 않습니다.
+     *
+     * @param userId 현재 사용자 ID
+     * @param userEmail 현재 사용자 이메일 (삭제 여부 판단용)
+     * @return 채팅방 목록 (마지막 활동 최신순)
+     */
+    @Query("""
+        SELECT new com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomView(
+            cr.roomId, cr.user1Id, cr.user2Id, cr.createdAt,
+            cr.lastMessagePreview, cr.lastMessageAt, u.nickname, u.profileImage,
+            CASE WHEN cr.user1Id = :userId THEN cr.user1UnreadCount ELSE cr.user2UnreadCount END)
+        FROM ChatRoom cr
+        JOIN User u ON u.id = CASE WHEN cr.user1Id = :userId THEN cr.user2Id ELSE cr.user1Id END
+        WHERE (cr.user1Id = :userId OR cr.user2Id = :userId)
+        AND :userEmail NOT MEMBER OF cr.deletedByUsers
+        ORDER BY COALESCE(cr.lastMessageAt, cr.createdAt) DESC
+        """)
+    List<ChatRoomView> findChatRoomViewsByUserId(@Param("userId") Long userId, @Param("userEmail") String userEmail);
+
+    /**
+     * 사용자가 참여 중인(삭제하지 않은) 채팅방 ID 목록 (메시지 검색 범위)
+     */
+    @Query("""
+        SELECT cr.roomId FROM ChatRoom cr
+        WHERE (cr.user1Id = :userId OR cr.user2Id = :userId)
+        AND :userEmail NOT MEMBER OF cr.deletedByUsers
+        """)
+    List<String> findActiveRoomIdsByUserId(@Param("userId") Long userId, @Param("userEmail") String userEmail);
+
+    /**
+     * 재연결 동기화용 채팅방 요약 (최근 메시지가 있는 채팅방부터)
+     */
+    @Query("""
+        SELECT new com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomSyncState(
+            cr.roomId, cr.lastMessageId,
+            CASE WHEN cr.user1Id = :userId THEN cr.user1UnreadCount ELSE cr.user2UnreadCount END)
+        FROM ChatRoom cr
+        WHERE (cr.user1Id = :userId OR cr.user2Id = :userId)
+        AND :userEmail NOT MEMBER OF cr.deletedByUsers
+        ORDER BY cr.lastMessageId DESC
+        """)
+    List<ChatRoomSyncState> findSyncStatesByUserId(@Param("userId") Long userId, @Param("userEmail") String userEmail);
+
+    /**
+     * 채팅방 참여자 ID만 조회 (권한 확인용)
+     */
+    @Query("SELECT new com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomMembers(cr.user1Id, cr.user2Id) FROM ChatRoom cr WHERE cr.roomId = :roomId")
+    Optional<ChatRoomMembers> findMembersByRoomId(@Param("roomId") String roomId);
+
+    @Query("SELECT cr.roomId FROM ChatRoom cr WHERE cr.roomId = :roomId AND :userEmail MEMBER OF cr.deletedByUsers")
+    Optional<String> findRoomIdIfDeletedBy(@Param("roomId") String roomId, @Param("userEmail") String userEmail);
+
+    /**
+     * 사용자가 채팅방을 삭제(나가기)했는지 확인
+     * 채팅방 엔티티와 삭제 사용자 컬렉션을 불러오지 않고 한 건만 조회합니다.
+     */
+    default boolean isDeletedBy(String roomId, String userEmail) {
+        return findRoomIdIfDeletedBy(roomId, userEmail).isPresent();
+    }
+
+    /**
+     * 새 메시지 저장 시 채팅방 요약 정보 갱신
+     * 수신자의 안 읽은 메시지 수는 DB에서 원자적으로 증가시킵니다.
+     * 동시 전송으로 커밋 순서가 뒤바뀌어도 마지막 메시지는 더 큰 ID만 반영합니다.
+     * (MariaDB는 SET 절을 왼쪽부터 적용하므로 lastMessageId 는 마지막에 갱신)
+     */
+    @Modifying
+    @Query("""
+        UPDATE ChatRoom cr SET
+            cr.lastMessagePreview = CASE WHEN cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId
+                THEN :preview ELSE cr.lastMessagePreview END,
+            cr.lastMessageAt = CASE WHEN cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId
+                THEN :sentAt ELSE cr.lastMessageAt END,
+            cr.user1UnreadCount = cr.user1UnreadCount + CASE WHEN cr.user1Id = :receiverId THEN 1 ELSE 0 END,
+            cr.user2UnreadCount = cr.user2UnreadCount + CASE WHEN cr.user2Id = :receiverId THEN 1 ELSE 0 END,
+            cr.lastMessageId = CASE WHEN cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId
+                THEN :messageId ELSE cr.lastMessageId END
+        WHERE cr.roomId = :roomId
+        """)
+    int applyNewMessage(@Param("roomId") String roomId,
+                        @Param("messageId") Long messageId,
+                        @Param("preview") String preview,
+                        @Param("sentAt") LocalDateTime sentAt,
+                        @Param("receiverId") Long receiverId);
+
+    /**
+     * 사용자의 안 읽은 메시지 수 초기화 (읽음 처리)
+     */
+    @Modifying
+    @Query("""
+        UPDATE ChatRoom cr SET
+            cr.user1UnreadCount = CASE WHEN cr.user1Id = :userId THEN 0 ELSE cr.user1UnreadCount END,
+            cr.user2UnreadCount = CASE WHEN cr.user2Id = :userId THEN 0 ELSE cr.user2UnreadCount END
+        WHERE cr.roomId = :roomId
+        """)
+    int resetUnreadCount(@Param("roomId") String roomId, @Param("userId") Long userId);
+
+    /**
+     * 요약 정보가 없는 기존 채팅방의 마지막 메시지 ID 채우기 (백필)
+     */
+    @Modifying
+    @Query("""
+        UPDATE ChatRoom cr
+        SET cr.lastMessageId = (SELECT MAX(m.id) FROM Message m WHERE m.roomId = cr.roomId)
+        WHERE cr.lastMessageId IS NULL
+        """)
+    int backfillLastMessageIds();
+
+    /**
+     * 마지막 메시지 ID를 기준으로 미리보기와 시간 채우기 (백필)
+     *
+     * @param previewLength 미리보기 최대 길이 ({@link ChatRoom#LAST_MESSAGE_PREVIEW_LENGTH})
+     */
+    @Modifying
+    @Query("""
+        UPDATE ChatRoom cr SET
+            cr.lastMessagePreview = (SELECT SUBSTRING(m.content, 1, :previewLength) FROM Message m WHERE m.id = cr.lastMessageId),
+            cr.lastMessageAt = (SELECT m.createdAt FROM Message m WHERE m.id = cr.lastMessageId)
+        WHERE cr.lastMessageId IS NOT NULL AND cr.lastMessageAt IS NULL
+        """)
+    int backfillLastMessageDetails(@Param("previewLength") int previewLength);
+}
@@ -1,15 +1,19 @@
 package com.jeju_nongdi.jeju_nongdi.repository.Chat;
 
 import com.jeju_nongdi.jeju_nongdi.entity.Chat.Message;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 메시지 Repository
@@ -19,12 +23,20 @@ import java.util.Optional;
 public interface MessageRepository extends JpaRepository<Message, Long> {
     
     /**
-     * 채팅방의 모든 메시지를 시간순으로 조회
+     * 채팅방의 모든 메시지를 오래된 순으로 스트리밍 조회
+     * 결과를 한 번에 메모리에 올리지 않고 fetch size 단위로 읽어 옵니다.
+     * 반드시 트랜잭션 안에서 사용하고, 사용 후 Stream을 닫아야 합니다.
      * 
      * @param roomId 채팅방 ID
-     * @return 메시지 목록 (오래된 순)
+     * @return 메시지 스트림 (오래된 순)
      */
-    List<Message> findByRoomIdOrderByCreatedAtAsc(String roomId);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT m FROM Message m WHERE m.roomId = :roomId ORDER BY m.id ASC")
+    Stream<Message> streamByRoomId(@Param("roomId") String roomId);
     
     /**
      * 채팅방의 메시지를 페이징하여 조회 (최신 메시지부터)
@@ -36,6 +48,41 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     @Query("SELECT m FROM Message m WHERE m.roomId = :roomId ORDER BY m.createdAt DESC")
     Page<Message> findByRoomIdOrderByCreatedAtDesc(@Param("roomId") String roomId, Pageable pageable);
     
+    /**
+     * 채팅방의 최신 메시지부터 조회 (커서 방식 첫 페이지)
+     * Slice를 반환하므로 COUNT 쿼리가 실행되지 않습니다.
+     * 
+     * @param roomId 채팅방 ID
+     * @param pageable 조회 개수 (page는 항상 0)
+     * @return 메시지 목록 (최신 순)
+     */
+    @Query("SELECT m FROM Message m WHERE m.roomId = :roomId ORDER BY m.id DESC")
+    Slice<Message> findLatestByRoomId(@Param("roomId") String roomId, Pageable pageable);
+    
+    /**
+     * 커서(메시지 ID) 이전의 메시지 조회 (키셋 페이징)
+     * (room_id, id) 인덱스를 따라 읽으므로 스크롤 위치와 관계없이 비용이 일정합니다.
+     * 
+     * @param roomId 채팅방 ID
+     * @param beforeId 이 ID보다 작은 메시지만 조회
+     * @param pageable 조회 개수 (page는 항상 0)
+     * @return 메시지 목록 (최신 순)
+     */
+    @Query("SELECT m FROM Message m WHERE m.roomId = :roomId AND m.id < :beforeId ORDER BY m.id DESC")
+    Slice<Message> findByRoomIdBefore(@Param("roomId") String roomId, @Param("beforeId") Long beforeId, Pageable pageable);
+    
+    /**
+     * 커서(메시지 ID) 이후의 메시지 조회 (재연결 동기화)
+     * 같은 시각에 저장된 메시지도 ID로 구분되므로 빠지거나 중복되지 않습니다.
+     * 
+     * @param roomId 채팅방 ID
+     * @param afterId 이 ID보다 큰 메시지만 조회
+     * @param pageable 조회 개수 (page는 항상 0)
+     * @return 메시지 목록 (오래된 순)
+     */
+    @Query("SELECT m FROM Message m WHERE m.roomId = :roomId AND m.id > :afterId ORDER BY m.id ASC")
+    Slice<Message> findByRoomIdAfter(@Param("roomId") String roomId, @Param("afterId") Long afterId, Pageable pageable);
+    
     /**
      * 채팅방의 가장 최근 메시지 1개 조회
      * 마지막 메시지 미리보기에 사용
@@ -46,12 +93,13 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     Optional<Message> findTopByRoomIdOrderByCreatedAtDesc(String roomId);
     
     /**
-     * 특정 채팅방의 모든 메시지 삭제
+     * 채팅방의 가장 큰 메시지 ID
      * 
      * @param roomId 채팅방 ID
+     * @return 메시지 ID (메시지가 없으면 empty)
      */
-    @Transactional
-    void deleteAllByRoomId(String roomId);
+    @Query("SELECT MAX(m.id) FROM Message m WHERE m.roomId = :roomId")
+    Optional<Long> findMaxIdByRoomId(@Param("roomId") String roomId);
     
     /**
      * 특정 접두사로 시작하는 채팅방들의 메시지를 시간순으로 조회
@@ -83,7 +131,9 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
      * @param roomId 채팅방 ID
      * @param timestamp 기준 시간
      * @return 메시지 목록
+     * @deprecated 같은 시각에 저장된 메시지가 빠질 수 있으므로 {@link #findByRoomIdAfter}를 사용
      */
+    @Deprecated
     @Query("SELECT m FROM Message m WHERE m.roomId = :roomId AND m.createdAt > :timestamp ORDER BY m.createdAt ASC")
     List<Message> findByRoomIdAndCreatedAtAfterOrderByCreatedAtAsc(
         @Param("roomId") String roomId, 
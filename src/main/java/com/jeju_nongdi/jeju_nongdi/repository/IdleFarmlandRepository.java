@@ -1,5 +1,6 @@
 package com.jeju_nongdi.jeju_nongdi.repository;
 
+import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandMarkerView;
 import com.jeju_nongdi.jeju_nongdi.entity.IdleFarmland;
 import com.jeju_nongdi.jeju_nongdi.entity.User;
 import org.springframework.data.domain.Page;
@@ -92,13 +93,27 @@ public interface IdleFarmlandRepository extends JpaRepository<IdleFarmland, Long
             @Param("status") IdleFarmland.FarmlandStatus status
     );
 
-    // 지도 마커용 - 이용 가능한 농지만
-    @Query("SELECT f FROM IdleFarmland f WHERE f.status = 'AVAILABLE'")
-    List<IdleFarmland> findAllAvailableForMap();
+    // 지도 마커용 - 이용 가능한 농지만 (마커 컬럼만, 본문/소유자 제외)
+    @Query("""
+        SELECT new com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandMarkerView(
+            f.id, f.title, f.farmlandName, f.address, f.latitude, f.longitude,
+            f.areaSize, f.soilType, f.usageType, f.monthlyRent,
+            f.availableStartDate, f.availableEndDate, f.status)
+        FROM IdleFarmland f
+        WHERE f.status = 'AVAILABLE'
+        """)
+    List<IdleFarmlandMarkerView> findAllAvailableForMap();
 
-    // 지역별 지도 마커용
-    @Query("SELECT f FROM IdleFarmland f WHERE f.address LIKE %:region% AND f.status = 'AVAILABLE'")
-    List<IdleFarmland> findByRegionForMap(@Param("region") String region);
+    // 지역별 지도 마커용 (마커 컬럼만)
+    @Query("""
+        SELECT new com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandMarkerView(
+            f.id, f.title, f.farmlandName, f.address, f.latitude, f.longitude,
+            f.areaSize, f.soilType, f.usageType, f.monthlyRent,
+            f.availableStartDate, f.availableEndDate, f.status)
+        FROM IdleFarmland f
+        WHERE f.address LIKE %:region% AND f.status = 'AVAILABLE'
+        """)
+    List<IdleFarmlandMarkerView> findByRegionForMap(@Param("region") String region);
 
     // 인기 농지 (최신순)
     @Query("SELECT f FROM IdleFarmland f WHERE f.status = 'AVAILABLE' ORDER BY f.createdAt DESC")
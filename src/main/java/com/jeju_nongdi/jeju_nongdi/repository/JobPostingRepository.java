@@ -1,5 +1,6 @@
 package com.jeju_nongdi.jeju_nongdi.repository;
 
+import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerView;
 import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
 import com.jeju_nongdi.jeju_nongdi.entity.User;
 import org.springframework.data.domain.Page;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -49,9 +51,43 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
             JobPosting.JobStatus status
     );
 
-    // 지도 마커용 데이터 조회 (위도, 경도, 기본정보만)
-    @Query("SELECT jp FROM JobPosting jp WHERE jp.status = :status")
-    List<JobPosting> findAllForMap(@Param("status") JobPosting.JobStatus status);
+    // 지도 마커용 데이터 조회 (마커 컬럼만, 본문/작성자 제외)
+    @Query("""
+        SELECT new com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerView(
+            jp.id, jp.title, jp.farmName, jp.address, jp.latitude, jp.longitude,
+            jp.cropType, jp.workType, jp.wages, jp.wageType,
+            jp.workStartDate, jp.workEndDate, jp.recruitmentCount, jp.status)
+        FROM JobPosting jp
+        WHERE jp.status = :status
+        """)
+    List<JobPostingMarkerView> findAllForMap(@Param("status") JobPosting.JobStatus status);
+
+    // 지역별 지도 마커용 데이터 조회 (마커 컬럼만)
+    @Query("""
+        SELECT new com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerView(
+            jp.id, jp.title, jp.farmName, jp.address, jp.latitude, jp.longitude,
+            jp.cropType, jp.workType, jp.wages, jp.wageType,
+            jp.workStartDate, jp.workEndDate, jp.recruitmentCount, jp.status)
+        FROM JobPosting jp
+        WHERE jp.status = :status
+        AND jp.address LIKE %:address%
+        ORDER BY jp.createdAt DESC
+        """)
+    List<JobPostingMarkerView> findMarkersByAddress(
+            @Param("address") String address,
+            @Param("status") JobPosting.JobStatus status
+    );
+
+    // ID 목록의 지도 마커용 데이터 조회 (마커 컬럼만, 순서 보장 안 함)
+    @Query("""
+        SELECT new com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerView(
+            jp.id, jp.title, jp.farmName, jp.address, jp.latitude, jp.longitude,
+            jp.cropType, jp.workType, jp.wages, jp.wageType,
+            jp.workStartDate, jp.workEndDate, jp.recruitmentCount, jp.status)
+        FROM JobPosting jp
+        WHERE jp.id IN :ids
+        """)
+    List<JobPostingMarkerView> findMarkersByIdIn(@Param("ids") Collection<Long> ids);
 
     // 복합 필터링 조회
     @Query("""
@@ -72,7 +108,7 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
     );
 
     // 복합 필터링 조회 (페이징)
-    @Query("""
+    @Query(value = """
         SELECT jp FROM JobPosting jp 
         WHERE jp.status = :status 
         AND (:cropType IS NULL OR jp.cropType = :cropType)
@@ -80,6 +116,14 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
         AND (:address IS NULL OR jp.address LIKE %:address%)
         AND jp.workStartDate >= :currentDate
         ORDER BY jp.createdAt DESC
+        """,
+        countQuery = """
+        SELECT COUNT(jp) FROM JobPosting jp
+        WHERE jp.status = :status
+        AND (:cropType IS NULL OR jp.cropType = :cropType)
+        AND (:workType IS NULL OR jp.workType = :workType)
+        AND (:address IS NULL OR jp.address LIKE %:address%)
+        AND jp.workStartDate >= :currentDate
         """)
     Page<JobPosting> findWithFilters(
             @Param("status") JobPosting.JobStatus status,
@@ -137,12 +181,18 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
     );
 
     // 지도 영역(bounds) 내 공고 조회 (페이징)
-    @Query("""
+    @Query(value = """
         SELECT jp FROM JobPosting jp 
         WHERE jp.status = :status 
         AND jp.latitude BETWEEN :minLat AND :maxLat
         AND jp.longitude BETWEEN :minLng AND :maxLng
         ORDER BY jp.createdAt DESC
+        """,
+        countQuery = """
+        SELECT COUNT(jp) FROM JobPosting jp
+        WHERE jp.status = :status
+        AND jp.latitude BETWEEN :minLat AND :maxLat
+        AND jp.longitude BETWEEN :minLng AND :maxLng
         """)
     Page<JobPosting> findByBounds(
             @Param("status") JobPosting.JobStatus status,
@@ -153,6 +203,27 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
             Pageable pageable
     );
 
+    // 지도 영역(bounds) 내 마커용 데이터 조회 (마커 컬럼만, 최신순)
+    @Query("""
+        SELECT new com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerView(
+            jp.id, jp.title, jp.farmName, jp.address, jp.latitude, jp.longitude,
+            jp.cropType, jp.workType, jp.wages, jp.wageType,
+            jp.workStartDate, jp.workEndDate, jp.recruitmentCount, jp.status)
+        FROM JobPosting jp
+        WHERE jp.status = :status
+        AND jp.latitude BETWEEN :minLat AND :maxLat
+        AND jp.longitude BETWEEN :minLng AND :maxLng
+        ORDER BY jp.createdAt DESC
+        """)
+    List<JobPostingMarkerView> findMarkersByBounds(
+            @Param("status") JobPosting.JobStatus status,
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng,
+            @Param("maxLng") double maxLng,
+            Pageable pageable
+    );
+
     // 지도 영역(bounds) 내 공고 조회 (필터링 포함)
     @Query("""
         SELECT jp FROM JobPosting jp 
@@ -1,10 +1,50 @@
 package com.jeju_nongdi.jeju_nongdi.repository;
 
 import com.jeju_nongdi.jeju_nongdi.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 채팅방의 읽지 않은 채팅 알림 조회 (새 메시지 알림을 한 건으로 합치기 위함)
+     */
+    Optional<Notification> findFirstByUserIdAndTypeAndRoomIdAndReadFalseOrderByIdDesc(
+            Long userId, Notification.NotificationType type, String roomId);
+
+    /**
+     * 최신 알림부터 조회 (커서 첫 페이지)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.id DESC")
+    Slice<Notification> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 커서(알림 ID) 이전의 알림 조회
+     */
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.id < :before ORDER BY n.id DESC")
+    Slice<Notification> findByUserIdBefore(@Param("userId") Long userId, @Param("before") Long before, Pageable pageable);
+
+    long countByUserIdAndReadFalse(Long userId);
+
+    /**
+     * 여러 사용자의 읽지 않은 알림 수 (userId, count)
+     */
+    @Query("SELECT n.userId, COUNT(n) FROM Notification n WHERE n.read = false AND n.userId IN :userIds GROUP BY n.userId")
+    List<Object[]> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 사용자의 모든 알림 읽음 처리 (단일 UPDATE)
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.userId = :userId AND n.read = false")
+    int markAllAsRead(@Param("userId") Long userId);
+}
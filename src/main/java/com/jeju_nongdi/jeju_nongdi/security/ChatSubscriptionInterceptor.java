@@ -0,0 +1,97 @@
+package com.jeju_nongdi.jeju_nongdi.security;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomMembers;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatRoomMembershipCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * STOMP 구독 권한 인터셉터
+ *
+ * /topic 아래는 아래 형태만 허용하고 나머지는 모두 거부합니다.
+ * simple 브로커는 구독 목적지를 AntPath 패턴으로 비교하므로 *, ?, { 가 들어간 목적지도 거부합니다.
+ * - /topic/chat/room/{roomId}, /topic/chat/room/{roomId}/typing, /topic/chat/room/{roomId}/compact:
+ *   채팅방 참여자만 구독 가능 (참여자 캐시로 확인하므로 쿼리 없음)
+ * - /topic/notifications/{userId}: 본인 알림만 구독 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final String TOPIC_PREFIX = "/topic";
+    private static final String CHAT_ROOM_TOPIC = "/topic/chat/room/";
+    private static final String NOTIFICATION_TOPIC = "/topic/notifications/";
+    private static final Set<String> CHAT_ROOM_SUFFIXES = Set.of("", "/typing", "/compact");
+
+    private final ChatRoomMembershipCache membershipCache;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return message;
+        }
+
+        StompPrincipal user = requirePrincipal(accessor);
+        if (isPattern(destination)) {
+            log.warn("패턴 구독 거부: userId={}, destination={}", user.userId(), destination);
+            throw new AccessDeniedException("허용되지 않은 구독 주소입니다");
+        }
+
+        if (destination.startsWith(CHAT_ROOM_TOPIC)) {
+            String roomId = roomIdOf(destination);
+            ChatRoomMembers members = roomId == null ? null : membershipCache.get(roomId);
+            if (members == null || !members.contains(user.userId())) {
+                log.warn("채팅방 구독 거부: userId={}, destination={}", user.userId(), destination);
+                throw new AccessDeniedException("채팅방 참여 권한이 없습니다");
+            }
+        } else if (destination.startsWith(NOTIFICATION_TOPIC)) {
+            if (!String.valueOf(user.userId()).equals(destination.substring(NOTIFICATION_TOPIC.length()))) {
+                log.warn("알림 구독 거부: userId={}, destination={}", user.userId(), destination);
+                throw new AccessDeniedException("다른 사용자의 알림은 구독할 수 없습니다");
+            }
+        } else {
+            log.warn("알 수 없는 토픽 구독 거부: userId={}, destination={}", user.userId(), destination);
+            throw new AccessDeniedException("허용되지 않은 구독 주소입니다");
+        }
+        return message;
+    }
+
+    private boolean isPattern(String destination) {
+        return destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0;
+    }
+
+    /**
+     * 허용된 채팅방 토픽 형태면 채팅방 ID, 아니면 null
+     */
+    private String roomIdOf(String destination) {
+        String path = destination.substring(CHAT_ROOM_TOPIC.length());
+        int slash = path.indexOf('/');
+        String roomId = slash < 0 ? path : path.substring(0, slash);
+        String suffix = slash < 0 ? "" : path.substring(slash);
+        return roomId.isEmpty() || !CHAT_ROOM_SUFFIXES.contains(suffix) ? null : roomId;
+    }
+
+    private StompPrincipal requirePrincipal(StompHeaderAccessor accessor) {
+        if (accessor.getUser() instanceof StompPrincipal principal) {
+            return principal;
+        }
+        throw new AccessDeniedException("인증되지 않은 구독 요청입니다");
+    }
+}
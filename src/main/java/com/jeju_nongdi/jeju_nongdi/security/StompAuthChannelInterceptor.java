@@ -0,0 +1,89 @@
+package com.jeju_nongdi.jeju_nongdi.security;
+
+import com.jeju_nongdi.jeju_nongdi.dto.UserProfile;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.UserProfileCache;
+import com.jeju_nongdi.jeju_nongdi.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+
+/**
+ * STOMP CONNECT 인증 인터셉터
+ *
+ * CONNECT 프레임의 Authorization 헤더(Bearer 토큰)를 한 번만 검증하고 StompPrincipal을 세션 사용자로 등록합니다.
+ * 헤더가 없으면 HTTP 핸드셰이크에서 인증된 사용자를 그대로 변환합니다.
+ * CONNECT 이후 프레임은 세션에 저장된 StompPrincipal을 사용하므로 이 인터셉터에서 아무것도 조회하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        StompPrincipal principal = authenticate(accessor);
+        accessor.setUser(principal);
+        log.debug("STOMP 연결 인증 완료: sessionId={}, userId={}", accessor.getSessionId(), principal.userId());
+        return message;
+    }
+
+    private StompPrincipal authenticate(StompHeaderAccessor accessor) {
+        String token = resolveToken(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER));
+        if (token != null) {
+            return fromToken(token);
+        }
+
+        Principal handshakeUser = accessor.getUser();
+        if (handshakeUser instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof User user) {
+            return new StompPrincipal(user.getId(), user.getEmail(), user.getNickname());
+        }
+        throw new AccessDeniedException("STOMP 연결에 인증 정보가 없습니다");
+    }
+
+    private StompPrincipal fromToken(String token) {
+        if (!jwtUtil.validateToken(token)) {
+            throw new AccessDeniedException("유효하지 않은 토큰입니다");
+        }
+        String email = jwtUtil.getEmailFromToken(token);
+        Long userId = userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new AccessDeniedException("사용자를 찾을 수 없습니다: " + email));
+        UserProfile profile = userProfileCache.get(userId);
+        if (profile == null) {
+            throw new AccessDeniedException("사용자를 찾을 수 없습니다: " + email);
+        }
+        return new StompPrincipal(userId, email, profile.nickname());
+    }
+
+    private String resolveToken(String header) {
+        if (StringUtils.hasText(header) && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+}
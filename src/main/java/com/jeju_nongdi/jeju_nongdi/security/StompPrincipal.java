@@ -0,0 +1,21 @@
+package com.jeju_nongdi.jeju_nongdi.security;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션에 연결되는 인증 사용자 정보
+ *
+ * CONNECT 시점에 한 번 만들어 세션에 저장하며, 이후 SEND 프레임에서는 DB 조회 없이 이 값을 사용합니다.
+ * getName()은 사용자 목적지(/user) 라우팅에 쓰이므로 이메일을 반환합니다.
+ *
+ * @param userId 사용자 ID
+ * @param email 이메일
+ * @param nickname 연결 시점의 닉네임
+ */
+public record StompPrincipal(Long userId, String email, String nickname) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
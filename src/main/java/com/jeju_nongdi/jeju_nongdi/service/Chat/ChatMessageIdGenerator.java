@@ -0,0 +1,63 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 ID 생성기
+ *
+ * write-behind 모드에서는 DB에 저장하기 전에 메시지를 브로드캐스트하므로 서버에서 ID를 미리 발급합니다.
+ * [경과 시간(ms) | 노드 번호 4bit | 시퀀스 10bit] 형태로 시간 순서대로 증가하며,
+ * JavaScript Number로 손실 없이 표현되도록 53bit 이내로 유지합니다.
+ * 기존 IDENTITY 값보다 항상 크기 때문에 (room_id, id) 기준 커서 페이징 순서가 유지됩니다.
+ * 발급한 ID를 messages.id(AUTO_INCREMENT)에 직접 넣어도 MariaDB/MySQL은 AUTO_INCREMENT를 그 이후로 올리므로,
+ * write-behind를 끈 뒤 DB가 발급하는 ID도 계속 커집니다. 다른 DB에서는 write-behind가 시작을 거부합니다.
+ */
+@Component
+public class ChatMessageIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1735689600000L;
+    private static final int NODE_BITS = 4;
+    private static final int SEQUENCE_BITS = 10;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private final long nodeId;
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public ChatMessageIdGenerator(@Value("${chat.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("chat.node-id는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public synchronized long nextId() {
+        long timestamp = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 밀리초에 시퀀스를 모두 사용하면 다음 밀리초 값을 미리 사용 (대기하지 않음)
+                timestamp = ++lastTimestamp;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * 이미 사용된 ID 이후부터 발급하도록 조정 (재시작 후 시계가 뒤로 간 경우 대비)
+     */
+    public synchronized void advancePast(long usedId) {
+        long usedTimestamp = usedId >> TIMESTAMP_SHIFT;
+        if (usedTimestamp >= lastTimestamp) {
+            lastTimestamp = usedTimestamp;
+            sequence = SEQUENCE_MASK;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.Message;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * write-behind 메시지 복구용 저널
+ *
+ * 브로드캐스트(수신 확인)한 메시지를 DB에 반영하기 전에 세그먼트 파일에 순서대로 기록합니다.
+ * 레코드는 [길이][본문][CRC32] 형식이며, 기록 도중 종료되어 잘린 마지막 레코드는 복구 시 무시합니다.
+ * 세그먼트에 담긴 메시지가 모두 DB에 반영되면 해당 세그먼트 파일을 삭제합니다.
+ *
+ * fsync 모드에서 디스크 동기화는 기록(append)과 분리된 sync 호출로 처리하므로,
+ * 동시에 기록된 여러 메시지가 한 번의 force로 함께 동기화됩니다.
+ */
+@Slf4j
+public class ChatMessageJournal implements AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int MAX_RECORD_BYTES = 1024 * 1024;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+    private final Deque<Segment> closedSegments = new ArrayDeque<>();
+    private final Object syncLock = new Object();
+
+    private Segment current;
+    private volatile long durableId;
+
+    private ChatMessageJournal(Path directory, long segmentBytes, boolean fsync) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+    }
+
+    /**
+     * 저널 열기
+     * 복구하지 못한 이전 세그먼트가 남아 있어도 새 세그먼트는 더 큰 ID로 이름이 붙으므로 다음 복구 때 함께 읽힙니다.
+     *
+     * @param directory 세그먼트 파일 디렉토리
+     * @param segmentBytes 세그먼트 최대 크기
+     * @param fsync 기록할 때마다 디스크 동기화 여부
+     */
+    public static ChatMessageJournal open(Path directory, long segmentBytes, boolean fsync) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 디렉토리를 만들 수 없습니다: " + directory, e);
+        }
+        return new ChatMessageJournal(directory, segmentBytes, fsync);
+    }
+
+    /**
+     * 디렉토리에 남아 있는 모든 세그먼트의 메시지를 기록 순서대로 읽기
+     */
+    public static List<Message> readAll(Path directory) throws IOException {
+        List<Message> messages = new ArrayList<>();
+        for (Path segment : listSegments(directory)) {
+            readSegment(segment, messages);
+        }
+        return messages;
+    }
+
+    /**
+     * 디렉토리에 세그먼트 파일이 남아 있는지 확인
+     */
+    public static boolean hasSegments(Path directory) throws IOException {
+        return !listSegments(directory).isEmpty();
+    }
+
+    /**
+     * 디렉토리의 모든 세그먼트 파일 삭제 (복구 완료 후)
+     */
+    public static void deleteAll(Path directory) throws IOException {
+        for (Path segment : listSegments(directory)) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    public synchronized void append(Message message) {
+        byte[] body = encode(message);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + body.length + Long.BYTES);
+        buffer.putInt(body.length).put(body).putLong(crc.getValue()).flip();
+
+        try {
+            if (current == null || current.size >= segmentBytes) {
+                rollSegment(message.getId());
+            }
+            while (buffer.hasRemaining()) {
+                current.channel.write(buffer);
+            }
+            current.size += buffer.limit();
+            current.maxId = message.getId();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 기록 실패: messageId=" + message.getId(), e);
+        }
+    }
+
+    /**
+     * 지정한 메시지까지 디스크에 동기화 (fsync 모드가 아니면 아무것도 하지 않음)
+     * 이미 다른 스레드의 동기화로 반영되었으면 바로 반환합니다.
+     *
+     * @param messageId append로 기록한 메시지 ID
+     */
+    public void sync(long messageId) {
+        if (!fsync || durableId >= messageId) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durableId >= messageId) {
+                return;
+            }
+            FileChannel channel;
+            long target;
+            synchronized (this) {
+                if (current == null) {
+                    return;
+                }
+                channel = current.channel;
+                target = current.maxId;
+            }
+            try {
+                channel.force(false);
+            } catch (ClosedChannelException e) {
+                // 세그먼트 교체/닫기 중이면 닫기 전에 이미 동기화됨
+            } catch (IOException e) {
+                throw new UncheckedIOException("저널 동기화 실패: messageId=" + messageId, e);
+            }
+            durableId = Math.max(durableId, target);
+        }
+    }
+
+    /**
+     * DB 반영이 끝난 메시지까지 담긴 닫힌 세그먼트 삭제
+     *
+     * @param persistedId DB에 반영된 마지막 메시지 ID (이 ID 이하는 모두 반영됨)
+     */
+    public synchronized void releaseUpTo(long persistedId) {
+        while (!closedSegments.isEmpty() && closedSegments.peekFirst().maxId <= persistedId) {
+            Segment segment = closedSegments.pollFirst();
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("저널 세그먼트 삭제 실패: {}", segment.path, e);
+            }
+        }
+    }
+
+    /**
+     * 저널 닫기
+     *
+     * @param discard true면 모든 메시지가 반영된 것으로 보고 세그먼트 파일까지 삭제
+     */
+    public synchronized void close(boolean discard) {
+        try {
+            if (current != null) {
+                closeSegment(current);
+                current = null;
+            }
+            if (discard) {
+                releaseUpTo(Long.MAX_VALUE);
+            }
+        } catch (IOException e) {
+            log.warn("저널 닫기 실패: {}", directory, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        close(false);
+    }
+
+    private void rollSegment(long firstId) throws IOException {
+        if (current != null) {
+            closeSegment(current);
+        }
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstId, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        current = new Segment(path, channel);
+    }
+
+    private void closeSegment(Segment segment) throws IOException {
+        if (fsync) {
+            // 아직 sync되지 않은 마지막 기록이 닫힌 세그먼트에 남지 않도록 동기화
+            segment.channel.force(false);
+        }
+        segment.channel.close();
+        closedSegments.addLast(segment);
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void readSegment(Path segment, List<Message> messages) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(segment))) {
+            while (true) {
+                byte[] body;
+                long checksum;
+                try {
+                    int length = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD_BYTES) {
+                        log.warn("잘못된 저널 레코드 길이 이후는 무시합니다: {}", segment);
+                        break;
+                    }
+                    body = in.readNBytes(length);
+                    if (body.length < length) {
+                        break;
+                    }
+                    checksum = in.readLong();
+                } catch (EOFException e) {
+                    break;
+                }
+
+                CRC32 crc = new CRC32();
+                crc.update(body);
+                if (crc.getValue() != checksum) {
+                    log.warn("손상된 저널 레코드 이후는 무시합니다: {}", segment);
+                    break;
+                }
+                messages.add(decode(body));
+            }
+        }
+    }
+
+    private static byte[] encode(Message message) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128 + message.getContent().length() * 3);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(message.getId());
+            out.writeUTF(message.getRoomId());
+            out.writeLong(message.getSenderId());
+            out.writeLong(message.getReceiverId());
+            out.writeUTF(message.getContent());
+            out.writeLong(message.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(message.getCreatedAt().getNano());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Message decode(byte[] body) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+            return Message.builder()
+                    .id(in.readLong())
+                    .roomId(in.readUTF())
+                    .senderId(in.readLong())
+                    .receiverId(in.readLong())
+                    .content(in.readUTF())
+                    .createdAt(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC))
+                    .build();
+        }
+    }
+
+    private static class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private long size;
+        private long maxId;
+
+        private Segment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 검색 색인 (채팅방별 bigram → 메시지 ID 역색인)
+ *
+ * 메시지 전송 이벤트를 커밋 후 대기열에 넣고, 색인 스레드 하나가 순서대로 반영합니다.
+ * 시작 시에는 기존 메시지를 ID 순으로 읽어 색인을 채운 뒤(backfill) 대기열을 처리합니다.
+ * backfill이 실패하면 검색 가능 상태로 바꾸지 않고, 읽은 위치부터 다시 시도합니다.
+ * 색인은 채팅방별로 나뉘어 있어 검색은 사용자가 참여한 채팅방의 목록만 교집합합니다.
+ * 목록은 varint로 압축한 ID 차이값이라 메시지 100만 건 기준 수십 MB 수준입니다.
+ *
+ * 색인 결과는 후보일 뿐이며 실제 포함 여부는 메시지 본문으로 다시 확인해야 합니다.
+ * backfill이 끝나기 전(isReady가 false)에는 결과가 일부 채팅방/메시지만 담길 수 있으므로 검색하지 않습니다.
+ * 메모리에만 있으므로 노드마다 시작 시 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageSearchIndex implements SmartLifecycle {
+
+    private static final String BACKFILL_SQL =
+            "SELECT id, room_id, content FROM messages WHERE id > ? AND id <= ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int backfillBatchSize;
+    private final Duration backfillRetryDelay;
+
+    private final Map<String, RoomIndex> rooms = new ConcurrentHashMap<>();
+    private final BlockingQueue<IndexTask> queue;
+    private final AtomicLong indexedMessages = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final AtomicLong postings = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile boolean ready;
+    private Thread indexer;
+    // backfill로 색인을 마친 마지막 메시지 ID (색인 스레드만 사용)
+    private long backfillCursor;
+
+    public ChatMessageSearchIndex(JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.search.enabled:true}") boolean enabled,
+                                  @Value("${chat.search.backfill-batch-size:1000}") int backfillBatchSize,
+                                  @Value("${chat.search.queue-capacity:100000}") int queueCapacity,
+                                  @Value("${chat.search.backfill-retry-delay:5s}") Duration backfillRetryDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.backfillBatchSize = backfillBatchSize;
+        this.backfillRetryDelay = backfillRetryDelay;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("chat.search.index.queue.size", queue, BlockingQueue::size)
+                .description("색인 대기 중인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.search.index.postings", postings, AtomicLong::get)
+                .description("색인된 (bigram, 메시지) 쌍의 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("chat.search.index.messages", indexedMessages, AtomicLong::get)
+                .description("색인된 메시지 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("chat.search.index.dropped", droppedMessages, AtomicLong::get)
+                .description("대기열이 가득 차 색인하지 못한 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        enqueue(new AddMessage(event.roomId(), event.messageId(), event.content()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomDeleted(ChatRoomDeletedEvent event) {
+        enqueue(new DropRoom(event.roomId()));
+    }
+
+    /**
+     * 메시지 색인 (색인 스레드에서 호출, 같은 메시지를 다시 넣어도 안전)
+     *
+     * @param content DB에 저장된 내용 (HTML 이스케이프된 상태)
+     */
+    public void add(String roomId, long messageId, String content) {
+        int[] keys = ChatSearchTokenizer.bigrams(HtmlUtils.htmlUnescape(content == null ? "" : content));
+        if (keys.length == 0) {
+            return;
+        }
+        rooms.computeIfAbsent(roomId, id -> new RoomIndex()).add(messageId, keys);
+        indexedMessages.incrementAndGet();
+        postings.addAndGet(keys.length);
+    }
+
+    /**
+     * 채팅방 색인 삭제 (완전히 삭제된 채팅방)
+     */
+    public void dropRoom(String roomId) {
+        RoomIndex removed = rooms.remove(roomId);
+        if (removed != null) {
+            postings.addAndGet(-removed.postingCount());
+        }
+    }
+
+    /**
+     * 검색어의 모든 bigram을 포함하는 메시지 ID (최신순)
+     *
+     * @param roomIds 검색할 채팅방 (사용자가 참여 중인 채팅방)
+     * @param query 검색어
+     * @param limit 최대 후보 수
+     * @return 후보 메시지 ID (최신순), bigram이 없는 검색어면 빈 목록
+     * @throws IllegalStateException 아직 backfill 중이거나 색인이 비활성화된 경우
+     */
+    public List<Long> search(Collection<String> roomIds, String query, int limit) {
+        if (!ready) {
+            throw new IllegalStateException("채팅 검색 색인이 준비되지 않았습니다");
+        }
+        int[] keys = ChatSearchTokenizer.bigrams(query);
+        if (keys.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        List<long[]> matches = new ArrayList<>();
+        for (String roomId : roomIds) {
+            RoomIndex room = rooms.get(roomId);
+            if (room != null) {
+                long[] ids = room.intersect(keys);
+                if (ids.length > 0) {
+                    matches.add(ids);
+                }
+            }
+        }
+        return newest(matches, limit);
+    }
+
+    /**
+     * 시작 시 기존 메시지 색인이 끝났는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        indexer = Thread.ofPlatform()
+                .name("chat-search-indexer")
+                .daemon()
+                .start(this::runIndexLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (indexer != null) {
+            indexer.interrupt();
+            try {
+                indexer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void enqueue(IndexTask task) {
+        if (!running) {
+            return;
+        }
+        if (!queue.offer(task)) {
+            // 채팅 전송을 막지 않도록 버리고, 다음 시작 시 backfill로 복구
+            droppedMessages.incrementAndGet();
+        }
+    }
+
+    private void runIndexLoop() {
+        while (running && !ready) {
+            try {
+                backfill();
+                ready = true;
+            } catch (Exception e) {
+                // 일부만 색인된 상태로 검색하지 않도록 준비 상태를 유지하고 다시 시도
+                log.error("채팅 검색 색인 backfill 실패, {}초 후 다시 시도: {}",
+                        backfillRetryDelay.toSeconds(), e.getMessage(), e);
+                try {
+                    Thread.sleep(backfillRetryDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        while (running) {
+            IndexTask task;
+            try {
+                task = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+            try {
+                apply(task);
+            } catch (Exception e) {
+                log.warn("채팅 검색 색인 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void apply(IndexTask task) {
+        if (task instanceof AddMessage add) {
+            add(add.roomId(), add.messageId(), add.content());
+        } else if (task instanceof DropRoom drop) {
+            dropRoom(drop.roomId());
+        }
+    }
+
+    /**
+     * 시작 시점까지 저장된 메시지를 ID 순으로 읽어 색인
+     * 이후 메시지는 이벤트로 들어오며, 겹치는 메시지는 중복 반영되지 않습니다.
+     * 다시 시도할 때는 이전에 읽은 위치부터 이어서 읽고, 그 사이 대기열에서 버려진 메시지도 새 MAX(id)까지 함께 읽습니다.
+     */
+    private void backfill() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM messages", Long.class);
+        if (maxId == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        long count = 0;
+        while (running) {
+            long cursor = backfillCursor;
+            long[] last = {cursor};
+            int[] read = {0};
+            jdbcTemplate.query(BACKFILL_SQL, (RowCallbackHandler) rs -> {
+                long id = rs.getLong(1);
+                add(rs.getString(2), id, rs.getString(3));
+                last[0] = id;
+                read[0]++;
+            }, cursor, maxId, backfillBatchSize);
+            if (read[0] == 0) {
+                break;
+            }
+            backfillCursor = last[0];
+            count += read[0];
+        }
+        log.info("채팅 검색 색인 backfill 완료: {}건, {}ms", count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * 채팅방별 결과에서 최신 ID를 limit개까지 모음 (각 결과는 오름차순)
+     */
+    private static List<Long> newest(List<long[]> matches, int limit) {
+        int[] positions = new int[matches.size()];
+        for (int i = 0; i < matches.size(); i++) {
+            positions[i] = matches.get(i).length - 1;
+        }
+        List<Long> result = new ArrayList<>(Math.min(limit, 64));
+        while (result.size() < limit) {
+            int best = -1;
+            for (int i = 0; i < matches.size(); i++) {
+                if (positions[i] >= 0 && (best < 0 || matches.get(i)[positions[i]] > matches.get(best)[positions[best]])) {
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            result.add(matches.get(best)[positions[best]--]);
+        }
+        return result;
+    }
+
+    /**
+     * 채팅방 하나의 역색인
+     * 쓰기는 색인 스레드만 하지만 검색 요청과 동시에 접근하므로 채팅방 단위로 동기화합니다.
+     * 교집합은 가장 짧은 목록만 풀고 나머지는 커서로 건너뛰며 확인하므로, 잠금 시간은 짧은 목록 길이에 비례합니다.
+     */
+    private static final class RoomIndex {
+
+        private final Map<Integer, ChatSearchPostingList> postings = new HashMap<>();
+        private long postingCount;
+
+        synchronized void add(long messageId, int[] keys) {
+            for (int key : keys) {
+                postings.computeIfAbsent(key, k -> new ChatSearchPostingList()).add(messageId);
+            }
+            postingCount += keys.length;
+        }
+
+        synchronized long postingCount() {
+            return postingCount;
+        }
+
+        /**
+         * 모든 키를 포함하는 메시지 ID (오름차순)
+         */
+        synchronized long[] intersect(int[] keys) {
+            ChatSearchPostingList[] lists = new ChatSearchPostingList[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                lists[i] = postings.get(keys[i]);
+                if (lists[i] == null) {
+                    return new long[0];
+                }
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.count(), b.count()));
+
+            long[] candidates = lists[0].toArray();
+            ChatSearchPostingList.Cursor[] cursors = new ChatSearchPostingList.Cursor[lists.length - 1];
+            for (int i = 1; i < lists.length; i++) {
+                cursors[i - 1] = lists[i].cursor();
+            }
+
+            long[] out = new long[candidates.length];
+            int n = 0;
+            candidates:
+            for (long id : candidates) {
+                for (ChatSearchPostingList.Cursor cursor : cursors) {
+                    if (!cursor.contains(id)) {
+                        continue candidates;
+                    }
+                }
+                out[n++] = id;
+            }
+            return n == out.length ? out : Arrays.copyOf(out, n);
+        }
+    }
+
+    private sealed interface IndexTask permits AddMessage, DropRoom {
+    }
+
+    private record AddMessage(String roomId, long messageId, String content) implements IndexTask {
+    }
+
+    private record DropRoom(String roomId) implements IndexTask {
+    }
+}
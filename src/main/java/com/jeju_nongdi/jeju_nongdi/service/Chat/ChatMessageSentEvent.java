@@ -0,0 +1,19 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+/**
+ * 채팅 메시지 전송 완료 이벤트 (메시지 트랜잭션 커밋 후 알림 생성에 사용)
+ *
+ * @param roomId 채팅방 ID
+ * @param messageId 메시지 ID
+ * @param senderId 발신자 ID
+ * @param senderNickname 발신자 닉네임
+ * @param receiverId 수신자 ID
+ * @param content 메시지 내용
+ */
+public record ChatMessageSentEvent(String roomId,
+                                   Long messageId,
+                                   Long senderId,
+                                   String senderNickname,
+                                   Long receiverId,
+                                   String content) {
+}
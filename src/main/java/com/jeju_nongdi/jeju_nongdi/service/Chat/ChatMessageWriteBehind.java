@@ -0,0 +1,454 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.Message;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 write-behind 저장 파이프라인
+ *
+ * 활성화되면 메시지는 서버에서 ID를 발급받아 즉시 브로드캐스트되고,
+ * DB 반영은 별도 스레드가 flush-interval 또는 batch-size 단위로 모아 JDBC 배치로 처리합니다.
+ * 채팅방 요약 정보(마지막 메시지, 안 읽은 수)도 같은 트랜잭션에서 채팅방별로 한 번씩 갱신합니다.
+ *
+ * 내구성 모드
+ * - NONE: 메모리 큐만 사용 (비정상 종료 시 반영 전 메시지 유실 가능)
+ * - JOURNAL: 브로드캐스트 전에 저널 파일에 기록 (프로세스 종료에는 안전, OS 장애 시 유실 가능)
+ * - JOURNAL_FSYNC: 디스크 동기화 후 브로드캐스트 (동시에 접수된 메시지는 한 번의 동기화로 묶음)
+ *
+ * 반영에 계속 실패한 메시지는 반영 완료로 세지 않고 저널에 남겨 두며, 다음 시작 시 복구 대상이 됩니다.
+ * 시작 시 남아 있는 저널을 읽어 DB에 없는 메시지를 다시 반영합니다.
+ * 비활성화(기본값) 상태에서는 저널을 복구하지 않으므로, 남은 저널은 다시 활성화한 뒤 복구됩니다.
+ *
+ * 발급한 ID를 AUTO_INCREMENT 컬럼에 직접 넣으므로, 직접 넣은 값 이후로 AUTO_INCREMENT가 따라오는
+ * MariaDB/MySQL(및 해당 모드의 H2)에서만 활성화할 수 있습니다. PostgreSQL 등은 IDENTITY 시퀀스가 그대로 남아
+ * 나중에 write-behind를 끄면 작은 ID가 발급되므로 시작 시 거부합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehind implements SmartLifecycle {
+
+    public enum Durability {
+        NONE, JOURNAL, JOURNAL_FSYNC
+    }
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO messages (id, room_id, sender_id, receiver_id, content, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_ROOM_SUMMARY_SQL =
+            "UPDATE chat_rooms SET last_message_id = ?, last_message_preview = ?, last_message_at = ?"
+                    + " WHERE room_id = ? AND (last_message_id IS NULL OR last_message_id < ?)";
+    private static final String INCREMENT_UNREAD_SQL = """
+            UPDATE chat_rooms SET
+                user1_unread_count = user1_unread_count + CASE WHEN user1_id = ? THEN ? ELSE 0 END,
+                user2_unread_count = user2_unread_count + CASE WHEN user2_id = ? THEN ? ELSE 0 END
+            WHERE room_id = ?
+            """;
+    private static final int EXISTING_ID_CHUNK_SIZE = 500;
+    private static final int MAX_FLUSH_RETRIES = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatMessageIdGenerator idGenerator;
+
+    private final boolean enabled;
+    private final Durability durability;
+    private final long flushIntervalNanos;
+    private final int batchSize;
+    private final Path journalDirectory;
+    private final long journalSegmentBytes;
+
+    private final BlockingQueue<Message> queue;
+    private final Object submitLock = new Object();
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong persistedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    // 반영에 실패해 저널에서 지우면 안 되는 메시지 ID (flusher 스레드에서만 접근)
+    private final NavigableSet<Long> unpersistedIds = new TreeSet<>();
+
+    private volatile boolean running;
+    private volatile long lastSubmittedId;
+    private ChatMessageJournal journal;
+    private Thread flusher;
+
+    public ChatMessageWriteBehind(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ChatMessageIdGenerator idGenerator,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${chat.write-behind.durability:JOURNAL}") Durability durability,
+                                  @Value("${chat.write-behind.flush-interval:20ms}") Duration flushInterval,
+                                  @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${chat.write-behind.queue-capacity:50000}") int queueCapacity,
+                                  @Value("${chat.write-behind.journal-dir:./data/chat-journal}") String journalDirectory,
+                                  @Value("${chat.write-behind.journal-segment-bytes:8388608}") long journalSegmentBytes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idGenerator = idGenerator;
+        this.enabled = enabled;
+        this.durability = durability;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.batchSize = batchSize;
+        this.journalDirectory = Path.of(journalDirectory);
+        this.journalSegmentBytes = journalSegmentBytes;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("chat.write_behind.queue.size", queue, BlockingQueue::size)
+                .description("DB 반영 대기 중인 메시지 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("chat.write_behind.persisted", persistedCount, AtomicLong::get)
+                .description("write-behind로 DB에 반영된 메시지 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("chat.write_behind.failed", failedCount, AtomicLong::get)
+                .description("DB 반영에 실패해 저널에 남긴 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * write-behind 경로 사용 가능 여부 (비활성화 또는 종료 중이면 false)
+     */
+    public boolean isActive() {
+        return enabled && running;
+    }
+
+    /**
+     * 지금까지 접수한 메시지 중 가장 큰 ID (아직 DB에 반영되지 않았을 수 있음, 접수한 적 없으면 0)
+     * ID는 접수 순서대로 증가하므로, 이 값 이하의 메시지는 모두 이미 접수된 메시지입니다.
+     */
+    public long lastSubmittedId() {
+        return lastSubmittedId;
+    }
+
+    /**
+     * 메시지 접수
+     * ID와 생성 시간을 채운 뒤 (내구성 모드에 따라) 저널에 기록하고 반영 대기열에 넣습니다.
+     * ID 순서와 저널/대기열 순서를 맞추기 위해 여기까지만 잠금 안에서 처리하고,
+     * 디스크 동기화는 잠금 밖에서 기다립니다.
+     * 대기열이 가득 차면 여유가 생길 때까지 대기합니다.
+     *
+     * @param message ID가 없는 메시지
+     * @return ID와 생성 시간이 채워진 메시지
+     */
+    public Message submit(Message message) {
+        if (!isActive()) {
+            throw new IllegalStateException("write-behind 파이프라인이 실행 중이 아닙니다");
+        }
+        synchronized (submitLock) {
+            message.setId(idGenerator.nextId());
+            message.setCreatedAt(LocalDateTime.now());
+            if (journal != null) {
+                journal.append(message);
+            }
+            try {
+                queue.put(message);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("메시지 접수 중 인터럽트", e);
+            }
+            submittedCount.incrementAndGet();
+            lastSubmittedId = message.getId();
+        }
+        if (journal != null) {
+            journal.sync(message.getId());
+        }
+        return message;
+    }
+
+    /**
+     * 접수된 메시지의 DB 반영 시도가 끝날 때까지 대기
+     *
+     * @return 제한 시간 안에 모두 반영되었는지 여부 (반영에 실패해 저널에 남은 메시지가 있으면 false)
+     */
+    public boolean awaitFlush(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long target = submittedCount.get();
+        while (persistedCount.get() + failedCount.get() < target) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return failedCount.get() == 0;
+    }
+
+    /**
+     * 이전 실행에서 남은 저널 복구
+     * DB에 없는 메시지만 다시 반영하므로 여러 번 실행해도 안전합니다.
+     * 반영하지 못한 메시지가 남으면 저널 파일을 지우지 않고 다음 복구에 맡깁니다.
+     *
+     * @param directory 저널 디렉토리
+     * @return 새로 반영한 메시지 수
+     */
+    public int recoverJournal(Path directory) {
+        try {
+            List<Message> journaled = ChatMessageJournal.readAll(directory);
+            int recovered = 0;
+            if (!journaled.isEmpty()) {
+                Set<Long> existing = findExistingIds(journaled.stream().map(Message::getId).toList());
+                List<Message> missing = journaled.stream()
+                        .filter(message -> !existing.contains(message.getId()))
+                        .toList();
+                int failed = 0;
+                for (int from = 0; from < missing.size(); from += batchSize) {
+                    List<Message> chunk = missing.subList(from, Math.min(from + batchSize, missing.size()));
+                    try {
+                        persistBatch(chunk);
+                    } catch (Exception e) {
+                        log.warn("저널 복구 배치 반영 실패, 한 건씩 다시 반영합니다: {}건, {}", chunk.size(), e.getMessage());
+                        failed += chunk.size() - persistEach(chunk, new ArrayList<>());
+                    }
+                }
+                recovered = missing.size() - failed;
+                idGenerator.advancePast(journaled.get(journaled.size() - 1).getId());
+                log.info("채팅 메시지 저널 복구 완료: 저널={}건, 반영={}건, 실패={}건", journaled.size(), recovered, failed);
+                if (failed > 0) {
+                    log.error("반영하지 못한 메시지 {}건이 있어 저널을 유지합니다: {}", failed, directory);
+                    return recovered;
+                }
+            }
+            ChatMessageJournal.deleteAll(directory);
+            return recovered;
+        } catch (IOException e) {
+            throw new IllegalStateException("채팅 메시지 저널 복구 실패: " + directory, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            warnIfJournalLeft();
+            return;
+        }
+        String[] database = jdbcTemplate.execute((ConnectionCallback<String[]>) connection -> new String[]{
+                connection.getMetaData().getDatabaseProductName(), connection.getMetaData().getURL()});
+        if (!isSupportedDatabase(database[0], database[1])) {
+            throw new IllegalStateException("채팅 메시지 write-behind는 MariaDB/MySQL에서만 사용할 수 있습니다: " + database[0]);
+        }
+        recoverJournal(journalDirectory);
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM messages", Long.class);
+        if (maxId != null) {
+            idGenerator.advancePast(maxId);
+        }
+        if (durability != Durability.NONE) {
+            journal = ChatMessageJournal.open(journalDirectory, journalSegmentBytes, durability == Durability.JOURNAL_FSYNC);
+        }
+
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("chat-write-behind")
+                .daemon()
+                .start(this::runFlushLoop);
+        log.info("채팅 메시지 write-behind 시작: durability={}, batchSize={}, flushInterval={}ms",
+                durability, batchSize, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos));
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        boolean drained = queue.isEmpty() && persistedCount.get() >= submittedCount.get();
+        if (journal != null) {
+            // 모두 반영되었으면 저널 삭제, 아니면 다음 시작 시 복구
+            journal.close(drained);
+        }
+        log.info("채팅 메시지 write-behind 종료: 반영 완료={}, 반영 실패={}건", drained, failedCount.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * WebSocket 메시지 처리기가 먼저 멈춘 뒤 남은 메시지를 반영하고, DB 연결보다 먼저 종료됩니다.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+
+    /**
+     * 직접 넣은 ID 이후로 AUTO_INCREMENT가 따라오는 DB인지 여부
+     * (H2는 MariaDB/MySQL 호환 모드에서만 같은 동작)
+     */
+    static boolean isSupportedDatabase(String productName, String url) {
+        String product = productName == null ? "" : productName.toLowerCase(Locale.ROOT);
+        if (product.contains("mariadb") || product.contains("mysql")) {
+            return true;
+        }
+        String jdbcUrl = url == null ? "" : url.toLowerCase(Locale.ROOT);
+        return product.equals("h2") && (jdbcUrl.contains("mode=mariadb") || jdbcUrl.contains("mode=mysql"));
+    }
+
+    private void runFlushLoop() {
+        List<Message> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Message first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 메시지 이후 flush-interval 동안 batch-size까지 모음
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Message next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flushWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("write-behind 스레드 인터럽트: 남은 메시지={}건", queue.size());
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushWithRetry(List<Message> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= MAX_FLUSH_RETRIES; attempt++) {
+            try {
+                persistBatch(batch);
+                onPersisted(batch, batch.size());
+                return;
+            } catch (Exception e) {
+                log.warn("메시지 배치 반영 실패 ({}/{}): {}건, {}", attempt, MAX_FLUSH_RETRIES, batch.size(), e.getMessage());
+                Thread.sleep(100L * attempt);
+            }
+        }
+
+        // 배치 전체가 계속 실패하면 한 건씩 반영하고, 실패한 메시지는 저널에 남김
+        List<Message> failed = new ArrayList<>();
+        persistEach(batch, failed);
+        failed.forEach(message -> unpersistedIds.add(message.getId()));
+        failedCount.addAndGet(failed.size());
+        onPersisted(batch, batch.size() - failed.size());
+    }
+
+    /**
+     * 한 건씩 반영
+     *
+     * @param failed 반영에 실패한 메시지를 담을 목록
+     * @return 반영된 메시지 수
+     */
+    private int persistEach(List<Message> messages, List<Message> failed) {
+        for (Message message : messages) {
+            try {
+                persistBatch(List.of(message));
+            } catch (Exception e) {
+                log.error("메시지 반영 실패로 저널에 남김: id={}, roomId={}", message.getId(), message.getRoomId(), e);
+                failed.add(message);
+            }
+        }
+        return messages.size() - failed.size();
+    }
+
+    private void onPersisted(List<Message> batch, int persisted) {
+        persistedCount.addAndGet(persisted);
+        if (journal != null) {
+            // 반영에 실패한 메시지가 담긴 세그먼트부터는 지우지 않음
+            long releasable = batch.get(batch.size() - 1).getId();
+            if (!unpersistedIds.isEmpty()) {
+                releasable = Math.min(releasable, unpersistedIds.first() - 1);
+            }
+            journal.releaseUpTo(releasable);
+        }
+    }
+
+    private void persistBatch(List<Message> batch) {
+        Map<String, Message> lastByRoom = new LinkedHashMap<>();
+        Map<String, Map<Long, Integer>> unreadByRoom = new LinkedHashMap<>();
+        for (Message message : batch) {
+            lastByRoom.merge(message.getRoomId(), message,
+                    (previous, current) -> current.getId() > previous.getId() ? current : previous);
+            unreadByRoom.computeIfAbsent(message.getRoomId(), roomId -> new HashMap<>())
+                    .merge(message.getReceiverId(), 1, Integer::sum);
+        }
+
+        List<Object[]> unreadArgs = new ArrayList<>();
+        unreadByRoom.forEach((roomId, counts) -> counts.forEach((receiverId, count) ->
+                unreadArgs.add(new Object[]{receiverId, count, receiverId, count, roomId})));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, batch, batch.size(), (ps, message) -> {
+                ps.setLong(1, message.getId());
+                ps.setString(2, message.getRoomId());
+                ps.setLong(3, message.getSenderId());
+                ps.setLong(4, message.getReceiverId());
+                ps.setString(5, message.getContent());
+                ps.setTimestamp(6, Timestamp.valueOf(message.getCreatedAt()));
+            });
+            jdbcTemplate.batchUpdate(UPDATE_ROOM_SUMMARY_SQL, lastByRoom.values().stream()
+                    .map(last -> new Object[]{
+                            last.getId(),
+                            ChatRoom.toPreview(last.getContent()),
+                            Timestamp.valueOf(last.getCreatedAt()),
+                            last.getRoomId(),
+                            last.getId()})
+                    .collect(Collectors.toList()));
+            jdbcTemplate.batchUpdate(INCREMENT_UNREAD_SQL, unreadArgs);
+        });
+    }
+
+    private void warnIfJournalLeft() {
+        try {
+            if (ChatMessageJournal.hasSegments(journalDirectory)) {
+                log.warn("write-behind 비활성화 상태라 남은 저널을 복구하지 않습니다: {}", journalDirectory);
+            }
+        } catch (IOException e) {
+            log.warn("저널 디렉토리 확인 실패: {}", journalDirectory, e);
+        }
+    }
+
+    private Set<Long> findExistingIds(List<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += EXISTING_ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + EXISTING_ID_CHUNK_SIZE, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            existing.addAll(jdbcTemplate.queryForList(
+                    "SELECT id FROM messages WHERE id IN (" + placeholders + ")", Long.class, chunk.toArray()));
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,235 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.service.NotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 알림 비동기 생성기
+ *
+ * 메시지 트랜잭션이 커밋된 뒤 ChatMessageSentEvent를 대기열에 넣고, 별도 스레드가 coalesce-window 동안 모은 이벤트를
+ * (수신자, 채팅방) 단위로 합쳐 마지막 메시지 하나로 알림을 갱신합니다.
+ * 같은 발신자가 연달아 보낸 메시지는 알림 한 건으로 합쳐집니다.
+ *
+ * 순서 보장
+ * - 이벤트는 커밋 순서대로 대기열에 들어가며, 배치 안에서 (수신자, 채팅방)마다 가장 마지막 이벤트만 남습니다.
+ * - 배치 안의 그룹은 가상 스레드에서 동시에 처리하지만, 다음 배치는 이전 배치가 모두 끝난 뒤 시작합니다.
+ *   따라서 같은 채팅방 알림이 이전 메시지 내용으로 되돌아가지 않습니다.
+ *
+ * 대기열이 가득 차면 커밋한 스레드가 enqueue-timeout 동안만 기다리고, 그래도 넣지 못하면 이벤트를 버리고
+ * chat.notification.dropped 지표를 올립니다. (안 읽은 메시지 수는 채팅방 요약에 남으므로 알림만 누락됨)
+ * 종료 시에는 shutdown-timeout 동안 남은 이벤트를 모두 처리한 뒤 멈춥니다.
+ */
+@Slf4j
+@Component
+public class ChatNotificationDispatcher implements SmartLifecycle {
+
+    private static final int PREVIEW_LENGTH = 30;
+
+    private final NotificationService notificationService;
+    private final long coalesceWindowNanos;
+    private final long enqueueTimeoutNanos;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<ChatMessageSentEvent> queue;
+    private final Counter droppedEvents;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+    private ExecutorService workers;
+
+    public ChatNotificationDispatcher(NotificationService notificationService,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${chat.notification.coalesce-window:500ms}") Duration coalesceWindow,
+                                      @Value("${chat.notification.queue-capacity:100000}") int queueCapacity,
+                                      @Value("${chat.notification.enqueue-timeout:50ms}") Duration enqueueTimeout,
+                                      @Value("${chat.notification.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.notificationService = notificationService;
+        this.coalesceWindowNanos = coalesceWindow.toNanos();
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("chat.notification.queue.size", queue, BlockingQueue::size)
+                .description("알림 생성 대기 중인 채팅 이벤트 수")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("chat.notification.dropped")
+                .description("대기열이 가득 차거나 디스패처가 멈춰 버린 채팅 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 메시지 트랜잭션 커밋 후 이벤트 접수
+     * 대기열이 가득 차면 enqueue-timeout 동안 기다리고, 그래도 넣지 못하거나 실행 중이 아니면 버립니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        try {
+            if (running && queue.offer(event, enqueueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedEvents.increment();
+        log.warn("채팅 알림 이벤트 버림: roomId={}, receiverId={}, running={}, 대기열={}건",
+                event.roomId(), event.receiverId(), running, queue.size());
+    }
+
+    @Override
+    public void start() {
+        workers = Executors.newVirtualThreadPerTaskExecutor();
+        running = true;
+        dispatcher = Thread.ofPlatform()
+                .name("chat-notification-dispatcher")
+                .daemon()
+                .start(this::runDispatchLoop);
+        log.info("채팅 알림 디스패처 시작: coalesceWindow={}ms", TimeUnit.NANOSECONDS.toMillis(coalesceWindowNanos));
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        try {
+            // 디스패처는 대기열이 빌 때까지 처리한 뒤 끝남
+            dispatcher.join(shutdownTimeout);
+            if (dispatcher.isAlive()) {
+                dispatcher.interrupt();
+            }
+            workers.shutdown();
+            workers.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int remaining = queue.size();
+        if (remaining > 0) {
+            droppedEvents.increment(remaining);
+            log.warn("채팅 알림 디스패처 종료 시간 초과: 처리하지 못한 이벤트={}건", remaining);
+        }
+        log.info("채팅 알림 디스패처 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버가 요청 처리를 마치고 멈춘 뒤 남은 이벤트를 처리하고, DB 연결보다 먼저 종료됩니다.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 3000;
+    }
+
+    private void runDispatchLoop() {
+        List<ChatMessageSentEvent> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessageSentEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 이벤트 이후 coalesce-window 동안 들어온 이벤트를 함께 처리
+                long deadline = System.nanoTime() + coalesceWindowNanos;
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) {
+                    ChatMessageSentEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch);
+                }
+
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("채팅 알림 디스패처 인터럽트: 남은 이벤트={}건", queue.size());
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * (수신자, 채팅방)별 마지막 이벤트와 메시지 수만 남겨 알림 갱신
+     */
+    private void dispatch(List<ChatMessageSentEvent> events) {
+        Map<String, Coalesced> latest = new LinkedHashMap<>();
+        for (ChatMessageSentEvent event : events) {
+            latest.merge(event.receiverId() + ":" + event.roomId(), new Coalesced(event, 1),
+                    (previous, next) -> new Coalesced(next.event(), previous.count() + 1));
+        }
+
+        List<Callable<Void>> tasks = latest.values().stream()
+                .<Callable<Void>>map(coalesced -> () -> {
+                    notifyReceiver(coalesced.event(), coalesced.count());
+                    return null;
+                })
+                .toList();
+        if (tasks.size() == 1) {
+            tasks.forEach(this::callQuietly);
+            return;
+        }
+        try {
+            workers.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void notifyReceiver(ChatMessageSentEvent event, int messageCount) {
+        try {
+            String content = event.content();
+            String preview = content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) + "..." : content;
+            notificationService.upsertChatNotification(
+                    event.receiverId(),
+                    event.senderNickname() + " – " + preview,
+                    event.roomId(),
+                    event.senderNickname(),
+                    messageCount);
+        } catch (Exception e) {
+            // 알림 실패가 메시지 전송에 영향을 주지 않도록 기록만 남김
+            log.warn("채팅 알림 생성 실패: roomId={}, receiverId={}, error={}",
+                    event.roomId(), event.receiverId(), e.getMessage());
+        }
+    }
+
+    private void callQuietly(Callable<Void> task) {
+        try {
+            task.call();
+        } catch (Exception e) {
+            log.warn("채팅 알림 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private record Coalesced(ChatMessageSentEvent event, int count) {
+    }
+}
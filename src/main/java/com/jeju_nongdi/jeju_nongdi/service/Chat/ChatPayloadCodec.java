@@ -0,0 +1,152 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomMembers;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.CompactChatMessage;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.CompactRoomProfiles;
+import com.jeju_nongdi.jeju_nongdi.dto.UserProfile;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.Message;
+import com.jeju_nongdi.jeju_nongdi.service.UserProfileCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 메시지의 compact 전송 형식
+ *
+ * 클라이언트가 STOMP CONNECT 헤더에 chat-codec: compact 를 보내면 그 세션의 채팅방 구독은
+ * /topic/chat/room/{roomId}/compact 로 바뀌고(ChatPayloadCodecInterceptor), 구독 직후 참여자 프로필을 한 번 받은 뒤
+ * 메시지는 발신자 정보 없이 짧은 필드 이름으로 받습니다. 헤더를 보내지 않은 세션은 기존 MessageDto JSON을 그대로 받습니다.
+ *
+ * compact 구독은 인터셉터가 구독/해제/연결 종료 때 알려주며, compact 구독자가 있는 채팅방에만 compact 메시지를 만들어 보냅니다.
+ * relay 모드에서는 다른 노드의 구독을 알 수 없으므로 항상 보냅니다.
+ */
+@Component
+public class ChatPayloadCodec {
+
+    public static final String CODEC_HEADER = "chat-codec";
+    public static final String COMPACT = "compact";
+
+    private static final String CHAT_ROOM_TOPIC = "/topic/chat/room/";
+    private static final String COMPACT_SUFFIX = "/compact";
+
+    private final ChatRoomMembershipCache membershipCache;
+    private final UserProfileCache userProfileCache;
+    private final boolean enabled;
+    private final boolean remoteSubscribers;
+
+    // 채팅방 ID -> compact 구독 (세션 ID/구독 ID), 세션 ID -> 구독 ID별 채팅방 ID
+    private final Map<String, Set<String>> compactSubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    public ChatPayloadCodec(ChatRoomMembershipCache membershipCache,
+                            UserProfileCache userProfileCache,
+                            @Value("${chat.codec.compact.enabled:true}") boolean enabled,
+                            @Value("${chat.broker.mode:simple}") String brokerMode) {
+        this.membershipCache = membershipCache;
+        this.userProfileCache = userProfileCache;
+        this.enabled = enabled;
+        this.remoteSubscribers = "relay".equalsIgnoreCase(brokerMode);
+    }
+
+    /**
+     * compact 형식 지원 여부 (꺼져 있으면 헤더를 보내도 기존 형식으로 전송)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * compact 형식으로 보낼 구독자가 있는지 여부 (relay 모드에서는 다른 노드의 구독을 알 수 없어 항상 true)
+     */
+    public boolean hasCompactSubscribers(String roomId) {
+        return enabled && (remoteSubscribers || compactSubscriptions.containsKey(roomId));
+    }
+
+    /**
+     * compact 구독 등록 (ChatPayloadCodecInterceptor에서 구독을 compact 토픽으로 바꿀 때 호출)
+     */
+    public void compactSubscribed(String sessionId, String subscriptionId, String roomId) {
+        sessionSubscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, roomId);
+        compactSubscriptions.compute(roomId, (id, subscribers) -> {
+            Set<String> updated = subscribers != null ? subscribers : new HashSet<>();
+            updated.add(subscriptionKey(sessionId, subscriptionId));
+            return updated;
+        });
+    }
+
+    /**
+     * compact 구독 해제 (compact 구독이 아니면 아무것도 하지 않음)
+     */
+    public void compactUnsubscribed(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        String roomId = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (roomId != null) {
+            removeSubscriber(roomId, subscriptionKey(sessionId, subscriptionId));
+        }
+    }
+
+    /**
+     * 연결이 끊긴 세션의 compact 구독 모두 해제
+     */
+    public void sessionClosed(String sessionId) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, roomId) ->
+                    removeSubscriber(roomId, subscriptionKey(sessionId, subscriptionId)));
+        }
+    }
+
+    private void removeSubscriber(String roomId, String key) {
+        // 마지막 구독이 빠지면 채팅방 항목도 제거
+        compactSubscriptions.computeIfPresent(roomId, (id, subscribers) -> {
+            subscribers.remove(key);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static String subscriptionKey(String sessionId, String subscriptionId) {
+        return sessionId + "/" + subscriptionId;
+    }
+
+    public static String compactDestination(String roomId) {
+        return CHAT_ROOM_TOPIC + roomId + COMPACT_SUFFIX;
+    }
+
+    /**
+     * 채팅방 메시지 토픽(/topic/chat/room/{roomId})이면 채팅방 ID, 입력 중 표시 등 하위 토픽이나 다른 목적지면 null
+     */
+    public static String roomIdOfMessageTopic(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_ROOM_TOPIC)) {
+            return null;
+        }
+        String roomId = destination.substring(CHAT_ROOM_TOPIC.length());
+        return roomId.isEmpty() || roomId.indexOf('/') >= 0 ? null : roomId;
+    }
+
+    public CompactChatMessage encode(Message message) {
+        long sentAt = message.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new CompactChatMessage(message.getId(), message.getSenderId(), message.getContent(), sentAt);
+    }
+
+    /**
+     * 채팅방 참여자 프로필 (참여자 캐시와 프로필 캐시에서 조회하므로 보통 쿼리 없음)
+     *
+     * @return 참여자 프로필, 채팅방이 없으면 null
+     */
+    public CompactRoomProfiles profilesOf(String roomId) {
+        ChatRoomMembers members = membershipCache.get(roomId);
+        if (members == null) {
+            return null;
+        }
+        Map<Long, UserProfile> profiles = userProfileCache.getAll(List.of(members.user1Id(), members.user2Id()));
+        return new CompactRoomProfiles(profiles.values().stream()
+                .map(profile -> new CompactRoomProfiles.Profile(profile.id(), profile.nickname(), profile.profileImage()))
+                .toList());
+    }
+}
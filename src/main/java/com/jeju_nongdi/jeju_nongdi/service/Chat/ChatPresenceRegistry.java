@@ -0,0 +1,103 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.security.StompPrincipal;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속 중인 사용자 레지스트리 (userId → 열린 STOMP 세션 ID 목록)
+ *
+ * STOMP CONNECT/DISCONNECT 이벤트로만 갱신되며 DB를 조회하지 않습니다.
+ * 한 사용자가 여러 기기로 접속할 수 있으므로 세션 목록을 두고, 마지막 세션이 끊기면 오프라인이 됩니다.
+ * 세션 등록/해제와 사용자의 세션 목록 갱신은 사용자 키의 compute 안에서 한 번에 처리하므로,
+ * 같은 사용자의 연결과 종료가 겹쳐도 세션 목록과 접속 여부가 어긋나지 않습니다 (전역 잠금 없음).
+ * DISCONNECT 이벤트는 한 세션에 여러 번 올 수 있어 세션 ID로 중복을 걸러냅니다.
+ *
+ * 현재 노드에 연결된 세션만 알고 있으므로 여러 노드로 운영하면 노드별 접속 상태입니다.
+ */
+@Slf4j
+@Component
+public class ChatPresenceRegistry {
+
+    private final Map<String, Long> sessionUsers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> userSessions = new ConcurrentHashMap<>();
+
+    public ChatPresenceRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("chat.presence.sessions", sessionUsers, Map::size)
+                .description("사용자가 인증된 STOMP 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.presence.users", userSessions, Map::size)
+                .description("접속 중인 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        if (event.getUser() instanceof StompPrincipal user) {
+            String sessionId = (String) event.getMessage().getHeaders().get("simpSessionId");
+            connected(sessionId, user.userId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        disconnected(event.getSessionId());
+    }
+
+    public void connected(String sessionId, Long userId) {
+        if (sessionId == null || userId == null) {
+            return;
+        }
+        userSessions.compute(userId, (id, sessions) -> {
+            Set<String> updated = sessions != null ? sessions : new HashSet<>();
+            if (sessionUsers.putIfAbsent(sessionId, userId) == null) {
+                updated.add(sessionId);
+            }
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    public void disconnected(String sessionId) {
+        Long userId = sessionId != null ? sessionUsers.get(sessionId) : null;
+        if (userId == null) {
+            return;
+        }
+        userSessions.computeIfPresent(userId, (id, sessions) -> {
+            if (sessionUsers.remove(sessionId, userId)) {
+                sessions.remove(sessionId);
+            }
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    public boolean isOnline(Long userId) {
+        return userId != null && userSessions.containsKey(userId);
+    }
+
+    /**
+     * 주어진 사용자 중 접속 중인 사용자
+     *
+     * @param userIds 확인할 사용자 ID 목록
+     * @return 접속 중인 사용자 ID
+     */
+    public Set<Long> onlineAmong(Collection<Long> userIds) {
+        Set<Long> online = new HashSet<>();
+        for (Long userId : userIds) {
+            if (isOnline(userId)) {
+                online.add(userId);
+            }
+        }
+        return online;
+    }
+}
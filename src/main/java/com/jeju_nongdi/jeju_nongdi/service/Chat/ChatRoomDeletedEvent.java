@@ -0,0 +1,10 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+/**
+ * 채팅방이 완전히 삭제되었음을 알리는 이벤트
+ * 커밋 후 메시지 정리 작업을 깨우는 데 사용합니다.
+ *
+ * @param roomId 삭제된 채팅방 ID
+ */
+public record ChatRoomDeletedEvent(String roomId) {
+}
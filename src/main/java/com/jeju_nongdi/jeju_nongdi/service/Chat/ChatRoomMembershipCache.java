@@ -0,0 +1,121 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomMembers;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅방 참여자 캐시 (roomId → user1Id, user2Id)
+ *
+ * 참여자는 채팅방 생성 후 바뀌지 않으므로 TTL 없이 처음 조회할 때 채우고,
+ * 양쪽 모두 삭제하여 채팅방이 완전 삭제될 때만 evict 합니다.
+ * 메시지 전송, 메시지 조회, 토픽 구독 시 권한 확인에 사용하여 채팅방 조회 쿼리를 생략합니다.
+ */
+@Slf4j
+@Component
+public class ChatRoomMembershipCache {
+
+    public static final String CACHE_NAME = "chatRoomMembers";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final Map<String, ChatRoomMembers> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ChatRoomMembershipCache(ChatRoomRepository chatRoomRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${chat.membership-cache.max-size:50000}") int maxSize) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ChatRoomMembers> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("채팅방 참여자 캐시 적중 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("채팅방 참여자 캐시 미스 수")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, ChatRoomMembershipCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채팅방 참여자 조회 (캐시에 없으면 DB 조회 후 저장)
+     *
+     * @param roomId 채팅방 ID
+     * @return 참여자, 채팅방이 없으면 null (없는 채팅방은 캐시하지 않음)
+     */
+    public ChatRoomMembers get(String roomId) {
+        if (roomId == null) {
+            return null;
+        }
+        ChatRoomMembers cached = lookup(roomId);
+        if (cached != null) {
+            return cached;
+        }
+        return chatRoomRepository.findMembersByRoomId(roomId)
+                .map(members -> put(roomId, members))
+                .orElse(null);
+    }
+
+    /**
+     * 완전 삭제된 채팅방의 참여자 정보 제거
+     * 트랜잭션 안에서 호출되면 커밋 후에도 한 번 더 제거합니다.
+     *
+     * @param roomId 채팅방 ID
+     */
+    public void evict(String roomId) {
+        remove(roomId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(roomId);
+                }
+            });
+        }
+        log.debug("채팅방 참여자 캐시 무효화: roomId={}", roomId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized ChatRoomMembers lookup(String roomId) {
+        ChatRoomMembers members = entries.get(roomId);
+        if (members == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return members;
+    }
+
+    private synchronized ChatRoomMembers put(String roomId, ChatRoomMembers members) {
+        entries.put(roomId, members);
+        return members;
+    }
+
+    private synchronized void remove(String roomId) {
+        entries.remove(roomId);
+    }
+}
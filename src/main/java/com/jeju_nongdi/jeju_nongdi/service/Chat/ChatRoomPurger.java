@@ -0,0 +1,121 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoomPurge;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomPurgeRepository;
+import com.jeju_nongdi.jeju_nongdi.service.RetentionArchiveJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 완전히 삭제된 채팅방의 메시지 정리 작업
+ *
+ * 채팅방은 삭제 트랜잭션에서 바로 지워지고, 메시지는 커밋 후 이 작업이 백그라운드에서 청크 단위로 보관 테이블로 옮깁니다.
+ * 정리 요청(chat_room_purges)은 메시지를 모두 옮긴 뒤에 지우므로, 서버가 중간에 종료되어도 시작 시 남은 요청부터 다시 처리합니다.
+ * 여러 요청이 한꺼번에 들어와도 하나의 스레드에서 순서대로 처리합니다.
+ * write-behind 대기열에 남은 메시지가 정리 후에 저장되지 않도록, 처리 전에 접수된 메시지의 DB 반영을 기다립니다.
+ */
+@Slf4j
+@Component
+public class ChatRoomPurger implements SmartLifecycle {
+
+    private static final Duration WRITE_BEHIND_FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ChatRoomPurgeRepository purgeRepository;
+    private final RetentionArchiveJob retentionArchiveJob;
+    private final ChatMessageWriteBehind messageWriteBehind;
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public ChatRoomPurger(ChatRoomPurgeRepository purgeRepository,
+                          RetentionArchiveJob retentionArchiveJob,
+                          ChatMessageWriteBehind messageWriteBehind) {
+        this.purgeRepository = purgeRepository;
+        this.retentionArchiveJob = retentionArchiveJob;
+        this.messageWriteBehind = messageWriteBehind;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomDeleted(ChatRoomDeletedEvent event) {
+        log.debug("채팅방 메시지 정리 예약: roomId={}", event.roomId());
+        scheduleDrain();
+    }
+
+    /**
+     * 이전 실행에서 끝내지 못한 정리 요청 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        scheduleDrain();
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("chat-room-purger").daemon().factory());
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void scheduleDrain() {
+        // 아직 시작하지 않은 처리가 예약되어 있으면 그 처리에서 새 요청까지 함께 읽음
+        if (running && drainScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        try {
+            if (messageWriteBehind.isActive() && !messageWriteBehind.awaitFlush(WRITE_BEHIND_FLUSH_TIMEOUT)) {
+                // 남은 메시지는 보관 작업의 고아 메시지 정리에서 처리
+                log.warn("write-behind 반영이 끝나지 않았거나 실패한 메시지가 있어 현재 저장된 메시지만 정리");
+            }
+            for (ChatRoomPurge purge : purgeRepository.findAllByOrderByIdAsc()) {
+                if (!running) {
+                    return;
+                }
+                purgeRoom(purge);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("채팅방 메시지 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void purgeRoom(ChatRoomPurge purge) {
+        if (retentionArchiveJob.archiveDeletedRoomMessages(purge.getRoomId(), purge.getMaxMessageId())) {
+            purgeRepository.deleteById(purge.getId());
+            log.debug("채팅방 메시지 정리 완료: roomId={}", purge.getRoomId());
+        } else {
+            log.warn("채팅방 메시지 정리 미완료, 다음 실행에서 이어서 처리: roomId={}", purge.getRoomId());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import java.util.Arrays;
+
+/**
+ * 메시지 ID 목록 (오름차순, 이전 ID와의 차이를 varint로 기록)
+ *
+ * 같은 채팅방의 메시지 ID는 촘촘하므로 대부분 1~2바이트로 기록되어 long[]보다 4~8배 작습니다.
+ * 새 메시지는 항상 뒤에 붙입니다. 드물게 순서가 뒤바뀐 ID는 별도 버퍼에 모았다가 읽을 때 정렬 병합하고,
+ * 버퍼가 목록 크기에 비례한 한도를 넘을 때만 전체를 다시 기록하므로 삽입 비용은 상각 O(1)입니다.
+ * SKIP_INTERVAL건마다 (ID, 바이트 위치)를 기록해 두어, 교집합 시 긴 목록은 전부 풀지 않고 Cursor로 건너뛰며 확인합니다.
+ * 동기화는 호출하는 쪽(채팅방 색인)에서 합니다.
+ */
+final class ChatSearchPostingList {
+
+    private static final int MIN_PENDING_LIMIT = 64;
+    private static final int SKIP_INTERVAL = 64;
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int count;
+    private long last;
+
+    // SKIP_INTERVAL건마다 해당 ID와 그 다음 항목의 바이트 위치
+    private long[] skipIds = new long[0];
+    private int[] skipPositions = new int[0];
+    private int skipCount;
+
+    // 순서가 뒤바뀐 ID (pendingSorted면 정렬/중복 제거된 상태)
+    private long[] pending;
+    private int pendingCount;
+    private boolean pendingSorted = true;
+
+    void add(long id) {
+        if (count > 0 && id <= last) {
+            if (id != last) {
+                addPending(id);
+            }
+            return;
+        }
+        append(id);
+    }
+
+    /**
+     * 목록 크기 (버퍼에 본문과 중복된 ID가 있으면 실제보다 클 수 있음, 교집합 순서를 정하는 용도)
+     */
+    int count() {
+        return count + pendingCount;
+    }
+
+    int sizeInBytes() {
+        return data.length + (pending == null ? 0 : pending.length * Long.BYTES);
+    }
+
+    long[] toArray() {
+        long[] ids = decode();
+        return pendingCount == 0 ? ids : mergePending(ids);
+    }
+
+    /**
+     * 오름차순으로 주어지는 ID의 포함 여부를 확인하는 커서 (목록이 바뀌면 새로 만들어야 함)
+     */
+    Cursor cursor() {
+        sortPending();
+        return new Cursor();
+    }
+
+    private void append(long id) {
+        writeVarLong(id - last);
+        last = id;
+        if (count % SKIP_INTERVAL == 0) {
+            addSkip(id);
+        }
+        count++;
+    }
+
+    private void addSkip(long id) {
+        if (skipCount == skipIds.length) {
+            int capacity = Math.max(4, skipCount * 2);
+            skipIds = Arrays.copyOf(skipIds, capacity);
+            skipPositions = Arrays.copyOf(skipPositions, capacity);
+        }
+        skipIds[skipCount] = id;
+        skipPositions[skipCount] = length;
+        skipCount++;
+    }
+
+    private void addPending(long id) {
+        if (pending == null) {
+            pending = new long[8];
+        } else if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, pending.length * 2);
+        }
+        pending[pendingCount++] = id;
+        pendingSorted = false;
+
+        if (pendingCount >= Math.max(MIN_PENDING_LIMIT, count >>> 4)) {
+            compact();
+        }
+    }
+
+    /**
+     * 버퍼를 본문에 병합하여 다시 기록
+     */
+    private void compact() {
+        long[] merged = mergePending(decode());
+        pending = null;
+        pendingCount = 0;
+        pendingSorted = true;
+        length = 0;
+        count = 0;
+        last = 0;
+        skipCount = 0;
+        for (long id : merged) {
+            append(id);
+        }
+    }
+
+    private long[] mergePending(long[] ids) {
+        sortPending();
+        long[] merged = new long[ids.length + pendingCount];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < ids.length || j < pendingCount) {
+            long next;
+            if (j >= pendingCount || (i < ids.length && ids[i] <= pending[j])) {
+                next = ids[i++];
+            } else {
+                next = pending[j++];
+            }
+            if (n == 0 || merged[n - 1] != next) {
+                merged[n++] = next;
+            }
+        }
+        return n == merged.length ? merged : Arrays.copyOf(merged, n);
+    }
+
+    private void sortPending() {
+        if (pendingSorted) {
+            return;
+        }
+        Arrays.sort(pending, 0, pendingCount);
+        int n = 0;
+        for (int i = 0; i < pendingCount; i++) {
+            if (n == 0 || pending[n - 1] != pending[i]) {
+                pending[n++] = pending[i];
+            }
+        }
+        pendingCount = n;
+        pendingSorted = true;
+    }
+
+    private long[] decode() {
+        long[] ids = new long[count];
+        long current = 0;
+        int[] position = {0};
+        for (int i = 0; i < count; i++) {
+            current += readVarLong(position);
+            ids[i] = current;
+        }
+        return ids;
+    }
+
+    private long readVarLong(int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private void writeVarLong(long value) {
+        if (length + 10 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+        }
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * 건너뛰기 표로 목표 ID 근처까지 이동한 뒤 최대 SKIP_INTERVAL건만 풀어 확인합니다.
+     * 버퍼의 ID는 정렬된 배열에서 이진 탐색합니다.
+     */
+    final class Cursor {
+
+        private int index = -1;
+        private long current;
+        private final int[] position = {0};
+
+        boolean contains(long id) {
+            return advanceTo(id) == id
+                    || (pendingCount > 0 && Arrays.binarySearch(pending, 0, pendingCount, id) >= 0);
+        }
+
+        /**
+         * 본문에서 target 이상인 첫 ID (없으면 Long.MAX_VALUE)
+         */
+        private long advanceTo(long target) {
+            if (index >= 0 && current >= target) {
+                return current;
+            }
+            int found = Arrays.binarySearch(skipIds, 0, skipCount, target);
+            int skip = found >= 0 ? found : -found - 2;
+            if (skip >= 0 && (long) skip * SKIP_INTERVAL > index) {
+                index = skip * SKIP_INTERVAL;
+                current = skipIds[skip];
+                position[0] = skipPositions[skip];
+            }
+            while (index < 0 || current < target) {
+                if (index + 1 >= count) {
+                    index = count;
+                    current = Long.MAX_VALUE;
+                    break;
+                }
+                current += readVarLong(position);
+                index++;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 채팅 검색용 토크나이저 (문자 bigram)
+ *
+ * 한국어는 조사가 붙고 띄어쓰기가 일정하지 않아 형태소 분석 없이 단어 단위로 찾기 어렵습니다.
+ * 그래서 글자 단위 bigram으로 색인합니다. 예) "농장주소를" → 농장, 장주, 주소, 소를
+ * "주소"로 검색하면 "주소를", "주소는"처럼 조사가 붙은 메시지도 찾습니다.
+ *
+ * 정규화: NFKC(전각/반각, 호환 자모 정리) 후 소문자로 바꾸고, 글자/숫자가 아닌 문자는 구분자로 봅니다.
+ * bigram은 두 글자(char)를 하나의 int로 묶으므로 별도 사전 없이 충돌 없이 표현됩니다.
+ */
+public final class ChatSearchTokenizer {
+
+    private ChatSearchTokenizer() {
+    }
+
+    /**
+     * 검색용 정규화 (구분자는 공백 하나로 바꿈)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(normalized.length());
+        boolean separator = true;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                out.append(c);
+                separator = false;
+            } else if (!separator) {
+                out.append(' ');
+                separator = true;
+            }
+        }
+        int length = out.length();
+        if (length > 0 && out.charAt(length - 1) == ' ') {
+            out.setLength(length - 1);
+        }
+        return out.toString();
+    }
+
+    /**
+     * 정규화한 문자열의 단어들 (검색 결과 확인용)
+     */
+    public static List<String> words(String text) {
+        String normalized = normalize(text);
+        return normalized.isEmpty() ? List.of() : List.of(normalized.split(" "));
+    }
+
+    /**
+     * 중복 없는 bigram 키 목록 (단어 경계를 넘는 bigram은 만들지 않음)
+     */
+    public static int[] bigrams(String text) {
+        String normalized = normalize(text);
+        int[] keys = new int[Math.max(0, normalized.length() - 1)];
+        int count = 0;
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            char first = normalized.charAt(i);
+            char second = normalized.charAt(i + 1);
+            if (first == ' ' || second == ' ') {
+                continue;
+            }
+            keys[count++] = key(first, second);
+        }
+        return Arrays.stream(keys, 0, count).distinct().toArray();
+    }
+
+    static int key(char first, char second) {
+        return (first << 16) | second;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 직렬화한 JSON 본문을 메시지 변환기 없이 브로커 채널로 바로 보내는 구현
+ *
+ * simple 모드에서는 현재 노드의 구독자에게만 전달되고,
+ * relay 모드에서는 외부 STOMP 브로커가 모든 노드의 구독자에게 전달합니다.
+ *
+ * convertAndSend도 전송마다 한 번만 변환하고 브로커가 그 본문을 구독자 간에 공유하므로, 직렬화 횟수는 같습니다.
+ * 줄어드는 것은 변환기가 전송마다 만드는 헤더 복사본과 중간 버퍼뿐이며 TopicBroadcastAllocationBenchmarkTest가
+ * 이 차이를 측정합니다.
+ * 알림 토픽은 수신자마다 본문이 달라 사용자 간에 공유할 버퍼가 없습니다.
+ */
+public class LocalTopicBroadcaster implements TopicBroadcaster {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    public LocalTopicBroadcaster(SimpMessageSendingOperations messagingTemplate, ObjectMapper objectMapper) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        sendToBroker(destination, serialize(payload));
+    }
+
+    /**
+     * 브로커 채널로 전송
+     * 메시지 변환기를 거치지 않고 직렬화한 본문 배열을 그대로 담습니다.
+     */
+    private void sendToBroker(String destination, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+
+    private byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("토픽 메시지 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+/**
+ * STOMP 토픽 브로드캐스트 추상화
+ *
+ * 서비스는 SimpMessagingTemplate 대신 이 인터페이스로 /topic 메시지를 보냅니다.
+ * 브로커 모드(chat.broker.mode)가 simple이면 현재 노드의 구독자에게,
+ * relay이면 외부 브로커를 거쳐 모든 노드의 구독자에게 전달됩니다.
+ */
+public interface TopicBroadcaster {
+
+    /**
+     * 토픽 구독자에게 메시지 전송
+     *
+     * @param destination 목적지 (예: /topic/chat/room/1_2)
+     * @param payload 전송할 객체 (JSON으로 직렬화됨)
+     */
+    void broadcast(String destination, Object payload);
+}
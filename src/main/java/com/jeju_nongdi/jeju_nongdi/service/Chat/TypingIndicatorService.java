@@ -0,0 +1,93 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomMembers;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.TypingIndicator;
+import com.jeju_nongdi.jeju_nongdi.security.StompPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입력 중 표시 전송
+ *
+ * 클라이언트는 키 입력마다 보내도 되고, 서버는 사용자/채팅방별로 throttle 간격 안의 "입력 중" 알림을 버립니다.
+ * "입력 멈춤"은 항상 전달합니다. 저장하지 않는 휘발성 이벤트라 DB를 사용하지 않습니다.
+ */
+@Slf4j
+@Service
+public class TypingIndicatorService {
+
+    public static final String TYPING_TOPIC_SUFFIX = "/typing";
+
+    private final ChatRoomMembershipCache membershipCache;
+    private final TopicBroadcaster topicBroadcaster;
+    private final long throttleNanos;
+    private final Map<TypingKey, Long> lastSent = new ConcurrentHashMap<>();
+
+    public TypingIndicatorService(ChatRoomMembershipCache membershipCache,
+                                  TopicBroadcaster topicBroadcaster,
+                                  @Value("${chat.typing.throttle:2s}") Duration throttle) {
+        this.membershipCache = membershipCache;
+        this.topicBroadcaster = topicBroadcaster;
+        this.throttleNanos = throttle.toNanos();
+    }
+
+    /**
+     * 입력 중 표시 전송
+     *
+     * @return 실제로 전송했는지 여부 (throttle로 버려지면 false)
+     */
+    public boolean publish(String roomId, StompPrincipal user, boolean typing) {
+        ChatRoomMembers members = membershipCache.get(roomId);
+        if (members == null || !members.contains(user.userId())) {
+            throw new AccessDeniedException("채팅방 참여 권한이 없습니다");
+        }
+
+        TypingKey key = new TypingKey(user.userId(), roomId);
+        if (typing) {
+            long now = System.nanoTime();
+            Long previous = lastSent.get(key);
+            if (previous != null && now - previous < throttleNanos) {
+                return false;
+            }
+            // 동시에 들어온 요청 중 하나만 통과
+            boolean claimed = previous == null
+                    ? lastSent.putIfAbsent(key, now) == null
+                    : lastSent.replace(key, previous, now);
+            if (!claimed) {
+                return false;
+            }
+        } else {
+            lastSent.remove(key);
+        }
+
+        topicBroadcaster.broadcast("/topic/chat/room/" + roomId + TYPING_TOPIC_SUFFIX,
+                new TypingIndicator(roomId, user.userId(), user.nickname(), typing));
+        return true;
+    }
+
+    /**
+     * "입력 멈춤" 없이 연결이 끊긴 사용자의 오래된 throttle 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${chat.typing.cleanup-interval-ms:60000}")
+    public void evictStale() {
+        long now = System.nanoTime();
+        lastSent.values().removeIf(sentAt -> now - sentAt > throttleNanos);
+    }
+
+    /**
+     * throttle 기록 수 (정리 확인용)
+     */
+    int trackedCount() {
+        return lastSent.size();
+    }
+
+    private record TypingKey(Long userId, String roomId) {
+    }
+}
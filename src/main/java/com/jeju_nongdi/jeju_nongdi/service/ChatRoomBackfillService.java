@@ -0,0 +1,56 @@
+package com.jeju_nongdi.jeju_nongdi.service;
+
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅방 요약 정보 백필 서비스
+ *
+ * 요약 컬럼(last_message_*)이 추가되기 전에 만들어진 채팅방은 값이 비어 있으므로,
+ * 애플리케이션 시작 시 messages 테이블을 기준으로 한 번에 채워 넣습니다.
+ * 안 읽은 메시지 수는 이전 읽음 기록이 없어 0으로 시작합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomBackfillService {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Value("${chat.room-summary.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            backfillRoomSummaries();
+        } catch (Exception e) {
+            log.warn("채팅방 요약 정보 백필 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 메시지 요약 정보가 없는 채팅방을 일괄 갱신
+     *
+     * @return 미리보기/시간이 채워진 채팅방 수
+     */
+    @Transactional
+    public int backfillRoomSummaries() {
+        chatRoomRepository.backfillLastMessageIds();
+        int updated = chatRoomRepository.backfillLastMessageDetails(ChatRoom.LAST_MESSAGE_PREVIEW_LENGTH);
+        if (updated > 0) {
+            log.info("채팅방 요약 정보 백필 완료: {}개", updated);
+        }
+        return updated;
+    }
+}
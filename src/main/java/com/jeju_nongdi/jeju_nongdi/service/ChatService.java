@@ -1,22 +1,44 @@
 package com.jeju_nongdi.jeju_nongdi.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.jeju_nongdi.jeju_nongdi.dto.*;
 import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomDto;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomMembers;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomSyncState;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatSyncResponse;
 import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomView;
 import com.jeju_nongdi.jeju_nongdi.dto.Chat.MessageDto;
 import com.jeju_nongdi.jeju_nongdi.entity.*;
 import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoomPurge;
 import com.jeju_nongdi.jeju_nongdi.entity.Chat.Message;
+import com.jeju_nongdi.jeju_nongdi.exception.SearchIndexNotReadyException;
 import com.jeju_nongdi.jeju_nongdi.repository.*;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomPurgeRepository;
 import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
 import com.jeju_nongdi.jeju_nongdi.repository.Chat.MessageRepository;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatMessageSearchIndex;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatMessageSentEvent;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatSearchTokenizer;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatRoomDeletedEvent;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatMessageWriteBehind;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatPayloadCodec;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatPresenceRegistry;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatRoomMembershipCache;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.TopicBroadcaster;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import java.time.LocalDateTime;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,9 +49,13 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.HtmlUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -37,11 +63,30 @@ import java.util.stream.Collectors;
 @Transactional
 public class ChatService {
 
+    private static final int MAX_MESSAGE_SLICE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULT_SIZE = 50;
+    // 색인 후보 중 여러 단어 검색처럼 본문 확인에서 빠지는 경우를 감안해 더 많이 가져옴
+    private static final int SEARCH_CANDIDATE_FACTOR = 4;
+    private static final int STREAM_FLUSH_INTERVAL = 200;
+    // 재연결 동기화 한 번의 응답 크기 제한 (채팅방별 메시지 수를 넘으면 다시 조회하도록 안내)
+    private static final int MAX_SYNC_MESSAGES_PER_ROOM = 50;
+    private static final int MAX_SYNC_MESSAGES = 500;
+    private static final int MAX_SYNC_ROOMS = 50;
+
     private final MessageRepository messageRepository;
     private final ChatRoomRepository chatRoomRepository;
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final ChatRoomPurgeRepository chatRoomPurgeRepository;
+    private final TopicBroadcaster topicBroadcaster;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserProfileCache userProfileCache;
+    private final ChatMessageWriteBehind messageWriteBehind;
+    private final ChatRoomMembershipCache membershipCache;
+    private final ChatPresenceRegistry presenceRegistry;
+    private final ChatMessageSearchIndex searchIndex;
+    private final ChatPayloadCodec payloadCodec;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
     /**
      * 1:1 채팅방 조회 또는 생성
@@ -93,16 +138,18 @@ public class ChatService {
         Long otherId = room.getUser1Id().equals(currentUserId)
                 ? room.getUser2Id()
                 : room.getUser1Id();
-        User other = userRepository.findById(otherId)
-                .orElseThrow(() -> new IllegalArgumentException("상대 사용자를 찾을 수 없습니다: " + otherId));
+        UserProfile other = userProfileCache.get(otherId);
+        if (other == null) {
+            throw new IllegalArgumentException("상대 사용자를 찾을 수 없습니다: " + otherId);
+        }
 
         return ChatRoomDto.builder()
                 .roomId(room.getRoomId())
                 .user1Id(room.getUser1Id())
                 .user2Id(room.getUser2Id())
                 .createdAt(room.getCreatedAt())
-                .otherUserNickname(other.getNickname())
-                .otherUserProfileImage(other.getProfileImage())
+                .otherUserNickname(other.nickname())
+                .otherUserProfileImage(other.profileImage())
                 .build();
     }
 
@@ -119,33 +166,15 @@ public class ChatService {
         Long userId = userRepository.findIdByEmail(currentUserEmail)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserEmail));
 
-        return chatRoomRepository.findByUser1IdOrUser2Id(userId, userId).stream()
-                .filter(room -> !room.getDeletedByUsers().contains(currentUserEmail))
-                .map(room -> {
-                    Long otherId = room.getUser1Id().equals(userId)
-                            ? room.getUser2Id()
-                            : room.getUser1Id();
-                    User other = userRepository.findById(otherId)
-                            .orElseThrow(() -> new IllegalArgumentException("상대 사용자를 찾을 수 없습니다: " + otherId));
-                    Optional<Message> lastMsg = messageRepository.findTopByRoomIdOrderByCreatedAtDesc(room.getRoomId());
-                    return new ChatRoomView(
-                            room.getRoomId(),
-                            room.getUser1Id(),
-                            room.getUser2Id(),
-                            room.getCreatedAt(),
-                            lastMsg.map(Message::getContent).orElse(null),
-                            lastMsg.map(Message::getCreatedAt).orElse(null),
-                            other.getNickname(),
-                            other.getProfileImage()
-                    );
-                })
-                .sorted((a, b) -> {
-                    // 마지막 메시지 시간으로 정렬 (최신순)
-                    LocalDateTime timeA = a.getLastMessageTime() != null ? a.getLastMessageTime() : a.getCreatedAt();
-                    LocalDateTime timeB = b.getLastMessageTime() != null ? b.getLastMessageTime() : b.getCreatedAt();
-                    return timeB.compareTo(timeA);
-                })
-                .collect(Collectors.toList());
+        // 상대방 프로필, 마지막 메시지, 삭제 필터, 정렬을 단일 쿼리로 처리 (방 개수와 무관하게 쿼리 수 고정)
+        List<ChatRoomView> rooms = chatRoomRepository.findChatRoomViewsByUserId(userId, currentUserEmail);
+
+        // 상대방 접속 여부는 메모리 레지스트리에서 채움
+        for (ChatRoomView room : rooms) {
+            Long otherId = userId.equals(room.getUser1Id()) ? room.getUser2Id() : room.getUser1Id();
+            room.setOtherUserOnline(presenceRegistry.isOnline(otherId));
+        }
+        return rooms;
     }
 
     /**
@@ -157,10 +186,30 @@ public class ChatService {
      */
     @Transactional
     public void saveAndBroadcastMessage(String roomId, String senderEmail, String content) {
-        log.debug("메시지 저장 및 브로드캐스트: roomId={}, sender={}", roomId, senderEmail);
+        if (!StringUtils.hasText(senderEmail)) {
+            throw new IllegalArgumentException("필수 파라미터가 누락되었습니다");
+        }
+
+        Long senderId = userRepository.findIdByEmail(senderEmail)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + senderEmail));
+        saveAndBroadcastMessage(roomId, senderId, content);
+    }
+
+    /**
+     * 메시지 저장 및 브로드캐스트 (발신자 ID 기준)
+     *
+     * WebSocket 세션에 저장된 사용자 ID를 그대로 사용하므로 이메일 조회가 필요 없습니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param senderId 발신자 ID
+     * @param content 메시지 내용
+     */
+    @Transactional
+    public void saveAndBroadcastMessage(String roomId, Long senderId, String content) {
+        log.debug("메시지 저장 및 브로드캐스트: roomId={}, senderId={}", roomId, senderId);
         
         // 입력값 검증
-        if (!StringUtils.hasText(roomId) || !StringUtils.hasText(senderEmail) || !StringUtils.hasText(content)) {
+        if (!StringUtils.hasText(roomId) || senderId == null || !StringUtils.hasText(content)) {
             throw new IllegalArgumentException("필수 파라미터가 누락되었습니다");
         }
         
@@ -169,62 +218,49 @@ public class ChatService {
             throw new IllegalArgumentException("메시지는 1000자를 초과할 수 없습니다");
         }
 
-        User sender = userRepository.findByEmail(senderEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + senderEmail));
-
-        ChatRoom room = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + roomId));
-
-        // 채팅방 참여자 권한 확인
-        if (!Objects.equals(sender.getId(), room.getUser1Id()) && 
-            !Objects.equals(sender.getId(), room.getUser2Id())) {
-            throw new SecurityException("채팅방 참여 권한이 없습니다");
+        UserProfile sender = userProfileCache.get(senderId);
+        if (sender == null) {
+            throw new UsernameNotFoundException("User not found: " + senderId);
         }
 
-        Long receiverId = room.getUser1Id().equals(sender.getId())
-                ? room.getUser2Id()
-                : room.getUser1Id();
+        // 채팅방 참여자 권한 확인
+        ChatRoomMembers members = requireMember(roomId, senderId, "채팅방 참여 권한이 없습니다");
+        Long receiverId = members.otherThan(senderId);
 
         // XSS 방지를 위한 HTML 이스케이프 (이미 처리되었지만 추가 보안)
         String sanitizedContent = HtmlUtils.htmlEscape(content.trim());
 
-        Message saved = messageRepository.save(Message.builder()
+        Message message = Message.builder()
                 .roomId(roomId)
-                .senderId(sender.getId())
+                .senderId(senderId)
                 .receiverId(receiverId)
                 .content(sanitizedContent)
-                .build());
-
-        MessageDto dto = MessageDto.builder()
-                .id(saved.getId())
-                .roomId(saved.getRoomId())
-                .senderId(saved.getSenderId())
-                .receiverId(saved.getReceiverId())
-                .content(saved.getContent())
-                .createdAt(saved.getCreatedAt())
-                .senderNickname(sender.getNickname())
-                .senderProfileImage(sender.getProfileImage())
                 .build();
 
+        Message saved;
+        if (messageWriteBehind.isActive()) {
+            // ID만 발급받아 바로 브로드캐스트하고, DB 반영과 요약 정보 갱신은 배치로 처리
+            saved = messageWriteBehind.submit(message);
+        } else {
+            saved = messageRepository.save(message);
+
+            // 목록 조회용 요약 정보와 수신자 안 읽은 수를 같은 트랜잭션에서 갱신
+            chatRoomRepository.applyNewMessage(
+                    roomId, saved.getId(), ChatRoom.toPreview(saved.getContent()), saved.getCreatedAt(), receiverId);
+        }
+
+        MessageDto dto = toMessageDto(saved, sender);
+
         // 실시간 메시지 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/chat/room/" + roomId, dto);
-
-        // 수신자에게 알림 생성
-        try {
-            String receiverEmail = userRepository.findEmailById(receiverId)
-                    .orElseThrow(() -> new IllegalArgumentException("수신자 이메일을 찾을 수 없습니다: " + receiverId));
-
-            notificationService.createChatNotification(
-                    receiverEmail,
-                    sender.getNickname() + " – " + (sanitizedContent.length() > 30 ? 
-                        sanitizedContent.substring(0, 30) + "..." : sanitizedContent),
-                    roomId,
-                    sender.getNickname()
-            );
-        } catch (Exception e) {
-            log.warn("알림 생성 실패: {}", e.getMessage());
-            // 알림 실패가 메시지 전송을 방해하지 않도록 함
+        topicBroadcaster.broadcast("/topic/chat/room/" + roomId, dto);
+        if (payloadCodec.hasCompactSubscribers(roomId)) {
+            // compact 형식을 선택한 세션이 구독 중인 채팅방만 변환/직렬화
+            topicBroadcaster.broadcast(ChatPayloadCodec.compactDestination(roomId), payloadCodec.encode(saved));
         }
+
+        // 수신자 알림은 커밋 후 ChatNotificationDispatcher에서 모아서 생성
+        eventPublisher.publishEvent(new ChatMessageSentEvent(
+                roomId, saved.getId(), senderId, sender.nickname(), receiverId, sanitizedContent));
         
         log.debug("메시지 저장 완료: messageId={}", saved.getId());
     }
@@ -245,80 +281,145 @@ public class ChatService {
         Long userId = userRepository.findIdByEmail(currentUserEmail)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserEmail));
 
-        ChatRoom room = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + roomId));
-
         // 채팅방 참여 권한 확인
-        if (!Objects.equals(userId, room.getUser1Id()) && !Objects.equals(userId, room.getUser2Id())) {
-            throw new SecurityException("접근 거부: 참여자가 아닙니다");
-        }
+        requireMember(roomId, userId, "접근 거부: 참여자가 아닙니다");
         
         // 삭제된 채팅방인지 확인
-        if (room.getDeletedByUsers().contains(currentUserEmail)) {
+        if (chatRoomRepository.isDeletedBy(roomId, currentUserEmail)) {
             log.debug("삭제된 채팅방 메시지 조회: roomId={}, user={}", roomId, currentUserEmail);
             return Page.empty(pageable);
         }
 
-        return messageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, pageable)
-                .map(msg -> {
-                    User sender = userRepository.findById(msg.getSenderId())
-                            .orElseThrow(() -> new IllegalArgumentException("보낸 사용자를 찾을 수 없습니다: " + msg.getSenderId()));
-                    return MessageDto.builder()
-                            .id(msg.getId())
-                            .roomId(msg.getRoomId())
-                            .senderId(msg.getSenderId())
-                            .receiverId(msg.getReceiverId())
-                            .content(msg.getContent())
-                            .createdAt(msg.getCreatedAt())
-                            .senderNickname(sender.getNickname())
-                            .senderProfileImage(sender.getProfileImage())
-                            .build();
-                });
+        Page<Message> messages = messageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, pageable);
+        Map<Long, UserProfile> senders = userProfileCache.getAll(messages.getContent().stream()
+                .map(Message::getSenderId)
+                .collect(Collectors.toSet()));
+        return messages.map(msg -> toMessageDto(msg, senders.get(msg.getSenderId())));
     }
 
     /**
-     * 채팅방 메시지 조회 (전체 목록)
+     * 채팅방 메시지 조회 (커서 방식)
+     * OFFSET 대신 마지막으로 받은 메시지 ID를 기준으로 이전 메시지를 조회하며, COUNT 쿼리를 실행하지 않습니다.
      * 
      * @param roomId 채팅방 ID
      * @param currentUserEmail 현재 사용자 이메일
-     * @return 메시지 목록
+     * @param beforeId 이 ID보다 이전 메시지를 조회 (null이면 최신 메시지부터)
+     * @param limit 조회 개수 (최대 100)
+     * @return 메시지 목록 (최신 순), 다음 페이지 존재 여부 포함
      */
     @Transactional(readOnly = true)
-    public List<MessageDto> getMessagesByRoom(String roomId, String currentUserEmail) {
-        log.debug("채팅방 메시지 조회: roomId={}, user={}", roomId, currentUserEmail);
-        
+    public Slice<MessageDto> getMessagesByRoomBefore(String roomId, String currentUserEmail, Long beforeId, int limit) {
+        log.debug("채팅방 메시지 커서 조회: roomId={}, user={}, before={}, limit={}", 
+            roomId, currentUserEmail, beforeId, limit);
+
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_MESSAGE_SLICE_SIZE)));
+
         Long userId = userRepository.findIdByEmail(currentUserEmail)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserEmail));
 
-        ChatRoom room = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + roomId));
-
         // 채팅방 참여 권한 확인
-        if (!Objects.equals(userId, room.getUser1Id()) && !Objects.equals(userId, room.getUser2Id())) {
-            throw new SecurityException("접근 거부: 참여자가 아닙니다");
-        }
-        
+        requireMember(roomId, userId, "접근 거부: 참여자가 아닙니다");
+
         // 삭제된 채팅방인지 확인
-        if (room.getDeletedByUsers().contains(currentUserEmail)) {
+        if (chatRoomRepository.isDeletedBy(roomId, currentUserEmail)) {
             log.debug("삭제된 채팅방 메시지 조회: roomId={}, user={}", roomId, currentUserEmail);
-            return Collections.emptyList();
+            return new SliceImpl<>(Collections.emptyList(), pageable, false);
         }
 
-        return messageRepository.findByRoomIdOrderByCreatedAtAsc(roomId).stream()
-                .map(msg -> {
-                    User sender = userRepository.findById(msg.getSenderId())
-                            .orElseThrow(() -> new IllegalArgumentException("보낸 사용자를 찾을 수 없습니다: " + msg.getSenderId()));
-                    return MessageDto.builder()
-                            .id(msg.getId())
-                            .roomId(msg.getRoomId())
-                            .senderId(msg.getSenderId())
-                            .receiverId(msg.getReceiverId())
-                            .content(msg.getContent())
-                            .createdAt(msg.getCreatedAt())
-                            .senderNickname(sender.getNickname())
-                            .senderProfileImage(sender.getProfileImage())
-                            .build();
-                }).collect(Collectors.toList());
+        Slice<Message> messages = beforeId == null
+                ? messageRepository.findLatestByRoomId(roomId, pageable)
+                : messageRepository.findByRoomIdBefore(roomId, beforeId, pageable);
+
+        return new SliceImpl<>(toMessageDtos(messages.getContent()), pageable, messages.hasNext());
+    }
+
+    /**
+     * 채팅방 메시지 전체 조회 권한 확인
+     * 응답 스트리밍을 시작하기 전에 호출하여 오류를 일반 응답으로 돌려줄 수 있도록 합니다.
+     * 
+     * @param roomId 채팅방 ID
+     * @param currentUserEmail 현재 사용자 이메일
+     */
+    @Transactional(readOnly = true)
+    public void checkRoomReadable(String roomId, String currentUserEmail) {
+        isDeletedForReader(roomId, currentUserEmail);
+    }
+
+    /**
+     * 채팅방 메시지 전체 조회 (스트리밍)
+     * 메시지를 fetch size 단위로 읽으면서 바로 응답에 기록하므로,
+     * 대화 기록 길이와 관계없이 메모리 사용량이 일정합니다.
+     * 응답 형식은 ApiResponse&lt;List&lt;MessageDto&gt;&gt;와 같지만, 결과를 마지막에 알 수 있도록
+     * success/message/code 를 data 배열 뒤에 기록합니다.
+     * 중간에 조회가 실패하면 배열을 닫고 success=false, code=500 으로 응답을 끝내며,
+     * 메시지 기록 도중이라 JSON 을 닫을 수 없으면 예외를 던져 연결을 중단합니다.
+     * 
+     * @param roomId 채팅방 ID
+     * @param currentUserEmail 현재 사용자 이메일
+     * @param out 응답 스트림
+     */
+    @Transactional(readOnly = true)
+    public void writeMessageHistory(String roomId, String currentUserEmail, OutputStream out) throws IOException {
+        log.debug("채팅방 메시지 스트리밍 조회: roomId={}, user={}", roomId, currentUserEmail);
+
+        boolean deleted = isDeletedForReader(roomId, currentUserEmail);
+
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("data");
+
+        // 삭제된 채팅방이면 빈 목록
+        if (!deleted) {
+            ObjectWriter writer = objectMapper.writerFor(MessageDto.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            int written = 0;
+            try (Stream<Message> messages = messageRepository.streamByRoomId(roomId)) {
+                Iterator<Message> iterator = messages.iterator();
+                while (iterator.hasNext()) {
+                    Message msg = iterator.next();
+                    writer.writeValue(generator, toMessageDto(msg, userProfileCache.get(msg.getSenderId())));
+
+                    // 이미 기록한 엔티티는 영속성 컨텍스트에서 분리하여 누적되지 않도록 함
+                    entityManager.detach(msg);
+                    if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.error("채팅방 메시지 스트리밍 실패: roomId={}, written={}, error={}", roomId, written, e.getMessage(), e);
+                // 메시지 객체를 기록하는 도중이면 올바른 JSON 으로 닫을 수 없으므로 연결 중단
+                if (!generator.getOutputContext().inArray()) {
+                    throw e;
+                }
+                generator.writeEndArray();
+                writeHistoryResult(generator, false, "메시지 조회 중 오류가 발생했습니다", 500);
+                return;
+            }
+            log.debug("채팅방 메시지 스트리밍 완료: roomId={}, count={}", roomId, written);
+        }
+
+        generator.writeEndArray();
+        writeHistoryResult(generator, true, "메시지 조회 성공", 200);
+    }
+
+    /**
+     * 채팅방 읽음 처리
+     * 현재 사용자의 안 읽은 메시지 수를 0으로 초기화합니다.
+     * 
+     * @param roomId 채팅방 ID
+     * @param currentUserEmail 현재 사용자 이메일
+     */
+    @Transactional
+    public void markRoomAsRead(String roomId, String currentUserEmail) {
+        log.debug("채팅방 읽음 처리: roomId={}, user={}", roomId, currentUserEmail);
+
+        Long userId = userRepository.findIdByEmail(currentUserEmail)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserEmail));
+
+        // 채팅방 참여 권한 확인
+        requireMember(roomId, userId, "접근 거부: 참여자가 아닙니다");
+
+        chatRoomRepository.resetUnreadCount(roomId, userId);
     }
 
     /**
@@ -354,10 +455,198 @@ public class ChatService {
         if (user1Email != null && user2Email != null
                 && room.getDeletedByUsers().contains(user1Email)
                 && room.getDeletedByUsers().contains(user2Email)) {
-            // 완전 삭제
-            messageRepository.deleteAllByRoomId(roomId);
+            // 완전 삭제: 채팅방은 바로 지우고 메시지는 커밋 후 백그라운드에서 청크 단위로 정리
+            // write-behind 대기열에 남아 아직 DB에 없는 메시지도 포함하도록 접수된 최대 ID까지 정리
+            Long maxMessageId = messageRepository.findMaxIdByRoomId(roomId).orElse(null);
+            if (messageWriteBehind.isActive() && messageWriteBehind.lastSubmittedId() > 0) {
+                maxMessageId = Math.max(maxMessageId != null ? maxMessageId : 0L, messageWriteBehind.lastSubmittedId());
+            }
+            if (maxMessageId != null) {
+                chatRoomPurgeRepository.save(ChatRoomPurge.builder()
+                        .roomId(roomId)
+                        .maxMessageId(maxMessageId)
+                        .requestedAt(LocalDateTime.now())
+                        .build());
+            }
             chatRoomRepository.delete(room);
+            membershipCache.evict(roomId);
+            eventPublisher.publishEvent(new ChatRoomDeletedEvent(roomId));
             log.debug("채팅방 완전 삭제: roomId={}", roomId);
         }
     }
+
+    /**
+     * 참여 권한을 확인하고 현재 사용자가 채팅방을 삭제했는지 반환
+     */
+    private boolean isDeletedForReader(String roomId, String currentUserEmail) {
+        Long userId = userRepository.findIdByEmail(currentUserEmail)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserEmail));
+
+        // 채팅방 참여 권한 확인
+        requireMember(roomId, userId, "접근 거부: 참여자가 아닙니다");
+        return chatRoomRepository.isDeletedBy(roomId, currentUserEmail);
+    }
+
+    /**
+     * 참여자 캐시로 채팅방 참여 권한 확인
+     *
+     * @param deniedMessage 참여자가 아닐 때 예외 메시지
+     * @return 채팅방 참여자
+     */
+    private ChatRoomMembers requireMember(String roomId, Long userId, String deniedMessage) {
+        ChatRoomMembers members = membershipCache.get(roomId);
+        if (members == null) {
+            throw new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + roomId);
+        }
+        if (!members.contains(userId)) {
+            throw new SecurityException(deniedMessage);
+        }
+        return members;
+    }
+
+    /**
+     * 참여 중인 채팅방의 메시지 검색
+     * 메모리 색인으로 후보를 찾고, 후보 메시지만 DB에서 읽어 모든 단어가 포함되는지 확인합니다.
+     *
+     * @param currentUserEmail 현재 사용자 이메일
+     * @param query 검색어 (두 글자 이상인 단어가 하나 이상 필요)
+     * @param limit 최대 결과 수 (최대 50)
+     * @return 검색 결과 (최신순)
+     * @throws SearchIndexNotReadyException 시작 시 색인(backfill)이 아직 끝나지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public List<MessageDto> searchMessages(String currentUserEmail, String query, int limit) {
+        if (ChatSearchTokenizer.bigrams(query).length == 0) {
+            throw new IllegalArgumentException("검색어는 두 글자 이상이어야 합니다");
+        }
+        if (!searchIndex.isReady()) {
+            // 색인 중에는 일부 메시지가 빠진 결과가 되므로 검색을 미룸
+            throw new SearchIndexNotReadyException("메시지 검색을 준비 중입니다. 잠시 후 다시 시도해주세요");
+        }
+        int size = Math.max(1, Math.min(limit, MAX_SEARCH_RESULT_SIZE));
+
+        Long userId = userRepository.findIdByEmail(currentUserEmail)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserEmail));
+        List<String> roomIds = chatRoomRepository.findActiveRoomIdsByUserId(userId, currentUserEmail);
+        List<Long> candidates = searchIndex.search(roomIds, query, size * SEARCH_CANDIDATE_FACTOR);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> words = ChatSearchTokenizer.words(query);
+        List<Message> matched = messageRepository.findAllById(candidates).stream()
+                .filter(msg -> {
+                    String content = ChatSearchTokenizer.normalize(HtmlUtils.htmlUnescape(msg.getContent()));
+                    return words.stream().allMatch(content::contains);
+                })
+                .sorted(Comparator.comparing(Message::getId).reversed())
+                .limit(size)
+                .toList();
+        return toMessageDtos(matched);
+    }
+
+    /**
+     * 재연결한 클라이언트의 채팅방 동기화
+     * 클라이언트가 채팅방별로 마지막에 받은 메시지 ID를 보내면, 그 이후 메시지만 모든 채팅방에 대해 한 번에 돌려줍니다.
+     * 변경 여부는 chat_rooms 요약 컬럼으로 먼저 판단하므로 새 메시지가 없는 채팅방은 messages 테이블을 조회하지 않습니다.
+     * 채팅방별 새 메시지가 제한을 넘거나 클라이언트가 모르는 채팅방이면 메시지 대신 refetch를 표시하고,
+     * 응답 전체 크기 제한에 걸리면 hasMore를 표시합니다 (클라이언트는 받은 ID로 다시 요청).
+     *
+     * @param currentUserEmail 현재 사용자 이메일
+     * @param lastSeenIds 채팅방 ID별 마지막으로 받은 메시지 ID
+     * @return 변경이 있는 채팅방의 변경분
+     */
+    @Transactional(readOnly = true)
+    public ChatSyncResponse syncRooms(String currentUserEmail, Map<String, Long> lastSeenIds) {
+        Long userId = userRepository.findIdByEmail(currentUserEmail)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserEmail));
+        List<ChatRoomSyncState> states = chatRoomRepository.findSyncStatesByUserId(userId, currentUserEmail);
+
+        Set<String> activeRoomIds = states.stream().map(ChatRoomSyncState::roomId).collect(Collectors.toSet());
+        List<String> removedRoomIds = lastSeenIds.keySet().stream()
+                .filter(roomId -> !activeRoomIds.contains(roomId))
+                .toList();
+
+        List<ChatSyncResponse.RoomDelta> deltas = new ArrayList<>();
+        int messageBudget = MAX_SYNC_MESSAGES;
+        int roomBudget = MAX_SYNC_ROOMS;
+        boolean hasMore = false;
+        for (ChatRoomSyncState state : states) {
+            Long lastSeenId = lastSeenIds.get(state.roomId());
+            if (state.lastMessageId() == null || (lastSeenId != null && lastSeenId >= state.lastMessageId())) {
+                continue;
+            }
+            if (lastSeenId == null) {
+                deltas.add(refetchDelta(state));
+                continue;
+            }
+            if (roomBudget == 0 || messageBudget == 0) {
+                hasMore = true;
+                continue;
+            }
+
+            int limit = Math.min(MAX_SYNC_MESSAGES_PER_ROOM, messageBudget);
+            Slice<Message> messages = messageRepository.findByRoomIdAfter(state.roomId(), lastSeenId, PageRequest.of(0, limit));
+            roomBudget--;
+            if (messages.hasNext() && limit == MAX_SYNC_MESSAGES_PER_ROOM) {
+                deltas.add(refetchDelta(state));
+                continue;
+            }
+            if (messages.hasNext()) {
+                // 남은 응답 크기로는 이 채팅방을 다 담을 수 없으므로 다음 요청에서 처리
+                messageBudget = 0;
+                hasMore = true;
+                continue;
+            }
+
+            messageBudget -= messages.getNumberOfElements();
+            deltas.add(new ChatSyncResponse.RoomDelta(state.roomId(), state.lastMessageId(), state.unreadCount(), false,
+                    messages.getContent().stream()
+                            .map(msg -> new ChatSyncResponse.SyncMessage(msg.getId(), msg.getSenderId(), msg.getContent(), msg.getCreatedAt()))
+                            .toList()));
+        }
+
+        log.debug("채팅방 동기화: userId={}, 요청={}개, 변경={}개, 제거={}개, hasMore={}",
+                userId, lastSeenIds.size(), deltas.size(), removedRoomIds.size(), hasMore);
+        return new ChatSyncResponse(deltas, removedRoomIds, hasMore);
+    }
+
+    private ChatSyncResponse.RoomDelta refetchDelta(ChatRoomSyncState state) {
+        return new ChatSyncResponse.RoomDelta(state.roomId(), state.lastMessageId(), state.unreadCount(), true, List.of());
+    }
+
+    private void writeHistoryResult(JsonGenerator generator, boolean success, String message, int code) throws IOException {
+        generator.writeBooleanField("success", success);
+        generator.writeStringField("message", message);
+        generator.writeNumberField("code", code);
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    /**
+     * 메시지 목록을 DTO로 변환
+     * 발신자 정보는 메시지마다 조회하지 않고 프로필 캐시에서 한 번에 조회합니다.
+     */
+    private List<MessageDto> toMessageDtos(List<Message> messages) {
+        Map<Long, UserProfile> senders = userProfileCache.getAll(messages.stream()
+                .map(Message::getSenderId)
+                .collect(Collectors.toSet()));
+
+        return messages.stream()
+                .map(msg -> toMessageDto(msg, senders.get(msg.getSenderId())))
+                .collect(Collectors.toList());
+    }
+
+    private MessageDto toMessageDto(Message msg, UserProfile sender) {
+        return MessageDto.builder()
+                .id(msg.getId())
+                .roomId(msg.getRoomId())
+                .senderId(msg.getSenderId())
+                .receiverId(msg.getReceiverId())
+                .content(msg.getContent())
+                .createdAt(msg.getCreatedAt())
+                .senderNickname(sender != null ? sender.nickname() : null)
+                .senderProfileImage(sender != null ? sender.profileImage() : null)
+                .build();
+    }
 }
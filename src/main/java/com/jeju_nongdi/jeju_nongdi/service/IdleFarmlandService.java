@@ -5,8 +5,14 @@ import com.jeju_nongdi.jeju_nongdi.entity.IdleFarmland;
 import com.jeju_nongdi.jeju_nongdi.entity.User;
 import com.jeju_nongdi.jeju_nongdi.repository.IdleFarmlandRepository;
 import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.Map.IdleFarmlandChangedEvent;
+import com.jeju_nongdi.jeju_nongdi.service.Map.IdleFarmlandMarkerSnapshot;
+import com.jeju_nongdi.jeju_nongdi.service.Map.IdleFarmlandSpatialIndex;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerClusterIndex;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,6 +32,10 @@ public class IdleFarmlandService {
 
     private final IdleFarmlandRepository idleFarmlandRepository;
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final IdleFarmlandSpatialIndex spatialIndex;
+    private final IdleFarmlandMarkerSnapshot markerSnapshot;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 유휴 농지 등록
@@ -59,6 +70,7 @@ public class IdleFarmlandService {
 
         IdleFarmland savedFarmland = idleFarmlandRepository.save(idleFarmland);
         log.info("Created idle farmland with ID: {}", savedFarmland.getId());
+        eventPublisher.publishEvent(IdleFarmlandChangedEvent.of(savedFarmland));
 
         return IdleFarmlandResponse.from(savedFarmland);
     }
@@ -69,8 +81,9 @@ public class IdleFarmlandService {
     public Page<IdleFarmlandResponse> getIdleFarmlands(Pageable pageable) {
         log.info("Fetching idle farmlands with pagination");
         
-        return idleFarmlandRepository.findAll(pageable)
-                .map(IdleFarmlandResponse::from);
+        Page<IdleFarmland> farmlands = idleFarmlandRepository.findAll(pageable);
+        Map<Long, UserProfile> owners = findOwners(farmlands.getContent());
+        return farmlands.map(farmland -> IdleFarmlandResponse.from(farmland, owners.get(farmland.getOwner().getId())));
     }
 
     /**
@@ -82,7 +95,7 @@ public class IdleFarmlandService {
         IdleFarmland idleFarmland = idleFarmlandRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("농지를 찾을 수 없습니다."));
 
-        return IdleFarmlandResponse.from(idleFarmland);
+        return IdleFarmlandResponse.from(idleFarmland, userProfileCache.get(idleFarmland.getOwner().getId()));
     }
 
     /**
@@ -120,6 +133,7 @@ public class IdleFarmlandService {
 
         IdleFarmland updatedFarmland = idleFarmlandRepository.save(idleFarmland);
         log.info("Updated idle farmland with ID: {}", id);
+        eventPublisher.publishEvent(IdleFarmlandChangedEvent.of(updatedFarmland));
 
         return IdleFarmlandResponse.from(updatedFarmland);
     }
@@ -139,6 +153,7 @@ public class IdleFarmlandService {
         }
 
         idleFarmlandRepository.delete(idleFarmland);
+        eventPublisher.publishEvent(IdleFarmlandChangedEvent.deleted(id));
         log.info("Deleted idle farmland with ID: {}", id);
     }
 
@@ -158,6 +173,7 @@ public class IdleFarmlandService {
 
         idleFarmland.setStatus(status);
         IdleFarmland updatedFarmland = idleFarmlandRepository.save(idleFarmland);
+        eventPublisher.publishEvent(IdleFarmlandChangedEvent.of(updatedFarmland));
 
         return IdleFarmlandResponse.from(updatedFarmland);
     }
@@ -191,22 +207,49 @@ public class IdleFarmlandService {
         
         log.info("Searching idle farmlands with filters");
 
-        return idleFarmlandRepository.findAvailableFarmlandsWithFilters(
-                        address, usageType, soilType, minArea, maxArea, minRent, maxRent)
-                .stream()
-                .map(IdleFarmlandResponse::from)
+        List<IdleFarmland> farmlands = idleFarmlandRepository.findAvailableFarmlandsWithFilters(
+                address, usageType, soilType, minArea, maxArea, minRent, maxRent);
+        Map<Long, UserProfile> owners = findOwners(farmlands);
+        return farmlands.stream()
+                .map(farmland -> IdleFarmlandResponse.from(farmland, owners.get(farmland.getOwner().getId())))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 지도 마커용 데이터 조회
+     * 지도 마커 전체 목록 (직렬화된 스냅샷, 변경이 없으면 같은 ETag)
      */
-    public List<IdleFarmlandMarkerResponse> getIdleFarmlandMarkers() {
-        log.info("Fetching idle farmland markers");
+    public MarkerSnapshotCache.Snapshot getIdleFarmlandMarkerSnapshot() {
+        return markerSnapshot.snapshot();
+    }
 
-        return idleFarmlandRepository.findAllAvailableForMap()
-                .stream()
-                .map(IdleFarmlandMarkerResponse::from)
+    /**
+     * sinceVersion 이후 추가/변경/삭제된 지도 마커
+     */
+    public MarkerDeltaResponse<IdleFarmlandMarkerResponse> getIdleFarmlandMarkerChanges(long sinceVersion) {
+        return markerSnapshot.changesSince(sinceVersion);
+    }
+
+    /**
+     * 줌 레벨별 지도 마커 클러스터 조회
+     *
+     * @param bounds 화면 영역 (null이면 전체)
+     */
+    public List<MarkerClusterResponse> getIdleFarmlandMarkerClusters(int zoom, MarkerClusterIndex.Bounds bounds) {
+        List<MarkerClusterIndex.Cluster> clusters;
+        if (spatialIndex.isReady()) {
+            clusters = spatialIndex.clusters(zoom, bounds);
+        } else {
+            // 색인을 만드는 중이면 DB에서 읽어 이번 요청에서만 묶음
+            MarkerClusterIndex index = new MarkerClusterIndex();
+            for (IdleFarmlandMarkerView marker : idleFarmlandRepository.findAllAvailableForMap()) {
+                if (marker.latitude() != null && marker.longitude() != null) {
+                    index.put(marker.id(), marker.latitude().doubleValue(), marker.longitude().doubleValue());
+                }
+            }
+            clusters = index.clusters(zoom, bounds);
+        }
+        return clusters.stream()
+                .map(MarkerClusterResponse::from)
                 .collect(Collectors.toList());
     }
 
@@ -221,4 +264,13 @@ public class IdleFarmlandService {
                 .map(IdleFarmlandMarkerResponse::from)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 소유자 정보는 농지마다 지연 로딩하지 않고 프로필 캐시에서 한 번에 조회
+     */
+    private Map<Long, UserProfile> findOwners(List<IdleFarmland> farmlands) {
+        return userProfileCache.getAll(farmlands.stream()
+                .map(farmland -> farmland.getOwner().getId())
+                .collect(Collectors.toSet()));
+    }
 }
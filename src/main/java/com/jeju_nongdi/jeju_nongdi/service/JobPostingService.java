@@ -1,20 +1,36 @@
 package com.jeju_nongdi.jeju_nongdi.service;
 
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerView;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingRequest;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.MarkerClusterResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.MarkerDeltaResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.UserProfile;
 import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
 import com.jeju_nongdi.jeju_nongdi.entity.User;
 import com.jeju_nongdi.jeju_nongdi.repository.JobPostingRepository;
 import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.Map.JobPostingChangedEvent;
+import com.jeju_nongdi.jeju_nongdi.service.Map.JobPostingMarkerSnapshot;
+import com.jeju_nongdi.jeju_nongdi.service.Map.JobPostingSpatialIndex;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerClusterIndex;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerSnapshotCache;
+import com.jeju_nongdi.jeju_nongdi.service.Map.SpatialGridIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,8 +38,15 @@ import java.util.stream.Collectors;
 @Transactional
 public class JobPostingService {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+    private static final int MAX_BOUNDS_MARKERS = 2000;
+
     private final JobPostingRepository jobPostingRepository;
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final JobPostingSpatialIndex spatialIndex;
+    private final JobPostingMarkerSnapshot markerSnapshot;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 일손 모집 공고 생성
     public JobPostingResponse createJobPosting(JobPostingRequest request, String userEmail) {
@@ -49,6 +72,7 @@ public class JobPostingService {
                 .build();
 
         JobPosting savedJobPosting = jobPostingRepository.save(jobPosting);
+        eventPublisher.publishEvent(JobPostingChangedEvent.of(savedJobPosting));
         return JobPostingResponse.from(savedJobPosting);
     }
 
@@ -58,7 +82,7 @@ public class JobPostingService {
     @Transactional(readOnly = true)
     public JobPostingResponse getJobPosting(Long id) {
         JobPosting jobPosting = getJobPostingById(id);
-        return JobPostingResponse.from(jobPosting);
+        return JobPostingResponse.from(jobPosting, userProfileCache.get(jobPosting.getAuthor().getId()));
     }
 
     /**
@@ -68,7 +92,8 @@ public class JobPostingService {
     public Page<JobPostingResponse> getActiveJobPostings(Pageable pageable) {
         Page<JobPosting> jobPostings = jobPostingRepository.findByStatusOrderByCreatedAtDesc(
                 JobPosting.JobStatus.ACTIVE, pageable);
-        return jobPostings.map(JobPostingResponse::from);
+        Map<Long, UserProfile> authors = findAuthors(jobPostings.getContent());
+        return jobPostings.map(jp -> JobPostingResponse.from(jp, authors.get(jp.getAuthor().getId())));
     }
 
     /**
@@ -88,9 +113,7 @@ public class JobPostingService {
                 LocalDate.now()
         );
         
-        return jobPostings.stream()
-                .map(JobPostingResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(jobPostings);
     }
 
     /**
@@ -135,9 +158,7 @@ public class JobPostingService {
             );
         }
         
-        return jobPostings.stream()
-                .map(JobPostingResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(jobPostings);
     }
 
     /**
@@ -147,15 +168,14 @@ public class JobPostingService {
     public List<JobPostingMarkerResponse> getJobPostingMarkersByRegion(String region, String district) {
         String addressFilter = buildAddressFilter(region, district);
         
-        List<JobPosting> jobPostings;
+        List<JobPostingMarkerView> markers;
         if (addressFilter != null) {
-            jobPostings = jobPostingRepository.findByAddressContainingAndStatusOrderByCreatedAtDesc(
-                    addressFilter, JobPosting.JobStatus.ACTIVE);
+            markers = jobPostingRepository.findMarkersByAddress(addressFilter, JobPosting.JobStatus.ACTIVE);
         } else {
-            jobPostings = jobPostingRepository.findAllForMap(JobPosting.JobStatus.ACTIVE);
+            markers = jobPostingRepository.findAllForMap(JobPosting.JobStatus.ACTIVE);
         }
         
-        return jobPostings.stream()
+        return markers.stream()
                 .map(JobPostingMarkerResponse::from)
                 .collect(Collectors.toList());
     }
@@ -210,13 +230,43 @@ public class JobPostingService {
     }
 
     /**
-     * 지도 마커용 데이터 조회
+     * 지도 마커 전체 목록 (직렬화된 스냅샷, 변경이 없으면 같은 ETag)
      */
     @Transactional(readOnly = true)
-    public List<JobPostingMarkerResponse> getJobPostingMarkers() {
-        List<JobPosting> jobPostings = jobPostingRepository.findAllForMap(JobPosting.JobStatus.ACTIVE);
-        return jobPostings.stream()
-                .map(JobPostingMarkerResponse::from)
+    public MarkerSnapshotCache.Snapshot getJobPostingMarkerSnapshot() {
+        return markerSnapshot.snapshot();
+    }
+
+    /**
+     * sinceVersion 이후 추가/변경/삭제된 지도 마커
+     */
+    @Transactional(readOnly = true)
+    public MarkerDeltaResponse<JobPostingMarkerResponse> getJobPostingMarkerChanges(long sinceVersion) {
+        return markerSnapshot.changesSince(sinceVersion);
+    }
+
+    /**
+     * 줌 레벨별 지도 마커 클러스터 조회
+     *
+     * @param bounds 화면 영역 (null이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public List<MarkerClusterResponse> getJobPostingMarkerClusters(int zoom, MarkerClusterIndex.Bounds bounds) {
+        List<MarkerClusterIndex.Cluster> clusters;
+        if (spatialIndex.isReady()) {
+            clusters = spatialIndex.clusters(zoom, bounds);
+        } else {
+            // 색인을 만드는 중이면 DB에서 읽어 이번 요청에서만 묶음
+            MarkerClusterIndex index = new MarkerClusterIndex();
+            for (JobPostingMarkerView marker : jobPostingRepository.findAllForMap(JobPosting.JobStatus.ACTIVE)) {
+                if (marker.latitude() != null && marker.longitude() != null) {
+                    index.put(marker.id(), marker.latitude().doubleValue(), marker.longitude().doubleValue());
+                }
+            }
+            clusters = index.clusters(zoom, bounds);
+        }
+        return clusters.stream()
+                .map(MarkerClusterResponse::from)
                 .collect(Collectors.toList());
     }
 
@@ -227,9 +277,7 @@ public class JobPostingService {
     public List<JobPostingResponse> getJobPostingsByUser(String userEmail) {
         User user = getUserByEmail(userEmail);
         List<JobPosting> jobPostings = jobPostingRepository.findByAuthorOrderByCreatedAtDesc(user);
-        return jobPostings.stream()
-                .map(JobPostingResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(jobPostings);
     }
 
     /**
@@ -246,6 +294,7 @@ public class JobPostingService {
         updateJobPostingFields(jobPosting, request);
 
         JobPosting updatedJobPosting = jobPostingRepository.save(jobPosting);
+        eventPublisher.publishEvent(JobPostingChangedEvent.of(updatedJobPosting));
         return JobPostingResponse.from(updatedJobPosting);
     }
 
@@ -260,6 +309,7 @@ public class JobPostingService {
         validateAuthor(jobPosting, currentUser);
 
         jobPostingRepository.delete(jobPosting);
+        eventPublisher.publishEvent(JobPostingChangedEvent.deleted(id));
     }
 
     /**
@@ -274,11 +324,28 @@ public class JobPostingService {
 
         jobPosting.setStatus(status);
         JobPosting updatedJobPosting = jobPostingRepository.save(jobPosting);
+        eventPublisher.publishEvent(JobPostingChangedEvent.of(updatedJobPosting));
         return JobPostingResponse.from(updatedJobPosting);
     }
 
     // === Private Helper Methods ===
 
+    /**
+     * 작성자 정보는 공고마다 지연 로딩하지 않고 프로필 캐시에서 한 번에 조회
+     */
+    private List<JobPostingResponse> toResponses(List<JobPosting> jobPostings) {
+        Map<Long, UserProfile> authors = findAuthors(jobPostings);
+        return jobPostings.stream()
+                .map(jp -> JobPostingResponse.from(jp, authors.get(jp.getAuthor().getId())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, UserProfile> findAuthors(List<JobPosting> jobPostings) {
+        return userProfileCache.getAll(jobPostings.stream()
+                .map(jp -> jp.getAuthor().getId())
+                .collect(Collectors.toSet()));
+    }
+
     private JobPosting getJobPostingById(Long id) {
         return jobPostingRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("일손 모집 공고를 찾을 수 없습니다. ID: " + id));
@@ -315,19 +382,27 @@ public class JobPostingService {
 
     /**
      * 지도 영역(bounds) 내 일손 모집 공고 조회
+     *
+     * 최신 작성순 조회는 공간 색인에서 페이지의 ID만 골라 해당 공고만 DB에서 조회합니다.
+     * 다른 정렬이거나 색인이 준비되지 않았으면 DB에서 페이징 조회합니다.
      */
     @Transactional(readOnly = true)
     public List<JobPostingResponse> getJobPostingsByBounds(
             double minLat, double maxLat, double minLng, double maxLng, Pageable pageable) {
-        
+
+        if (spatialIndex.isReady() && pageable.isPaged() && isNewestFirst(pageable.getSort())) {
+            SpatialGridIndex.Result hits = spatialIndex.search(
+                    minLat, maxLat, minLng, maxLng, (int) pageable.getOffset(), pageable.getPageSize());
+            return toResponses(findActiveInOrder(hits.ids()));
+        }
+
         List<JobPosting> jobPostings = jobPostingRepository.findByBounds(
                 JobPosting.JobStatus.ACTIVE,
-                minLat, maxLat, minLng, maxLng
-        );
-        
-        return jobPostings.stream()
-                .map(JobPostingResponse::from)
-                .collect(Collectors.toList());
+                minLat, maxLat, minLng, maxLng,
+                pageable
+        ).getContent();
+
+        return toResponses(jobPostings);
     }
 
     /**
@@ -344,25 +419,67 @@ public class JobPostingService {
                 cropType, workType, address
         );
         
-        return jobPostings.stream()
-                .map(JobPostingResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(jobPostings);
     }
 
     /**
-     * 지도 영역(bounds) 내 마커용 데이터 조회
+     * 지도 영역(bounds) 내 마커용 데이터 조회 (최신 작성순 최대 limit건)
      */
     @Transactional(readOnly = true)
     public List<JobPostingMarkerResponse> getJobPostingMarkersByBounds(
-            double minLat, double maxLat, double minLng, double maxLng) {
-        
-        List<JobPosting> jobPostings = jobPostingRepository.findByBounds(
-                JobPosting.JobStatus.ACTIVE,
-                minLat, maxLat, minLng, maxLng
-        );
-        
-        return jobPostings.stream()
+            double minLat, double maxLat, double minLng, double maxLng, int limit) {
+
+        int size = Math.max(1, Math.min(limit, MAX_BOUNDS_MARKERS));
+        List<JobPostingMarkerView> markers;
+        if (spatialIndex.isReady()) {
+            SpatialGridIndex.Result hits = spatialIndex.search(minLat, maxLat, minLng, maxLng, 0, size);
+            markers = findActiveMarkersInOrder(hits.ids());
+        } else {
+            markers = jobPostingRepository.findMarkersByBounds(
+                    JobPosting.JobStatus.ACTIVE,
+                    minLat, maxLat, minLng, maxLng,
+                    PageRequest.of(0, size)
+            );
+        }
+
+        return markers.stream()
                 .map(JobPostingMarkerResponse::from)
                 .collect(Collectors.toList());
     }
+
+    private static boolean isNewestFirst(Sort sort) {
+        return sort.isUnsorted() || sort.equals(NEWEST_FIRST);
+    }
+
+    /**
+     * 색인에서 고른 ID 순서대로 공고 조회 (색인 반영 전에 마감·삭제된 공고는 제외)
+     */
+    private List<JobPosting> findActiveInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobPosting> byId = jobPostingRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(JobPosting::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .filter(jp -> jp.getStatus() == JobPosting.JobStatus.ACTIVE)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 색인에서 고른 ID 순서대로 마커 컬럼만 조회 (색인 반영 전에 마감·삭제된 공고는 제외)
+     */
+    private List<JobPostingMarkerView> findActiveMarkersInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobPostingMarkerView> byId = jobPostingRepository.findMarkersByIdIn(ids).stream()
+                .collect(Collectors.toMap(JobPostingMarkerView::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .filter(marker -> marker.status() == JobPosting.JobStatus.ACTIVE)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,39 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandMarkerResponse;
+import com.jeju_nongdi.jeju_nongdi.entity.IdleFarmland;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유휴 농지의 지도 노출 정보가 바뀌었음을 알리는 이벤트 (커밋 후 지도 색인과 마커 스냅샷 갱신에 사용)
+ *
+ * @param farmlandId 농지 ID
+ * @param latitude 위도 (좌표가 없으면 null)
+ * @param longitude 경도 (좌표가 없으면 null)
+ * @param createdAt 등록 시각
+ * @param available 지도에 노출되는 이용가능 상태인지 여부 (삭제된 농지는 false)
+ * @param marker 변경 후 마커 (노출되지 않으면 null)
+ */
+public record IdleFarmlandChangedEvent(Long farmlandId,
+                                       Double latitude,
+                                       Double longitude,
+                                       LocalDateTime createdAt,
+                                       boolean available,
+                                       IdleFarmlandMarkerResponse marker) {
+
+    public static IdleFarmlandChangedEvent of(IdleFarmland farmland) {
+        boolean available = farmland.getStatus() == IdleFarmland.FarmlandStatus.AVAILABLE;
+        return new IdleFarmlandChangedEvent(
+                farmland.getId(),
+                farmland.getLatitude() == null ? null : farmland.getLatitude().doubleValue(),
+                farmland.getLongitude() == null ? null : farmland.getLongitude().doubleValue(),
+                farmland.getCreatedAt(),
+                available,
+                available ? IdleFarmlandMarkerResponse.from(farmland) : null);
+    }
+
+    public static IdleFarmlandChangedEvent deleted(Long farmlandId) {
+        return new IdleFarmlandChangedEvent(farmlandId, null, null, null, false, null);
+    }
+}
@@ -0,0 +1,46 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandMarkerResponse;
+import com.jeju_nongdi.jeju_nongdi.repository.IdleFarmlandRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 이용가능한 유휴 농지의 지도 마커 스냅샷 (/api/idle-farmlands/markers)
+ *
+ * 농지 변경은 IdleFarmlandService가 발행하는 IdleFarmlandChangedEvent로 반영됩니다.
+ */
+@Component
+public class IdleFarmlandMarkerSnapshot extends MarkerSnapshotCache<IdleFarmlandMarkerResponse> {
+
+    private final IdleFarmlandRepository idleFarmlandRepository;
+
+    public IdleFarmlandMarkerSnapshot(IdleFarmlandRepository idleFarmlandRepository,
+                                      ObjectMapper objectMapper,
+                                      @Value("${idle-farmland.marker-snapshot.enabled:true}") boolean enabled) {
+        super("유휴 농지", objectMapper, enabled);
+        this.idleFarmlandRepository = idleFarmlandRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIdleFarmlandChanged(IdleFarmlandChangedEvent event) {
+        apply(event.farmlandId(), event.marker());
+    }
+
+    @Override
+    protected List<IdleFarmlandMarkerResponse> loadAll() {
+        return idleFarmlandRepository.findAllAvailableForMap().stream()
+                .map(IdleFarmlandMarkerResponse::from)
+                .toList();
+    }
+
+    @Override
+    protected Long idOf(IdleFarmlandMarkerResponse marker) {
+        return marker.getId();
+    }
+}
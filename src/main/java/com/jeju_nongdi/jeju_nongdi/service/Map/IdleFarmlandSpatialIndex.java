@@ -0,0 +1,35 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이용가능한 유휴 농지의 지도 색인
+ *
+ * 농지 변경은 IdleFarmlandService가 발행하는 IdleFarmlandChangedEvent로 반영됩니다.
+ */
+@Component
+public class IdleFarmlandSpatialIndex extends MapMarkerIndex {
+
+    private static final String LOAD_SQL = """
+            SELECT id, latitude, longitude, created_at FROM idle_farmlands
+            WHERE status = 'AVAILABLE' AND latitude IS NOT NULL AND longitude IS NOT NULL
+            """;
+
+    public IdleFarmlandSpatialIndex(JdbcTemplate jdbcTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${idle-farmland.spatial-index.enabled:true}") boolean enabled,
+                                    @Value("${idle-farmland.spatial-index.cell-size-degrees:0.01}") double cellSize) {
+        super("유휴 농지", LOAD_SQL, "idle.farmland.spatial.index.size",
+                jdbcTemplate, meterRegistry, enabled, cellSize);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIdleFarmlandChanged(IdleFarmlandChangedEvent event) {
+        apply(event.farmlandId(), event.latitude(), event.longitude(), event.createdAt(), event.available());
+    }
+}
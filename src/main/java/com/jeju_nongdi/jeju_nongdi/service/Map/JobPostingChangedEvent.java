@@ -0,0 +1,39 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerResponse;
+import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일손 모집 공고의 지도 노출 정보가 바뀌었음을 알리는 이벤트 (커밋 후 지도 색인과 마커 스냅샷 갱신에 사용)
+ *
+ * @param jobPostingId 공고 ID
+ * @param latitude 위도 (좌표가 없으면 null)
+ * @param longitude 경도 (좌표가 없으면 null)
+ * @param createdAt 작성 시각 (목록 정렬 기준)
+ * @param active 지도에 노출되는 모집중 상태인지 여부 (삭제된 공고는 false)
+ * @param marker 변경 후 마커 (노출되지 않으면 null)
+ */
+public record JobPostingChangedEvent(Long jobPostingId,
+                                     Double latitude,
+                                     Double longitude,
+                                     LocalDateTime createdAt,
+                                     boolean active,
+                                     JobPostingMarkerResponse marker) {
+
+    public static JobPostingChangedEvent of(JobPosting jobPosting) {
+        boolean active = jobPosting.getStatus() == JobPosting.JobStatus.ACTIVE;
+        return new JobPostingChangedEvent(
+                jobPosting.getId(),
+                jobPosting.getLatitude() == null ? null : jobPosting.getLatitude().doubleValue(),
+                jobPosting.getLongitude() == null ? null : jobPosting.getLongitude().doubleValue(),
+                jobPosting.getCreatedAt(),
+                active,
+                active ? JobPostingMarkerResponse.from(jobPosting) : null);
+    }
+
+    public static JobPostingChangedEvent deleted(Long jobPostingId) {
+        return new JobPostingChangedEvent(jobPostingId, null, null, null, false, null);
+    }
+}
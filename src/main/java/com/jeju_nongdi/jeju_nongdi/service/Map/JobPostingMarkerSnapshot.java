@@ -0,0 +1,47 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerResponse;
+import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
+import com.jeju_nongdi.jeju_nongdi.repository.JobPostingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 모집중인 일손 모집 공고의 지도 마커 스냅샷 (/api/job-postings/markers)
+ *
+ * 공고 변경은 JobPostingService가 발행하는 JobPostingChangedEvent로 반영됩니다.
+ */
+@Component
+public class JobPostingMarkerSnapshot extends MarkerSnapshotCache<JobPostingMarkerResponse> {
+
+    private final JobPostingRepository jobPostingRepository;
+
+    public JobPostingMarkerSnapshot(JobPostingRepository jobPostingRepository,
+                                    ObjectMapper objectMapper,
+                                    @Value("${job-posting.marker-snapshot.enabled:true}") boolean enabled) {
+        super("일손 모집 공고", objectMapper, enabled);
+        this.jobPostingRepository = jobPostingRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobPostingChanged(JobPostingChangedEvent event) {
+        apply(event.jobPostingId(), event.marker());
+    }
+
+    @Override
+    protected List<JobPostingMarkerResponse> loadAll() {
+        return jobPostingRepository.findAllForMap(JobPosting.JobStatus.ACTIVE).stream()
+                .map(JobPostingMarkerResponse::from)
+                .toList();
+    }
+
+    @Override
+    protected Long idOf(JobPostingMarkerResponse marker) {
+        return marker.getId();
+    }
+}
@@ -0,0 +1,36 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 모집중인 일손 모집 공고의 지도 색인
+ *
+ * 영역 조회는 색인에서 표시할 페이지의 ID만 골라내고, DB는 그 ID의 공고만 조회합니다.
+ * 공고 변경은 JobPostingService가 발행하는 JobPostingChangedEvent로 반영됩니다.
+ */
+@Component
+public class JobPostingSpatialIndex extends MapMarkerIndex {
+
+    private static final String LOAD_SQL = """
+            SELECT id, latitude, longitude, created_at FROM job_postings
+            WHERE status = 'ACTIVE' AND latitude IS NOT NULL AND longitude IS NOT NULL
+            """;
+
+    public JobPostingSpatialIndex(JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${job-posting.spatial-index.enabled:true}") boolean enabled,
+                                  @Value("${job-posting.spatial-index.cell-size-degrees:0.01}") double cellSize) {
+        super("일손 모집 공고", LOAD_SQL, "job.posting.spatial.index.size",
+                jdbcTemplate, meterRegistry, enabled, cellSize);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobPostingChanged(JobPostingChangedEvent event) {
+        apply(event.jobPostingId(), event.latitude(), event.longitude(), event.createdAt(), event.active());
+    }
+}
@@ -0,0 +1,162 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 지도에 노출되는 항목의 메모리 색인 (영역 조회용 격자 색인 + 줌 레벨별 클러스터)
+ *
+ * 시작 시 노출 대상의 좌표와 작성 시각만 읽어 색인을 만들고, 이후에는 서비스가 발행하는 변경 이벤트를 커밋 후 반영합니다.
+ * 색인을 만드는 중에 들어온 변경은 그대로 반영하고, 해당 항목은 적재 결과로 덮어쓰지 않습니다.
+ * 항목 변경은 반드시 서비스를 거쳐야 색인에 반영됩니다. 메모리에만 있으므로 노드마다 시작 시 다시 만듭니다.
+ */
+@Slf4j
+public abstract class MapMarkerIndex {
+
+    private final String name;
+    private final String loadSql;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final SpatialGridIndex grid;
+    private final MarkerClusterIndex clusters = new MarkerClusterIndex();
+
+    private final Set<Long> changedDuringLoad = new HashSet<>();
+    private boolean loading;
+    private volatile boolean ready;
+
+    /**
+     * @param name 로그에 표시할 이름
+     * @param loadSql 노출 대상의 id, latitude, longitude, created_at 을 조회하는 SQL
+     * @param metricName 색인 항목 수 게이지 이름
+     */
+    protected MapMarkerIndex(String name, String loadSql, String metricName,
+                             JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                             boolean enabled, double cellSize) {
+        this.name = name;
+        this.loadSql = loadSql;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.grid = new SpatialGridIndex(cellSize);
+
+        Gauge.builder(metricName, grid, SpatialGridIndex::size)
+                .description(name + " 색인 항목 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB의 노출 대상으로 색인을 다시 만듦 (만드는 동안 조회는 DB로 처리)
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (this) {
+            ready = false;
+            loading = true;
+            changedDuringLoad.clear();
+            grid.clear();
+            clusters.clear();
+        }
+        try {
+            jdbcTemplate.query(loadSql, (RowCallbackHandler) rs -> {
+                long id = rs.getLong("id");
+                double latitude = rs.getDouble("latitude");
+                double longitude = rs.getDouble("longitude");
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                long sortKey = createdAt == null ? 0L : createdAt.getTime();
+                synchronized (this) {
+                    // 적재 중 변경된 항목은 이벤트로 반영된 상태가 더 최신
+                    if (!changedDuringLoad.contains(id)) {
+                        grid.put(id, latitude, longitude, sortKey);
+                        clusters.put(id, latitude, longitude);
+                    }
+                }
+            });
+            ready = true;
+            log.info("{} 색인 생성 완료: {}건, {}ms", name, grid.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("{} 색인 생성 실패, 지도 조회는 DB로 처리합니다: {}", name, e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                loading = false;
+                changedDuringLoad.clear();
+            }
+        }
+    }
+
+    /**
+     * 색인 조회 가능 여부 (비활성화되었거나 만드는 중이면 false)
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 영역 안의 항목 조회 (최신 작성순)
+     */
+    public SpatialGridIndex.Result search(double minLat, double maxLat, double minLng, double maxLng,
+                                          int offset, int limit) {
+        return grid.search(minLat, maxLat, minLng, maxLng, offset, limit);
+    }
+
+    /**
+     * 줌 레벨의 클러스터 조회
+     * MAX_CLUSTER_ZOOM보다 큰 줌에서는 격자 색인에서 영역 안의 마커만 골라 개별 마커로 반환합니다.
+     *
+     * @param bounds 화면 영역 (null이면 전체, MAX_UNBOUNDED_ZOOM보다 큰 줌에서는 필수)
+     */
+    public List<MarkerClusterIndex.Cluster> clusters(int zoom, MarkerClusterIndex.Bounds bounds) {
+        MarkerClusterIndex.validate(zoom, bounds);
+        if (zoom <= MarkerClusterIndex.MAX_CLUSTER_ZOOM) {
+            return clusters.clusters(zoom, bounds);
+        }
+        return grid.points(bounds.minLat(), bounds.maxLat(), bounds.minLng(), bounds.maxLng()).stream()
+                .map(point -> new MarkerClusterIndex.Cluster(point.id(), point.latitude(), point.longitude(), 1))
+                .toList();
+    }
+
+    public int size() {
+        return grid.size();
+    }
+
+    /**
+     * 커밋된 변경 반영
+     *
+     * @param visible 지도에 노출되는 상태인지 여부 (삭제되었거나 좌표가 없으면 false)
+     */
+    protected void apply(Long id, Double latitude, Double longitude, LocalDateTime createdAt, boolean visible) {
+        synchronized (this) {
+            if (loading) {
+                changedDuringLoad.add(id);
+            }
+            if (visible && latitude != null && longitude != null) {
+                grid.put(id, latitude, longitude, sortKey(createdAt));
+                clusters.put(id, latitude, longitude);
+            } else {
+                grid.remove(id);
+                clusters.remove(id);
+            }
+        }
+    }
+
+    private static long sortKey(LocalDateTime createdAt) {
+        return createdAt == null ? 0L : createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,289 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 줌 레벨별 지도 마커 클러스터 (격자 집계)
+ *
+ * 줌 레벨마다 화면 기준 약 CLUSTER_SIZE_PX 픽셀 크기의 격자 칸으로 좌표를 모으고, 칸별 개수와 좌표 합을 미리 계산해 둡니다.
+ * 줌이 한 단계 오를 때마다 칸 크기가 절반이 되어 칸이 상위 칸 안에 정확히 나뉘므로 레벨 간 계층이 유지되며,
+ * 마커가 추가·이동·삭제되면 모든 레벨의 해당 칸만 갱신합니다 (레벨 수만큼의 O(1) 갱신).
+ * 조회 결과는 화면에 걸친 칸 수로 제한되므로 낮은 줌에서는 전체 마커 수와 관계없이 크기가 일정합니다.
+ *
+ * 칸 크기는 위도/경도 모두 같은 각도라 메르카토르 지도에서는 위도가 높을수록 세로로 약간 길어집니다 (제주 기준 약 1.2배).
+ * MAX_CLUSTER_ZOOM보다 큰 줌에서는 묶지 않고 영역 안의 개별 마커를 반환합니다.
+ * (MapMarkerIndex는 이 경우 격자 색인(SpatialGridIndex)으로 영역 안의 마커만 조회합니다.)
+ * 칸이 작아질수록 전체 영역의 칸 수는 마커 수에 가까워지므로, MAX_UNBOUNDED_ZOOM보다 큰 줌에서는 영역이 반드시 필요합니다.
+ * (MAX_UNBOUNDED_ZOOM의 칸은 약 0.08°라 제주도 전체가 수백 칸 이내입니다.)
+ */
+public class MarkerClusterIndex {
+
+    public static final int MAX_UNBOUNDED_ZOOM = 10;
+    public static final int MAX_CLUSTER_ZOOM = 16;
+    public static final int MAX_ZOOM = 21;
+    private static final double CLUSTER_SIZE_PX = 60;
+    private static final double TILE_SIZE_PX = 256;
+
+    private final Level[] levels = new Level[MAX_CLUSTER_ZOOM + 1];
+    private final Map<Long, double[]> points = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MarkerClusterIndex() {
+        for (int zoom = 0; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+            levels[zoom] = new Level(CLUSTER_SIZE_PX * 360 / (TILE_SIZE_PX * (1L << zoom)));
+        }
+    }
+
+    /**
+     * 마커 추가 (같은 ID가 있으면 위치를 갱신)
+     */
+    public void put(long id, double latitude, double longitude) {
+        lock.writeLock().lock();
+        try {
+            double[] previous = points.put(id, new double[]{latitude, longitude});
+            for (Level level : levels) {
+                if (previous != null) {
+                    level.remove(id, previous[0], previous[1]);
+                }
+                level.add(id, latitude, longitude);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 마커 삭제
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            double[] previous = points.remove(id);
+            if (previous != null) {
+                for (Level level : levels) {
+                    level.remove(id, previous[0], previous[1]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            for (Level level : levels) {
+                level.cells.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 줌 레벨의 클러스터 조회
+     *
+     * @param zoom 지도 줌 레벨 (0~MAX_ZOOM)
+     * @param bounds 화면 영역 (null이면 전체, MAX_UNBOUNDED_ZOOM보다 큰 줌에서는 필수), 영역에 걸친 칸의 클러스터를 모두 포함
+     * @return 클러스터 목록 (마커가 하나인 칸은 해당 마커 ID를 포함)
+     */
+    public List<Cluster> clusters(int zoom, Bounds bounds) {
+        validate(zoom, bounds);
+        lock.readLock().lock();
+        try {
+            if (zoom > MAX_CLUSTER_ZOOM) {
+                return singles(bounds);
+            }
+            List<Cluster> clusters = levels[zoom].clusters(bounds);
+            // 추가·삭제가 반복된 칸의 좌표 합에는 오차가 남을 수 있어 마커 하나짜리는 원래 좌표로 반환
+            clusters.replaceAll(cluster -> {
+                if (cluster.count() != 1) {
+                    return cluster;
+                }
+                double[] point = points.get(cluster.id());
+                return new Cluster(cluster.id(), point[0], point[1], 1);
+            });
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조회 조건 확인
+     *
+     * @throws IllegalArgumentException 지원하지 않는 줌 레벨이거나, MAX_UNBOUNDED_ZOOM보다 큰 줌에서 영역이 없는 경우
+     */
+    static void validate(int zoom, Bounds bounds) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("줌 레벨은 0~" + MAX_ZOOM + " 사이여야 합니다: " + zoom);
+        }
+        if (zoom > MAX_UNBOUNDED_ZOOM && bounds == null) {
+            throw new IllegalArgumentException("줌 레벨이 " + MAX_UNBOUNDED_ZOOM + "보다 크면 영역을 지정해야 합니다.");
+        }
+    }
+
+    private List<Cluster> singles(Bounds bounds) {
+        List<Cluster> result = new ArrayList<>();
+        for (Map.Entry<Long, double[]> entry : points.entrySet()) {
+            double[] point = entry.getValue();
+            if (bounds.contains(point[0], point[1])) {
+                result.add(new Cluster(entry.getKey(), point[0], point[1], 1));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 클러스터
+     *
+     * @param id 마커가 하나일 때 해당 마커 ID (여러 개면 null)
+     * @param latitude 칸 안 마커들의 평균 위도
+     * @param longitude 칸 안 마커들의 평균 경도
+     * @param count 마커 수
+     */
+    public record Cluster(Long id, double latitude, double longitude, int count) {
+    }
+
+    /**
+     * 화면 영역 (경계 포함)
+     */
+    public record Bounds(double minLat, double maxLat, double minLng, double maxLng) {
+
+        /**
+         * 요청 파라미터로 영역 생성
+         *
+         * @return 네 값이 모두 없으면 null (전체 영역)
+         * @throws IllegalArgumentException 일부만 주어졌거나 최소값이 최대값보다 크거나 같은 경우
+         */
+        public static Bounds of(Double minLat, Double maxLat, Double minLng, Double maxLng) {
+            if (minLat == null && maxLat == null && minLng == null && maxLng == null) {
+                return null;
+            }
+            if (minLat == null || maxLat == null || minLng == null || maxLng == null) {
+                throw new IllegalArgumentException("영역은 minLat, maxLat, minLng, maxLng 를 모두 지정해야 합니다.");
+            }
+            if (minLat >= maxLat || minLng >= maxLng) {
+                throw new IllegalArgumentException("잘못된 좌표 범위입니다. 최소값은 최대값보다 작아야 합니다.");
+            }
+            return new Bounds(minLat, maxLat, minLng, maxLng);
+        }
+
+        boolean contains(double latitude, double longitude) {
+            return latitude >= minLat && latitude <= maxLat && longitude >= minLng && longitude <= maxLng;
+        }
+    }
+
+    private static final class Level {
+
+        private final double cellSize;
+        private final long columns;
+        private final Map<Long, Aggregate> cells = new HashMap<>();
+
+        Level(double cellSize) {
+            this.cellSize = cellSize;
+            this.columns = (long) Math.ceil(360 / cellSize) + 1;
+        }
+
+        void add(long id, double latitude, double longitude) {
+            cells.computeIfAbsent(cellKey(latitude, longitude), key -> new Aggregate()).add(id, latitude, longitude);
+        }
+
+        void remove(long id, double latitude, double longitude) {
+            long key = cellKey(latitude, longitude);
+            Aggregate aggregate = cells.get(key);
+            if (aggregate != null && aggregate.remove(id, latitude, longitude) == 0) {
+                cells.remove(key);
+            }
+        }
+
+        List<Cluster> clusters(Bounds bounds) {
+            List<Cluster> result = new ArrayList<>();
+            if (bounds == null) {
+                cells.values().forEach(aggregate -> result.add(aggregate.toCluster()));
+                return result;
+            }
+            long minRow = row(bounds.minLat());
+            long maxRow = row(bounds.maxLat());
+            long minColumn = column(bounds.minLng());
+            long maxColumn = column(bounds.maxLng());
+            long span = (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+            if (span <= cells.size()) {
+                for (long r = minRow; r <= maxRow; r++) {
+                    for (long c = minColumn; c <= maxColumn; c++) {
+                        Aggregate aggregate = cells.get(r * columns + c);
+                        if (aggregate != null) {
+                            result.add(aggregate.toCluster());
+                        }
+                    }
+                }
+            } else {
+                for (Map.Entry<Long, Aggregate> entry : cells.entrySet()) {
+                    long r = entry.getKey() / columns;
+                    long c = entry.getKey() % columns;
+                    if (r >= minRow && r <= maxRow && c >= minColumn && c <= maxColumn) {
+                        result.add(entry.getValue().toCluster());
+                    }
+                }
+            }
+            return result;
+        }
+
+        private long cellKey(double latitude, double longitude) {
+            return row(latitude) * columns + column(longitude);
+        }
+
+        private long row(double latitude) {
+            return (long) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / cellSize);
+        }
+
+        private long column(double longitude) {
+            return (long) Math.floor((Math.max(-180, Math.min(180, longitude)) + 180) / cellSize);
+        }
+    }
+
+    /**
+     * 칸 집계 (ID는 XOR로 누적해 마커가 하나 남았을 때 그 ID가 됨)
+     */
+    private static final class Aggregate {
+
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private long idXor;
+
+        void add(long id, double latitude, double longitude) {
+            count++;
+            latitudeSum += latitude;
+            longitudeSum += longitude;
+            idXor ^= id;
+        }
+
+        int remove(long id, double latitude, double longitude) {
+            count--;
+            latitudeSum -= latitude;
+            longitudeSum -= longitude;
+            idXor ^= id;
+            return count;
+        }
+
+        Cluster toCluster() {
+            return new Cluster(count == 1 ? idXor : null, latitudeSum / count, longitudeSum / count, count);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.dto.MarkerDeltaResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 지도 마커 전체 목록의 버전 관리 스냅샷 (메모리)
+ *
+ * 시작 시 노출 대상 마커를 모두 읽어 두고, 이후에는 서비스가 발행하는 변경 이벤트를 커밋 후 반영하며 버전을 하나씩 올립니다.
+ * 전체 목록 JSON은 버전이 바뀐 뒤 첫 요청에서 한 번만 직렬화해 바이트 배열로 공유하고, 내용의 MD5를 강한 ETag로 사용합니다.
+ * 최근 MAX_CHANGES건의 변경 내역을 보관해 클라이언트가 가진 버전 이후의 추가/변경/삭제만 돌려줄 수 있습니다.
+ *
+ * 버전은 색인을 만들 때의 시각(ms)에서 시작하므로 재시작 전의 버전은 항상 더 작아 전체 재조회로 처리됩니다.
+ * 버전은 노드마다 따로 매겨지므로 여러 노드 사이에서는 전체 재조회가 생길 수 있습니다 (ETag는 내용 기준이라 노드와 무관).
+ */
+@Slf4j
+public abstract class MarkerSnapshotCache<T> {
+
+    /**
+     * 스냅샷 응답의 마커 버전 헤더
+     */
+    public static final String VERSION_HEADER = "X-Marker-Version";
+
+    private static final int MAX_CHANGES = 10_000;
+
+    private final String name;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    private final Map<Long, T> markers = new TreeMap<>();
+    private final ArrayDeque<Change> changes = new ArrayDeque<>();
+    private final Set<Long> changedDuringLoad = new HashSet<>();
+    private long baseVersion;
+    private long version;
+    private Snapshot snapshot;
+    private boolean loading;
+    private volatile boolean ready;
+
+    protected MarkerSnapshotCache(String name, ObjectMapper objectMapper, boolean enabled) {
+        this.name = name;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * DB에서 노출 대상 마커 전체 조회
+     */
+    protected abstract List<T> loadAll();
+
+    protected abstract Long idOf(T marker);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB의 노출 대상으로 스냅샷을 다시 만듦 (이전 버전 기준의 변경 요청은 전체 재조회로 처리)
+     */
+    public void rebuild() {
+        synchronized (this) {
+            ready = false;
+            loading = true;
+            changedDuringLoad.clear();
+            markers.clear();
+        }
+        try {
+            List<T> loaded = loadAll();
+            synchronized (this) {
+                for (T marker : loaded) {
+                    Long id = idOf(marker);
+                    // 적재 중 변경된 마커는 이벤트로 반영된 상태가 더 최신
+                    if (!changedDuringLoad.contains(id)) {
+                        markers.put(id, marker);
+                    }
+                }
+                version = Math.max(version + 1, System.currentTimeMillis());
+                baseVersion = version;
+                changes.clear();
+                snapshot = null;
+                ready = true;
+            }
+            log.info("{} 마커 스냅샷 생성 완료: {}건, version={}", name, loaded.size(), version);
+        } catch (Exception e) {
+            log.error("{} 마커 스냅샷 생성 실패, 마커 조회는 DB로 처리합니다: {}", name, e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                loading = false;
+                changedDuringLoad.clear();
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 현재 버전의 전체 마커 목록 (직렬화된 JSON 배열)
+     * 스냅샷이 준비되지 않았으면 DB에서 읽어 이번 요청에서만 직렬화합니다 (version 0).
+     */
+    public Snapshot snapshot() {
+        if (!isReady()) {
+            return Snapshot.of(0L, serialize(loadAll()));
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = Snapshot.of(version, serialize(markers.values()));
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * sinceVersion 이후의 변경 내역
+     *
+     * @param sinceVersion 클라이언트가 가진 마커 버전
+     * @return 추가/변경된 마커와 삭제된 마커 ID, 내역이 남아 있지 않거나 다른 버전 체계면 fullRefetch
+     */
+    public MarkerDeltaResponse<T> changesSince(long sinceVersion) {
+        if (!isReady()) {
+            return MarkerDeltaResponse.fullRefetch(0L);
+        }
+        synchronized (this) {
+            if (sinceVersion < baseVersion || sinceVersion > version) {
+                return MarkerDeltaResponse.fullRefetch(version);
+            }
+
+            // 마커별 sinceVersion 시점의 존재 여부는 그 이후 첫 변경에 기록되어 있음
+            Map<Long, Boolean> existedAtSince = new LinkedHashMap<>();
+            for (Change change : changes) {
+                if (change.version() > sinceVersion) {
+                    existedAtSince.putIfAbsent(change.markerId(), change.existedBefore());
+                }
+            }
+
+            List<T> added = new ArrayList<>();
+            List<T> changed = new ArrayList<>();
+            List<Long> removed = new ArrayList<>();
+            existedAtSince.forEach((id, existed) -> {
+                T current = markers.get(id);
+                if (current != null) {
+                    (existed ? changed : added).add(current);
+                } else if (existed) {
+                    removed.add(id);
+                }
+            });
+            return new MarkerDeltaResponse<>(version, false, added, changed, removed);
+        }
+    }
+
+    /**
+     * 커밋된 변경 반영
+     *
+     * @param marker 노출되는 마커 (더 이상 노출되지 않으면 null)
+     */
+    protected void apply(Long id, T marker) {
+        synchronized (this) {
+            if (loading) {
+                changedDuringLoad.add(id);
+            }
+            boolean existed = markers.containsKey(id);
+            if (marker != null) {
+                markers.put(id, marker);
+            } else if (existed) {
+                markers.remove(id);
+            } else {
+                return;
+            }
+            version++;
+            changes.addLast(new Change(version, id, existed));
+            if (changes.size() > MAX_CHANGES) {
+                baseVersion = changes.removeFirst().version();
+            }
+            snapshot = null;
+        }
+    }
+
+    private byte[] serialize(Collection<T> values) {
+        try {
+            return objectMapper.writeValueAsBytes(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(name + " 마커 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 직렬화된 마커 목록
+     *
+     * @param eTag 내용의 MD5 (따옴표 포함, 강한 ETag)
+     * @param version 마커 버전 (변경 내역 조회의 sinceVersion)
+     * @param body JSON 배열 (공유되므로 수정 금지)
+     */
+    public record Snapshot(String eTag, long version, byte[] body) {
+
+        static Snapshot of(long version, byte[] body) {
+            return new Snapshot("\"" + DigestUtils.md5DigestAsHex(body) + "\"", version, body);
+        }
+    }
+
+    private record Change(long version, Long markerId, boolean existedBefore) {
+    }
+}
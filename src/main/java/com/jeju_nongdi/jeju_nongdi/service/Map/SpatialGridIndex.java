@@ -0,0 +1,380 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 위도/경도 격자 공간 색인
+ *
+ * 좌표를 cellSize(도) 단위 격자 칸으로 나누고, 칸마다 ID·좌표·정렬 키를 기본형 배열로 보관합니다.
+ * 영역 조회는 영역에 걸친 칸만 확인하며, 영역 안에 완전히 들어간 칸은 좌표 비교 없이 모두 포함합니다.
+ * 결과는 정렬 키 내림차순(같으면 ID 내림차순)이며, 요청한 페이지까지만 힙으로 골라내므로 전체를 정렬하지 않습니다.
+ */
+public class SpatialGridIndex {
+
+    private final double cellSize;
+    private final long columns;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<Long, Long> cellKeys = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param cellSize 격자 한 칸의 크기 (도 단위, 0.01도는 제주 기준 약 1km)
+     */
+    public SpatialGridIndex(double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.columns = (long) Math.ceil(360 / cellSize) + 1;
+    }
+
+    /**
+     * 항목 추가 (같은 ID가 있으면 위치와 정렬 키를 갱신)
+     */
+    public void put(long id, double latitude, double longitude, long sortKey) {
+        long key = cellKey(row(latitude), column(longitude));
+        lock.writeLock().lock();
+        try {
+            Long previous = cellKeys.put(id, key);
+            if (previous != null) {
+                removeFromCell(previous, id);
+            }
+            cells.computeIfAbsent(key, k -> new Cell()).add(id, latitude, longitude, sortKey);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 항목 삭제
+     *
+     * @return 색인에 있던 항목인지 여부
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Long key = cellKeys.remove(id);
+            if (key == null) {
+                return false;
+            }
+            removeFromCell(key, id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cellKeys.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellKeys.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 영역 안의 항목 조회 (경계 포함)
+     *
+     * @param offset 건너뛸 항목 수
+     * @param limit 최대 항목 수 (0이면 개수만 셈)
+     * @return 정렬 키 내림차순 ID 목록과 영역 안의 전체 항목 수
+     */
+    public Result search(double minLat, double maxLat, double minLng, double maxLng, int offset, int limit) {
+        TopK top = new TopK((int) Math.min(Integer.MAX_VALUE, (long) offset + limit));
+        Bounds bounds = new Bounds(minLat, maxLat, minLng, maxLng);
+        int total;
+
+        lock.readLock().lock();
+        try {
+            total = visitCells(bounds, (cell, inner) -> cell.collect(bounds, inner, top));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new Result(top.descending(offset), total);
+    }
+
+    /**
+     * 영역 안의 항목 좌표 조회 (경계 포함, 순서 없음)
+     * 개별 마커를 그대로 보여주는 높은 줌에서 사용합니다.
+     */
+    public List<Point> points(double minLat, double maxLat, double minLng, double maxLng) {
+        Bounds bounds = new Bounds(minLat, maxLat, minLng, maxLng);
+        List<Point> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            visitCells(bounds, (cell, inner) -> cell.collect(bounds, inner, result));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 영역에 걸친 칸 순회 (읽기 잠금 안에서 호출)
+     *
+     * @return 방문한 칸에서 센 항목 수의 합
+     */
+    private int visitCells(Bounds bounds, CellVisitor visitor) {
+        long minRow = row(bounds.minLat());
+        long maxRow = row(bounds.maxLat());
+        long minColumn = column(bounds.minLng());
+        long maxColumn = column(bounds.maxLng());
+        int total = 0;
+
+        long span = (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+        if (span <= cells.size()) {
+            for (long r = minRow; r <= maxRow; r++) {
+                for (long c = minColumn; c <= maxColumn; c++) {
+                    Cell cell = cells.get(cellKey(r, c));
+                    if (cell != null) {
+                        boolean inner = r > minRow && r < maxRow && c > minColumn && c < maxColumn;
+                        total += visitor.visit(cell, inner);
+                    }
+                }
+            }
+        } else {
+            // 영역이 넓어 칸 수보다 확인할 격자가 많으면 채워진 칸만 순회
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                long r = entry.getKey() / columns;
+                long c = entry.getKey() % columns;
+                if (r < minRow || r > maxRow || c < minColumn || c > maxColumn) {
+                    continue;
+                }
+                boolean inner = r > minRow && r < maxRow && c > minColumn && c < maxColumn;
+                total += visitor.visit(entry.getValue(), inner);
+            }
+        }
+        return total;
+    }
+
+    private void removeFromCell(long key, long id) {
+        Cell cell = cells.get(key);
+        if (cell != null && cell.remove(id) && cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    private long row(double latitude) {
+        return (long) Math.floor((clamp(latitude, -90, 90) + 90) / cellSize);
+    }
+
+    private long column(double longitude) {
+        return (long) Math.floor((clamp(longitude, -180, 180) + 180) / cellSize);
+    }
+
+    private long cellKey(long row, long column) {
+        return row * columns + column;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * 영역 조회 결과
+     *
+     * @param ids 요청한 페이지의 ID (정렬 키 내림차순)
+     * @param total 영역 안의 전체 항목 수
+     */
+    public record Result(List<Long> ids, int total) {
+    }
+
+    /**
+     * 항목 좌표
+     */
+    public record Point(long id, double latitude, double longitude) {
+    }
+
+    @FunctionalInterface
+    private interface CellVisitor {
+        int visit(Cell cell, boolean inner);
+    }
+
+    private record Bounds(double minLat, double maxLat, double minLng, double maxLng) {
+
+        boolean contains(double latitude, double longitude) {
+            return latitude >= minLat && latitude <= maxLat && longitude >= minLng && longitude <= maxLng;
+        }
+    }
+
+    /**
+     * 격자 한 칸 (삭제는 마지막 항목을 빈자리로 옮김)
+     */
+    private static final class Cell {
+
+        private long[] ids = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private long[] sortKeys = new long[4];
+        private int size;
+
+        void add(long id, double latitude, double longitude, long sortKey) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                sortKeys = Arrays.copyOf(sortKeys, capacity);
+            }
+            ids[size] = id;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            sortKeys[size] = sortKey;
+            size++;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    int last = --size;
+                    ids[i] = ids[last];
+                    latitudes[i] = latitudes[last];
+                    longitudes[i] = longitudes[last];
+                    sortKeys[i] = sortKeys[last];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int collect(Bounds bounds, boolean inner, TopK top) {
+            int matched = 0;
+            for (int i = 0; i < size; i++) {
+                if (inner || bounds.contains(latitudes[i], longitudes[i])) {
+                    top.offer(sortKeys[i], ids[i]);
+                    matched++;
+                }
+            }
+            return matched;
+        }
+
+        int collect(Bounds bounds, boolean inner, List<Point> points) {
+            int matched = 0;
+            for (int i = 0; i < size; i++) {
+                if (inner || bounds.contains(latitudes[i], longitudes[i])) {
+                    points.add(new Point(ids[i], latitudes[i], longitudes[i]));
+                    matched++;
+                }
+            }
+            return matched;
+        }
+    }
+
+    /**
+     * 정렬 키가 큰 상위 k개를 유지하는 최소 힙
+     */
+    private static final class TopK {
+
+        private final int capacity;
+        private long[] keys;
+        private long[] ids;
+        private int size;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+            int initial = Math.min(capacity, 64);
+            this.keys = new long[initial];
+            this.ids = new long[initial];
+        }
+
+        void offer(long key, long id) {
+            if (capacity == 0) {
+                return;
+            }
+            if (size < capacity) {
+                if (size == keys.length) {
+                    int grown = (int) Math.min(capacity, (long) keys.length * 2);
+                    keys = Arrays.copyOf(keys, grown);
+                    ids = Arrays.copyOf(ids, grown);
+                }
+                keys[size] = key;
+                ids[size] = id;
+                siftUp(size++);
+            } else if (greater(key, id, keys[0], ids[0])) {
+                keys[0] = key;
+                ids[0] = id;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * 힙을 비우며 큰 순서로 반환 (앞의 offset개 제외)
+         */
+        List<Long> descending(int offset) {
+            long[] sorted = new long[size];
+            for (int i = size - 1; i >= 0; i--) {
+                sorted[i] = ids[0];
+                size--;
+                keys[0] = keys[size];
+                ids[0] = ids[size];
+                siftDown(0);
+            }
+            List<Long> result = new ArrayList<>(Math.max(0, sorted.length - offset));
+            for (int i = offset; i < sorted.length; i++) {
+                result.add(sorted[i]);
+            }
+            return result;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!greater(keys[parent], ids[parent], keys[index], ids[index])) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = index * 2 + 1;
+                if (left >= size) {
+                    return;
+                }
+                int smallest = left;
+                int right = left + 1;
+                if (right < size && greater(keys[left], ids[left], keys[right], ids[right])) {
+                    smallest = right;
+                }
+                if (!greater(keys[index], ids[index], keys[smallest], ids[smallest])) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long key = keys[a];
+            keys[a] = keys[b];
+            keys[b] = key;
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+        }
+
+        private static boolean greater(long key, long id, long otherKey, long otherId) {
+            return key > otherKey || (key == otherKey && id > otherId);
+        }
+    }
+}
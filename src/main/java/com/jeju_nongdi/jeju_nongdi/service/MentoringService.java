@@ -2,6 +2,7 @@ package com.jeju_nongdi.jeju_nongdi.service;
 
 import com.jeju_nongdi.jeju_nongdi.dto.MentoringRequest;
 import com.jeju_nongdi.jeju_nongdi.dto.MentoringResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.UserProfile;
 import com.jeju_nongdi.jeju_nongdi.entity.Mentoring;
 import com.jeju_nongdi.jeju_nongdi.entity.User;
 import com.jeju_nongdi.jeju_nongdi.repository.MentoringRepository;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,6 +29,7 @@ public class MentoringService {
 
     private final MentoringRepository mentoringRepository;
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
 
     /**
      * 멘토링 글 생성
@@ -68,7 +71,8 @@ public class MentoringService {
         log.info("Fetching mentoring posts with pagination");
         
         Page<Mentoring> mentorings = mentoringRepository.findByStatus(Mentoring.MentoringStatus.ACTIVE, pageable);
-        return mentorings.map(MentoringResponse::from);
+        Map<Long, UserProfile> authors = findAuthors(mentorings.getContent());
+        return mentorings.map(mentoring -> MentoringResponse.from(mentoring, authors.get(mentoring.getUser().getId())));
     }
 
     /**
@@ -81,7 +85,7 @@ public class MentoringService {
         Mentoring mentoring = mentoringRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("멘토링 글을 찾을 수 없습니다: " + id));
 
-        return MentoringResponse.from(mentoring);
+        return MentoringResponse.from(mentoring, userProfileCache.get(mentoring.getUser().getId()));
     }
 
     /**
@@ -168,9 +172,7 @@ public class MentoringService {
         User user = getUserByEmail(userDetails.getUsername());
         List<Mentoring> mentorings = mentoringRepository.findByUserOrderByCreatedAtDesc(user);
 
-        return mentorings.stream()
-                .map(MentoringResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(mentorings);
     }
 
     /**
@@ -195,9 +197,7 @@ public class MentoringService {
                     mentoringType, category, experienceLevel, location, Mentoring.MentoringStatus.ACTIVE);
         }
 
-        return mentorings.stream()
-                .map(MentoringResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(mentorings);
     }
 
     /**
@@ -210,9 +210,7 @@ public class MentoringService {
         List<Mentoring> mentorings = mentoringRepository.findByMentoringTypeAndStatus(
                 mentoringType, Mentoring.MentoringStatus.ACTIVE);
 
-        return mentorings.stream()
-                .map(MentoringResponse::from)
-                .collect(Collectors.toList());
+        return toResponses(mentorings);
     }
 
     /**
@@ -225,12 +223,27 @@ public class MentoringService {
         List<Mentoring> mentorings = mentoringRepository.findByCategoryAndStatus(
                 category, Mentoring.MentoringStatus.ACTIVE);
 
+        return toResponses(mentorings);
+    }
+
+    // Private helper methods
+
+    /**
+     * 작성자 정보는 글마다 지연 로딩하지 않고 프로필 캐시에서 한 번에 조회
+     */
+    private List<MentoringResponse> toResponses(List<Mentoring> mentorings) {
+        Map<Long, UserProfile> authors = findAuthors(mentorings);
         return mentorings.stream()
-                .map(MentoringResponse::from)
+                .map(mentoring -> MentoringResponse.from(mentoring, authors.get(mentoring.getUser().getId())))
                 .collect(Collectors.toList());
     }
 
-    // Private helper methods
+    private Map<Long, UserProfile> findAuthors(List<Mentoring> mentorings) {
+        return userProfileCache.getAll(mentorings.stream()
+                .map(mentoring -> mentoring.getUser().getId())
+                .collect(Collectors.toSet()));
+    }
+
     private User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + email));
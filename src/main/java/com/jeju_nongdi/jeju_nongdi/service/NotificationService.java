@@ -5,22 +5,29 @@ import com.jeju_nongdi.jeju_nongdi.entity.Notification;
 import com.jeju_nongdi.jeju_nongdi.entity.Notification.NotificationType;
 import com.jeju_nongdi.jeju_nongdi.repository.NotificationRepository;
 import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.TopicBroadcaster;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int MAX_NOTIFICATION_SLICE_SIZE = 100;
+
     private final NotificationRepository repo;
-    private final SimpMessageSendingOperations template;
+    private final TopicBroadcaster topicBroadcaster;
     private final UserRepository userRepository;
+    private final NotificationUnreadCounter unreadCounter;
 
     private Long resolveUserId(String email) {
         return userRepository.findIdByEmail(email)
@@ -28,30 +35,47 @@ public class NotificationService {
     }
 
     /** 채팅 알림 생성 (roomId, senderNickname 전달) */
+    @Transactional
     public NotificationDto createChatNotification(String userEmail, String message, String roomId, String senderNickname) {
-        Long userId = resolveUserId(userEmail);
-        Notification notification = Notification.builder()
+        return upsertChatNotification(resolveUserId(userEmail), message, roomId, senderNickname, 1);
+    }
+
+    /**
+     * 채팅 알림 생성 또는 갱신 (수신자 ID 기준)
+     * 합치기 규칙: 같은 채팅방의 읽지 않은 CHAT 알림이 있으면 한 건으로 합쳐 마지막 메시지 내용과
+     * 누적 메시지 수(count)로 바꿉니다. 읽은 뒤 받은 메시지는 새 알림이 됩니다.
+     * 알림 목록은 ID 역순이므로 합칠 때는 기존 행을 지우고 새 ID로 다시 만들어 목록 맨 위로 올립니다.
+     * 클라이언트는 replacedId의 알림을 목록에서 빼면 됩니다.
+     *
+     * @param messageCount 이번에 합쳐지는 메시지 수
+     */
+    @Transactional
+    public NotificationDto upsertChatNotification(Long userId, String message, String roomId, String senderNickname,
+                                                  int messageCount) {
+        Optional<Notification> existing = repo
+                .findFirstByUserIdAndTypeAndRoomIdAndReadFalseOrderByIdDesc(userId, NotificationType.CHAT, roomId);
+        int count = messageCount;
+        if (existing.isPresent()) {
+            count += existing.get().getCount();
+            repo.delete(existing.get());
+        }
+        Notification notification = repo.save(Notification.builder()
                 .userId(userId)
-                .type(Notification.NotificationType.CHAT)
+                .type(NotificationType.CHAT)
                 .message(message)
                 .read(false)
                 .roomId(roomId)
                 .senderNickname(senderNickname)
-                .build();
-        notification = repo.save(notification);
+                .count(count)
+                .build());
+        if (existing.isEmpty()) {
+            // 합친 경우는 읽지 않은 알림 수가 그대로
+            unreadCounter.increment(userId);
+        }
 
-        NotificationDto dto = NotificationDto.builder()
-                .id(notification.getId())
-                .type(notification.getType())
-                .message(notification.getMessage())
-                .read(notification.isRead())
-                .createdAt(notification.getCreatedAt())
-                .roomId(roomId)
-                .senderNickname(senderNickname)
-                .postId(null)
-                .commentId(null)
-                .build();
-        template.convertAndSend("/topic/notifications/" + userId, dto);
+        NotificationDto dto = toDto(notification);
+        dto.setReplacedId(existing.map(Notification::getId).orElse(null));
+        topicBroadcaster.broadcast("/topic/notifications/" + userId, dto);
         return dto;
     }
 
@@ -67,6 +91,7 @@ public class NotificationService {
                 .commentId(commentId)
                 .build();
         notification = repo.save(notification);
+        unreadCounter.increment(userId);
 
         NotificationDto dto = NotificationDto.builder()
                 .id(notification.getId())
@@ -78,7 +103,7 @@ public class NotificationService {
                 .postId(postId)
                 .commentId(commentId)
                 .build();
-        template.convertAndSend("/topic/notifications/" + userId, dto);
+        topicBroadcaster.broadcast("/topic/notifications/" + userId, dto);
         return dto;
     }
 
@@ -94,6 +119,7 @@ public class NotificationService {
                 .commentId(commentId)
                 .build();
         notification = repo.save(notification);
+        unreadCounter.increment(userId);
 
         NotificationDto dto = NotificationDto.builder()
                 .id(notification.getId())
@@ -105,7 +131,7 @@ public class NotificationService {
                 .postId(postId)
                 .commentId(commentId)
                 .build();
-        template.convertAndSend("/topic/notifications/" + userId, dto);
+        topicBroadcaster.broadcast("/topic/notifications/" + userId, dto);
         return dto;
     }
 
@@ -121,6 +147,7 @@ public class NotificationService {
                 .commentId(commentId)
                 .build();
         notification = repo.save(notification);
+        unreadCounter.increment(userId);
 
         NotificationDto dto = NotificationDto.builder()
                 .id(notification.getId())
@@ -132,7 +159,7 @@ public class NotificationService {
                 .postId(postId)
                 .commentId(commentId)
                 .build();
-        template.convertAndSend("/topic/notifications/" + userId, dto);
+        topicBroadcaster.broadcast("/topic/notifications/" + userId, dto);
         return dto;
     }
 
@@ -140,21 +167,32 @@ public class NotificationService {
     public List<NotificationDto> findAll(String userEmail) {
         Long userId = resolveUserId(userEmail);
         return repo.findByUserIdOrderByCreatedAtDesc(userId).stream()
-                .map(n -> NotificationDto.builder()
-                        .id(n.getId())
-                        .type(n.getType())
-                        .message(n.getMessage())
-                        .read(n.isRead())
-                        .createdAt(n.getCreatedAt())
-                        .senderNickname(n.getSenderNickname())
-                        .roomId(n.getRoomId())
-                        .postId(n.getPostId())
-                        .commentId(n.getCommentId())
-                        .build()
-                )
+                .map(this::toDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 알림 목록 조회 (커서 방식, 최신순)
+     *
+     * @param userEmail 사용자 이메일
+     * @param before 이 알림 ID 이전의 알림 조회 (null이면 최신부터)
+     * @param limit 조회 개수 (최대 100)
+     */
+    @Transactional(readOnly = true)
+    public Slice<NotificationDto> findPage(String userEmail, Long before, int limit) {
+        Long userId = resolveUserId(userEmail);
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_NOTIFICATION_SLICE_SIZE)));
+        Slice<Notification> notifications = before == null
+                ? repo.findLatestByUserId(userId, pageable)
+                : repo.findByUserIdBefore(userId, before, pageable);
+        return notifications.map(this::toDto);
+    }
+
+    /** 읽지 않은 알림 수 */
+    public long countUnread(String userEmail) {
+        return unreadCounter.get(resolveUserId(userEmail));
+    }
+
     /** 알림 읽음 처리 */
     @Transactional
     public void markAsRead(Long notificationId, String userEmail) {
@@ -162,6 +200,37 @@ public class NotificationService {
         Notification notification = repo.findById(notificationId)
                 .filter(n -> n.getUserId().equals(userId))
                 .orElseThrow(() -> new AccessDeniedException("본인의 알림이 아닙니다."));
-        notification.setRead(true);
+        if (!notification.isRead()) {
+            notification.setRead(true);
+            unreadCounter.decrement(userId);
+        }
+    }
+
+    /**
+     * 모든 알림 읽음 처리 (단일 UPDATE)
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markAllAsRead(String userEmail) {
+        Long userId = resolveUserId(userEmail);
+        int updated = repo.markAllAsRead(userId);
+        unreadCounter.reset(userId);
+        return updated;
+    }
+
+    private NotificationDto toDto(Notification n) {
+        return NotificationDto.builder()
+                .id(n.getId())
+                .type(n.getType())
+                .message(n.getMessage())
+                .read(n.isRead())
+                .createdAt(n.getCreatedAt())
+                .senderNickname(n.getSenderNickname())
+                .roomId(n.getRoomId())
+                .postId(n.getPostId())
+                .commentId(n.getCommentId())
+                .count(n.getCount())
+                .build();
     }
-}
\ No newline at end of file
+}
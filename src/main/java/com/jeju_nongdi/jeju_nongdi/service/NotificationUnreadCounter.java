@@ -0,0 +1,143 @@
+package com.jeju_nongdi.jeju_nongdi.service;
+
+import com.jeju_nongdi.jeju_nongdi.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 읽지 않은 알림 수
+ *
+ * 처음 조회할 때 DB에서 세고, 이후에는 알림 생성/읽음 처리 시 메모리에서 증감합니다.
+ * 사용자별 카운터는 LongAdder(스트라이프 카운터)라서 알림이 몰려도 경합이 적습니다.
+ * 증감은 트랜잭션이 커밋된 뒤에 반영하고(롤백되면 반영하지 않음), DB에서 세는 동안 들어온 증감은 계산이 끝난 뒤 더합니다.
+ * 그래도 커밋과 계산이 겹치는 드문 경우 어긋날 수 있으므로 주기적으로 notifications 테이블과 맞춥니다.
+ */
+@Slf4j
+@Component
+public class NotificationUnreadCounter {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final int maxUsers;
+    private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public NotificationUnreadCounter(NotificationRepository notificationRepository,
+                                     @Value("${notification.unread-counter.max-users:100000}") int maxUsers) {
+        this.notificationRepository = notificationRepository;
+        this.maxUsers = maxUsers;
+    }
+
+    /**
+     * 읽지 않은 알림 수 (메모리에 없으면 DB에서 계산)
+     */
+    public long get(Long userId) {
+        LongAdder counter = counters.get(userId);
+        if (counter == null) {
+            // 계산하는 동안 같은 사용자의 증감은 계산이 끝날 때까지 기다림 (update 참고)
+            counter = counters.computeIfAbsent(userId, id -> {
+                LongAdder loaded = new LongAdder();
+                loaded.add(notificationRepository.countByUserIdAndReadFalse(id));
+                return loaded;
+            });
+        }
+        return Math.max(0, counter.sum());
+    }
+
+    /**
+     * 새 알림 생성 (메모리에 없는 사용자는 조회 시 DB에서 계산하므로 무시)
+     */
+    public void increment(Long userId) {
+        afterCommit(userId, LongAdder::increment);
+    }
+
+    public void decrement(Long userId) {
+        afterCommit(userId, LongAdder::decrement);
+    }
+
+    /**
+     * 모두 읽음 처리
+     */
+    public void reset(Long userId) {
+        afterCommit(userId, LongAdder::reset);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 증감 반영 (트랜잭션 밖이면 바로 반영)
+     */
+    private void afterCommit(Long userId, Consumer<LongAdder> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(userId, change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(userId, change);
+            }
+        });
+    }
+
+    private void update(Long userId, Consumer<LongAdder> change) {
+        LongAdder counter = counters.get(userId);
+        if (counter != null) {
+            change.accept(counter);
+            return;
+        }
+        // DB에서 세는 중(computeIfAbsent)이면 끝날 때까지 기다렸다가 반영, 메모리에 없는 사용자면 무시
+        counters.computeIfPresent(userId, (id, loaded) -> {
+            change.accept(loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 메모리 카운터를 DB 값과 맞춤
+     * 조회 이후 들어온 증감은 유지되도록 차이만큼 더합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (counters.size() > maxUsers) {
+            // 오래 접속하지 않은 사용자까지 계속 들고 있지 않도록 비우고 다음 조회 시 다시 계산
+            counters.clear();
+            log.debug("읽지 않은 알림 카운터 초기화: 최대 사용자 수 초과");
+            return;
+        }
+
+        List<Long> userIds = new ArrayList<>(counters.keySet());
+        int adjusted = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, userIds.size()));
+            Map<Long, Long> actual = new HashMap<>();
+            for (Object[] row : notificationRepository.countUnreadByUserIds(chunk)) {
+                actual.put((Long) row[0], (Long) row[1]);
+            }
+            for (Long userId : chunk) {
+                LongAdder counter = counters.get(userId);
+                if (counter == null) {
+                    continue;
+                }
+                long delta = actual.getOrDefault(userId, 0L) - counter.sum();
+                if (delta != 0) {
+                    counter.add(delta);
+                    adjusted++;
+                }
+            }
+        }
+        if (adjusted > 0) {
+            log.debug("읽지 않은 알림 카운터 보정: {}명", adjusted);
+        }
+    }
+}
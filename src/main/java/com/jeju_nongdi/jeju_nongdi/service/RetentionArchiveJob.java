@@ -0,0 +1,342 @@
+package com.jeju_nongdi.jeju_nongdi.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림/메시지 보관 작업
+ *
+ * 자주 조회되는 notifications, messages 테이블을 작게 유지하기 위해 다음 행을 보관 테이블로 옮깁니다.
+ * - 읽은 지 오래된 알림: 생성 후 notification-days가 지난 읽은 알림
+ * - 완전히 삭제된 채팅방의 메시지: chat_rooms에 채팅방이 없는 메시지
+ *
+ * 한 번에 chunk 크기만큼 INSERT ... SELECT 후 DELETE 하고 바로 커밋합니다.
+ * 보관 테이블에 복사된 행만 지우므로 중간에 종료되어도 다음 실행에서 이어서 처리합니다.
+ * 청크 처리 시간이 목표 지연 시간을 넘으면 청크를 줄이고, 처리 시간에 비례해 쉬면서 운영 쿼리에 양보합니다.
+ */
+@Slf4j
+@Component
+public class RetentionArchiveJob {
+
+    private static final String SELECT_NOTIFICATION_IDS_SQL = """
+            SELECT id FROM notifications
+            WHERE id > ? AND is_read = TRUE AND created_at < ?
+            ORDER BY id LIMIT ?
+            """;
+    private static final String ARCHIVE_NOTIFICATIONS_SQL = """
+            INSERT INTO notifications_archive
+                (id, created_at, user_id, type, message, sender_nickname, room_id, post_id, comment_id, coalesced_count, archived_at)
+            SELECT id, created_at, user_id, type, message, sender_nickname, room_id, post_id, comment_id, coalesced_count, ?
+            FROM notifications
+            WHERE id > ? AND id <= ? AND is_read = TRUE AND created_at < ?
+            """;
+    private static final String DELETE_ARCHIVED_NOTIFICATIONS_SQL = """
+            DELETE FROM notifications
+            WHERE id > ? AND id <= ?
+              AND id IN (SELECT id FROM notifications_archive WHERE id > ? AND id <= ?)
+            """;
+    private static final String SELECT_ORPHAN_ROOMS_SQL = """
+            SELECT m.room_id, MAX(m.id) AS max_id FROM messages m
+            WHERE NOT EXISTS (SELECT 1 FROM chat_rooms r WHERE r.room_id = m.room_id)
+            GROUP BY m.room_id
+            LIMIT ?
+            """;
+    private static final String SELECT_MESSAGE_IDS_SQL =
+            "SELECT id FROM messages WHERE room_id = ? AND id <= ? ORDER BY id LIMIT ?";
+    private static final String ARCHIVE_MESSAGES_SQL = """
+            INSERT INTO messages_archive (id, created_at, room_id, sender_id, receiver_id, content, archived_at)
+            SELECT id, COALESCE(created_at, ?), room_id, sender_id, receiver_id, content, ?
+            FROM messages
+            WHERE room_id = ? AND id <= ?
+            """;
+    private static final String DELETE_ARCHIVED_MESSAGES_SQL = """
+            DELETE FROM messages
+            WHERE room_id = ? AND id <= ?
+              AND id IN (SELECT id FROM messages_archive WHERE room_id = ? AND id <= ?)
+            """;
+    // 보관 중 같은 ID로 채팅방이 다시 만들어지면 옮기지 않음
+    private static final String ORPHAN_ROOM_CONDITION =
+            " AND NOT EXISTS (SELECT 1 FROM chat_rooms r WHERE r.room_id = messages.room_id)";
+    private static final String ARCHIVE_ORPHAN_MESSAGES_SQL = ARCHIVE_MESSAGES_SQL.strip() + ORPHAN_ROOM_CONDITION;
+    private static final String DELETE_ARCHIVED_ORPHAN_MESSAGES_SQL = DELETE_ARCHIVED_MESSAGES_SQL.strip() + ORPHAN_ROOM_CONDITION;
+    private static final int ORPHAN_ROOM_SCAN_LIMIT = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int notificationDays;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetChunkNanos;
+    private final double throttleRatio;
+    private final long maxRunNanos;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ReentrantLock messageLock = new ReentrantLock();
+    private final AtomicInteger chunkSize;
+    private final AtomicLong archivedNotifications = new AtomicLong();
+    private final AtomicLong archivedMessages = new AtomicLong();
+    private final AtomicLong lastCompletedEpochSecond = new AtomicLong();
+    private final Timer chunkTimer;
+    private volatile boolean stopping;
+
+    public RetentionArchiveJob(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${retention.enabled:true}") boolean enabled,
+                               @Value("${retention.notification-days:30}") int notificationDays,
+                               @Value("${retention.min-chunk-size:100}") int minChunkSize,
+                               @Value("${retention.max-chunk-size:2000}") int maxChunkSize,
+                               @Value("${retention.target-chunk-latency:200ms}") Duration targetChunkLatency,
+                               @Value("${retention.throttle-ratio:1.0}") double throttleRatio,
+                               @Value("${retention.max-run-time:30m}") Duration maxRunTime) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.notificationDays = notificationDays;
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = Math.max(minChunkSize, maxChunkSize);
+        this.targetChunkNanos = targetChunkLatency.toNanos();
+        this.throttleRatio = throttleRatio;
+        this.maxRunNanos = maxRunTime.toNanos();
+        this.chunkSize = new AtomicInteger(minChunkSize);
+
+        FunctionCounter.builder("retention.archived", archivedNotifications, AtomicLong::get)
+                .tag("table", "notifications")
+                .description("보관 테이블로 옮긴 행 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("retention.archived", archivedMessages, AtomicLong::get)
+                .tag("table", "messages")
+                .description("보관 테이블로 옮긴 행 수")
+                .register(meterRegistry);
+        Gauge.builder("retention.chunk.size", chunkSize, AtomicInteger::get)
+                .description("현재 보관 청크 크기 (DB 지연 시간에 따라 조절)")
+                .register(meterRegistry);
+        Gauge.builder("retention.running", running, flag -> flag.get() ? 1 : 0)
+                .description("보관 작업 실행 여부")
+                .register(meterRegistry);
+        Gauge.builder("retention.last.completed", lastCompletedEpochSecond, AtomicLong::get)
+                .description("마지막으로 보관 작업을 끝낸 시각 (epoch 초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("retention.chunk.duration")
+                .description("보관 청크 하나를 옮기는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 매일 새벽 보관 작업 실행
+     */
+    @Scheduled(cron = "${retention.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run();
+        } catch (Exception e) {
+            log.error("보관 작업 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보관 작업 한 번 실행 (이미 실행 중이면 건너뜀)
+     *
+     * @return 이번 실행에서 옮긴 행 수
+     */
+    public Result run() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("보관 작업이 이미 실행 중입니다");
+            return new Result(0, 0);
+        }
+        try {
+            long deadline = System.nanoTime() + maxRunNanos;
+            long notifications = archiveNotifications(deadline);
+            long messages = archiveOrphanMessages(deadline);
+            lastCompletedEpochSecond.set(System.currentTimeMillis() / 1000);
+            log.info("보관 작업 완료: 알림={}건, 메시지={}건", notifications, messages);
+            return new Result(notifications, messages);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 완전히 삭제된 채팅방의 메시지를 보관 테이블로 이동
+     * 같은 채팅방 ID로 다시 만들어진 채팅방의 메시지는 건드리지 않도록 upToMessageId 이하만 옮깁니다.
+     *
+     * @param roomId 삭제된 채팅방 ID
+     * @param upToMessageId 삭제 시점의 마지막 메시지 ID
+     * @return 대상 메시지를 모두 옮겼는지 여부 (종료 중이거나 시간 초과면 false)
+     */
+    public boolean archiveDeletedRoomMessages(String roomId, long upToMessageId) {
+        archiveRoomMessages(roomId, upToMessageId, false, System.nanoTime() + maxRunNanos);
+        return jdbcTemplate.queryForList(SELECT_MESSAGE_IDS_SQL, Long.class, roomId, upToMessageId, 1).isEmpty();
+    }
+
+    @PreDestroy
+    void stop() {
+        stopping = true;
+    }
+
+    private long archiveNotifications(long deadline) {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(notificationDays));
+        long cursor = 0;
+        long total = 0;
+        while (canContinue(deadline)) {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_NOTIFICATION_IDS_SQL, Long.class, cursor, cutoff, chunkSize.get());
+            if (ids.isEmpty()) {
+                break;
+            }
+            long from = cursor;
+            long to = ids.get(ids.size() - 1);
+            int moved = throttled(() -> transactionTemplate.execute(status -> {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                jdbcTemplate.update(ARCHIVE_NOTIFICATIONS_SQL, now, from, to, cutoff);
+                return jdbcTemplate.update(DELETE_ARCHIVED_NOTIFICATIONS_SQL, from, to, from, to);
+            }));
+            archivedNotifications.addAndGet(moved);
+            total += moved;
+            cursor = to;
+        }
+        return total;
+    }
+
+    /**
+     * 채팅방이 없는 메시지를 보관 테이블로 이동
+     * 조회 시점의 채팅방별 마지막 메시지 ID까지만 옮기고, 옮기는 동안 채팅방이 다시 만들어지면 건너뜁니다.
+     */
+    private long archiveOrphanMessages(long deadline) {
+        long total = 0;
+        while (canContinue(deadline)) {
+            List<OrphanRoom> rooms = jdbcTemplate.query(SELECT_ORPHAN_ROOMS_SQL,
+                    (rs, rowNum) -> new OrphanRoom(rs.getString("room_id"), rs.getLong("max_id")),
+                    ORPHAN_ROOM_SCAN_LIMIT);
+            if (rooms.isEmpty()) {
+                break;
+            }
+            long round = 0;
+            for (OrphanRoom room : rooms) {
+                round += archiveRoomMessages(room.roomId(), room.maxMessageId(), true, deadline);
+                if (!canContinue(deadline)) {
+                    break;
+                }
+            }
+            if (round == 0) {
+                break;
+            }
+            total += round;
+        }
+        return total;
+    }
+
+    /**
+     * 채팅방 메시지를 청크 단위로 이동
+     * 정기 실행과 채팅방 정리가 같은 범위를 동시에 옮기지 않도록 한 번에 하나씩 처리합니다.
+     */
+    private long archiveRoomMessages(String roomId, long upToMessageId, boolean orphanOnly, long deadline) {
+        messageLock.lock();
+        try {
+            return archiveRoomMessagesLocked(roomId, upToMessageId, orphanOnly, deadline);
+        } finally {
+            messageLock.unlock();
+        }
+    }
+
+    private long archiveRoomMessagesLocked(String roomId, long upToMessageId, boolean orphanOnly, long deadline) {
+        String archiveSql = orphanOnly ? ARCHIVE_ORPHAN_MESSAGES_SQL : ARCHIVE_MESSAGES_SQL;
+        String deleteSql = orphanOnly ? DELETE_ARCHIVED_ORPHAN_MESSAGES_SQL : DELETE_ARCHIVED_MESSAGES_SQL;
+        long total = 0;
+        while (canContinue(deadline)) {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_MESSAGE_IDS_SQL, Long.class, roomId, upToMessageId, chunkSize.get());
+            if (ids.isEmpty()) {
+                break;
+            }
+            long to = ids.get(ids.size() - 1);
+            int moved = throttled(() -> transactionTemplate.execute(status -> {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                jdbcTemplate.update(archiveSql, now, now, roomId, to);
+                return jdbcTemplate.update(deleteSql, roomId, to, roomId, to);
+            }));
+            archivedMessages.addAndGet(moved);
+            total += moved;
+            if (moved == 0) {
+                // 보관 테이블과 겹치는 등 더 진행할 수 없는 채팅방은 다음 실행으로 미룸
+                log.warn("채팅방 메시지 보관 진행 없음: roomId={}", roomId);
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 청크 하나를 실행하고 걸린 시간에 맞춰 다음 청크 크기와 휴식 시간을 정함
+     * 목표 지연 시간 초과 시 청크를 절반으로 줄이고, 여유가 있으면 조금씩 늘립니다.
+     */
+    private int throttled(ChunkWork work) {
+        long start = System.nanoTime();
+        Integer moved = work.execute();
+        long elapsed = System.nanoTime() - start;
+        chunkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        int current = chunkSize.get();
+        if (elapsed > targetChunkNanos) {
+            chunkSize.set(Math.max(minChunkSize, current / 2));
+        } else {
+            chunkSize.set(Math.min(maxChunkSize, current + minChunkSize));
+        }
+
+        long pauseNanos = (long) (elapsed * throttleRatio);
+        if (pauseNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(pauseNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopping = true;
+            }
+        }
+        return moved != null ? moved : 0;
+    }
+
+    private boolean canContinue(long deadline) {
+        return !stopping && System.nanoTime() - deadline < 0;
+    }
+
+    private record OrphanRoom(String roomId, long maxMessageId) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkWork {
+        Integer execute();
+    }
+
+    /**
+     * 보관 작업 결과
+     *
+     * @param notifications 옮긴 알림 수
+     * @param messages 옮긴 메시지 수
+     */
+    public record Result(long notifications, long messages) {
+    }
+}
@@ -0,0 +1,187 @@
+package com.jeju_nongdi.jeju_nongdi.service;
+
+import com.jeju_nongdi.jeju_nongdi.dto.UserProfile;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 표시 정보 캐시
+ *
+ * 채팅 메시지, 알림, 일손 모집/유휴 농지 응답을 만들 때마다 작성자 닉네임과 프로필 이미지를
+ * 조회하지 않도록 사용자 ID 기준으로 보관합니다. 크기 제한(LRU)과 TTL을 함께 적용하며,
+ * 사용자 엔티티가 수정/삭제되면 UserProfileCacheInvalidator 가 evict 합니다.
+ * DB 조회 도중 evict 가 일어나면 조회한 값은 이전 값일 수 있으므로 캐시에 저장하지 않습니다.
+ * 적중률은 actuator의 cache.gets / cache.evictions / cache.size (cache=userProfiles) 지표로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    public static final String CACHE_NAME = "userProfiles";
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // evict 할 때마다 증가, 조회 시작 이후 값이 바뀌었으면 조회 결과를 저장하지 않음
+    private long invalidations;
+
+    public UserProfileCache(UserRepository userRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${user.profile-cache.max-size:10000}") int maxSize,
+                            @Value("${user.profile-cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("사용자 프로필 캐시 적중 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("사용자 프로필 캐시 미스 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", CACHE_NAME)
+                .description("크기 제한으로 제거된 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, UserProfileCache::size)
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 표시 정보 조회 (캐시에 없으면 DB 조회 후 저장)
+     *
+     * @param userId 사용자 ID
+     * @return 표시 정보, 사용자가 없으면 null
+     */
+    public UserProfile get(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        UserProfile cached = lookup(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = invalidations();
+        return userRepository.findById(userId)
+                .map(user -> put(UserProfile.from(user), generation))
+                .orElse(null);
+    }
+
+    /**
+     * 여러 사용자의 표시 정보 조회
+     * 캐시에 없는 사용자만 한 번의 쿼리로 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID → 표시 정보 (존재하지 않는 사용자는 제외)
+     */
+    public Map<Long, UserProfile> getAll(Collection<Long> userIds) {
+        Map<Long, UserProfile> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : new HashSet<>(userIds)) {
+            if (userId == null) {
+                continue;
+            }
+            UserProfile cached = lookup(userId);
+            if (cached != null) {
+                result.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long generation = invalidations();
+            userRepository.findAllById(missing)
+                    .forEach(user -> result.put(user.getId(), put(UserProfile.from(user), generation)));
+        }
+        return result;
+    }
+
+    /**
+     * 사용자 표시 정보 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이전 값이 다시 캐시되지 않도록 커밋(또는 롤백) 후에도 한 번 더 제거하며,
+     * 그 사이 시작된 조회의 결과는 캐시에 저장되지 않습니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(userId);
+                }
+            });
+        }
+        log.debug("사용자 프로필 캐시 무효화: userId={}", userId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized UserProfile lookup(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() < 0) {
+            entries.remove(userId);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.profile();
+    }
+
+    private synchronized long invalidations() {
+        return invalidations;
+    }
+
+    private synchronized UserProfile put(UserProfile profile, long generation) {
+        if (generation == invalidations) {
+            entries.put(profile.id(), new Entry(profile, System.nanoTime() + ttlNanos));
+        }
+        return profile;
+    }
+
+    private synchronized void remove(Long userId) {
+        invalidations++;
+        entries.remove(userId);
+    }
+
+    private record Entry(UserProfile profile, long expiresAt) {
+    }
+}
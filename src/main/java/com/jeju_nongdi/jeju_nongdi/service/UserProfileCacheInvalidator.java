@@ -0,0 +1,26 @@
+package com.jeju_nongdi.jeju_nongdi.service;
+
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 엔티티 변경 시 프로필 캐시 무효화
+ *
+ * User 엔티티 리스너로 등록되어, 어느 서비스에서 수정/삭제하더라도 flush 시점에
+ * UserProfileCache 에서 해당 사용자를 제거합니다. (커밋 후 제거는 캐시가 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileCacheInvalidator {
+
+    private final UserProfileCache userProfileCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        userProfileCache.evict(user.getId());
+    }
+}
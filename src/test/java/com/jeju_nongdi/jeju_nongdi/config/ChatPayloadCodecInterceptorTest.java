@@ -0,0 +1,148 @@
+package com.jeju_nongdi.jeju_nongdi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.CompactRoomProfiles;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatPayloadCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatPayloadCodecInterceptor 테스트")
+class ChatPayloadCodecInterceptorTest {
+
+    @Mock
+    private ChatPayloadCodec payloadCodec;
+
+    @Mock
+    private MessageChannel clientOutboundChannel;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final Map<String, Object> sessionAttributes = new HashMap<>();
+
+    private ChatPayloadCodecInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        given(payloadCodec.isEnabled()).willReturn(true);
+        interceptor = new ChatPayloadCodecInterceptor(payloadCodec, new ObjectMapper(), clientOutboundChannel);
+    }
+
+    @Test
+    @DisplayName("compact 세션의 채팅방 구독은 compact 토픽으로 바뀌고 참여자 프로필을 한 번 받는다")
+    void rewritesSubscriptionAndSendsProfiles() {
+        // given
+        given(payloadCodec.profilesOf("1_2")).willReturn(new CompactRoomProfiles(List.of(
+                new CompactRoomProfiles.Profile(1L, "농부김씨", null),
+                new CompactRoomProfiles.Profile(2L, "일꾼박씨", "https://example.com/2.jpg"))));
+        interceptor.preSend(connect("compact"), channel);
+
+        // when
+        Message<?> result = interceptor.preSend(subscribe("/topic/chat/room/1_2"), channel);
+
+        // then
+        assertThat(SimpMessageHeaderAccessor.getDestination(result.getHeaders()))
+                .isEqualTo("/topic/chat/room/1_2/compact");
+
+        ArgumentCaptor<Message> sent = ArgumentCaptor.forClass(Message.class);
+        verify(clientOutboundChannel).send(sent.capture());
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(sent.getValue());
+        assertThat(headers.getSessionId()).isEqualTo("session-1");
+        assertThat(headers.getSubscriptionId()).isEqualTo("sub-0");
+        assertThat(new String((byte[]) sent.getValue().getPayload(), StandardCharsets.UTF_8))
+                .startsWith("{\"t\":\"p\",\"u\":[{\"i\":1,\"n\":\"농부김씨\"");
+        verify(payloadCodec).compactSubscribed("session-1", "sub-0", "1_2");
+    }
+
+    @Test
+    @DisplayName("compact 세션의 구독 해제와 연결 종료를 ChatPayloadCodec에 알린다")
+    void releasesCompactSubscriptions() {
+        // given
+        interceptor.preSend(connect("compact"), channel);
+
+        // when
+        interceptor.preSend(frame(StompCommand.UNSUBSCRIBE), channel);
+        interceptor.preSend(frame(StompCommand.DISCONNECT), channel);
+
+        // then
+        verify(payloadCodec).compactUnsubscribed("session-1", "sub-0");
+        verify(payloadCodec).sessionClosed("session-1");
+    }
+
+    @Test
+    @DisplayName("헤더를 보내지 않은 세션의 구독은 그대로 둔다")
+    void keepsDefaultSessionsUnchanged() {
+        // given
+        interceptor.preSend(connect(null), channel);
+        Message<byte[]> subscribe = subscribe("/topic/chat/room/1_2");
+
+        // when & then
+        assertThat(interceptor.preSend(subscribe, channel)).isSameAs(subscribe);
+        verify(clientOutboundChannel, never()).send(any());
+    }
+
+    @Test
+    @DisplayName("compact 세션이라도 입력 중 표시와 알림 토픽은 바꾸지 않는다")
+    void keepsOtherTopicsUnchanged() {
+        // given
+        interceptor.preSend(connect("compact"), channel);
+        Message<byte[]> typing = subscribe("/topic/chat/room/1_2/typing");
+        Message<byte[]> notifications = subscribe("/topic/notifications/1");
+
+        // when & then
+        assertThat(interceptor.preSend(typing, channel)).isSameAs(typing);
+        assertThat(interceptor.preSend(notifications, channel)).isSameAs(notifications);
+        verify(clientOutboundChannel, never()).send(any());
+    }
+
+    private Message<byte[]> connect(String codec) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (codec != null) {
+            accessor.setNativeHeader(ChatPayloadCodec.CODEC_HEADER, codec);
+        }
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        return frame(accessor);
+    }
+
+    private Message<byte[]> frame(StompCommand command) {
+        return frame(StompHeaderAccessor.create(command));
+    }
+
+    private Message<byte[]> frame(StompHeaderAccessor accessor) {
+        accessor.setSubscriptionId("sub-0");
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
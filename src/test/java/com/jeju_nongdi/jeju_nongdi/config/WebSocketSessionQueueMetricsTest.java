@@ -0,0 +1,96 @@
+package com.jeju_nongdi.jeju_nongdi.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocketSessionQueueMetrics 테스트")
+class WebSocketSessionQueueMetricsTest {
+
+    @Mock
+    private WebSocketHandler delegate;
+
+    @Mock
+    private WebSocketSession session;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketSessionQueueMetrics metrics;
+    private WebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new WebSocketSessionQueueMetrics(meterRegistry);
+        handler = metrics.decorate(delegate);
+        given(session.getId()).willReturn("session-1");
+    }
+
+    @Test
+    @DisplayName("아웃바운드 채널에 들어왔지만 소켓에 기록되지 않은 메시지 수를 세션별로 센다")
+    void countsMessagesNotYetWritten() throws Exception {
+        // given
+        WebSocketSession counting = establish();
+        MessageChannel channel = mock(MessageChannel.class);
+
+        // when
+        metrics.preSend(outbound("session-1"), channel);
+        metrics.preSend(outbound("session-1"), channel);
+        metrics.preSend(outbound("session-1"), channel);
+        counting.sendMessage(new TextMessage("MESSAGE"));
+
+        // then
+        assertThat(metrics.pendingCount("session-1")).isEqualTo(2);
+        assertThat(meterRegistry.get("websocket.session.outbound.pending").tag("statistic", "max").gauge().value())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("websocket.session.outbound.depth").summary().max()).isEqualTo(3.0);
+        verify(session).sendMessage(new TextMessage("MESSAGE"));
+    }
+
+    @Test
+    @DisplayName("연결이 종료되면 세션 집계에서 제거된다")
+    void removesSessionOnClose() throws Exception {
+        // given
+        establish();
+        metrics.preSend(outbound("session-1"), mock(MessageChannel.class));
+
+        // when
+        handler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+
+        // then
+        assertThat(metrics.pendingCount("session-1")).isZero();
+        assertThat(meterRegistry.get("websocket.sessions").gauge().value()).isZero();
+    }
+
+    private WebSocketSession establish() throws Exception {
+        handler.afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(delegate).afterConnectionEstablished(captor.capture());
+        return captor.getValue();
+    }
+
+    private Message<byte[]> outbound(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandMarkerResponse;
 import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandRequest;
 import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.MarkerDeltaResponse;
 import com.jeju_nongdi.jeju_nongdi.entity.IdleFarmland;
 import com.jeju_nongdi.jeju_nongdi.service.IdleFarmlandService;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerSnapshotCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -232,14 +235,51 @@ class IdleFarmlandControllerTest {
                 .status(IdleFarmland.FarmlandStatus.AVAILABLE)
                 .build();
 
-        given(idleFarmlandService.getIdleFarmlandMarkers()).willReturn(List.of(marker));
+        MarkerSnapshotCache.Snapshot snapshot = new MarkerSnapshotCache.Snapshot(
+                "\"abc123\"", 7L, objectMapper.writeValueAsBytes(List.of(marker)));
+        given(idleFarmlandService.getIdleFarmlandMarkerSnapshot()).willReturn(snapshot);
 
         // when & then
         mockMvc.perform(get("/api/idle-farmlands/markers"))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().string(MarkerSnapshotCache.VERSION_HEADER, "7"))
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].title").value("제주시 애월읍 농지"))
                 .andExpect(jsonPath("$[0].latitude").value(33.459722));
     }
+
+    @Test
+    @DisplayName("지도 마커용 데이터 조회 API 테스트 - ETag가 같으면 304")
+    void getIdleFarmlandMarkersNotModifiedTest() throws Exception {
+        // given
+        MarkerSnapshotCache.Snapshot snapshot = new MarkerSnapshotCache.Snapshot(
+                "\"abc123\"", 7L, "[]".getBytes(StandardCharsets.UTF_8));
+        given(idleFarmlandService.getIdleFarmlandMarkerSnapshot()).willReturn(snapshot);
+
+        // when & then
+        mockMvc.perform(get("/api/idle-farmlands/markers")
+                        .header("If-None-Match", "\"abc123\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("지도 마커 변경 내역 조회 API 테스트 - 내역이 없으면 전체 재조회")
+    void getIdleFarmlandMarkerChangesFullRefetchTest() throws Exception {
+        // given
+        given(idleFarmlandService.getIdleFarmlandMarkerChanges(3L))
+                .willReturn(MarkerDeltaResponse.fullRefetch(7L));
+
+        // when & then
+        mockMvc.perform(get("/api/idle-farmlands/markers/changes")
+                        .param("sinceVersion", "3"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(7))
+                .andExpect(jsonPath("$.fullRefetch").value(true))
+                .andExpect(jsonPath("$.added").isEmpty());
+    }
 }
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerResponse;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingRequest;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.MarkerDeltaResponse;
 import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
 import com.jeju_nongdi.jeju_nongdi.entity.User;
 import com.jeju_nongdi.jeju_nongdi.service.JobPostingService;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerSnapshotCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -194,19 +197,64 @@ class JobPostingControllerTest {
                 .wageType(JobPosting.WageType.DAILY)
                 .build();
 
-        given(jobPostingService.getJobPostingMarkers()).willReturn(List.of(markerResponse));
+        MarkerSnapshotCache.Snapshot snapshot = new MarkerSnapshotCache.Snapshot(
+                "\"abc123\"", 42L, objectMapper.writeValueAsBytes(List.of(markerResponse)));
+        given(jobPostingService.getJobPostingMarkerSnapshot()).willReturn(snapshot);
 
         // when & then
         mockMvc.perform(get("/api/job-postings/markers"))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().string(MarkerSnapshotCache.VERSION_HEADER, "42"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].title").value("감자 수확 일손 구합니다"))
                 .andExpect(jsonPath("$[0].latitude").value(33.123456))
                 .andExpect(jsonPath("$[0].longitude").value(126.123456));
 
-        verify(jobPostingService).getJobPostingMarkers();
+        verify(jobPostingService).getJobPostingMarkerSnapshot();
+    }
+
+    @Test
+    @DisplayName("지도 마커용 데이터 조회 - ETag가 같으면 304")
+    void getJobPostingMarkers_NotModified() throws Exception {
+        // given
+        MarkerSnapshotCache.Snapshot snapshot = new MarkerSnapshotCache.Snapshot(
+                "\"abc123\"", 42L, "[]".getBytes(StandardCharsets.UTF_8));
+        given(jobPostingService.getJobPostingMarkerSnapshot()).willReturn(snapshot);
+
+        // when & then
+        mockMvc.perform(get("/api/job-postings/markers")
+                        .header("If-None-Match", "\"abc123\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("지도 마커 변경 내역 조회 - 성공")
+    void getJobPostingMarkerChanges_Success() throws Exception {
+        // given
+        JobPostingMarkerResponse added = JobPostingMarkerResponse.builder()
+                .id(2L)
+                .title("감귤 수확 일손 구합니다")
+                .latitude(new BigDecimal("33.5"))
+                .longitude(new BigDecimal("126.5"))
+                .build();
+        given(jobPostingService.getJobPostingMarkerChanges(42L))
+                .willReturn(new MarkerDeltaResponse<>(44L, false, List.of(added), List.of(), List.of(1L)));
+
+        // when & then
+        mockMvc.perform(get("/api/job-postings/markers/changes")
+                        .param("sinceVersion", "42"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(44))
+                .andExpect(jsonPath("$.fullRefetch").value(false))
+                .andExpect(jsonPath("$.added[0].id").value(2L))
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andExpect(jsonPath("$.removed[0]").value(1L));
     }
 
     @Test
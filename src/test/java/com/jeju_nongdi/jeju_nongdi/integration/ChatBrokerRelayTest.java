@@ -0,0 +1,187 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * chat.broker.mode=relay 설정 테스트
+ *
+ * 실제 외부 브로커 대신 CONNECT에 CONNECTED로만 응답하는 스텁 STOMP 서버를 띄우고,
+ * 애플리케이션이 설정한 계정으로 접속해 /topic 메시지를 중계하는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "chat.broker.mode=relay",
+        "chat.broker.relay.host=127.0.0.1",
+        "chat.broker.relay.login=relay-user",
+        "chat.broker.relay.passcode=relay-pass"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("외부 STOMP 브로커 중계 모드 테스트")
+class ChatBrokerRelayTest {
+
+    private static final StubStompRelay RELAY = StubStompRelay.start();
+
+    @DynamicPropertySource
+    static void relayProperties(DynamicPropertyRegistry registry) {
+        registry.add("chat.broker.relay.port", RELAY::port);
+    }
+
+    @AfterAll
+    static void stopRelay() {
+        RELAY.close();
+    }
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Test
+    @DisplayName("설정한 계정으로 외부 브로커에 시스템 세션을 연결한다")
+    void connectsSystemSessionWithConfiguredCredentials() {
+        // given
+        StompBrokerRelayMessageHandler relayHandler = applicationContext.getBean(
+                "stompBrokerRelayMessageHandler", StompBrokerRelayMessageHandler.class);
+
+        // when & then
+        await().untilAsserted(() -> assertThat(relayHandler.isBrokerAvailable()).isTrue());
+        assertThat(RELAY.frames()).anySatisfy(frame -> assertThat(frame)
+                .startsWith("CONNECT\n")
+                .contains("login:relay-user", "passcode:relay-pass"));
+        assertThat(applicationContext.getBeanProvider(SimpleBrokerMessageHandler.class).getIfAvailable()).isNull();
+    }
+
+    @Test
+    @DisplayName("/topic 메시지를 외부 브로커로 중계한다")
+    void relaysTopicMessagesToBroker() {
+        // given
+        StompBrokerRelayMessageHandler relayHandler = applicationContext.getBean(
+                "stompBrokerRelayMessageHandler", StompBrokerRelayMessageHandler.class);
+        await().until(relayHandler::isBrokerAvailable);
+
+        // when
+        messagingTemplate.convertAndSend("/topic/chat/room/1", "relay-check");
+
+        // then
+        await().untilAsserted(() -> assertThat(RELAY.frames()).anySatisfy(frame -> assertThat(frame)
+                .startsWith("SEND\n")
+                .contains("destination:/topic/chat/room/1", "relay-check")));
+    }
+
+    /**
+     * CONNECT에 CONNECTED로 응답하고 받은 프레임을 기록하는 스텁 STOMP 서버
+     * 하트비트는 0,0으로 응답해 주고받지 않습니다.
+     */
+    private static final class StubStompRelay implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final List<Socket> connections = new CopyOnWriteArrayList<>();
+
+        private StubStompRelay(ServerSocket serverSocket) {
+            this.serverSocket = serverSocket;
+        }
+
+        static StubStompRelay start() {
+            try {
+                StubStompRelay relay = new StubStompRelay(new ServerSocket(0));
+                Thread.ofVirtual().name("stub-stomp-relay").start(relay::acceptLoop);
+                return relay;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        List<String> frames() {
+            return frames;
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.add(socket);
+                    Thread.ofVirtual().start(() -> serve(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket; InputStream in = socket.getInputStream(); OutputStream out = socket.getOutputStream()) {
+                String frame;
+                while ((frame = readFrame(in)) != null) {
+                    frames.add(frame);
+                    if (frame.startsWith("CONNECT\n") || frame.startsWith("STOMP\n")) {
+                        out.write("CONNECTED\nversion:1.2\nheart-beat:0,0\n\n\0".getBytes(StandardCharsets.UTF_8));
+                        out.flush();
+                    }
+                }
+            } catch (IOException ignored) {
+                // 연결 종료
+            }
+        }
+
+        /**
+         * NUL 문자로 끝나는 프레임 하나를 읽습니다. 프레임 사이의 줄바꿈(하트비트)은 건너뜁니다.
+         */
+        private static String readFrame(InputStream in) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == 0) {
+                    return buffer.toString(StandardCharsets.UTF_8);
+                }
+                if (buffer.size() == 0 && (b == '\n' || b == '\r')) {
+                    continue;
+                }
+                buffer.write(b);
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+            try {
+                serverSocket.close();
+                for (Socket socket : connections) {
+                    socket.close();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.MessageDto;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.Message;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.MessageRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.ChatService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("채팅 메시지 커서 페이징 테스트")
+class ChatMessageCursorPagingTest {
+
+    private static final int MESSAGE_COUNT = 120;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User farmer;
+    private User stranger;
+    private String roomId;
+
+    @BeforeEach
+    void setUp() {
+        farmer = userRepository.save(user("cursor-farmer"));
+        User worker = userRepository.save(user("cursor-worker"));
+        stranger = userRepository.save(user("cursor-stranger"));
+
+        roomId = ChatRoom.generateBaseRoomId(farmer.getId(), worker.getId());
+        chatRoomRepository.save(ChatRoom.builder()
+                .roomId(roomId)
+                .user1Id(Math.min(farmer.getId(), worker.getId()))
+                .user2Id(Math.max(farmer.getId(), worker.getId()))
+                .build());
+
+        List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            messages.add(Message.builder()
+                    .roomId(roomId)
+                    .senderId(i % 2 == 0 ? farmer.getId() : worker.getId())
+                    .receiverId(i % 2 == 0 ? worker.getId() : farmer.getId())
+                    .content("메시지 " + i)
+                    .build());
+        }
+        messageRepository.saveAll(messages);
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+        chatRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 모든 메시지를 중복 없이 최신순으로 받는다")
+    void walksWholeHistoryWithoutDuplicates() {
+        List<MessageDto> collected = new ArrayList<>();
+        Long before = null;
+        Slice<MessageDto> slice;
+        do {
+            slice = chatService.getMessagesByRoomBefore(roomId, farmer.getEmail(), before, 50);
+            collected.addAll(slice.getContent());
+            if (slice.hasContent()) {
+                before = slice.getContent().get(slice.getNumberOfElements() - 1).getId();
+            }
+        } while (slice.hasNext());
+
+        assertThat(collected).hasSize(MESSAGE_COUNT);
+        assertThat(collected).extracting(MessageDto::getId).doesNotHaveDuplicates();
+        assertThat(collected).extracting(MessageDto::getId)
+                .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(collected.get(0).getContent()).isEqualTo("메시지 " + (MESSAGE_COUNT - 1));
+        assertThat(collected.get(0).getSenderNickname()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("커서 조회는 COUNT 쿼리 없이 깊은 위치에서도 같은 수의 쿼리를 실행한다")
+    void doesNotIssueCountQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Slice<MessageDto> first = chatService.getMessagesByRoomBefore(roomId, farmer.getEmail(), null, 10);
+        Long deepCursor = first.getContent().get(0).getId() - 100;
+
+        statistics.clear();
+        chatService.getMessagesByRoomBefore(roomId, farmer.getEmail(), first.getContent().get(9).getId(), 10);
+        long shallowQueries = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        Slice<MessageDto> deep = chatService.getMessagesByRoomBefore(roomId, farmer.getEmail(), deepCursor, 10);
+        long deepQueries = statistics.getPrepareStatementCount();
+
+        assertThat(deep.getNumberOfElements()).isEqualTo(10);
+        assertThat(deepQueries).isEqualTo(shallowQueries);
+        assertThat(statistics.getQueries()).noneMatch(query -> query.toLowerCase().contains("count("));
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 커서 조회할 수 없다")
+    void rejectsNonParticipant() {
+        assertThatThrownBy(() -> chatService.getMessagesByRoomBefore(roomId, stranger.getEmail(), null, 50))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password123")
+                .name(name)
+                .nickname(name)
+                .phone("01012345678")
+                .build();
+    }
+}
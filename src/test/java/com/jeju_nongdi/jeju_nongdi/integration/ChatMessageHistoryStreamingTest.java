@@ -0,0 +1,268 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.ChatService;
+import com.jeju_nongdi.jeju_nongdi.service.UserProfileCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("performance")
+@DisplayName("채팅 메시지 전체 기록 스트리밍 테스트")
+class ChatMessageHistoryStreamingTest {
+
+    private static final int LARGE_HISTORY_SIZE = 50_000;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final long SAMPLE_INTERVAL_BYTES = 4L * 1024 * 1024;
+    private static final long MAX_HEAP_GROWTH_BYTES = 24L * 1024 * 1024;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoSpyBean
+    private UserProfileCache userProfileCache;
+
+    private User farmer;
+    private User worker;
+    private String roomId;
+
+    @BeforeEach
+    void setUp() {
+        farmer = userRepository.save(user("stream-farmer"));
+        worker = userRepository.save(user("stream-worker"));
+
+        roomId = ChatRoom.generateBaseRoomId(farmer.getId(), worker.getId());
+        chatRoomRepository.save(ChatRoom.builder()
+                .roomId(roomId)
+                .user1Id(Math.min(farmer.getId(), worker.getId()))
+                .user2Id(Math.max(farmer.getId(), worker.getId()))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM messages");
+        chatRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("5만 건의 메시지를 스트리밍해도 힙 사용량이 기록 길이에 비례해 늘지 않는다")
+    void heapStaysFlatWhileStreamingLargeHistory() throws Exception {
+        // given
+        String content = "a".repeat(1000);
+        insertMessages(LARGE_HISTORY_SIZE, i -> content);
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+
+        // when
+        chatService.writeMessageHistory(roomId, farmer.getEmail(), out);
+
+        // then
+        assertThat(out.getWritten()).isGreaterThan((long) LARGE_HISTORY_SIZE * content.length());
+        assertThat(out.getSampleCount()).isGreaterThan(5);
+        assertThat(out.getPeakUsed() - out.getFirstUsed()).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답은 기존 ApiResponse 형식으로 오래된 순서의 메시지를 담는다")
+    void writesApiResponseEnvelopeInAscendingOrder() throws Exception {
+        // given
+        insertMessages(5, i -> "메시지 " + i);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        chatService.writeMessageHistory(roomId, worker.getEmail(), out);
+
+        // then
+        JsonNode root = objectMapper.readTree(out.toByteArray());
+        assertThat(root.get("success").asBoolean()).isTrue();
+        assertThat(root.get("code").asInt()).isEqualTo(200);
+        JsonNode data = root.get("data");
+        assertThat(data).hasSize(5);
+        assertThat(data.get(0).get("content").asText()).isEqualTo("메시지 0");
+        assertThat(data.get(4).get("content").asText()).isEqualTo("메시지 4");
+        assertThat(data.get(0).get("senderNickname").asText()).isEqualTo(farmer.getNickname());
+        assertThat(data.get(1).get("senderNickname").asText()).isEqualTo(worker.getNickname());
+    }
+
+    @Test
+    @DisplayName("삭제한 채팅방은 빈 목록을 반환한다")
+    void deletedRoomReturnsEmptyData() throws Exception {
+        // given
+        insertMessages(3, i -> "메시지 " + i);
+        ChatRoom room = chatRoomRepository.findById(roomId).orElseThrow();
+        room.getDeletedByUsers().add(farmer.getEmail());
+        chatRoomRepository.save(room);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        chatService.writeMessageHistory(roomId, farmer.getEmail(), out);
+
+        // then
+        assertThat(objectMapper.readTree(out.toByteArray()).get("data")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스트리밍 도중 조회가 실패하면 배열을 닫고 실패 결과로 응답을 끝낸다")
+    void terminatesEnvelopeWhenStreamingFails() throws Exception {
+        // given
+        insertMessages(5, i -> "메시지 " + i);
+        AtomicInteger lookups = new AtomicInteger();
+        willAnswer(invocation -> {
+            if (lookups.incrementAndGet() > 3) {
+                throw new IllegalStateException("프로필 조회 실패");
+            }
+            return invocation.callRealMethod();
+        }).given(userProfileCache).get(any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        chatService.writeMessageHistory(roomId, worker.getEmail(), out);
+
+        // then
+        JsonNode root = objectMapper.readTree(out.toByteArray());
+        assertThat(root.get("success").asBoolean()).isFalse();
+        assertThat(root.get("code").asInt()).isEqualTo(500);
+        assertThat(root.get("data")).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 스트리밍 전에 거부된다")
+    void rejectsNonParticipantBeforeStreaming() {
+        User stranger = userRepository.save(user("stream-stranger"));
+
+        assertThatThrownBy(() -> chatService.checkRoomReadable(roomId, stranger.getEmail()))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    private void insertMessages(int count, IntFunction<String> contentFactory) {
+        String sql = "INSERT INTO messages (room_id, sender_id, receiver_id, content, created_at) VALUES (?, ?, ?, ?, ?)";
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            boolean fromFarmer = i % 2 == 0;
+            batch.add(new Object[]{
+                    roomId,
+                    fromFarmer ? farmer.getId() : worker.getId(),
+                    fromFarmer ? worker.getId() : farmer.getId(),
+                    contentFactory.apply(i),
+                    Timestamp.valueOf(base.plusNanos(i * 1_000L))
+            });
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password123")
+                .name(name)
+                .nickname(name)
+                .phone("01012345678")
+                .build();
+    }
+
+    /**
+     * 기록된 바이트 수를 세면서 일정 간격마다 GC 후 힙 사용량을 측정하는 출력 스트림
+     * 첫 측정은 쿼리 실행 이후이므로, 이후 증가분은 스트리밍한 메시지 수에 따른 누적만 반영합니다.
+     */
+    private static class HeapSamplingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        private long written;
+        private long nextSampleAt = SAMPLE_INTERVAL_BYTES;
+        private long firstUsed = -1;
+        private long peakUsed;
+        private int sampleCount;
+
+        @Override
+        public void write(int b) {
+            written++;
+            sampleIfNeeded();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+            sampleIfNeeded();
+        }
+
+        private void sampleIfNeeded() {
+            if (written < nextSampleAt) {
+                return;
+            }
+            nextSampleAt += SAMPLE_INTERVAL_BYTES;
+            System.gc();
+            long used = memoryBean.getHeapMemoryUsage().getUsed();
+            if (firstUsed < 0) {
+                firstUsed = used;
+            }
+            peakUsed = Math.max(peakUsed, used);
+            sampleCount++;
+        }
+
+        long getWritten() {
+            return written;
+        }
+
+        long getFirstUsed() {
+            return firstUsed;
+        }
+
+        long getPeakUsed() {
+            return peakUsed;
+        }
+
+        int getSampleCount() {
+            return sampleCount;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.MessageDto;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.Notification;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.MessageRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.NotificationRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatMessageSearchIndex;
+import com.jeju_nongdi.jeju_nongdi.service.ChatService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("채팅 메시지 검색 테스트")
+class ChatMessageSearchTest {
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatMessageSearchIndex searchIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private User farmer;
+    private User worker;
+    private User stranger;
+
+    @BeforeEach
+    void setUp() {
+        farmer = userRepository.save(user("search-farmer"));
+        worker = userRepository.save(user("search-worker"));
+        stranger = userRepository.save(user("search-stranger"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        awaitChatNotifications();
+        messageRepository.deleteAllInBatch();
+        notificationRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("참여 중인 채팅방에서 모든 단어를 포함하는 메시지만 최신순으로 찾는다")
+    void findsMessagesInOwnRoomsOnly() {
+        // given
+        String farmerRoom = room(farmer, worker);
+        String otherRoom = room(worker, stranger);
+        chatService.saveAndBroadcastMessage(farmerRoom, farmer.getEmail(), "농장 주소를 알려드릴게요");
+        chatService.saveAndBroadcastMessage(farmerRoom, worker.getEmail(), "주소가 어디인가요?");
+        chatService.saveAndBroadcastMessage(farmerRoom, farmer.getEmail(), "농장 주소는 애월읍입니다");
+        chatService.saveAndBroadcastMessage(otherRoom, stranger.getEmail(), "우리 농장 주소도 알려줄게요");
+        await().atMost(Duration.ofSeconds(10)).until(searchIndex::isReady);
+
+        // when & then: 색인은 비동기로 반영되므로 결과가 나올 때까지 다시 조회
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            List<MessageDto> result = chatService.searchMessages(farmer.getEmail(), "농장 주소", 10);
+            assertThat(result).extracting(MessageDto::getContent)
+                    .containsExactly("농장 주소는 애월읍입니다", "농장 주소를 알려드릴게요");
+            assertThat(result).extracting(MessageDto::getSenderNickname).containsOnly(farmer.getNickname());
+        });
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 거부한다")
+    void rejectsSingleCharacterQuery() {
+        assertThatThrownBy(() -> chatService.searchMessages(farmer.getEmail(), "귤", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 보낸 메시지가 모두 알림에 반영될 때까지 대기 (정리 중 지운 사용자에게 알림이 늦게 생기지 않도록)
+     */
+    private void awaitChatNotifications() {
+        long sent = messageRepository.count();
+        await().atMost(Duration.ofSeconds(10)).until(() -> notificationRepository.findAll().stream()
+                .mapToLong(Notification::getCount)
+                .sum() == sent);
+    }
+
+    private String room(User a, User b) {
+        String roomId = ChatRoom.generateBaseRoomId(a.getId(), b.getId());
+        chatRoomRepository.save(ChatRoom.builder()
+                .roomId(roomId)
+                .user1Id(Math.min(a.getId(), b.getId()))
+                .user2Id(Math.max(a.getId(), b.getId()))
+                .build());
+        return roomId;
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password123")
+                .name(name)
+                .nickname(name)
+                .phone("01012345678")
+                .build();
+    }
+}
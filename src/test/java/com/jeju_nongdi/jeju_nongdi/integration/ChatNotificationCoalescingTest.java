@@ -0,0 +1,171 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.dto.NotificationDto;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.Notification;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.MessageRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.NotificationRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.ChatService;
+import com.jeju_nongdi.jeju_nongdi.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = "chat.notification.coalesce-window=200ms")
+@ActiveProfiles("test")
+@DisplayName("채팅 알림 비동기 생성/합치기 테스트")
+class ChatNotificationCoalescingTest {
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    private User farmer;
+    private User worker;
+    private String roomId;
+
+    @BeforeEach
+    void setUp() {
+        farmer = userRepository.save(user("noti-farmer"));
+        worker = userRepository.save(user("noti-worker"));
+        roomId = ChatRoom.generateBaseRoomId(farmer.getId(), worker.getId());
+        chatRoomRepository.save(ChatRoom.builder()
+                .roomId(roomId)
+                .user1Id(Math.min(farmer.getId(), worker.getId()))
+                .user2Id(Math.max(farmer.getId(), worker.getId()))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAllInBatch();
+        notificationRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 발신자가 연달아 보낸 20개의 메시지는 마지막 내용의 알림 한 건이 된다")
+    void coalescesBurstIntoSingleNotification() {
+        // when
+        for (int i = 0; i < 20; i++) {
+            chatService.saveAndBroadcastMessage(roomId, farmer.getEmail(), "메시지 " + i);
+        }
+
+        // then
+        awaitUnreadCount(worker, 20);
+        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(worker.getId());
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0).getMessage()).endsWith("메시지 19");
+        assertThat(notifications.get(0).getSenderNickname()).isEqualTo(farmer.getNickname());
+        assertThat(notificationRepository.findByUserIdOrderByCreatedAtDesc(farmer.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다음 배치의 메시지는 읽지 않은 알림을 최신 내용으로 갱신한다")
+    void laterBatchesUpdateTheSameUnreadNotification() {
+        // given
+        chatService.saveAndBroadcastMessage(roomId, farmer.getEmail(), "첫 번째");
+        awaitUnreadCount(worker, 1);
+
+        // when
+        chatService.saveAndBroadcastMessage(roomId, farmer.getEmail(), "두 번째");
+
+        // then
+        awaitUnreadCount(worker, 2);
+        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(worker.getId());
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0).getMessage()).endsWith("두 번째");
+        assertThat(notifications.get(0).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("합쳐진 채팅 알림은 그 사이 생긴 다른 알림보다 위로 올라간다")
+    void coalescedNotificationMovesToTop() {
+        // given
+        chatService.saveAndBroadcastMessage(roomId, farmer.getEmail(), "첫 번째");
+        awaitUnreadCount(worker, 1);
+        Long firstId = notificationRepository.findByUserIdOrderByCreatedAtDesc(worker.getId()).get(0).getId();
+        notificationService.createCommentNotification(worker.getEmail(), "댓글이 달렸습니다", 1L, 1L);
+
+        // when
+        chatService.saveAndBroadcastMessage(roomId, farmer.getEmail(), "두 번째");
+
+        // then
+        awaitUnreadCount(worker, 2);
+        List<NotificationDto> page = notificationService.findPage(worker.getEmail(), null, 10).getContent();
+        assertThat(page).extracting(NotificationDto::getType)
+                .containsExactly(Notification.NotificationType.CHAT, Notification.NotificationType.COMMENT);
+        assertThat(page.get(0).getMessage()).endsWith("두 번째");
+        assertThat(page.get(0).getCount()).isEqualTo(2);
+        assertThat(page.get(0).getId()).isGreaterThan(firstId);
+        assertThat(notificationService.countUnread(worker.getEmail())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("알림을 읽은 뒤 받은 메시지는 새 알림으로 생성된다")
+    void createsNewNotificationAfterRead() {
+        // given
+        chatService.saveAndBroadcastMessage(roomId, farmer.getEmail(), "읽은 메시지");
+        awaitUnreadCount(worker, 1);
+        Notification read = notificationRepository.findByUserIdOrderByCreatedAtDesc(worker.getId()).get(0);
+        read.setRead(true);
+        notificationRepository.save(read);
+
+        // when
+        chatService.saveAndBroadcastMessage(roomId, farmer.getEmail(), "새 메시지");
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(notificationRepository.findByUserIdOrderByCreatedAtDesc(worker.getId())).hasSize(2));
+    }
+
+    /**
+     * 수신자의 읽지 않은 채팅 알림에 합쳐진 메시지 수가 expected가 될 때까지 대기 (알림은 커밋 후 비동기로 생성됨)
+     */
+    private void awaitUnreadCount(User receiver, int expected) {
+        await().atMost(Duration.ofSeconds(10)).until(() -> notificationRepository
+                .findByUserIdOrderByCreatedAtDesc(receiver.getId()).stream()
+                .filter(notification -> notification.getType() == Notification.NotificationType.CHAT)
+                .filter(notification -> !notification.isRead())
+                .mapToInt(Notification::getCount)
+                .sum() == expected);
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password123")
+                .name(name)
+                .nickname(name)
+                .phone("01012345678")
+                .build();
+    }
+}
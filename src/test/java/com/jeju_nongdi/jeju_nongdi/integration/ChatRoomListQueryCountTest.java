@@ -0,0 +1,191 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomView;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.Message;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.MessageRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.ChatRoomBackfillService;
+import com.jeju_nongdi.jeju_nongdi.service.ChatService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("채팅방 목록 조회 쿼리 수 테스트")
+class ChatRoomListQueryCountTest {
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatRoomBackfillService chatRoomBackfillService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+        chatRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("채팅방이 1개일 때와 500개일 때 실행되는 쿼리 수가 같다")
+    void queryCountIsIndependentOfRoomCount() {
+        // given
+        User single = createRoomsFor("single", 1);
+        User busy = createRoomsFor("busy", 500);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        statistics.clear();
+        List<ChatRoomView> singleRooms = chatService.getUserChatRooms(single.getEmail());
+        long singleQueryCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<ChatRoomView> busyRooms = chatService.getUserChatRooms(busy.getEmail());
+        long busyQueryCount = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(singleRooms).hasSize(1);
+        assertThat(busyRooms).hasSize(500);
+        assertThat(busyQueryCount).isEqualTo(singleQueryCount);
+    }
+
+    @Test
+    @DisplayName("마지막 메시지, 안 읽은 수, 상대방 정보, 삭제 필터, 최근 활동순 정렬이 반영된다")
+    void roomViewsContainLastMessageAndCounterpart() {
+        // given
+        User owner = createRoomsFor("order", 3);
+        List<ChatRoom> rooms = chatRoomRepository.findByUser1IdOrUser2Id(owner.getId(), owner.getId());
+        ChatRoom deletedRoom = rooms.get(1);
+        deletedRoom.getDeletedByUsers().add(owner.getEmail());
+        chatRoomRepository.save(deletedRoom);
+
+        ChatRoom latestRoom = rooms.get(0);
+        Long otherId = latestRoom.getUser1Id().equals(owner.getId()) ? latestRoom.getUser2Id() : latestRoom.getUser1Id();
+        User other = userRepository.findById(otherId).orElseThrow();
+        chatService.saveAndBroadcastMessage(latestRoom.getRoomId(), other.getEmail(), "가장 최근 메시지");
+
+        // when
+        List<ChatRoomView> views = chatService.getUserChatRooms(owner.getEmail());
+
+        // then
+        assertThat(views).hasSize(2);
+        assertThat(views).extracting(ChatRoomView::getRoomId).doesNotContain(deletedRoom.getRoomId());
+        assertThat(views.get(0).getRoomId()).isEqualTo(latestRoom.getRoomId());
+        assertThat(views.get(0).getLastMessageContent()).isEqualTo("가장 최근 메시지");
+        assertThat(views.get(0).getUnreadCount()).isEqualTo(1);
+        assertThat(views.get(0).getOtherUserNickname()).isEqualTo(other.getNickname());
+        assertThat(views.get(1).getLastMessageContent()).isEqualTo("반갑습니다");
+    }
+
+    @Test
+    @DisplayName("읽음 처리하면 현재 사용자의 안 읽은 수만 초기화된다")
+    void markRoomAsReadResetsOnlyCallersCounter() {
+        // given
+        User owner = createRoomsFor("read", 1);
+        ChatRoom room = chatRoomRepository.findByUser1IdOrUser2Id(owner.getId(), owner.getId()).get(0);
+        Long otherId = room.getUser1Id().equals(owner.getId()) ? room.getUser2Id() : room.getUser1Id();
+        User other = userRepository.findById(otherId).orElseThrow();
+        chatService.saveAndBroadcastMessage(room.getRoomId(), other.getEmail(), "첫 번째");
+        chatService.saveAndBroadcastMessage(room.getRoomId(), other.getEmail(), "두 번째");
+        chatService.saveAndBroadcastMessage(room.getRoomId(), owner.getEmail(), "답장");
+
+        // when
+        chatService.markRoomAsRead(room.getRoomId(), owner.getEmail());
+
+        // then
+        assertThat(chatService.getUserChatRooms(owner.getEmail()).get(0).getUnreadCount()).isZero();
+        assertThat(chatService.getUserChatRooms(other.getEmail()).get(0).getUnreadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 이전 메시지는 마지막 메시지를 덮어쓰지 않고 안 읽은 수만 증가시킨다")
+    void olderMessageDoesNotOverwriteLastMessage() {
+        // given
+        User owner = createRoomsFor("stale", 1);
+        ChatRoom room = chatRoomRepository.findByUser1IdOrUser2Id(owner.getId(), owner.getId()).get(0);
+        Long lastMessageId = room.getLastMessageId();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> chatRoomRepository.applyNewMessage(
+                room.getRoomId(), lastMessageId - 1, "이전 메시지", LocalDateTime.now(), owner.getId()));
+
+        // then
+        ChatRoomView view = chatService.getUserChatRooms(owner.getEmail()).get(0);
+        assertThat(view.getLastMessageContent()).isEqualTo("반갑습니다");
+        assertThat(view.getUnreadCount()).isEqualTo(1);
+        assertThat(chatRoomRepository.findById(room.getRoomId()).orElseThrow().getLastMessageId()).isEqualTo(lastMessageId);
+    }
+
+    private User createRoomsFor(String prefix, int roomCount) {
+        User owner = userRepository.save(user(prefix + "-owner"));
+
+        List<User> others = new ArrayList<>();
+        for (int i = 0; i < roomCount; i++) {
+            others.add(user(prefix + "-other" + i));
+        }
+        others = userRepository.saveAll(others);
+
+        List<ChatRoom> rooms = new ArrayList<>();
+        for (User other : others) {
+            rooms.add(ChatRoom.builder()
+                    .roomId(ChatRoom.generateBaseRoomId(owner.getId(), other.getId()))
+                    .user1Id(Math.min(owner.getId(), other.getId()))
+                    .user2Id(Math.max(owner.getId(), other.getId()))
+                    .build());
+        }
+        chatRoomRepository.saveAll(rooms);
+
+        List<Message> messages = new ArrayList<>();
+        for (User other : others) {
+            String roomId = ChatRoom.generateBaseRoomId(owner.getId(), other.getId());
+            messages.add(Message.builder().roomId(roomId).senderId(owner.getId()).receiverId(other.getId()).content("안녕하세요").build());
+            messages.add(Message.builder().roomId(roomId).senderId(other.getId()).receiverId(owner.getId()).content("반갑습니다").build());
+        }
+        messageRepository.saveAll(messages);
+        chatRoomBackfillService.backfillRoomSummaries();
+        return owner;
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password123")
+                .name(name)
+                .nickname(name)
+                .phone("01012345678")
+                .build();
+    }
+}
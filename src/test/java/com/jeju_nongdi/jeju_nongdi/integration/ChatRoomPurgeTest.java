@@ -0,0 +1,141 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoomPurge;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomPurgeRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.MessageRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatRoomPurger;
+import com.jeju_nongdi.jeju_nongdi.service.ChatService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = {
+        "retention.min-chunk-size=3",
+        "retention.max-chunk-size=5",
+        "retention.throttle-ratio=0"
+})
+@ActiveProfiles("test")
+@DisplayName("완전 삭제된 채팅방 메시지 정리 테스트")
+class ChatRoomPurgeTest {
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatRoomPurger chatRoomPurger;
+
+    @Autowired
+    private ChatRoomPurgeRepository purgeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User farmer;
+    private User worker;
+    private String roomId;
+
+    @BeforeEach
+    void setUp() {
+        farmer = userRepository.save(user("purge-farmer"));
+        worker = userRepository.save(user("purge-worker"));
+        roomId = ChatRoom.generateBaseRoomId(farmer.getId(), worker.getId());
+        chatRoomRepository.save(ChatRoom.builder()
+                .roomId(roomId)
+                .user1Id(Math.min(farmer.getId(), worker.getId()))
+                .user2Id(Math.max(farmer.getId(), worker.getId()))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        purgeRepository.deleteAllInBatch();
+        messageRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM messages_archive");
+        chatRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("두 사용자가 모두 삭제하면 채팅방은 바로 사라지고 메시지는 백그라운드에서 청크 단위로 정리된다")
+    void removesRoomImmediatelyAndPurgesMessagesInBackground() {
+        // given
+        insertMessages(roomId, 20);
+
+        // when
+        chatService.softDeleteRoom(roomId, farmer.getEmail());
+        chatService.softDeleteRoom(roomId, worker.getEmail());
+
+        // then
+        assertThat(chatRoomRepository.findById(roomId)).isEmpty();
+        assertThat(chatService.getUserChatRooms(farmer.getEmail())).isEmpty();
+        await().atMost(Duration.ofSeconds(10)).until(() -> purgeRepository.count() == 0);
+        assertThat(messageRepository.countByRoomId(roomId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM messages_archive WHERE room_id = ?", Long.class, roomId))
+                .isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("재시작 후 남은 정리 요청은 삭제 시점의 메시지까지만 정리하고 다시 만든 채팅방의 메시지는 남긴다")
+    void resumesPendingPurgeUpToRecordedMessage() {
+        // given: 삭제 시점까지 5건, 같은 채팅방 ID로 다시 대화를 시작한 뒤 3건
+        insertMessages(roomId, 5);
+        Long maxMessageId = messageRepository.findMaxIdByRoomId(roomId).orElseThrow();
+        purgeRepository.save(ChatRoomPurge.builder()
+                .roomId(roomId)
+                .maxMessageId(maxMessageId)
+                .requestedAt(LocalDateTime.now())
+                .build());
+        insertMessages(roomId, 3);
+
+        // when
+        chatRoomPurger.resumePending();
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).until(() -> purgeRepository.count() == 0);
+        assertThat(messageRepository.countByRoomId(roomId)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT MIN(id) FROM messages WHERE room_id = ?", Long.class, roomId))
+                .isGreaterThan(maxMessageId);
+    }
+
+    private void insertMessages(String roomId, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO messages (room_id, sender_id, receiver_id, content, created_at) VALUES (?, ?, ?, ?, ?)",
+                    roomId, farmer.getId(), worker.getId(), "메시지 " + i, Timestamp.valueOf(LocalDateTime.now()));
+        }
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password123")
+                .name(name)
+                .nickname(name)
+                .phone("01012345678")
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatSyncResponse;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.Notification;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.MessageRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.NotificationRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.ChatService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("채팅방 재연결 동기화 테스트")
+class ChatRoomSyncTest {
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private User farmer;
+    private User worker;
+    private User neighbor;
+
+    @BeforeEach
+    void setUp() {
+        farmer = userRepository.save(user("sync-farmer"));
+        worker = userRepository.save(user("sync-worker"));
+        neighbor = userRepository.save(user("sync-neighbor"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        awaitChatNotifications();
+        messageRepository.deleteAllInBatch();
+        notificationRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 메시지 이후의 메시지만, 새 메시지가 있는 채팅방만 돌려준다")
+    void returnsOnlyNewMessagesOfChangedRooms() {
+        // given
+        String workerRoom = room(farmer, worker);
+        String neighborRoom = room(farmer, neighbor);
+        chatService.saveAndBroadcastMessage(workerRoom, worker.getEmail(), "내일 몇 시에 가면 될까요?");
+        chatService.saveAndBroadcastMessage(neighborRoom, neighbor.getEmail(), "귤 따기 끝났어요");
+        long workerSeen = lastMessageId(workerRoom);
+        long neighborSeen = lastMessageId(neighborRoom);
+
+        chatService.saveAndBroadcastMessage(workerRoom, farmer.getEmail(), "아침 7시요");
+        chatService.saveAndBroadcastMessage(workerRoom, worker.getEmail(), "네 알겠습니다");
+
+        // when
+        ChatSyncResponse response = chatService.syncRooms(farmer.getEmail(),
+                Map.of(workerRoom, workerSeen, neighborRoom, neighborSeen));
+
+        // then
+        assertThat(response.hasMore()).isFalse();
+        assertThat(response.removedRoomIds()).isEmpty();
+        assertThat(response.rooms()).hasSize(1);
+        ChatSyncResponse.RoomDelta delta = response.rooms().get(0);
+        assertThat(delta.roomId()).isEqualTo(workerRoom);
+        assertThat(delta.refetch()).isFalse();
+        assertThat(delta.unreadCount()).isEqualTo(2);
+        assertThat(delta.messages()).extracting(ChatSyncResponse.SyncMessage::content)
+                .containsExactly("아침 7시요", "네 알겠습니다");
+        assertThat(delta.lastMessageId()).isEqualTo(delta.messages().get(1).id());
+    }
+
+    @Test
+    @DisplayName("새 메시지가 너무 많거나 처음 보는 채팅방이면 메시지 대신 다시 조회하라고 알려준다")
+    void signalsRefetchWhenTooFarBehind() {
+        // given
+        String workerRoom = room(farmer, worker);
+        String neighborRoom = room(farmer, neighbor);
+        chatService.saveAndBroadcastMessage(workerRoom, worker.getEmail(), "시작");
+        long workerSeen = lastMessageId(workerRoom);
+        for (int i = 0; i < 60; i++) {
+            chatService.saveAndBroadcastMessage(workerRoom, worker.getEmail(), "메시지 " + i);
+        }
+        chatService.saveAndBroadcastMessage(neighborRoom, neighbor.getEmail(), "처음 인사드려요");
+
+        // when
+        ChatSyncResponse response = chatService.syncRooms(farmer.getEmail(), Map.of(workerRoom, workerSeen));
+
+        // then
+        assertThat(response.rooms()).hasSize(2);
+        assertThat(response.rooms()).allSatisfy(delta -> {
+            assertThat(delta.refetch()).isTrue();
+            assertThat(delta.messages()).isEmpty();
+        });
+        assertThat(response.rooms()).extracting(ChatSyncResponse.RoomDelta::roomId)
+                .containsExactlyInAnyOrder(workerRoom, neighborRoom);
+    }
+
+    @Test
+    @DisplayName("나간 채팅방은 제거 목록으로 알려준다")
+    void reportsLeftRoomsAsRemoved() {
+        // given
+        String workerRoom = room(farmer, worker);
+        chatService.saveAndBroadcastMessage(workerRoom, worker.getEmail(), "안녕하세요");
+        long seen = lastMessageId(workerRoom);
+        chatService.softDeleteRoom(workerRoom, farmer.getEmail());
+
+        // when
+        ChatSyncResponse response = chatService.syncRooms(farmer.getEmail(), Map.of(workerRoom, seen));
+
+        // then
+        assertThat(response.rooms()).isEmpty();
+        assertThat(response.removedRoomIds()).containsExactly(workerRoom);
+    }
+
+    private long lastMessageId(String roomId) {
+        return chatRoomRepository.findById(roomId).orElseThrow().getLastMessageId();
+    }
+
+    /**
+     * 보낸 메시지가 모두 알림에 반영될 때까지 대기 (정리 중 지운 사용자에게 알림이 늦게 생기지 않도록)
+     */
+    private void awaitChatNotifications() {
+        long sent = messageRepository.count();
+        await().atMost(Duration.ofSeconds(10)).until(() -> notificationRepository.findAll().stream()
+                .mapToLong(Notification::getCount)
+                .sum() == sent);
+    }
+
+    private String room(User a, User b) {
+        String roomId = ChatRoom.generateBaseRoomId(a.getId(), b.getId());
+        chatRoomRepository.save(ChatRoom.builder()
+                .roomId(roomId)
+                .user1Id(Math.min(a.getId(), b.getId()))
+                .user2Id(Math.max(a.getId(), b.getId()))
+                .build());
+        return roomId;
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password123")
+                .name(name)
+                .nickname(name)
+                .phone("01012345678")
+                .build();
+    }
+}
@@ -0,0 +1,281 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.ChatRoom;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.Message;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomPurgeRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.MessageRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.NotificationRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatMessageIdGenerator;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatMessageJournal;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatMessageWriteBehind;
+import com.jeju_nongdi.jeju_nongdi.service.ChatService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@Slf4j
+@SpringBootTest(properties = {
+        "chat.write-behind.enabled=true",
+        "chat.write-behind.durability=JOURNAL"
+})
+@ActiveProfiles("test")
+@Tag("performance")
+@DisplayName("채팅 메시지 write-behind 성능/복구 테스트")
+class ChatWriteBehindBenchmarkTest {
+
+    private static final int MESSAGE_COUNT = 1_000;
+    private static final Path JOURNAL_DIR = createJournalDir();
+
+    @DynamicPropertySource
+    static void journalProperties(DynamicPropertyRegistry registry) {
+        registry.add("chat.write-behind.journal-dir", JOURNAL_DIR::toString);
+    }
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatMessageWriteBehind messageWriteBehind;
+
+    @Autowired
+    private ChatMessageIdGenerator idGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ChatRoomPurgeRepository purgeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User farmer;
+    private User worker;
+    private String roomId;
+
+    @BeforeEach
+    void setUp() {
+        farmer = userRepository.save(user("wb-farmer"));
+        worker = userRepository.save(user("wb-worker"));
+        roomId = ChatRoom.generateBaseRoomId(farmer.getId(), worker.getId());
+        chatRoomRepository.save(ChatRoom.builder()
+                .roomId(roomId)
+                .user1Id(Math.min(farmer.getId(), worker.getId()))
+                .user2Id(Math.max(farmer.getId(), worker.getId()))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        purgeRepository.deleteAllInBatch();
+        messageRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM messages_archive");
+        notificationRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("write-behind 경로의 초당 처리량을 측정한다 (동기 경로는 SynchronousPath에서 측정)")
+    void measuresWriteBehindThroughput() throws Exception {
+        // given: 워밍업
+        sendMessages(50);
+        assertThat(messageWriteBehind.awaitFlush(Duration.ofSeconds(10))).isTrue();
+
+        // when: write-behind 경로 (DB 반영 완료까지 포함)
+        long writeBehindStart = System.nanoTime();
+        sendMessages(MESSAGE_COUNT);
+        long acceptedNanos = System.nanoTime() - writeBehindStart;
+        assertThat(messageWriteBehind.awaitFlush(Duration.ofSeconds(30))).isTrue();
+        long flushedNanos = System.nanoTime() - writeBehindStart;
+
+        // then
+        double acceptedRate = MESSAGE_COUNT / (acceptedNanos / 1e9);
+        double flushedRate = MESSAGE_COUNT / (flushedNanos / 1e9);
+        log.info("채팅 메시지 처리량: write-behind 접수={} msg/s, write-behind 반영 완료={} msg/s",
+                Math.round(acceptedRate), Math.round(flushedRate));
+
+        assertRoomSummary(50 + MESSAGE_COUNT);
+    }
+
+    @Test
+    @DisplayName("재시작 시 저널에만 남은 메시지를 DB에 반영하고 이미 반영된 메시지는 건너뛴다")
+    void recoversJournaledMessagesAfterCrash() throws Exception {
+        // given: 세 건 중 첫 번째만 DB에 반영된 뒤 비정상 종료된 상태
+        Path crashDir = Files.createTempDirectory("chat-journal-crash");
+        List<Message> journaled = new ArrayList<>();
+        try (ChatMessageJournal journal = ChatMessageJournal.open(crashDir, 1024, false)) {
+            for (int i = 0; i < 3; i++) {
+                Message message = Message.builder()
+                        .id(idGenerator.nextId())
+                        .roomId(roomId)
+                        .senderId(farmer.getId())
+                        .receiverId(worker.getId())
+                        .content("저널 메시지 " + i)
+                        .createdAt(LocalDateTime.now())
+                        .build();
+                journal.append(message);
+                journaled.add(message);
+            }
+        }
+        ReflectionTestUtils.invokeMethod(messageWriteBehind, "persistBatch", List.of(journaled.get(0)));
+
+        // when
+        int recovered = messageWriteBehind.recoverJournal(crashDir);
+
+        // then
+        assertThat(recovered).isEqualTo(2);
+        assertThat(messageRepository.countByRoomId(roomId)).isEqualTo(3);
+        assertThat(chatRoomRepository.findById(roomId).orElseThrow().getLastMessageId())
+                .isEqualTo(journaled.get(2).getId());
+        assertThat(ChatMessageJournal.readAll(crashDir)).isEmpty();
+        assertThat(messageWriteBehind.recoverJournal(crashDir)).isZero();
+    }
+
+    @Test
+    @DisplayName("복구 중 반영에 실패한 메시지가 있으면 저널을 지우지 않는다")
+    void keepsJournalWhenMessageCannotBePersisted() throws Exception {
+        // given: 같은 ID가 두 번 기록되어 두 번째 레코드는 반영할 수 없는 저널
+        Path crashDir = Files.createTempDirectory("chat-journal-failed");
+        Message message = Message.builder()
+                .id(idGenerator.nextId())
+                .roomId(roomId)
+                .senderId(farmer.getId())
+                .receiverId(worker.getId())
+                .content("중복 기록된 메시지")
+                .createdAt(LocalDateTime.now())
+                .build();
+        try (ChatMessageJournal journal = ChatMessageJournal.open(crashDir, 1024, false)) {
+            journal.append(message);
+            journal.append(message);
+        }
+
+        // when
+        int recovered = messageWriteBehind.recoverJournal(crashDir);
+
+        // then
+        assertThat(recovered).isEqualTo(1);
+        assertThat(messageRepository.countByRoomId(roomId)).isEqualTo(1);
+        assertThat(ChatMessageJournal.readAll(crashDir)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("완전 삭제 직전에 보낸 메시지가 아직 DB에 반영되지 않았어도 함께 정리된다")
+    void purgesMessagesStillBufferedAtHardDelete() {
+        // given
+        sendMessages(20);
+
+        // when
+        chatService.softDeleteRoom(roomId, farmer.getEmail());
+        chatService.softDeleteRoom(roomId, worker.getEmail());
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).until(() -> purgeRepository.count() == 0);
+        assertThat(messageRepository.countByRoomId(roomId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM messages_archive WHERE room_id = ?", Long.class, roomId))
+                .isEqualTo(20);
+    }
+
+    @Nested
+    @TestPropertySource(properties = "chat.write-behind.enabled=false")
+    @DisplayName("write-behind 비활성화 시")
+    class SynchronousPath {
+
+        @Autowired
+        private ChatService synchronousChatService;
+
+        @Autowired
+        private ChatMessageWriteBehind disabledWriteBehind;
+
+        @Test
+        @DisplayName("동기 저장 경로의 초당 처리량을 측정한다")
+        void measuresSynchronousThroughput() {
+            // given: 워밍업
+            sendMessages(synchronousChatService, 50);
+
+            // when: 기존 경로 (메시지마다 INSERT + 요약 갱신 + 커밋)
+            long syncStart = System.nanoTime();
+            sendMessages(synchronousChatService, MESSAGE_COUNT);
+            long syncNanos = System.nanoTime() - syncStart;
+
+            // then
+            log.info("채팅 메시지 처리량: 동기={} msg/s", Math.round(MESSAGE_COUNT / (syncNanos / 1e9)));
+            assertThat(disabledWriteBehind.isActive()).isFalse();
+            assertRoomSummary(50 + MESSAGE_COUNT);
+        }
+    }
+
+    private void assertRoomSummary(int expectedMessages) {
+        assertThat(messageRepository.countByRoomId(roomId)).isEqualTo(expectedMessages);
+        ChatRoom room = chatRoomRepository.findById(roomId).orElseThrow();
+        int workerUnread = room.getUser1Id().equals(worker.getId()) ? room.getUser1UnreadCount() : room.getUser2UnreadCount();
+        assertThat(workerUnread).isEqualTo(expectedMessages);
+        assertThat(room.getLastMessageId()).isEqualTo(messageRepository.findLatestByRoomId(roomId, PageRequest.of(0, 1))
+                .getContent().get(0).getId());
+    }
+
+    private void sendMessages(int count) {
+        sendMessages(chatService, count);
+    }
+
+    private void sendMessages(ChatService service, int count) {
+        for (int i = 0; i < count; i++) {
+            service.saveAndBroadcastMessage(roomId, farmer.getEmail(), "메시지 " + i);
+        }
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password123")
+                .name(name)
+                .nickname(name)
+                .phone("01012345678")
+                .build();
+    }
+
+    private static Path createJournalDir() {
+        try {
+            return Files.createTempDirectory("chat-journal");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
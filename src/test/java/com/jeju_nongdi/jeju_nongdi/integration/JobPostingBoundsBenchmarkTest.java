@@ -0,0 +1,169 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.dto.JobPostingResponse;
+import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.JobPostingRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.JobPostingService;
+import com.jeju_nongdi.jeju_nongdi.service.Map.JobPostingSpatialIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지도 영역 조회의 DB 경로와 공간 색인 경로 비교 (공고 10만 건)
+ *
+ * JMH 의존성이 없어 다른 성능 테스트와 같이 워밍업 후 반복 실행 평균으로 비교합니다.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("performance")
+@DisplayName("일손 모집 공고 지도 영역 조회 성능 테스트")
+class JobPostingBoundsBenchmarkTest {
+
+    private static final int POSTING_COUNT = 100_000;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int ITERATIONS = 100;
+    // 영역 내 전체 행 조회는 한 번에 수만 건을 읽으므로 적게 반복
+    private static final int FULL_SCAN_ITERATIONS = 5;
+
+    // 제주도 전체 화면
+    private static final double MIN_LAT = 33.25;
+    private static final double MAX_LAT = 33.50;
+    private static final double MIN_LNG = 126.26;
+    private static final double MAX_LNG = 126.72;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO job_postings (title, description, farm_name, address, latitude, longitude, crop_type, work_type,
+                wages, wage_type, work_start_date, work_end_date, recruitment_count, status, user_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private JobPostingService jobPostingService;
+
+    @Autowired
+    private JobPostingSpatialIndex spatialIndex;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        User farmer = userRepository.save(User.builder()
+                .email("bounds-farmer@test.com")
+                .password("password123")
+                .name("bounds-farmer")
+                .nickname("bounds-farmer")
+                .phone("01012345678")
+                .build());
+
+        Random random = new Random(7);
+        LocalDateTime base = LocalDateTime.now().minusYears(1);
+        LocalDate start = LocalDate.now().plusDays(7);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < POSTING_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            batch.add(new Object[]{
+                    "감귤 수확 " + i, "설명 ".repeat(50), "농장 " + i, "제주특별자치도 제주시",
+                    33.15 + random.nextDouble() * 0.45, 126.10 + random.nextDouble() * 0.90,
+                    JobPosting.CropType.TANGERINE.name(), JobPosting.WorkType.HARVESTING.name(),
+                    100_000, JobPosting.WageType.DAILY.name(), Date.valueOf(start), Date.valueOf(start.plusDays(5)),
+                    3, random.nextInt(10) == 0 ? JobPosting.JobStatus.CLOSED.name() : JobPosting.JobStatus.ACTIVE.name(),
+                    farmer.getId(), createdAt, createdAt
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        spatialIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(spatialIndex, "ready", true);
+        jdbcTemplate.update("DELETE FROM job_postings");
+        userRepository.deleteAll();
+        spatialIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("영역 내 첫 페이지 조회를 DB 경로와 공간 색인 경로로 비교한다")
+    void comparesBoundsPageWithSqlPath() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Supplier<List<JobPostingResponse>> page = () ->
+                jobPostingService.getJobPostingsByBounds(MIN_LAT, MAX_LAT, MIN_LNG, MAX_LNG, pageable);
+
+        // given
+        assertThat(spatialIndex.isReady()).isTrue();
+        long activeCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_postings WHERE status = 'ACTIVE'", Long.class);
+        assertThat(spatialIndex.size()).isEqualTo((int) activeCount);
+
+        // when: 기존 경로 (영역 내 전체 행 조회)
+        double listMillis = measure(() -> jobPostingRepository.findByBounds(
+                JobPosting.JobStatus.ACTIVE, MIN_LAT, MAX_LAT, MIN_LNG, MAX_LNG), FULL_SCAN_ITERATIONS);
+
+        // when: DB 페이징 경로 (색인이 준비되지 않았을 때)
+        ReflectionTestUtils.setField(spatialIndex, "ready", false);
+        List<JobPostingResponse> sqlPage = page.get();
+        double sqlMillis = measure(page, ITERATIONS);
+
+        // when: 공간 색인 경로
+        ReflectionTestUtils.setField(spatialIndex, "ready", true);
+        List<JobPostingResponse> indexPage = page.get();
+        double indexMillis = measure(page, ITERATIONS);
+
+        // then
+        log.info("지도 영역 조회 평균 (공고 {}건): 전체 행 조회={}ms, DB 페이징={}ms, 공간 색인={}ms",
+                POSTING_COUNT, String.format("%.2f", listMillis), String.format("%.2f", sqlMillis),
+                String.format("%.2f", indexMillis));
+
+        assertThat(indexPage).hasSize(20);
+        assertThat(indexPage).extracting(JobPostingResponse::getId)
+                .containsExactlyElementsOf(sqlPage.stream().map(JobPostingResponse::getId).toList());
+    }
+
+    private static double measure(Supplier<?> call, int iterations) {
+        // 워밍업
+        for (int i = 0; i < Math.max(1, iterations / 5); i++) {
+            call.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            call.get();
+        }
+        return (System.nanoTime() - start) / 1e6 / iterations;
+    }
+}
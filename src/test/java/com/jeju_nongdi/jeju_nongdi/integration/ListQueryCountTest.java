@@ -0,0 +1,200 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.entity.IdleFarmland;
+import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
+import com.jeju_nongdi.jeju_nongdi.entity.Mentoring;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.IdleFarmlandRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.JobPostingRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.MentoringRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.IdleFarmlandService;
+import com.jeju_nongdi.jeju_nongdi.service.JobPostingService;
+import com.jeju_nongdi.jeju_nongdi.service.Map.JobPostingSpatialIndex;
+import com.jeju_nongdi.jeju_nongdi.service.MentoringService;
+import com.jeju_nongdi.jeju_nongdi.service.UserProfileCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회에서 작성자 정보를 행마다 지연 로딩하지 않는지 확인 (N+1 회귀 테스트)
+ *
+ * 작성자가 모두 다른 글 AUTHOR_COUNT건을 조회해도 실행되는 쿼리는 목록, 개수, 작성자 일괄 조회를 넘지 않아야 합니다.
+ * Hibernate가 준비한 모든 SQL을 세고, 작성자 조회가 캐시로 가려지지 않도록 측정 전마다 프로필 캐시를 비웁니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("목록 조회 쿼리 수 테스트")
+class ListQueryCountTest {
+
+    private static final int AUTHOR_COUNT = 30;
+    private static final int MAX_STATEMENTS = 3;
+
+    @Autowired
+    private JobPostingService jobPostingService;
+
+    @Autowired
+    private IdleFarmlandService idleFarmlandService;
+
+    @Autowired
+    private MentoringService mentoringService;
+
+    @Autowired
+    private JobPostingSpatialIndex spatialIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private IdleFarmlandRepository idleFarmlandRepository;
+
+    @Autowired
+    private MentoringRepository mentoringRepository;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<Long> authorIds;
+
+    @BeforeEach
+    void setUp() {
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            authors.add(User.builder()
+                    .email("list-author" + i + "@test.com")
+                    .password("password123")
+                    .name("list-author" + i)
+                    .nickname("list-author" + i)
+                    .phone("01012345678")
+                    .build());
+        }
+        authors = userRepository.saveAll(authors);
+        authorIds = authors.stream().map(User::getId).toList();
+
+        List<JobPosting> jobPostings = new ArrayList<>();
+        List<IdleFarmland> farmlands = new ArrayList<>();
+        List<Mentoring> mentorings = new ArrayList<>();
+        for (int i = 0; i < authors.size(); i++) {
+            User author = authors.get(i);
+            BigDecimal latitude = new BigDecimal("33.40").add(BigDecimal.valueOf(i, 3));
+            jobPostings.add(JobPosting.builder()
+                    .title("감귤 수확 " + i)
+                    .description("감귤 수확 일손을 구합니다.")
+                    .farmName("농장 " + i)
+                    .address("제주특별자치도 제주시 애월읍")
+                    .latitude(latitude)
+                    .longitude(new BigDecimal("126.50"))
+                    .cropType(JobPosting.CropType.TANGERINE)
+                    .workType(JobPosting.WorkType.HARVESTING)
+                    .wages(100000)
+                    .wageType(JobPosting.WageType.DAILY)
+                    .workStartDate(LocalDate.now().plusDays(7))
+                    .workEndDate(LocalDate.now().plusDays(14))
+                    .recruitmentCount(3)
+                    .author(author)
+                    .build());
+            farmlands.add(IdleFarmland.builder()
+                    .title("유휴 농지 " + i)
+                    .description("애월읍 유휴 농지입니다.")
+                    .farmlandName("농지 " + i)
+                    .address("제주특별자치도 제주시 애월읍")
+                    .latitude(latitude)
+                    .longitude(new BigDecimal("126.30"))
+                    .areaSize(new BigDecimal("1000.00"))
+                    .usageType(IdleFarmland.UsageType.CULTIVATION)
+                    .monthlyRent(500000)
+                    .owner(author)
+                    .build());
+            mentorings.add(Mentoring.builder()
+                    .title("멘토 구합니다 " + i)
+                    .description("감귤 재배 멘토를 구합니다.")
+                    .mentoringType(Mentoring.MentoringType.MENTOR_WANTED)
+                    .category(Mentoring.Category.CROP_CULTIVATION)
+                    .experienceLevel(Mentoring.ExperienceLevel.BEGINNER)
+                    .contactEmail(author.getEmail())
+                    .user(author)
+                    .build());
+        }
+        jobPostingRepository.saveAll(jobPostings);
+        idleFarmlandRepository.saveAll(farmlands);
+        mentoringRepository.saveAll(mentorings);
+        spatialIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobPostingRepository.deleteAll();
+        idleFarmlandRepository.deleteAll();
+        mentoringRepository.deleteAll();
+        userRepository.deleteAll();
+        spatialIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("일손 모집 공고 목록 조회는 작성자 수와 관계없이 정해진 쿼리 수 안에서 실행된다")
+    void jobPostingListsDoNotLoadAuthorsPerRow() {
+        assertStatementsAtMost(() -> jobPostingService.getActiveJobPostings(PageRequest.of(0, 50)).getContent());
+        assertStatementsAtMost(() -> jobPostingService.getFilteredJobPostings(null, null, null));
+        assertStatementsAtMost(() -> jobPostingService.getJobPostingsWithAdvancedFilters(
+                null, null, null, null, null, null));
+        assertStatementsAtMost(() -> jobPostingService.getJobPostingsByBounds(
+                33.0, 34.0, 126.0, 127.0, PageRequest.of(0, 50)));
+        assertStatementsAtMost(() -> jobPostingService.getJobPostingsByBoundsWithFilters(
+                33.0, 34.0, 126.0, 127.0, null, null, null));
+    }
+
+    @Test
+    @DisplayName("유휴 농지 목록 조회는 소유자 수와 관계없이 정해진 쿼리 수 안에서 실행된다")
+    void idleFarmlandListsDoNotLoadOwnersPerRow() {
+        assertStatementsAtMost(() -> idleFarmlandService.getIdleFarmlands(PageRequest.of(0, 50)).getContent());
+        assertStatementsAtMost(() -> idleFarmlandService.searchIdleFarmlands(
+                null, null, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("멘토링 목록 조회는 작성자 수와 관계없이 정해진 쿼리 수 안에서 실행된다")
+    void mentoringListsDoNotLoadAuthorsPerRow() {
+        assertStatementsAtMost(() -> mentoringService.getMentorings(PageRequest.of(0, 50)).getContent());
+        assertStatementsAtMost(() -> mentoringService.searchMentorings(null, null, null, null, null));
+        assertStatementsAtMost(() -> mentoringService.getMentoringsByType(Mentoring.MentoringType.MENTOR_WANTED));
+        assertStatementsAtMost(() -> mentoringService.getMentoringsByCategory(Mentoring.Category.CROP_CULTIVATION));
+    }
+
+    private void assertStatementsAtMost(Supplier<List<?>> listCall) {
+        // given: 작성자 프로필을 매번 DB에서 읽도록 캐시를 비움
+        authorIds.forEach(userProfileCache::evict);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<?> result = listCall.get();
+        long statementCount = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(result).hasSize(AUTHOR_COUNT);
+        assertThat(statementCount).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+}
@@ -0,0 +1,139 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandMarkerView;
+import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerView;
+import com.jeju_nongdi.jeju_nongdi.entity.IdleFarmland;
+import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.IdleFarmlandRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.JobPostingRepository;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("지도 마커 프로젝션 쿼리 테스트")
+class MapMarkerProjectionQueryTest {
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private IdleFarmlandRepository idleFarmlandRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private JobPosting jobPosting;
+
+    @BeforeEach
+    void setUp() {
+        User farmer = userRepository.save(User.builder()
+                .email("marker-farmer@test.com")
+                .password("password123")
+                .name("marker-farmer")
+                .nickname("marker-farmer")
+                .phone("01012345678")
+                .build());
+
+        jobPosting = jobPostingRepository.save(JobPosting.builder()
+                .title("감귤 수확 일손 구합니다")
+                .description("긴 본문 ".repeat(100))
+                .farmName("제주 감귤농장")
+                .address("제주특별자치도 제주시 애월읍")
+                .latitude(new BigDecimal("33.450000"))
+                .longitude(new BigDecimal("126.500000"))
+                .cropType(JobPosting.CropType.TANGERINE)
+                .workType(JobPosting.WorkType.HARVESTING)
+                .wages(100000)
+                .wageType(JobPosting.WageType.DAILY)
+                .workStartDate(LocalDate.now().plusDays(7))
+                .workEndDate(LocalDate.now().plusDays(14))
+                .recruitmentCount(3)
+                .author(farmer)
+                .build());
+
+        idleFarmlandRepository.save(IdleFarmland.builder()
+                .title("애월읍 유휴 농지")
+                .description("긴 본문 ".repeat(100))
+                .farmlandName("애월 농지")
+                .address("제주특별자치도 제주시 애월읍")
+                .latitude(new BigDecimal("33.460000"))
+                .longitude(new BigDecimal("126.330000"))
+                .areaSize(new BigDecimal("1000.00"))
+                .usageType(IdleFarmland.UsageType.CULTIVATION)
+                .monthlyRent(500000)
+                .owner(farmer)
+                .build());
+
+        RecordingStatementInspector.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RecordingStatementInspector.stop();
+        jobPostingRepository.deleteAll();
+        idleFarmlandRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("일손 모집 공고 마커 조회는 본문 컬럼과 작성자 조인 없이 실행된다")
+    void jobPostingMarkerQueriesSelectMarkerColumnsOnly() {
+        // when
+        List<JobPostingMarkerView> all = jobPostingRepository.findAllForMap(JobPosting.JobStatus.ACTIVE);
+        List<JobPostingMarkerView> inBounds = jobPostingRepository.findMarkersByBounds(
+                JobPosting.JobStatus.ACTIVE, 33.0, 34.0, 126.0, 127.0, PageRequest.of(0, 500));
+        List<JobPostingMarkerView> byId = jobPostingRepository.findMarkersByIdIn(List.of(jobPosting.getId()));
+        List<JobPostingMarkerView> byAddress = jobPostingRepository.findMarkersByAddress(
+                "애월읍", JobPosting.JobStatus.ACTIVE);
+
+        // then
+        assertThat(all).extracting(JobPostingMarkerView::id).containsExactly(jobPosting.getId());
+        assertThat(inBounds).extracting(JobPostingMarkerView::title).containsExactly("감귤 수확 일손 구합니다");
+        assertThat(byId).hasSize(1);
+        assertThat(byAddress).hasSize(1);
+        assertMarkerColumnsOnly("job_postings", 4);
+    }
+
+    @Test
+    @DisplayName("유휴 농지 마커 조회는 본문 컬럼과 소유자 조인 없이 실행된다")
+    void idleFarmlandMarkerQueriesSelectMarkerColumnsOnly() {
+        // when
+        List<IdleFarmlandMarkerView> all = idleFarmlandRepository.findAllAvailableForMap();
+        List<IdleFarmlandMarkerView> byRegion = idleFarmlandRepository.findByRegionForMap("애월읍");
+
+        // then
+        assertThat(all).extracting(IdleFarmlandMarkerView::title).containsExactly("애월읍 유휴 농지");
+        assertThat(byRegion).hasSize(1);
+        assertMarkerColumnsOnly("idle_farmlands", 2);
+    }
+
+    private static void assertMarkerColumnsOnly(String table, int expectedStatements) {
+        // 다른 스케줄 작업의 쿼리는 제외하고 해당 테이블 조회만 확인
+        List<String> statements = RecordingStatementInspector.stop().stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from " + table))
+                .toList();
+        assertThat(statements).hasSize(expectedStatements);
+        assertThat(statements).allSatisfy(sql -> assertThat(sql)
+                .doesNotContain("description")
+                .doesNotContain("contact_")
+                .doesNotContain("user_id")
+                .doesNotContain("users")
+                .doesNotContain(" join "));
+    }
+}
@@ -0,0 +1,44 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hibernate가 실행하는 SQL 기록 (application-test.properties의 session_factory.statement_inspector 로 등록)
+ *
+ * 모든 테스트 컨텍스트에 등록되므로 start() 이후 stop() 전까지만 기록합니다.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+    private static volatile boolean recording;
+
+    /**
+     * 이전 기록을 비우고 기록을 시작합니다.
+     */
+    public static void start() {
+        STATEMENTS.clear();
+        recording = true;
+    }
+
+    /**
+     * 기록을 멈추고 start() 이후 실행된 SQL을 반환합니다.
+     */
+    public static List<String> stop() {
+        recording = false;
+        List<String> statements = List.copyOf(STATEMENTS);
+        STATEMENTS.clear();
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (recording) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,110 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.service.RetentionArchiveJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "retention.notification-days=30",
+        "retention.min-chunk-size=2",
+        "retention.max-chunk-size=4",
+        "retention.throttle-ratio=0"
+})
+@ActiveProfiles("test")
+@DisplayName("알림/메시지 보관 작업 테스트")
+class RetentionArchiveJobTest {
+
+    @Autowired
+    private RetentionArchiveJob retentionArchiveJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notifications");
+        jdbcTemplate.update("DELETE FROM notifications_archive");
+        jdbcTemplate.update("DELETE FROM messages");
+        jdbcTemplate.update("DELETE FROM messages_archive");
+        jdbcTemplate.update("DELETE FROM chat_rooms");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 읽은 알림만 여러 청크에 걸쳐 보관 테이블로 옮긴다")
+    void archivesOnlyOldReadNotifications() {
+        // given
+        LocalDateTime old = LocalDateTime.now().minusDays(31);
+        for (int i = 0; i < 9; i++) {
+            insertNotification(1L, true, old);
+        }
+        insertNotification(1L, false, old);
+        insertNotification(1L, true, LocalDateTime.now().minusDays(1));
+
+        // when
+        RetentionArchiveJob.Result result = retentionArchiveJob.run();
+
+        // then
+        assertThat(result.notifications()).isEqualTo(9);
+        assertThat(count("notifications")).isEqualTo(2);
+        assertThat(count("notifications_archive")).isEqualTo(9);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE is_read = FALSE", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채팅방이 삭제된 메시지만 보관하고 다시 실행해도 중복 보관하지 않는다")
+    void archivesMessagesOfDeletedRoomsIdempotently() {
+        // given
+        jdbcTemplate.update("INSERT INTO chat_rooms (room_id, user1_id, user2_id, user1_unread_count, user2_unread_count) VALUES (?, ?, ?, 0, 0)",
+                "1_2", 1L, 2L);
+        for (int i = 0; i < 3; i++) {
+            insertMessage("1_2");
+        }
+        for (int i = 0; i < 7; i++) {
+            insertMessage("3_4");
+        }
+
+        // when
+        RetentionArchiveJob.Result first = retentionArchiveJob.run();
+        RetentionArchiveJob.Result second = retentionArchiveJob.run();
+
+        // then
+        assertThat(first.messages()).isEqualTo(7);
+        assertThat(second.messages()).isZero();
+        assertThat(count("messages")).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM messages_archive WHERE room_id = '3_4'", Long.class)).isEqualTo(7);
+        assertThat(meterRegistry.get("retention.archived").tag("table", "messages").functionCounter().count())
+                .isGreaterThanOrEqualTo(7.0);
+    }
+
+    private void insertNotification(Long userId, boolean read, LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO notifications (user_id, type, message, is_read, coalesced_count, created_at)
+                VALUES (?, 'COMMENT', '댓글 알림', ?, 1, ?)
+                """, userId, read, Timestamp.valueOf(createdAt));
+    }
+
+    private void insertMessage(String roomId) {
+        jdbcTemplate.update("INSERT INTO messages (room_id, sender_id, receiver_id, content, created_at) VALUES (?, 1, 2, '메시지', ?)",
+                roomId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
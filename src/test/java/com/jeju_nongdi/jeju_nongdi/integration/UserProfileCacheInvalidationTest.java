@@ -0,0 +1,73 @@
+package com.jeju_nongdi.jeju_nongdi.integration;
+
+import com.jeju_nongdi.jeju_nongdi.dto.UpdateProfileImageRequest;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.UserProfileCache;
+import com.jeju_nongdi.jeju_nongdi.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("사용자 프로필 캐시 무효화 테스트")
+class UserProfileCacheInvalidationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("사용자 정보가 수정되면 캐시된 프로필을 다시 조회한다")
+    void evictsProfileOnUserUpdate() {
+        // given
+        User user = userRepository.save(user("cache-update"));
+        assertThat(userProfileCache.get(user.getId()).profileImage()).isNull();
+
+        // when
+        userService.updateProfileImage(user.getEmail(), new UpdateProfileImageRequest("https://example.com/new.png"));
+
+        // then
+        assertThat(userProfileCache.get(user.getId()).profileImage()).isEqualTo("https://example.com/new.png");
+    }
+
+    @Test
+    @DisplayName("사용자가 삭제되면 캐시된 프로필도 제거된다")
+    void evictsProfileOnUserDelete() {
+        // given
+        User user = userRepository.save(user("cache-delete"));
+        assertThat(userProfileCache.get(user.getId())).isNotNull();
+
+        // when
+        userRepository.delete(user);
+
+        // then
+        assertThat(userProfileCache.get(user.getId())).isNull();
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password123")
+                .name(name)
+                .nickname(name)
+                .phone("01012345678")
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.jeju_nongdi.jeju_nongdi.security;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomMembers;
+import com.jeju_nongdi.jeju_nongdi.service.Chat.ChatRoomMembershipCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatSubscriptionInterceptor 테스트")
+class ChatSubscriptionInterceptorTest {
+
+    private static final StompPrincipal FARMER = new StompPrincipal(1L, "farmer@test.com", "농부김씨");
+
+    @Mock
+    private ChatRoomMembershipCache membershipCache;
+
+    @InjectMocks
+    private ChatSubscriptionInterceptor interceptor;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    @DisplayName("채팅방 참여자는 채팅방 토픽을 구독할 수 있다")
+    void allowsMemberToSubscribe() {
+        // given
+        given(membershipCache.get("1_2")).willReturn(new ChatRoomMembers(1L, 2L));
+        Message<byte[]> subscribe = subscribe("/topic/chat/room/1_2", FARMER);
+
+        // when & then
+        assertThat(interceptor.preSend(subscribe, channel)).isSameAs(subscribe);
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 다른 채팅방 토픽을 구독할 수 없다")
+    void rejectsNonMember() {
+        // given
+        given(membershipCache.get("2_3")).willReturn(new ChatRoomMembers(2L, 3L));
+        Message<byte[]> subscribe = subscribe("/topic/chat/room/2_3", FARMER);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(subscribe, channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("입력 중 표시 토픽도 채팅방 참여자만 구독할 수 있다")
+    void checksMembershipForTypingTopic() {
+        // given
+        given(membershipCache.get("1_2")).willReturn(new ChatRoomMembers(1L, 2L));
+        given(membershipCache.get("2_3")).willReturn(new ChatRoomMembers(2L, 3L));
+
+        // when & then
+        assertThat(interceptor.preSend(subscribe("/topic/chat/room/1_2/typing", FARMER), channel)).isNotNull();
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/topic/chat/room/2_3/typing", FARMER), channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 채팅방은 구독할 수 없다")
+    void rejectsUnknownRoom() {
+        Message<byte[]> subscribe = subscribe("/topic/chat/room/1_99", FARMER);
+
+        assertThatThrownBy(() -> interceptor.preSend(subscribe, channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("본인 알림 토픽만 구독할 수 있다")
+    void allowsOnlyOwnNotificationTopic() {
+        assertThat(interceptor.preSend(subscribe("/topic/notifications/1", FARMER), channel)).isNotNull();
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/topic/notifications/2", FARMER), channel))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(membershipCache);
+    }
+
+    @Test
+    @DisplayName("와일드카드나 패턴이 들어간 토픽은 구독할 수 없다")
+    void rejectsPatternDestinations() {
+        for (String destination : List.of("/topic/**", "/topic/chat/**", "/topic/notifications*",
+                "/topic/chat/room/*", "/topic/notifications/?", "/topic/chat/room/{roomId}")) {
+            assertThatThrownBy(() -> interceptor.preSend(subscribe(destination, FARMER), channel))
+                    .as(destination)
+                    .isInstanceOf(AccessDeniedException.class);
+        }
+        verifyNoInteractions(membershipCache);
+    }
+
+    @Test
+    @DisplayName("허용 목록에 없는 토픽은 구독할 수 없다")
+    void rejectsUnknownTopics() {
+        for (String destination : List.of("/topic", "/topic/", "/topic/chat", "/topic/chat/room/",
+                "/topic/other/1", "/topic/notifications")) {
+            assertThatThrownBy(() -> interceptor.preSend(subscribe(destination, FARMER), channel))
+                    .as(destination)
+                    .isInstanceOf(AccessDeniedException.class);
+        }
+        verifyNoInteractions(membershipCache);
+    }
+
+    @Test
+    @DisplayName("채팅방 토픽은 허용된 하위 토픽만 구독할 수 있다")
+    void allowsOnlyKnownChatRoomSubtopics() {
+        // given
+        given(membershipCache.get("1_2")).willReturn(new ChatRoomMembers(1L, 2L));
+
+        // when & then
+        assertThat(interceptor.preSend(subscribe("/topic/chat/room/1_2/compact", FARMER), channel)).isNotNull();
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/topic/chat/room/1_2/other", FARMER), channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("/topic/chat/room/1_2/typing/x", FARMER), channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("/topic 밖의 목적지는 이 인터셉터가 막지 않는다")
+    void ignoresNonTopicDestinations() {
+        Message<byte[]> subscribe = subscribe("/user/queue/errors", FARMER);
+
+        assertThat(interceptor.preSend(subscribe, channel)).isSameAs(subscribe);
+    }
+
+    private Message<byte[]> subscribe(String destination, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setSessionId("session-1");
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
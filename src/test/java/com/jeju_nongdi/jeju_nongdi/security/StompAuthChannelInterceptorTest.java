@@ -0,0 +1,143 @@
+package com.jeju_nongdi.jeju_nongdi.security;
+
+import com.jeju_nongdi.jeju_nongdi.dto.UserProfile;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.UserProfileCache;
+import com.jeju_nongdi.jeju_nongdi.util.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompAuthChannelInterceptor 테스트")
+class StompAuthChannelInterceptorTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @InjectMocks
+    private StompAuthChannelInterceptor interceptor;
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    @DisplayName("CONNECT 프레임의 토큰을 검증하고 세션 사용자로 StompPrincipal을 등록한다")
+    void attachesPrincipalOnConnect() {
+        // given
+        given(jwtUtil.validateToken("valid-token")).willReturn(true);
+        given(jwtUtil.getEmailFromToken("valid-token")).willReturn("farmer@test.com");
+        given(userRepository.findIdByEmail("farmer@test.com")).willReturn(Optional.of(1L));
+        given(userProfileCache.get(1L)).willReturn(profile(1L, "farmer@test.com", "농부김씨"));
+        Message<byte[]> connect = frame(StompCommand.CONNECT, "Bearer valid-token", null);
+
+        // when
+        Message<?> result = interceptor.preSend(connect, channel);
+
+        // then
+        Principal user = StompHeaderAccessor.wrap(result).getUser();
+        assertThat(user).isEqualTo(new StompPrincipal(1L, "farmer@test.com", "농부김씨"));
+        assertThat(user.getName()).isEqualTo("farmer@test.com");
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰이면 연결을 거부한다")
+    void rejectsInvalidToken() {
+        // given
+        given(jwtUtil.validateToken("bad-token")).willReturn(false);
+        Message<byte[]> connect = frame(StompCommand.CONNECT, "Bearer bad-token", null);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preSend(connect, channel))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("토큰 헤더가 없으면 핸드셰이크에서 인증된 사용자를 DB 조회 없이 변환한다")
+    void usesHandshakeAuthenticationWithoutLookup() {
+        // given
+        User user = User.builder()
+                .id(2L)
+                .email("worker@test.com")
+                .password("password123")
+                .name("worker")
+                .nickname("일꾼")
+                .phone("01012345678")
+                .build();
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null,
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        // when
+        Message<?> result = interceptor.preSend(connect, channel);
+
+        // then
+        assertThat(StompHeaderAccessor.wrap(result).getUser())
+                .isEqualTo(new StompPrincipal(2L, "worker@test.com", "일꾼"));
+        verifyNoInteractions(jwtUtil, userRepository, userProfileCache);
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없는 CONNECT는 거부한다")
+    void rejectsAnonymousConnect() {
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null, null);
+
+        assertThatThrownBy(() -> interceptor.preSend(connect, channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("SEND 프레임은 토큰 검증이나 사용자 조회 없이 통과한다")
+    void sendFramesSkipLookup() {
+        // given
+        Message<byte[]> send = frame(StompCommand.SEND, null, new StompPrincipal(1L, "farmer@test.com", "농부김씨"));
+
+        // when
+        Message<?> result = interceptor.preSend(send, channel);
+
+        // then
+        assertThat(result).isSameAs(send);
+        verifyNoInteractions(jwtUtil, userRepository, userProfileCache);
+    }
+
+    private Message<byte[]> frame(StompCommand command, String authorization, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        accessor.setSessionId("session-1");
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private UserProfile profile(Long id, String email, String nickname) {
+        return new UserProfile(id, email, nickname, nickname, "01012345678", null, "USER", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,257 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@Slf4j
+@DisplayName("ChatMessageSearchIndex 테스트")
+class ChatMessageSearchIndexTest {
+
+    private static final String[] WORDS = {
+            "감귤", "수확", "일손", "내일", "오전", "농장", "주소", "알려", "주세요", "하우스", "비닐", "작업",
+            "일당", "점심", "제공", "출발", "도착", "서귀포", "제주시", "한림", "애월", "트럭", "상자", "포장"
+    };
+
+    private ChatMessageSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 저장된 메시지가 없는 DB (MAX(id)가 null)로 시작하여 backfill을 바로 끝냄
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(null);
+        index = searchIndex(jdbcTemplate);
+        index.start();
+        await().atMost(Duration.ofSeconds(5)).until(index::isReady);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stop();
+    }
+
+    @Test
+    @DisplayName("backfill이 끝나기 전에는 검색하지 않는다")
+    void rejectsSearchBeforeBackfill() {
+        // given
+        ChatMessageSearchIndex notReady = searchIndex(mock(JdbcTemplate.class));
+        notReady.add("1_2", 1L, "감귤 수확");
+
+        // when & then
+        assertThat(notReady.isReady()).isFalse();
+        assertThatThrownBy(() -> notReady.search(List.of("1_2"), "감귤", 10))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("backfill이 실패하면 검색 가능 상태로 바뀌지 않고, 다시 시도하여 성공하면 검색할 수 있다")
+    void retriesFailedBackfillBeforeBecomingReady() {
+        // given: DB 장애로 backfill 조회가 실패
+        AtomicBoolean databaseUp = new AtomicBoolean(false);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        willAnswer(invocation -> {
+            if (!databaseUp.get()) {
+                throw new DataAccessResourceFailureException("연결 실패");
+            }
+            return null;
+        }).given(jdbcTemplate).queryForObject(anyString(), eq(Long.class));
+        ChatMessageSearchIndex failing = searchIndex(jdbcTemplate);
+
+        try {
+            // when
+            failing.start();
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    verify(jdbcTemplate, atLeast(2)).queryForObject(anyString(), eq(Long.class)));
+
+            // then: 실패하는 동안에는 검색 불가
+            assertThat(failing.isReady()).isFalse();
+            assertThatThrownBy(() -> failing.search(List.of("1_2"), "감귤", 10))
+                    .isInstanceOf(IllegalStateException.class);
+
+            // when: DB 복구
+            databaseUp.set(true);
+
+            // then
+            await().atMost(Duration.ofSeconds(5)).until(failing::isReady);
+            assertThat(failing.search(List.of("1_2"), "감귤", 10)).isEmpty();
+        } finally {
+            failing.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 단어도 bigram으로 찾는다")
+    void findsWordsWithParticles() {
+        // given
+        index.add("1_2", 1L, "농장 주소를 알려주세요");
+        index.add("1_2", 2L, "내일 오전에 뵙겠습니다");
+
+        // when & then
+        assertThat(index.search(List.of("1_2"), "주소", 10)).containsExactly(1L);
+        assertThat(index.search(List.of("1_2"), "농장주소", 10)).isEmpty();
+        assertThat(index.search(List.of("1_2"), "오전", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("HTML 이스케이프된 내용도 원문 기준으로 색인한다")
+    void indexesUnescapedContent() {
+        index.add("1_2", 1L, "&lt;감귤&gt; &amp; 한라봉");
+
+        assertThat(index.search(List.of("1_2"), "한라봉", 10)).containsExactly(1L);
+        assertThat(index.search(List.of("1_2"), "amp", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주어진 채팅방만 검색하고 결과는 채팅방과 관계없이 최신순이다")
+    void searchesOnlyGivenRoomsNewestFirst() {
+        // given
+        index.add("1_2", 1L, "감귤 수확");
+        index.add("1_3", 2L, "감귤 포장");
+        index.add("2_3", 3L, "감귤 상자");
+        index.add("1_2", 4L, "감귤 일손");
+
+        // when
+        List<Long> result = index.search(List.of("1_2", "1_3"), "감귤", 10);
+
+        // then
+        assertThat(result).containsExactly(4L, 2L, 1L);
+        assertThat(index.search(List.of("1_2", "1_3"), "감귤", 2)).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("같은 메시지를 다시 색인하거나 순서가 바뀌어 들어와도 결과는 한 번씩 오름차순으로 유지된다")
+    void toleratesDuplicatesAndOutOfOrderIds() {
+        // given
+        index.add("1_2", 10L, "감귤 수확");
+        index.add("1_2", 5L, "감귤 포장");
+        index.add("1_2", 10L, "감귤 수확");
+
+        // when & then
+        assertThat(index.search(List.of("1_2"), "감귤", 10)).containsExactly(10L, 5L);
+    }
+
+    @Test
+    @DisplayName("순서가 뒤바뀐 ID가 많이 들어와도 병합된 결과는 중복 없이 정렬된다")
+    void mergesManyOutOfOrderIds() {
+        // given: 짝수 ID를 먼저 넣고 홀수 ID를 역순으로 (버퍼 병합이 여러 번 일어나는 양)
+        for (long id = 2; id <= 400; id += 2) {
+            index.add("1_2", id, "감귤 수확");
+        }
+        for (long id = 399; id >= 1; id -= 2) {
+            index.add("1_2", id, "감귤 수확");
+            index.add("1_2", id, "감귤 수확");
+        }
+
+        // when
+        List<Long> result = index.search(List.of("1_2"), "감귤", 1_000);
+
+        // then
+        assertThat(result).hasSize(400);
+        assertThat(result).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(result.get(0)).isEqualTo(400L);
+        assertThat(result.get(399)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("긴 목록을 건너뛰며 확인해도 모든 bigram을 포함한 메시지만 찾는다")
+    void intersectsLongListsWithSkips() {
+        // given: "감귤"은 모든 메시지, "수확"은 7번째 메시지마다, 일부는 순서가 뒤바뀐 ID
+        List<Long> expected = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            if (id % 7 == 0) {
+                index.add("1_2", id, "감귤 수확");
+                expected.add(0, id);
+            } else if (id % 100 != 50) {
+                index.add("1_2", id, "감귤 포장");
+            }
+        }
+        for (long id = 950; id >= 50; id -= 100) {
+            index.add("1_2", id, "감귤 상자");
+        }
+        index.add("1_2", 450L, "감귤 수확");
+        expected.add(expected.indexOf(455L) + 1, 450L);
+
+        // when
+        List<Long> result = index.search(List.of("1_2"), "감귤 수확", 1_000);
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("삭제된 채팅방의 색인은 제거된다")
+    void dropsRoom() {
+        index.add("1_2", 1L, "감귤 수확");
+
+        index.dropRoom("1_2");
+
+        assertThat(index.search(List.of("1_2"), "감귤", 10)).isEmpty();
+    }
+
+    @Test
+    @Tag("performance")
+    @DisplayName("메시지 100만 건 색인에서 사용자 채팅방 검색이 수 밀리초 안에 끝난다")
+    void searchesMillionMessagesInMilliseconds() {
+        // given: 채팅방 2,000개 x 메시지 500건
+        Random random = new Random(42);
+        long id = 0;
+        for (int room = 0; room < 2_000; room++) {
+            String roomId = "room-" + room;
+            for (int i = 0; i < 500; i++) {
+                StringBuilder content = new StringBuilder();
+                for (int w = 0; w < 6; w++) {
+                    content.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+                }
+                index.add(roomId, ++id, content.toString());
+            }
+        }
+        List<String> userRooms = new ArrayList<>();
+        for (int room = 0; room < 2_000; room += 40) {
+            userRooms.add("room-" + room);
+        }
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            index.search(userRooms, "농장 주소", 50);
+        }
+        int runs = 100;
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            assertThat(index.search(userRooms, "농장 주소", 50)).hasSize(50);
+        }
+        double averageMillis = (System.nanoTime() - start) / 1e6 / runs;
+
+        // then
+        log.info("검색 색인: 메시지 {}건, 사용자 채팅방 {}개, 평균 검색 시간 {}ms",
+                id, userRooms.size(), String.format("%.3f", averageMillis));
+        assertThat(averageMillis).isLessThan(20.0);
+    }
+
+    private ChatMessageSearchIndex searchIndex(JdbcTemplate jdbcTemplate) {
+        return new ChatMessageSearchIndex(jdbcTemplate, new SimpleMeterRegistry(), true, 1000, 1000,
+                Duration.ofMillis(50));
+    }
+}
@@ -0,0 +1,21 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatMessageWriteBehind 테스트")
+class ChatMessageWriteBehindTest {
+
+    @Test
+    @DisplayName("직접 넣은 ID 이후로 AUTO_INCREMENT가 따라오는 DB에서만 활성화할 수 있다")
+    void supportsOnlyDatabasesThatAdvanceAutoIncrement() {
+        assertThat(ChatMessageWriteBehind.isSupportedDatabase("MariaDB", "jdbc:mariadb://localhost:3306/db")).isTrue();
+        assertThat(ChatMessageWriteBehind.isSupportedDatabase("MySQL", "jdbc:mysql://localhost:3306/db")).isTrue();
+        assertThat(ChatMessageWriteBehind.isSupportedDatabase("H2", "jdbc:h2:mem:testdb;MODE=MariaDB")).isTrue();
+
+        assertThat(ChatMessageWriteBehind.isSupportedDatabase("PostgreSQL", "jdbc:postgresql://localhost/db")).isFalse();
+        assertThat(ChatMessageWriteBehind.isSupportedDatabase("H2", "jdbc:h2:mem:testdb")).isFalse();
+    }
+}
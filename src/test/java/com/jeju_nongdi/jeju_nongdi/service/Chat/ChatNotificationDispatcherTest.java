@@ -0,0 +1,92 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.service.NotificationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatNotificationDispatcher 테스트")
+class ChatNotificationDispatcherTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 호출 스레드에서 처리하지 않고 버린 수를 기록한다")
+    void dropsEventsWhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            blocked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(notificationService).upsertChatNotification(anyLong(), anyString(), anyString(), anyString(), anyInt());
+        ChatNotificationDispatcher dispatcher = dispatcher(1, Duration.ofSeconds(5));
+        dispatcher.start();
+
+        // when
+        dispatcher.onMessageSent(event(1L, "1_2"));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.onMessageSent(event(2L, "2_3"));
+        dispatcher.onMessageSent(event(3L, "3_4"));
+
+        // then
+        assertThat(meterRegistry.get("chat.notification.dropped").counter().count()).isEqualTo(1.0);
+        verify(notificationService, never()).upsertChatNotification(eq(3L), anyString(), anyString(), anyString(), anyInt());
+        release.countDown();
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("종료 시 대기열에 남은 이벤트를 모두 처리한다")
+    void drainsQueueOnStop() {
+        // given
+        ChatNotificationDispatcher dispatcher = dispatcher(100, Duration.ofSeconds(5));
+        dispatcher.start();
+        dispatcher.onMessageSent(event(1L, "1_2"));
+        dispatcher.onMessageSent(event(2L, "2_3"));
+
+        // when
+        dispatcher.stop();
+
+        // then
+        verify(notificationService).upsertChatNotification(eq(1L), anyString(), eq("1_2"), anyString(), eq(1));
+        verify(notificationService).upsertChatNotification(eq(2L), anyString(), eq("2_3"), anyString(), eq(1));
+        assertThat(meterRegistry.get("chat.notification.dropped").counter().count()).isZero();
+    }
+
+    private ChatNotificationDispatcher dispatcher(int queueCapacity, Duration shutdownTimeout) {
+        return new ChatNotificationDispatcher(notificationService, meterRegistry,
+                Duration.ofMillis(200), queueCapacity, Duration.ofMillis(10), shutdownTimeout);
+    }
+
+    private ChatMessageSentEvent event(Long receiverId, String roomId) {
+        return new ChatMessageSentEvent(roomId, receiverId, 100L, "sender", receiverId, "안녕하세요");
+    }
+}
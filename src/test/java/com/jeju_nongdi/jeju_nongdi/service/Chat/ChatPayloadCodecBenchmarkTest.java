@@ -0,0 +1,89 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.MessageDto;
+import com.jeju_nongdi.jeju_nongdi.entity.Chat.Message;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("performance")
+@DisplayName("채팅 메시지 전송 형식 성능 비교")
+class ChatPayloadCodecBenchmarkTest {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    // Spring Boot 기본 설정과 같게 날짜를 ISO 문자열로 직렬화
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ChatPayloadCodec codec = new ChatPayloadCodec(null, null, true, "simple");
+
+    @Test
+    @DisplayName("compact 형식은 기존 MessageDto JSON보다 메시지당 바이트가 적다 (직렬화 CPU 시간은 기록만 함)")
+    void comparesBytesAndCpuWithMessageDtoJson() throws Exception {
+        // given
+        Message message = Message.builder()
+                .id(1_284_019_733_504L)
+                .roomId("1024_2048")
+                .senderId(1024L)
+                .receiverId(2048L)
+                .content("내일 아침 7시에 애월읍 감귤 농장 입구에서 뵙겠습니다")
+                .createdAt(LocalDateTime.of(2025, 7, 30, 15, 30, 12, 345_678_000))
+                .build();
+        MessageDto dto = MessageDto.builder()
+                .id(message.getId())
+                .roomId(message.getRoomId())
+                .senderId(message.getSenderId())
+                .receiverId(message.getReceiverId())
+                .content(message.getContent())
+                .createdAt(message.getCreatedAt())
+                .senderNickname("애월감귤농부")
+                .senderProfileImage("https://jeju-nongdi.s3.ap-northeast-2.amazonaws.com/profile/1024/3f2a9c1e.jpg")
+                .build();
+
+        // when
+        int fullBytes = objectMapper.writeValueAsBytes(dto).length;
+        int compactBytes = objectMapper.writeValueAsBytes(codec.encode(message)).length;
+        long fullNanos = cpuNanosPerOp(() -> objectMapper.writeValueAsBytes(dto));
+        long compactNanos = cpuNanosPerOp(() -> objectMapper.writeValueAsBytes(codec.encode(message)));
+
+        // then
+        log.info("메시지 전송 형식: MessageDto JSON {}B / {}ns, compact {}B / {}ns (바이트 {}%)",
+                fullBytes, fullNanos, compactBytes, compactNanos, Math.round(100.0 * compactBytes / fullBytes));
+        assertThat(compactBytes).isLessThan(fullBytes * 6 / 10);
+    }
+
+    private long cpuNanosPerOp(Serialization serialization) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += serialization.run().length;
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += serialization.run().length;
+        }
+        long elapsed = threads.getCurrentThreadCpuTime() - start;
+        assertThat(sink).isPositive();
+        return elapsed / ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface Serialization {
+        byte[] run() throws Exception;
+    }
+}
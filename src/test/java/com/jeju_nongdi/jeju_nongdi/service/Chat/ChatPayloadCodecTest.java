@@ -0,0 +1,52 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatPayloadCodec 테스트")
+class ChatPayloadCodecTest {
+
+    @Test
+    @DisplayName("compact 구독이 남아 있는 채팅방만 compact 구독자가 있다")
+    void tracksCompactSubscribersPerRoom() {
+        // given
+        ChatPayloadCodec codec = new ChatPayloadCodec(null, null, true, "simple");
+        codec.compactSubscribed("session-1", "sub-0", "1_2");
+        codec.compactSubscribed("session-2", "sub-0", "1_2");
+        codec.compactSubscribed("session-2", "sub-1", "2_3");
+
+        // when
+        codec.compactUnsubscribed("session-1", "sub-0");
+        codec.sessionClosed("session-2");
+
+        // then
+        assertThat(codec.hasCompactSubscribers("1_2")).isFalse();
+        assertThat(codec.hasCompactSubscribers("2_3")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 세션이 구독 중이면 한 세션이 해제해도 compact 구독자가 남는다")
+    void keepsRoomWhileOtherSessionSubscribed() {
+        // given
+        ChatPayloadCodec codec = new ChatPayloadCodec(null, null, true, "simple");
+        codec.compactSubscribed("session-1", "sub-0", "1_2");
+        codec.compactSubscribed("session-2", "sub-0", "1_2");
+
+        // when
+        codec.sessionClosed("session-1");
+
+        // then
+        assertThat(codec.hasCompactSubscribers("1_2")).isTrue();
+        assertThat(codec.hasCompactSubscribers("3_4")).isFalse();
+    }
+
+    @Test
+    @DisplayName("relay 모드에서는 다른 노드의 구독을 알 수 없어 항상 compact 메시지를 보낸다")
+    void alwaysBroadcastsInRelayMode() {
+        ChatPayloadCodec codec = new ChatPayloadCodec(null, null, true, "relay");
+
+        assertThat(codec.hasCompactSubscribers("1_2")).isTrue();
+    }
+}
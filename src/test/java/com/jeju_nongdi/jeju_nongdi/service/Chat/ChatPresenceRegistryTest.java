@@ -0,0 +1,119 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatPresenceRegistry 테스트")
+class ChatPresenceRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatPresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new ChatPresenceRegistry(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 끊겨야 오프라인이 된다")
+    void staysOnlineUntilLastSessionCloses() {
+        // given
+        registry.connected("web", 1L);
+        registry.connected("mobile", 1L);
+
+        // when
+        registry.disconnected("web");
+
+        // then
+        assertThat(registry.isOnline(1L)).isTrue();
+        registry.disconnected("mobile");
+        assertThat(registry.isOnline(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 세션의 DISCONNECT가 여러 번 와도 한 번만 반영한다")
+    void ignoresDuplicateDisconnect() {
+        // given
+        registry.connected("web", 1L);
+        registry.connected("mobile", 1L);
+
+        // when
+        registry.disconnected("web");
+        registry.disconnected("web");
+
+        // then
+        assertThat(registry.isOnline(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 접속 여부를 한 번에 조회한다")
+    void returnsOnlineUsersInBulk() {
+        registry.connected("a", 1L);
+        registry.connected("b", 3L);
+
+        assertThat(registry.onlineAmong(List.of(1L, 2L, 3L))).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("1만 개 세션이 동시에 접속/해제해도 세션 수가 정확하다")
+    void handlesTenThousandConcurrentSessions() throws InterruptedException {
+        // given: 2,500명이 각각 4개 세션으로 접속
+        int sessions = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        IntStream.range(0, sessions).forEach(i ->
+                executor.execute(() -> registry.connected("s-" + i, (long) (i % 2_500))));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(meterRegistry.get("chat.presence.sessions").gauge().value()).isEqualTo(sessions);
+        assertThat(meterRegistry.get("chat.presence.users").gauge().value()).isEqualTo(2_500);
+
+        // when: 짝수 세션만 해제 (모든 사용자에게 세션이 2개씩 남음)
+        ExecutorService closer = Executors.newFixedThreadPool(16);
+        IntStream.range(0, sessions).filter(i -> i % 2 == 0).forEach(i ->
+                closer.execute(() -> registry.disconnected("s-" + i)));
+        closer.shutdown();
+        assertThat(closer.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(meterRegistry.get("chat.presence.sessions").gauge().value()).isEqualTo(sessions / 2.0);
+        assertThat(meterRegistry.get("chat.presence.users").gauge().value()).isEqualTo(2_500);
+    }
+
+    @Test
+    @DisplayName("같은 세션의 접속과 해제 처리가 동시에 겹쳐도 세션 목록과 접속 여부가 어긋나지 않는다")
+    void staysConsistentWhenConnectAndDisconnectOverlap() throws InterruptedException {
+        // given: 한 사용자의 세션마다 접속과 해제를 서로 다른 스레드에서 동시에 처리
+        int sessions = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        IntStream.range(0, sessions).forEach(i -> {
+            executor.execute(() -> registry.connected("s-" + i, 1L));
+            executor.execute(() -> registry.disconnected("s-" + i));
+        });
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        // 해제가 먼저 처리되어 남은 세션은 다시 해제 (DISCONNECT 중복 전달과 같음)
+        IntStream.range(0, sessions).forEach(i -> registry.disconnected("s-" + i));
+
+        // then
+        assertThat(registry.isOnline(1L)).isFalse();
+        assertThat(meterRegistry.get("chat.presence.sessions").gauge().value()).isZero();
+        assertThat(meterRegistry.get("chat.presence.users").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,74 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomMembers;
+import com.jeju_nongdi.jeju_nongdi.repository.Chat.ChatRoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatRoomMembershipCache 테스트")
+class ChatRoomMembershipCacheTest {
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Test
+    @DisplayName("처음 조회한 뒤에는 DB를 다시 조회하지 않는다")
+    void loadsMembersOnce() {
+        // given
+        ChatRoomMembershipCache cache = new ChatRoomMembershipCache(chatRoomRepository, new SimpleMeterRegistry(), 100);
+        given(chatRoomRepository.findMembersByRoomId("1_2")).willReturn(Optional.of(new ChatRoomMembers(1L, 2L)));
+
+        // when
+        ChatRoomMembers first = cache.get("1_2");
+        ChatRoomMembers second = cache.get("1_2");
+
+        // then
+        assertThat(first.contains(1L)).isTrue();
+        assertThat(first.otherThan(1L)).isEqualTo(2L);
+        assertThat(second).isSameAs(first);
+        verify(chatRoomRepository, times(1)).findMembersByRoomId("1_2");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 채팅방은 캐시하지 않아 생성 후 바로 조회된다")
+    void doesNotCacheMissingRooms() {
+        // given
+        ChatRoomMembershipCache cache = new ChatRoomMembershipCache(chatRoomRepository, new SimpleMeterRegistry(), 100);
+        given(chatRoomRepository.findMembersByRoomId("1_2"))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(new ChatRoomMembers(1L, 2L)));
+
+        // when & then
+        assertThat(cache.get("1_2")).isNull();
+        assertThat(cache.get("1_2")).isEqualTo(new ChatRoomMembers(1L, 2L));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict 이후에는 다시 조회한다")
+    void reloadsAfterEvict() {
+        // given
+        ChatRoomMembershipCache cache = new ChatRoomMembershipCache(chatRoomRepository, new SimpleMeterRegistry(), 100);
+        given(chatRoomRepository.findMembersByRoomId("1_2")).willReturn(Optional.of(new ChatRoomMembers(1L, 2L)));
+        cache.get("1_2");
+
+        // when
+        cache.evict("1_2");
+        cache.get("1_2");
+
+        // then
+        verify(chatRoomRepository, times(2)).findMembersByRoomId("1_2");
+    }
+}
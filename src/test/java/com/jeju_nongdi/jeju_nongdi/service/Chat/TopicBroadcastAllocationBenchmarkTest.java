@@ -0,0 +1,102 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.MessageDto;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 브로드캐스트 한 번에 만들어지는 가비지 비교
+ * 브로커 채널은 메시지를 받기만 하는 채널로 대체하여 직렬화와 메시지 생성 비용만 측정합니다.
+ */
+@Slf4j
+@Tag("performance")
+@DisplayName("토픽 브로드캐스트 할당량 비교")
+class TopicBroadcastAllocationBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final String DESTINATION = "/topic/chat/room/1024_2048";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private SimpMessagingTemplate messagingTemplate;
+    private volatile Message<?> lastSent;
+    private MessageDto payload;
+
+    @BeforeEach
+    void setUp() {
+        MessageChannel brokerChannel = (message, timeout) -> {
+            lastSent = message;
+            return true;
+        };
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        messagingTemplate.setMessageConverter(converter);
+
+        payload = MessageDto.builder()
+                .id(1_284_019_733_504L)
+                .roomId("1024_2048")
+                .senderId(1024L)
+                .receiverId(2048L)
+                .content("내일 아침 7시에 애월읍 감귤 농장 입구에서 뵙겠습니다")
+                .createdAt(LocalDateTime.of(2025, 7, 30, 15, 30, 12))
+                .senderNickname("애월감귤농부")
+                .senderProfileImage("https://jeju-nongdi.s3.ap-northeast-2.amazonaws.com/profile/1024/3f2a9c1e.jpg")
+                .build();
+    }
+
+    @Test
+    @DisplayName("직렬화한 본문을 그대로 보내면 convertAndSend보다 브로드캐스트 한 번의 가비지가 적다")
+    void broadcastAllocatesLessThanConvertAndSend() {
+        LocalTopicBroadcaster broadcaster = new LocalTopicBroadcaster(messagingTemplate, objectMapper);
+
+        long before = allocatedBytesPerOp(() -> messagingTemplate.convertAndSend(DESTINATION, payload));
+        long after = allocatedBytesPerOp(() -> broadcaster.broadcast(DESTINATION, payload));
+
+        log.info("브로드캐스트 1회 할당량: convertAndSend {}B, 직렬화 후 전송 {}B", before, after);
+        assertThat(lastSent.getPayload()).isInstanceOf(byte[].class);
+        assertThat(after).isLessThan(before);
+    }
+
+    private long allocatedBytesPerOp(Broadcast broadcast) {
+        try {
+            for (int i = 0; i < WARMUP; i++) {
+                broadcast.run();
+            }
+            long start = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < ITERATIONS; i++) {
+                broadcast.run();
+            }
+            return (threads.getCurrentThreadAllocatedBytes() - start) / ITERATIONS;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Broadcast {
+        void run() throws Exception;
+    }
+}
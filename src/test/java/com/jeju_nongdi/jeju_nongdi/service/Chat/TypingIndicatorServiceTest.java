@@ -0,0 +1,106 @@
+package com.jeju_nongdi.jeju_nongdi.service.Chat;
+
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.ChatRoomMembers;
+import com.jeju_nongdi.jeju_nongdi.dto.Chat.TypingIndicator;
+import com.jeju_nongdi.jeju_nongdi.security.StompPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TypingIndicatorService 테스트")
+class TypingIndicatorServiceTest {
+
+    private static final StompPrincipal FARMER = new StompPrincipal(1L, "farmer@test.com", "농부김씨");
+
+    @Mock
+    private ChatRoomMembershipCache membershipCache;
+
+    @Mock
+    private TopicBroadcaster topicBroadcaster;
+
+    private TypingIndicatorService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TypingIndicatorService(membershipCache, topicBroadcaster, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("throttle 간격 안의 입력 중 표시는 한 번만 전송한다")
+    void throttlesRepeatedTyping() {
+        // given
+        given(membershipCache.get("1_2")).willReturn(new ChatRoomMembers(1L, 2L));
+
+        // when
+        boolean first = service.publish("1_2", FARMER, true);
+        boolean second = service.publish("1_2", FARMER, true);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(topicBroadcaster, times(1)).broadcast(eq("/topic/chat/room/1_2/typing"),
+                eq(new TypingIndicator("1_2", 1L, "농부김씨", true)));
+    }
+
+    @Test
+    @DisplayName("입력 멈춤은 항상 전송하고 다음 입력 중 표시를 바로 허용한다")
+    void stopAlwaysPassesAndResetsThrottle() {
+        // given
+        given(membershipCache.get("1_2")).willReturn(new ChatRoomMembers(1L, 2L));
+        service.publish("1_2", FARMER, true);
+
+        // when
+        boolean stopped = service.publish("1_2", FARMER, false);
+        boolean restarted = service.publish("1_2", FARMER, true);
+
+        // then
+        assertThat(stopped).isTrue();
+        assertThat(restarted).isTrue();
+        verify(topicBroadcaster, times(3)).broadcast(eq("/topic/chat/room/1_2/typing"), any());
+    }
+
+    @Test
+    @DisplayName("throttle 간격이 지난 기록만 정리한다")
+    void evictsOnlyStaleEntries() {
+        // given
+        given(membershipCache.get("1_2")).willReturn(new ChatRoomMembers(1L, 2L));
+        TypingIndicatorService shortThrottle =
+                new TypingIndicatorService(membershipCache, topicBroadcaster, Duration.ofMillis(50));
+        shortThrottle.publish("1_2", FARMER, true);
+
+        // when & then: 간격 안에서는 남아 있다가, 간격이 지나면 정리됨
+        shortThrottle.evictStale();
+        assertThat(shortThrottle.trackedCount()).isEqualTo(1);
+        await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> {
+            shortThrottle.evictStale();
+            assertThat(shortThrottle.trackedCount()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 입력 중 표시를 보낼 수 없다")
+    void rejectsNonMember() {
+        given(membershipCache.get("2_3")).willReturn(new ChatRoomMembers(2L, 3L));
+
+        assertThatThrownBy(() -> service.publish("2_3", FARMER, true))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(topicBroadcaster, never()).broadcast(any(), any());
+    }
+}
@@ -3,9 +3,13 @@ package com.jeju_nongdi.jeju_nongdi.service;
 import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandMarkerResponse;
 import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandRequest;
 import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.MarkerClusterResponse;
 import com.jeju_nongdi.jeju_nongdi.entity.IdleFarmland;
 import com.jeju_nongdi.jeju_nongdi.entity.User;
 import com.jeju_nongdi.jeju_nongdi.repository.IdleFarmlandRepository;
+import com.jeju_nongdi.jeju_nongdi.service.Map.IdleFarmlandMarkerSnapshot;
+import com.jeju_nongdi.jeju_nongdi.service.Map.IdleFarmlandSpatialIndex;
+import com.jeju_nongdi.jeju_nongdi.service.Map.MarkerClusterIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -29,6 +34,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +49,18 @@ class IdleFarmlandServiceTest {
     @Mock
     private UserDetails userDetails;
 
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private IdleFarmlandSpatialIndex spatialIndex;
+
+    @Mock
+    private IdleFarmlandMarkerSnapshot markerSnapshot;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private IdleFarmlandService idleFarmlandService;
 
@@ -280,23 +298,22 @@ class IdleFarmlandServiceTest {
     }
 
     @Test
-    @DisplayName("지도 마커용 데이터 조회 성공 테스트")
-    void getIdleFarmlandMarkersSuccess() {
+    @DisplayName("지도 색인이 준비되면 줌 레벨 클러스터를 색인에서 조회한다")
+    void getIdleFarmlandMarkerClustersFromIndex() {
         // given
-        given(idleFarmlandRepository.findByStatusOrderByCreatedAtDesc(
-                IdleFarmland.FarmlandStatus.AVAILABLE)).willReturn(List.of(idleFarmland));
+        MarkerClusterIndex.Bounds bounds = new MarkerClusterIndex.Bounds(33.2, 33.6, 126.1, 127.0);
+        given(spatialIndex.isReady()).willReturn(true);
+        given(spatialIndex.clusters(9, bounds)).willReturn(List.of(
+                new MarkerClusterIndex.Cluster(null, 33.45, 126.35, 120),
+                new MarkerClusterIndex.Cluster(7L, 33.25, 126.56, 1)));
 
         // when
-        List<IdleFarmlandMarkerResponse> result = idleFarmlandService.getIdleFarmlandMarkers();
+        List<MarkerClusterResponse> result = idleFarmlandService.getIdleFarmlandMarkerClusters(9, bounds);
 
         // then
-        assertThat(result).isNotNull();
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getTitle()).isEqualTo("제주시 애월읍 농지");
-        assertThat(result.getFirst().getLatitude()).isEqualTo(BigDecimal.valueOf(33.459722));
-        assertThat(result.getFirst().getLongitude()).isEqualTo(BigDecimal.valueOf(126.331389));
-        verify(idleFarmlandRepository).findByStatusOrderByCreatedAtDesc(
-                IdleFarmland.FarmlandStatus.AVAILABLE);
+        assertThat(result).extracting(MarkerClusterResponse::getCount).containsExactly(120, 1);
+        assertThat(result.get(1).getId()).isEqualTo(7L);
+        verify(idleFarmlandRepository, never()).findAllAvailableForMap();
     }
 
     @Test
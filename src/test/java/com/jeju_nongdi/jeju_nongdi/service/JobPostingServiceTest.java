@@ -3,10 +3,15 @@ package com.jeju_nongdi.jeju_nongdi.service;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingRequest;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingResponse;
 import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerView;
 import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
 import com.jeju_nongdi.jeju_nongdi.entity.User;
 import com.jeju_nongdi.jeju_nongdi.repository.JobPostingRepository;
 import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import com.jeju_nongdi.jeju_nongdi.service.Map.JobPostingChangedEvent;
+import com.jeju_nongdi.jeju_nongdi.service.Map.JobPostingMarkerSnapshot;
+import com.jeju_nongdi.jeju_nongdi.service.Map.JobPostingSpatialIndex;
+import com.jeju_nongdi.jeju_nongdi.service.Map.SpatialGridIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -40,6 +46,18 @@ class JobPostingServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private JobPostingSpatialIndex spatialIndex;
+
+    @Mock
+    private JobPostingMarkerSnapshot markerSnapshot;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private JobPostingService jobPostingService;
 
@@ -198,23 +216,6 @@ class JobPostingServiceTest {
         assertThat(response.getFirst().getWorkType()).isEqualTo(JobPosting.WorkType.HARVESTING);
     }
 
-    @Test
-    @DisplayName("지도 마커용 데이터를 조회한다")
-    void getJobPostingMarkers_Success() {
-        // given
-        List<JobPosting> jobPostings = List.of(testJobPosting);
-        given(jobPostingRepository.findAllForMap(JobPosting.JobStatus.ACTIVE)).willReturn(jobPostings);
-
-        // when
-        List<JobPostingMarkerResponse> response = jobPostingService.getJobPostingMarkers();
-
-        // then
-        assertThat(response).hasSize(1);
-        assertThat(response.getFirst().getId()).isEqualTo(testJobPosting.getId());
-        assertThat(response.getFirst().getLatitude()).isEqualTo(testJobPosting.getLatitude());
-        assertThat(response.getFirst().getLongitude()).isEqualTo(testJobPosting.getLongitude());
-    }
-
     @Test
     @DisplayName("사용자별 공고를 조회한다")
     void getJobPostingsByUser_Success() {
@@ -299,6 +300,7 @@ class JobPostingServiceTest {
 
         // then
         verify(jobPostingRepository).delete(testJobPosting);
+        verify(eventPublisher).publishEvent(JobPostingChangedEvent.deleted(jobPostingId));
     }
 
     @Test
@@ -318,5 +320,90 @@ class JobPostingServiceTest {
         // then
         assertThat(response).isNotNull();
         verify(jobPostingRepository).save(any(JobPosting.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof JobPostingChangedEvent changed
+                        && changed.jobPostingId().equals(jobPostingId)
+                        && !changed.active()));
+    }
+
+    @Test
+    @DisplayName("공간 색인이 준비되면 영역 조회는 색인이 고른 페이지의 공고만 DB에서 조회한다")
+    void getJobPostingsByBounds_UsesSpatialIndex() {
+        // given
+        JobPosting older = JobPosting.builder()
+                .id(2L)
+                .title("양배추 수확")
+                .farmName("제주 양배추농장")
+                .address("서귀포시 성산읍")
+                .cropType(JobPosting.CropType.CABBAGE)
+                .workType(JobPosting.WorkType.HARVESTING)
+                .wages(90000)
+                .status(JobPosting.JobStatus.ACTIVE)
+                .author(testUser)
+                .build();
+        Pageable pageable = PageRequest.of(1, 2);
+        given(spatialIndex.isReady()).willReturn(true);
+        given(spatialIndex.search(33.0, 33.5, 126.0, 126.5, 2, 2))
+                .willReturn(new SpatialGridIndex.Result(List.of(1L, 2L), 10));
+        given(jobPostingRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(older, testJobPosting));
+
+        // when
+        List<JobPostingResponse> response = jobPostingService.getJobPostingsByBounds(33.0, 33.5, 126.0, 126.5, pageable);
+
+        // then: 색인 순서 유지, 영역 전체를 읽는 쿼리는 사용하지 않음
+        assertThat(response).extracting(JobPostingResponse::getId).containsExactly(1L, 2L);
+        verify(jobPostingRepository, never()).findByBounds(any(), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(jobPostingRepository, never()).findByBounds(any(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("공간 색인이 준비되지 않았으면 영역 조회를 DB 페이징으로 처리한다")
+    void getJobPostingsByBounds_FallsBackToDatabase() {
+        // given
+        Pageable pageable = PageRequest.of(0, 20);
+        given(spatialIndex.isReady()).willReturn(false);
+        given(jobPostingRepository.findByBounds(JobPosting.JobStatus.ACTIVE, 33.0, 33.5, 126.0, 126.5, pageable))
+                .willReturn(new PageImpl<>(List.of(testJobPosting), pageable, 1));
+
+        // when
+        List<JobPostingResponse> response = jobPostingService.getJobPostingsByBounds(33.0, 33.5, 126.0, 126.5, pageable);
+
+        // then
+        assertThat(response).extracting(JobPostingResponse::getId).containsExactly(1L);
+        verify(spatialIndex, never()).search(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("영역 내 마커 조회는 색인 반영 전에 마감된 공고를 제외한다")
+    void getJobPostingMarkersByBounds_SkipsClosedPostings() {
+        // given
+        JobPosting closed = JobPosting.builder()
+                .id(3L)
+                .title("마감된 공고")
+                .cropType(JobPosting.CropType.POTATO)
+                .workType(JobPosting.WorkType.HARVESTING)
+                .status(JobPosting.JobStatus.CLOSED)
+                .author(testUser)
+                .build();
+        given(spatialIndex.isReady()).willReturn(true);
+        given(spatialIndex.search(33.0, 33.5, 126.0, 126.5, 0, 500))
+                .willReturn(new SpatialGridIndex.Result(List.of(3L, 1L), 2));
+        given(jobPostingRepository.findMarkersByIdIn(List.of(3L, 1L)))
+                .willReturn(List.of(markerView(closed), markerView(testJobPosting)));
+
+        // when
+        List<JobPostingMarkerResponse> markers = jobPostingService.getJobPostingMarkersByBounds(33.0, 33.5, 126.0, 126.5, 500);
+
+        // then
+        assertThat(markers).extracting(JobPostingMarkerResponse::getId).containsExactly(1L);
+        verify(jobPostingRepository, never()).findAllById(any());
+    }
+
+    private static JobPostingMarkerView markerView(JobPosting jobPosting) {
+        return new JobPostingMarkerView(
+                jobPosting.getId(), jobPosting.getTitle(), jobPosting.getFarmName(), jobPosting.getAddress(),
+                jobPosting.getLatitude(), jobPosting.getLongitude(), jobPosting.getCropType(), jobPosting.getWorkType(),
+                jobPosting.getWages(), jobPosting.getWageType(), jobPosting.getWorkStartDate(),
+                jobPosting.getWorkEndDate(), jobPosting.getRecruitmentCount(), jobPosting.getStatus());
     }
 }
\ No newline at end of file
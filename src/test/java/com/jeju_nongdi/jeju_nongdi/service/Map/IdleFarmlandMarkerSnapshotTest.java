@@ -0,0 +1,49 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandMarkerResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.IdleFarmlandMarkerView;
+import com.jeju_nongdi.jeju_nongdi.entity.IdleFarmland;
+import com.jeju_nongdi.jeju_nongdi.repository.IdleFarmlandRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdleFarmlandMarkerSnapshot 테스트")
+class IdleFarmlandMarkerSnapshotTest {
+
+    @Mock
+    private IdleFarmlandRepository idleFarmlandRepository;
+
+    @Test
+    @DisplayName("이용가능한 농지의 마커 프로젝션으로 스냅샷 목록을 만든다")
+    void loadsAvailableFarmlandMarkers() {
+        // given
+        IdleFarmlandMarkerSnapshot snapshot =
+                new IdleFarmlandMarkerSnapshot(idleFarmlandRepository, new ObjectMapper(), true);
+        given(idleFarmlandRepository.findAllAvailableForMap()).willReturn(List.of(
+                new IdleFarmlandMarkerView(1L, "제주시 애월읍 농지", "애월 농지", "제주시 애월읍",
+                        BigDecimal.valueOf(33.459722), BigDecimal.valueOf(126.331389), BigDecimal.valueOf(1000.50),
+                        null, IdleFarmland.UsageType.CULTIVATION, 500000, null, null,
+                        IdleFarmland.FarmlandStatus.AVAILABLE)));
+
+        // when
+        List<IdleFarmlandMarkerResponse> markers = snapshot.loadAll();
+
+        // then
+        assertThat(markers).hasSize(1);
+        assertThat(markers.getFirst().getTitle()).isEqualTo("제주시 애월읍 농지");
+        assertThat(markers.getFirst().getLatitude()).isEqualTo(BigDecimal.valueOf(33.459722));
+        assertThat(markers.getFirst().getLongitude()).isEqualTo(BigDecimal.valueOf(126.331389));
+        assertThat(snapshot.idOf(markers.getFirst())).isEqualTo(1L);
+    }
+}
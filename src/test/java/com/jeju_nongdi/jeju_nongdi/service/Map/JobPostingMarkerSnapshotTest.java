@@ -0,0 +1,49 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerResponse;
+import com.jeju_nongdi.jeju_nongdi.dto.JobPostingMarkerView;
+import com.jeju_nongdi.jeju_nongdi.entity.JobPosting;
+import com.jeju_nongdi.jeju_nongdi.repository.JobPostingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobPostingMarkerSnapshot 테스트")
+class JobPostingMarkerSnapshotTest {
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Test
+    @DisplayName("모집중인 공고의 마커 프로젝션으로 스냅샷 목록을 만든다")
+    void loadsActiveJobPostingMarkers() {
+        // given
+        JobPostingMarkerSnapshot snapshot = new JobPostingMarkerSnapshot(jobPostingRepository, new ObjectMapper(), true);
+        given(jobPostingRepository.findAllForMap(JobPosting.JobStatus.ACTIVE)).willReturn(List.of(
+                new JobPostingMarkerView(1L, "감자 수확 일손 구합니다", "제주 감자농장", "제주시 한림읍",
+                        new BigDecimal("33.410000"), new BigDecimal("126.260000"),
+                        JobPosting.CropType.POTATO, JobPosting.WorkType.HARVESTING, 120000, JobPosting.WageType.DAILY,
+                        LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 10), 3, JobPosting.JobStatus.ACTIVE)));
+
+        // when
+        List<JobPostingMarkerResponse> markers = snapshot.loadAll();
+
+        // then
+        assertThat(markers).hasSize(1);
+        assertThat(markers.getFirst().getId()).isEqualTo(1L);
+        assertThat(markers.getFirst().getLatitude()).isEqualTo(new BigDecimal("33.410000"));
+        assertThat(markers.getFirst().getLongitude()).isEqualTo(new BigDecimal("126.260000"));
+        assertThat(snapshot.idOf(markers.getFirst())).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,127 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("MarkerClusterIndex 테스트")
+class MarkerClusterIndexTest {
+
+    // 제주도 전체 화면
+    private static final MarkerClusterIndex.Bounds JEJU = new MarkerClusterIndex.Bounds(33.10, 33.60, 126.10, 127.00);
+
+    private MarkerClusterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MarkerClusterIndex();
+    }
+
+    @Test
+    @DisplayName("가까운 마커는 낮은 줌에서 하나로 묶이고 높은 줌에서는 나뉜다")
+    void mergesNearbyMarkersAtLowZoom() {
+        // given: 약 100m 떨어진 두 마커
+        index.put(1L, 33.4500, 126.5000);
+        index.put(2L, 33.4509, 126.5009);
+
+        // when
+        List<MarkerClusterIndex.Cluster> low = index.clusters(8, null);
+        List<MarkerClusterIndex.Cluster> high = index.clusters(18, JEJU);
+
+        // then
+        assertThat(low).hasSize(1);
+        assertThat(low.getFirst().count()).isEqualTo(2);
+        assertThat(low.getFirst().id()).isNull();
+        assertThat(low.getFirst().latitude()).isCloseTo(33.45045, within(1e-9));
+        assertThat(high).extracting(MarkerClusterIndex.Cluster::id).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("모든 줌 레벨에서 클러스터 마커 수의 합은 전체 마커 수와 같다")
+    void countsAddUpAtEveryZoom() {
+        // given
+        Random random = new Random(1);
+        for (long id = 1; id <= 2_000; id++) {
+            index.put(id, 33.15 + random.nextDouble() * 0.4, 126.15 + random.nextDouble() * 0.8);
+        }
+
+        // when & then
+        for (int zoom = 0; zoom <= MarkerClusterIndex.MAX_ZOOM; zoom++) {
+            int total = index.clusters(zoom, boundsFor(zoom)).stream().mapToInt(MarkerClusterIndex.Cluster::count).sum();
+            assertThat(total).as("zoom %d", zoom).isEqualTo(2_000);
+        }
+    }
+
+    @Test
+    @DisplayName("이동과 삭제가 모든 줌 레벨에 반영되고 하나 남은 마커는 ID와 원래 좌표를 돌려준다")
+    void appliesMovesAndRemovals() {
+        // given
+        index.put(1L, 33.45, 126.50);
+        index.put(2L, 33.45, 126.50);
+        index.put(3L, 33.25, 126.56);
+
+        // when
+        index.put(3L, 33.4501, 126.5001);
+        index.remove(1L);
+
+        // then
+        for (int zoom = 0; zoom <= MarkerClusterIndex.MAX_CLUSTER_ZOOM; zoom++) {
+            int total = index.clusters(zoom, boundsFor(zoom)).stream().mapToInt(MarkerClusterIndex.Cluster::count).sum();
+            assertThat(total).isEqualTo(2);
+        }
+        index.remove(3L);
+        List<MarkerClusterIndex.Cluster> clusters = index.clusters(5, null);
+        assertThat(clusters).containsExactly(new MarkerClusterIndex.Cluster(2L, 33.45, 126.50, 1));
+    }
+
+    @Test
+    @DisplayName("낮은 줌의 응답 크기는 전체 마커 수와 관계없이 화면의 칸 수로 제한된다")
+    void payloadIsIndependentOfDatasetSizeAtLowZoom() {
+        // given
+        MarkerClusterIndex small = new MarkerClusterIndex();
+        Random random = new Random(2);
+        for (long id = 1; id <= 100_000; id++) {
+            double latitude = 33.15 + random.nextDouble() * 0.4;
+            double longitude = 126.15 + random.nextDouble() * 0.8;
+            index.put(id, latitude, longitude);
+            if (id <= 1_000) {
+                small.put(id, latitude, longitude);
+            }
+        }
+
+        // when
+        int smallClusters = small.clusters(9, JEJU).size();
+        int largeClusters = index.clusters(9, JEJU).size();
+
+        // then
+        assertThat(largeClusters).isLessThanOrEqualTo(smallClusters + smallClusters / 10);
+        assertThat(largeClusters).isLessThan(50);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 줌 레벨, 높은 줌의 영역 없는 조회, 일부만 지정한 영역은 거부한다")
+    void rejectsInvalidRequests() {
+        assertThatThrownBy(() -> index.clusters(22, JEJU)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.clusters(MarkerClusterIndex.MAX_CLUSTER_ZOOM + 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.clusters(MarkerClusterIndex.MAX_UNBOUNDED_ZOOM + 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.clusters(MarkerClusterIndex.MAX_CLUSTER_ZOOM, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(index.clusters(MarkerClusterIndex.MAX_UNBOUNDED_ZOOM, null)).isEmpty();
+        assertThatThrownBy(() -> MarkerClusterIndex.Bounds.of(33.1, null, 126.1, 127.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(MarkerClusterIndex.Bounds.of(null, null, null, null)).isNull();
+    }
+
+    private static MarkerClusterIndex.Bounds boundsFor(int zoom) {
+        return zoom > MarkerClusterIndex.MAX_UNBOUNDED_ZOOM ? JEJU : null;
+    }
+}
@@ -0,0 +1,146 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeju_nongdi.jeju_nongdi.dto.MarkerDeltaResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MarkerSnapshotCache 테스트")
+class MarkerSnapshotCacheTest {
+
+    private List<Marker> stored;
+    private TestSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        stored = new ArrayList<>(List.of(new Marker(1L, "감귤"), new Marker(2L, "당근")));
+        cache = new TestSnapshotCache(true);
+        cache.rebuild();
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 같은 스냅샷을 재사용하고 변경되면 ETag와 버전이 바뀐다")
+    void reusesSnapshotUntilChanged() {
+        // given
+        MarkerSnapshotCache.Snapshot first = cache.snapshot();
+
+        // when
+        MarkerSnapshotCache.Snapshot again = cache.snapshot();
+        cache.apply(3L, new Marker(3L, "양배추"));
+        MarkerSnapshotCache.Snapshot changed = cache.snapshot();
+
+        // then
+        assertThat(again).isSameAs(first);
+        assertThat(new String(first.body(), StandardCharsets.UTF_8))
+                .isEqualTo("[{\"id\":1,\"title\":\"감귤\"},{\"id\":2,\"title\":\"당근\"}]");
+        assertThat(first.eTag()).startsWith("\"").endsWith("\"");
+        assertThat(changed.eTag()).isNotEqualTo(first.eTag());
+        assertThat(changed.version()).isEqualTo(first.version() + 1);
+    }
+
+    @Test
+    @DisplayName("sinceVersion 이후의 추가/변경/삭제만 돌려준다")
+    void returnsChangesSinceVersion() {
+        // given
+        long since = cache.snapshot().version();
+
+        // when
+        cache.apply(1L, new Marker(1L, "감귤 (수정)"));
+        cache.apply(2L, null);
+        cache.apply(3L, new Marker(3L, "양배추"));
+        cache.apply(3L, new Marker(3L, "양배추 (수정)"));
+        cache.apply(4L, new Marker(4L, "무"));
+        cache.apply(4L, null);
+        MarkerDeltaResponse<Marker> delta = cache.changesSince(since);
+
+        // then
+        assertThat(delta.isFullRefetch()).isFalse();
+        assertThat(delta.getVersion()).isEqualTo(cache.snapshot().version());
+        assertThat(delta.getAdded()).containsExactly(new Marker(3L, "양배추 (수정)"));
+        assertThat(delta.getChanged()).containsExactly(new Marker(1L, "감귤 (수정)"));
+        assertThat(delta.getRemoved()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("최신 버전으로 요청하면 빈 변경 내역을 돌려준다")
+    void returnsEmptyChangesForCurrentVersion() {
+        // when
+        MarkerDeltaResponse<Marker> delta = cache.changesSince(cache.snapshot().version());
+
+        // then
+        assertThat(delta.isFullRefetch()).isFalse();
+        assertThat(delta.getAdded()).isEmpty();
+        assertThat(delta.getChanged()).isEmpty();
+        assertThat(delta.getRemoved()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 만들기 전의 버전이나 알 수 없는 버전은 전체 재조회로 응답한다")
+    void requiresFullRefetchForUnknownVersion() {
+        // given
+        long before = cache.snapshot().version();
+        cache.rebuild();
+
+        // when & then
+        assertThat(cache.changesSince(before).isFullRefetch()).isTrue();
+        assertThat(cache.changesSince(cache.snapshot().version() + 1).isFullRefetch()).isTrue();
+        assertThat(cache.changesSince(0L).isFullRefetch()).isTrue();
+    }
+
+    @Test
+    @DisplayName("노출되지 않던 마커의 삭제는 버전을 올리지 않는다")
+    void ignoresRemovalOfUnknownMarker() {
+        // given
+        long version = cache.snapshot().version();
+
+        // when
+        cache.apply(99L, null);
+
+        // then
+        assertThat(cache.snapshot().version()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("비활성화되면 DB 목록을 버전 0으로 돌려주고 변경 내역은 전체 재조회로 응답한다")
+    void fallsBackToDatabaseWhenDisabled() {
+        // given
+        TestSnapshotCache disabled = new TestSnapshotCache(false);
+        disabled.onApplicationReady();
+
+        // when
+        MarkerSnapshotCache.Snapshot snapshot = disabled.snapshot();
+
+        // then
+        assertThat(disabled.isReady()).isFalse();
+        assertThat(snapshot.version()).isZero();
+        assertThat(new String(snapshot.body(), StandardCharsets.UTF_8)).contains("감귤", "당근");
+        assertThat(disabled.changesSince(0L).isFullRefetch()).isTrue();
+    }
+
+    record Marker(Long id, String title) {
+    }
+
+    private class TestSnapshotCache extends MarkerSnapshotCache<Marker> {
+
+        TestSnapshotCache(boolean enabled) {
+            super("테스트", new ObjectMapper(), enabled);
+        }
+
+        @Override
+        protected List<Marker> loadAll() {
+            return List.copyOf(stored);
+        }
+
+        @Override
+        protected Long idOf(Marker marker) {
+            return marker.id();
+        }
+    }
+}
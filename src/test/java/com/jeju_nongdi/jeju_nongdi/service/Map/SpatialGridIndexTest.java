@@ -0,0 +1,143 @@
+package com.jeju_nongdi.jeju_nongdi.service.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpatialGridIndex 테스트")
+class SpatialGridIndexTest {
+
+    private SpatialGridIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SpatialGridIndex(0.01);
+    }
+
+    @Test
+    @DisplayName("영역 경계에 걸친 항목까지 포함하고 최신순으로 반환한다")
+    void returnsItemsInsideBoundsNewestFirst() {
+        // given
+        index.put(1L, 33.30, 126.30, 100L);
+        index.put(2L, 33.40, 126.40, 300L);
+        index.put(3L, 33.50, 126.50, 200L);   // 경계 위
+        index.put(4L, 33.51, 126.50, 400L);   // 영역 밖
+
+        // when
+        SpatialGridIndex.Result result = index.search(33.30, 33.50, 126.30, 126.50, 0, 10);
+
+        // then
+        assertThat(result.ids()).containsExactly(2L, 3L, 1L);
+        assertThat(result.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("영역 안의 항목 좌표만 반환한다")
+    void returnsPointsInsideBounds() {
+        // given
+        index.put(1L, 33.30, 126.30, 100L);
+        index.put(2L, 33.50, 126.50, 200L);   // 경계 위
+        index.put(3L, 33.51, 126.50, 300L);   // 영역 밖
+
+        // when
+        List<SpatialGridIndex.Point> points = index.points(33.30, 33.50, 126.30, 126.50);
+
+        // then
+        assertThat(points).containsExactlyInAnyOrder(
+                new SpatialGridIndex.Point(1L, 33.30, 126.30),
+                new SpatialGridIndex.Point(2L, 33.50, 126.50));
+    }
+
+    @Test
+    @DisplayName("위치를 바꾸면 이전 칸에서 빠지고 삭제한 항목은 조회되지 않는다")
+    void movesAndRemovesItems() {
+        // given
+        index.put(1L, 33.30, 126.30, 100L);
+        index.put(2L, 33.31, 126.31, 200L);
+
+        // when
+        index.put(1L, 33.45, 126.55, 100L);
+        index.remove(2L);
+
+        // then
+        assertThat(index.search(33.29, 33.32, 126.29, 126.32, 0, 10).ids()).isEmpty();
+        assertThat(index.search(33.44, 33.46, 126.54, 126.56, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.remove(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지는 정렬 키가 같으면 ID 내림차순으로 나뉜다")
+    void pagesWithIdTieBreak() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, 33.40, 126.40, 100L);
+        }
+
+        // when
+        SpatialGridIndex.Result first = index.search(33.0, 34.0, 126.0, 127.0, 0, 2);
+        SpatialGridIndex.Result second = index.search(33.0, 34.0, 126.0, 127.0, 2, 2);
+        SpatialGridIndex.Result last = index.search(33.0, 34.0, 126.0, 127.0, 4, 2);
+
+        // then
+        assertThat(first.ids()).containsExactly(5L, 4L);
+        assertThat(second.ids()).containsExactly(3L, 2L);
+        assertThat(last.ids()).containsExactly(1L);
+        assertThat(last.total()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("무작위 좌표에 대해 전체 비교 결과와 같은 페이지를 반환한다")
+    void matchesBruteForce() {
+        // given
+        Random random = new Random(42);
+        List<double[]> points = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            double lat = 33.1 + random.nextDouble() * 0.5;
+            double lng = 126.1 + random.nextDouble() * 0.9;
+            long sortKey = random.nextInt(1_000);
+            index.put(id, lat, lng, sortKey);
+            points.add(new double[]{id, lat, lng, sortKey});
+        }
+
+        for (int i = 0; i < 50; i++) {
+            double minLat = 33.1 + random.nextDouble() * 0.4;
+            double minLng = 126.1 + random.nextDouble() * 0.8;
+            double maxLat = minLat + random.nextDouble() * 0.3;
+            double maxLng = minLng + random.nextDouble() * 0.5;
+
+            // when
+            SpatialGridIndex.Result result = index.search(minLat, maxLat, minLng, maxLng, 5, 20);
+
+            // then
+            List<Long> expected = points.stream()
+                    .filter(p -> p[1] >= minLat && p[1] <= maxLat && p[2] >= minLng && p[2] <= maxLng)
+                    .sorted(Comparator.<double[]>comparingDouble(p -> p[3]).thenComparingDouble(p -> p[0]).reversed())
+                    .map(p -> (long) p[0])
+                    .toList();
+            assertThat(result.total()).isEqualTo(expected.size());
+            assertThat(result.ids()).isEqualTo(expected.subList(Math.min(5, expected.size()), Math.min(25, expected.size())));
+        }
+    }
+
+    @Test
+    @DisplayName("칸 수보다 넓은 영역도 채워진 칸만 확인해 조회한다")
+    void searchesWorldWideBounds() {
+        // given
+        index.put(1L, 33.4, 126.5, 1L);
+        index.put(2L, -33.8, 151.2, 2L);
+
+        // when
+        SpatialGridIndex.Result result = index.search(-90, 90, -180, 180, 0, 10);
+
+        // then
+        assertThat(result.ids()).containsExactly(2L, 1L);
+    }
+}
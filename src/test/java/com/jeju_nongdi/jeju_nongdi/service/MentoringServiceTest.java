@@ -38,6 +38,9 @@ class MentoringServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserProfileCache userProfileCache;
+
     @Mock
     private UserDetails userDetails;
 
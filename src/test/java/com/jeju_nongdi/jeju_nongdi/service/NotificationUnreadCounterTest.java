@@ -0,0 +1,171 @@
+package com.jeju_nongdi.jeju_nongdi.service;
+
+import com.jeju_nongdi.jeju_nongdi.repository.NotificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationUnreadCounter 테스트")
+class NotificationUnreadCounterTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 세고 이후에는 메모리에서 증감한다")
+    void loadsOnceAndCountsInMemory() {
+        // given
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 100);
+        given(notificationRepository.countByUserIdAndReadFalse(1L)).willReturn(3L);
+
+        // when
+        counter.get(1L);
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.decrement(1L);
+
+        // then
+        assertThat(counter.get(1L)).isEqualTo(4);
+        verify(notificationRepository, times(1)).countByUserIdAndReadFalse(1L);
+    }
+
+    @Test
+    @DisplayName("조회한 적 없는 사용자의 증감은 무시하고 조회 시 DB 값을 사용한다")
+    void ignoresUpdatesForUnloadedUsers() {
+        // given
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 100);
+        given(notificationRepository.countByUserIdAndReadFalse(1L)).willReturn(2L);
+
+        // when
+        counter.increment(1L);
+        counter.increment(1L);
+
+        // then
+        assertThat(counter.get(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 증감은 커밋된 뒤에만 반영한다")
+    void appliesChangesAfterCommitOnly() {
+        // given
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 100);
+        given(notificationRepository.countByUserIdAndReadFalse(1L)).willReturn(3L);
+        counter.get(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            counter.increment(1L);
+            counter.increment(1L);
+
+            // then: 커밋 전에는 그대로
+            assertThat(counter.get(1L)).isEqualTo(3);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            assertThat(counter.get(1L)).isEqualTo(3);
+            synchronizations.get(1).afterCommit();
+            assertThat(counter.get(1L)).isEqualTo(4);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("DB에서 세는 도중 들어온 증가는 계산이 끝난 뒤 더해진다")
+    void keepsIncrementsDuringLoad() throws Exception {
+        // given: DB 계산이 끝나지 않은 상태
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 100);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 2L;
+        }).given(notificationRepository).countByUserIdAndReadFalse(1L);
+        CompletableFuture<Long> load = CompletableFuture.supplyAsync(() -> counter.get(1L));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Void> increment = CompletableFuture.runAsync(() -> counter.increment(1L));
+        release.countDown();
+        load.get(5, TimeUnit.SECONDS);
+        increment.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(counter.get(1L)).isEqualTo(3);
+        verify(notificationRepository, times(1)).countByUserIdAndReadFalse(1L);
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리하면 0이 된다")
+    void resetClearsCount() {
+        // given
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 100);
+        given(notificationRepository.countByUserIdAndReadFalse(1L)).willReturn(7L);
+        counter.get(1L);
+
+        // when
+        counter.reset(1L);
+
+        // then
+        assertThat(counter.get(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("주기적 보정은 어긋난 카운터를 DB 값으로 맞춘다")
+    void reconcileAppliesDatabaseCounts() {
+        // given
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 100);
+        given(notificationRepository.countByUserIdAndReadFalse(1L)).willReturn(5L);
+        given(notificationRepository.countByUserIdAndReadFalse(2L)).willReturn(1L);
+        counter.get(1L);
+        counter.get(2L);
+        counter.increment(1L);
+        given(notificationRepository.countUnreadByUserIds(anyCollection()))
+                .willReturn(List.<Object[]>of(new Object[]{1L, 3L}));
+
+        // when
+        counter.reconcile();
+
+        // then
+        assertThat(counter.get(1L)).isEqualTo(3);
+        assertThat(counter.get(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 카운터를 비우고 다음 조회 때 다시 센다")
+    void clearsWhenTooManyUsers() {
+        // given
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 1);
+        given(notificationRepository.countByUserIdAndReadFalse(1L)).willReturn(1L);
+        given(notificationRepository.countByUserIdAndReadFalse(2L)).willReturn(1L);
+        counter.get(1L);
+        counter.get(2L);
+
+        // when
+        counter.reconcile();
+        counter.get(1L);
+
+        // then
+        verify(notificationRepository, never()).countUnreadByUserIds(anyCollection());
+        verify(notificationRepository, times(2)).countByUserIdAndReadFalse(1L);
+    }
+}
@@ -0,0 +1,177 @@
+package com.jeju_nongdi.jeju_nongdi.service;
+
+import com.jeju_nongdi.jeju_nongdi.dto.UserProfile;
+import com.jeju_nongdi.jeju_nongdi.entity.User;
+import com.jeju_nongdi.jeju_nongdi.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserProfileCache 테스트")
+class UserProfileCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 조회하지 않고 적중 지표가 증가한다")
+    void cachesProfileAndRecordsHits() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, meterRegistry, 10, Duration.ofMinutes(10));
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, "농부김씨")));
+
+        // when
+        UserProfile first = cache.get(1L);
+        UserProfile second = cache.get(1L);
+
+        // then
+        assertThat(first.nickname()).isEqualTo("농부김씨");
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findById(1L);
+        assertThat(gets("hit")).isEqualTo(1.0);
+        assertThat(gets("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목이 제거된다")
+    void evictsLeastRecentlyUsed() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, meterRegistry, 2, Duration.ofMinutes(10));
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, "one")));
+        given(userRepository.findById(2L)).willReturn(Optional.of(user(2L, "two")));
+        given(userRepository.findById(3L)).willReturn(Optional.of(user(3L, "three")));
+
+        // when
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);
+        cache.get(3L);
+        cache.get(2L);
+
+        // then
+        verify(userRepository, times(2)).findById(2L);
+        verify(userRepository, times(1)).findById(1L);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 조회한다")
+    void reloadsExpiredEntries() throws InterruptedException {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, meterRegistry, 10, Duration.ofMillis(1));
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, "농부김씨")));
+
+        // when
+        cache.get(1L);
+        Thread.sleep(5);
+        cache.get(1L);
+
+        // then
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("여러 사용자 조회 시 캐시에 없는 사용자만 한 번에 조회한다")
+    void loadsOnlyMissingProfilesInOneQuery() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, meterRegistry, 10, Duration.ofMinutes(10));
+        given(userRepository.findById(1L)).willReturn(Optional.of(user(1L, "one")));
+        given(userRepository.findAllById(anyIterable())).willReturn(List.of(user(2L, "two"), user(3L, "three")));
+        cache.get(1L);
+
+        // when
+        Map<Long, UserProfile> profiles = cache.getAll(Set.of(1L, 2L, 3L));
+
+        // then
+        assertThat(profiles).containsOnlyKeys(1L, 2L, 3L);
+        verify(userRepository, times(1)).findAllById(argThat((Iterable<Long> ids) -> {
+            List<Long> requested = new ArrayList<>();
+            ids.forEach(requested::add);
+            return requested.size() == 2 && !requested.contains(1L);
+        }));
+    }
+
+    @Test
+    @DisplayName("evict 이후에는 변경된 프로필을 다시 조회한다")
+    void evictReloadsUpdatedProfile() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, meterRegistry, 10, Duration.ofMinutes(10));
+        given(userRepository.findById(1L))
+                .willReturn(Optional.of(user(1L, "before")))
+                .willReturn(Optional.of(user(1L, "after")));
+        cache.get(1L);
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.get(1L).nickname()).isEqualTo("after");
+    }
+
+    @Test
+    @DisplayName("조회 도중 evict 되면 조회한 이전 값은 캐시에 저장하지 않는다")
+    void doesNotCacheProfileLoadedDuringEviction() {
+        // given
+        UserProfileCache cache = new UserProfileCache(userRepository, meterRegistry, 10, Duration.ofMinutes(10));
+        given(userRepository.findById(1L))
+                .willAnswer(invocation -> {
+                    cache.evict(1L);
+                    return Optional.of(user(1L, "before"));
+                })
+                .willReturn(Optional.of(user(1L, "after")));
+
+        // when
+        UserProfile stale = cache.get(1L);
+
+        // then
+        assertThat(stale.nickname()).isEqualTo("before");
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(1L).nickname()).isEqualTo("after");
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", UserProfileCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private User user(Long id, String nickname) {
+        return User.builder()
+                .id(id)
+                .email(nickname + "@test.com")
+                .password("password123")
+                .name(nickname)
+                .nickname(nickname)
+                .phone("01012345678")
+                .build();
+    }
+}